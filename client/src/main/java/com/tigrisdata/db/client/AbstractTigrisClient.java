@@ -12,6 +12,7 @@ import io.grpc.stub.MetadataUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -21,6 +22,8 @@ abstract class AbstractTigrisClient {
   protected final ObjectMapper objectMapper;
   protected final ModelToJsonSchema modelToJsonSchema;
   protected final TigrisConfiguration configuration;
+  protected final ClientCaches caches;
+  protected final TransactionRetryMetrics transactionRetryMetrics;
 
   private final HealthAPIGrpc.HealthAPIBlockingStub healthAPIBlockingStub;
   private static final Metadata.Key<String> USER_AGENT_KEY =
@@ -49,6 +52,10 @@ abstract class AbstractTigrisClient {
     this.objectMapper = configuration.getObjectMapper();
     this.modelToJsonSchema = modelToJsonSchema;
     this.configuration = configuration;
+    this.caches =
+        new ClientCaches(
+            objectMapper, configuration.getNearCache(), configuration.getNegativeCache());
+    this.transactionRetryMetrics = new TransactionRetryMetrics();
     this.healthAPIBlockingStub = HealthAPIGrpc.newBlockingStub(channel);
 
     if (!configuration.getNetwork().isDisablePing()) {
@@ -89,9 +96,22 @@ abstract class AbstractTigrisClient {
     this.objectMapper = configuration.getObjectMapper();
     this.modelToJsonSchema = modelToJsonSchema;
     this.configuration = configuration;
+    this.caches =
+        new ClientCaches(
+            objectMapper, configuration.getNearCache(), configuration.getNegativeCache());
+    this.transactionRetryMetrics = new TransactionRetryMetrics();
     this.healthAPIBlockingStub = HealthAPIGrpc.newBlockingStub(channel);
   }
 
+  public Optional<NearCacheStats> getNearCacheStats() {
+    NearCache nearCache = caches.nearCache();
+    return nearCache == null ? Optional.empty() : Optional.of(nearCache.stats());
+  }
+
+  public TransactionRetryStats getTransactionRetryStats() {
+    return transactionRetryMetrics.stats();
+  }
+
   private static Metadata getDefaultHeaders(TigrisConfiguration configuration) {
     Metadata defaultHeaders = new Metadata();
     defaultHeaders.put(USER_AGENT_KEY, USER_AGENT_VALUE);
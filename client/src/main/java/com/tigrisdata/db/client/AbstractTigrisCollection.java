@@ -27,18 +27,32 @@ import static com.tigrisdata.db.client.TypeConverter.toUpdateRequest;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.protobuf.ByteString;
 import com.tigrisdata.db.api.v1.grpc.Api;
 import com.tigrisdata.db.api.v1.grpc.Api.SearchResponse;
 import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
 import com.tigrisdata.db.client.config.TigrisConfiguration;
 import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.search.RawSearchResult;
 import com.tigrisdata.db.client.search.SearchRequest;
 import com.tigrisdata.db.client.search.SearchRequestOptions;
 import com.tigrisdata.db.client.search.SearchResult;
 import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.ClientInterceptor;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 abstract class AbstractTigrisCollection<T extends TigrisCollectionType> {
@@ -47,52 +61,101 @@ abstract class AbstractTigrisCollection<T extends TigrisCollectionType> {
   protected final String collectionName;
   protected final Class<T> documentCollectionTypeClass;
   protected final TigrisGrpc.TigrisBlockingStub blockingStub;
+  protected final TigrisGrpc.TigrisStub stub;
+  protected final TigrisGrpc.TigrisFutureStub futureStub;
   protected final ObjectMapper objectMapper;
   protected final TigrisConfiguration configuration;
+  protected final ClientCaches caches;
 
   public AbstractTigrisCollection(
       String databaseName,
       Class<T> documentCollectionTypeClass,
-      TigrisGrpc.TigrisBlockingStub blockingStub,
+      ManagedChannel channel,
       ObjectMapper objectMapper,
-      TigrisConfiguration configuration) {
+      TigrisConfiguration configuration,
+      ClientCaches caches) {
     this.databaseName = databaseName;
     this.documentCollectionTypeClass = documentCollectionTypeClass;
     this.collectionName = Utilities.getCollectionName(documentCollectionTypeClass);
-    this.blockingStub = blockingStub;
+    ClientInterceptor invalidation =
+        caches.writeInterceptor(NearCache.scope(databaseName, collectionName));
+    if (invalidation != null) {
+      this.blockingStub =
+          Utilities.newBlockingStub(channel, configuration).withInterceptors(invalidation);
+      this.stub = Utilities.newStub(channel, configuration).withInterceptors(invalidation);
+      this.futureStub =
+          Utilities.newFutureStub(channel, configuration).withInterceptors(invalidation);
+    } else {
+      this.blockingStub = Utilities.newBlockingStub(channel, configuration);
+      this.stub = Utilities.newStub(channel, configuration);
+      this.futureStub = Utilities.newFutureStub(channel, configuration);
+    }
     this.objectMapper = objectMapper;
     this.configuration = configuration;
+    this.caches = caches;
+  }
+
+  protected TigrisCursor<T> readInternal(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TransactionSession tx)
+      throws TigrisException {
+    if (tx == null && isChunked(filter, readRequestOptions)) {
+      return chunkedScan((InFilter) filter, fields).cursor();
+    }
+    return readRawInternal(filter, fields, readRequestOptions, tx).map(this::toDocument);
   }
 
-  protected Iterator<T> readInternal(
+  protected static boolean isChunked(TigrisFilter filter, ReadRequestOptions readRequestOptions) {
+    return filter instanceof InFilter && ((InFilter) filter).isChunked(readRequestOptions);
+  }
+
+  /** Reads a large set membership filter as concurrent requests over chunks of the set */
+  protected ParallelScan<T> chunkedScan(InFilter filter, ReadFields fields) {
+    return new ParallelScan.Builder<>(this)
+        .withPartitions(filter.chunks(InFilter.MAX_VALUES_PER_REQUEST))
+        .withReadFields(fields)
+        .withParallelism(InFilter.MAX_CONCURRENT_REQUESTS)
+        .build();
+  }
+
+  protected T toDocument(ByteString data) {
+    try {
+      return objectMapper.readValue(data.toStringUtf8(), documentCollectionTypeClass);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Failed to convert response to  the user type", e);
+    }
+  }
+
+  /**
+   * Starts a read within its own cancellable context, so the returned cursor can cancel the call.
+   */
+  protected StandardTigrisCursor<Api.ReadResponse, ByteString> readRawInternal(
       TigrisFilter filter,
       ReadFields fields,
       ReadRequestOptions readRequestOptions,
       TransactionSession tx)
       throws TigrisException {
+    Context.CancellableContext context = Context.current().withCancellation();
     try {
       Api.ReadRequest readRequest =
           toReadRequest(
               databaseName, collectionName, filter, fields, readRequestOptions, objectMapper);
+      TigrisGrpc.TigrisBlockingStub readStub =
+          tx != null
+              ? TypeConverter.transactionAwareStub(blockingStub, ((StandardTransactionSession) tx))
+              : blockingStub;
       Iterator<Api.ReadResponse> readResponseIterator;
-      if (tx != null) {
-        readResponseIterator =
-            TypeConverter.transactionAwareStub(blockingStub, ((StandardTransactionSession) tx))
-                .read(readRequest);
-      } else {
-        readResponseIterator = blockingStub.read(readRequest);
+      Context previous = context.attach();
+      try {
+        readResponseIterator = readStub.read(readRequest);
+      } finally {
+        context.detach(previous);
       }
-      Function<Api.ReadResponse, T> converter =
-          readResponse -> {
-            try {
-              return objectMapper.readValue(
-                  readResponse.getData().toStringUtf8(), documentCollectionTypeClass);
-            } catch (JsonProcessingException e) {
-              throw new IllegalArgumentException("Failed to convert response to  the user type", e);
-            }
-          };
-      return Utilities.transformIterator(readResponseIterator, converter);
+      return new StandardTigrisCursor<>(readResponseIterator, Api.ReadResponse::getData, context);
     } catch (StatusRuntimeException statusRuntimeException) {
+      context.cancel(statusRuntimeException);
       throw new TigrisException(
           READ_FAILED,
           TypeConverter.extractTigrisError(statusRuntimeException),
@@ -100,16 +163,207 @@ abstract class AbstractTigrisCollection<T extends TigrisCollectionType> {
     }
   }
 
-  protected Iterator<SearchResult<T>> searchInternal(
+  protected TigrisCursor<LazyDocument<T>> readLazyInternal(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TransactionSession tx)
+      throws TigrisException {
+    return readRawInternal(filter, fields, readRequestOptions, tx).map(this::toLazyDocument);
+  }
+
+  protected LazyDocument<T> toLazyDocument(ByteString data) {
+    return new LazyDocument<>(data, documentCollectionTypeClass, objectMapper);
+  }
+
+  /** @return true if point reads go through the near or negative cache or are coalesced */
+  protected boolean isReadOneCached() {
+    return configuration.isReadCoalescing()
+        || caches.nearCache() != null
+        || caches.negativeCache() != null;
+  }
+
+  /**
+   * Reads the first matching document without decoding it. The document, or its absence, is served
+   * from the near and negative caches when possible, and identical concurrent reads share a single
+   * call when read coalescing is enabled.
+   */
+  protected CompletableFuture<Optional<ByteString>> readOneRawInternal(TigrisFilter filter) {
+    Api.ReadRequest readRequest =
+        toReadRequest(
+            databaseName,
+            collectionName,
+            isReadOneCached() ? canonical(filter) : filter,
+            ReadFields.all(),
+            ReadRequestOptions.READ_ONE,
+            objectMapper);
+    if (!isReadOneCached()) {
+      return readOneRaw(readRequest, Context.current());
+    }
+    ByteString key = readRequest.toByteString();
+    String scope = NearCache.scope(databaseName, collectionName);
+    NegativeCache negativeCache = caches.negativeCache();
+    if (negativeCache != null && negativeCache.isMiss(scope, key)) {
+      return CompletableFuture.completedFuture(Optional.empty());
+    }
+    NearCache nearCache = caches.nearCache();
+    if (nearCache != null) {
+      ByteString cached = nearCache.get(scope, key);
+      if (cached != null) {
+        return CompletableFuture.completedFuture(Optional.of(cached));
+      }
+    }
+    if (!configuration.isReadCoalescing()) {
+      return cachingReadOneRaw(readRequest, key, Context.current());
+    }
+    // a shared read must not be cancelled along with the caller that happened to start it
+    return caches
+        .readOneFlights()
+        .execute(key, () -> cachingReadOneRaw(readRequest, key, Context.current().fork()));
+  }
+
+  /** @return filter equivalent ones share cache entries and reads with */
+  private TigrisFilter canonical(TigrisFilter filter) {
+    if (filter instanceof SelectorFilter) {
+      // a single condition is already canonical
+      return filter;
+    }
+    try {
+      return caches.canonicalFilter(filter);
+    } catch (IllegalArgumentException ex) {
+      return filter;
+    }
+  }
+
+  private CompletableFuture<Optional<ByteString>> cachingReadOneRaw(
+      Api.ReadRequest readRequest, ByteString key, Context context) {
+    NearCache nearCache = caches.nearCache();
+    NegativeCache negativeCache = caches.negativeCache();
+    if (nearCache == null && negativeCache == null) {
+      return readOneRaw(readRequest, context);
+    }
+    String scope = NearCache.scope(databaseName, collectionName);
+    long nearGeneration = nearCache == null ? 0 : nearCache.generation(scope);
+    long negativeGeneration = negativeCache == null ? 0 : negativeCache.generation(scope);
+    return readOneRaw(readRequest, context)
+        .thenApply(
+            document -> {
+              if (document.isPresent()) {
+                if (nearCache != null) {
+                  nearCache.put(scope, key, document.get(), nearGeneration);
+                }
+              } else if (negativeCache != null) {
+                negativeCache.record(scope, key, negativeGeneration);
+              }
+              return document;
+            });
+  }
+
+  private CompletableFuture<Optional<ByteString>> readOneRaw(
+      Api.ReadRequest readRequest, Context context) {
+    CompletableFuture<Optional<ByteString>> result = new CompletableFuture<>();
+    context.run(
+        () ->
+            stub.read(
+                readRequest,
+                new StreamObserver<Api.ReadResponse>() {
+                  @Override
+                  public void onNext(Api.ReadResponse readResponse) {
+                    result.complete(Optional.of(readResponse.getData()));
+                  }
+
+                  @Override
+                  public void onError(Throwable throwable) {
+                    result.completeExceptionally(
+                        StandardTigrisAsyncCollection.toTigrisException(READ_FAILED, throwable));
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                    result.complete(Optional.empty());
+                  }
+                }));
+    return result;
+  }
+
+  /** Reads documents by key with concurrent chunked reads, see {@link KeyedRead} */
+  protected <K> CompletableFuture<KeyedReadResult<K, T>> readByKeysInternal(
+      String keyField, Collection<K> keys, ReadFields fields, Executor executor) {
+    return new KeyedRead<>(this, keyField, keys, fields, executor).start();
+  }
+
+  protected <P> TigrisCursor<P> readProjectionInternal(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      Class<P> projectionType,
+      TransactionSession tx)
+      throws TigrisException {
+    Projection<P> projection = caches.projection(projectionType);
+    return readRawInternal(filter, projectionReadFields(projection, fields), readRequestOptions, tx)
+        .map(
+            data -> {
+              try {
+                return projection.decode(data);
+              } catch (IOException e) {
+                throw new IllegalArgumentException(
+                    "Failed to convert response to the projection type", e);
+              }
+            });
+  }
+
+  /**
+   * Fields to read for a projection, explicitly requested fields take precedence over the fields
+   * derived from the projection type
+   */
+  protected static ReadFields projectionReadFields(Projection<?> projection, ReadFields fields) {
+    return fields == null || fields.isEmpty() ? projection.getReadFields() : fields;
+  }
+
+  /**
+   * Starts a search within its own cancellable context, so the returned cursor can cancel the call.
+   */
+  protected TigrisCursor<SearchResult<T>> searchInternal(
       SearchRequest request, SearchRequestOptions options) throws TigrisException {
     Api.SearchRequest apiSearchRequest =
         TypeConverter.toSearchRequest(databaseName, collectionName, request, options, objectMapper);
+    Context.CancellableContext context = Context.current().withCancellation();
     try {
-      Iterator<Api.SearchResponse> resp = blockingStub.search(apiSearchRequest);
+      Iterator<Api.SearchResponse> resp;
+      Context previous = context.attach();
+      try {
+        resp = blockingStub.search(apiSearchRequest);
+      } finally {
+        context.detach(previous);
+      }
       Function<SearchResponse, SearchResult<T>> converter =
           r -> SearchResult.from(r, objectMapper, documentCollectionTypeClass);
-      return Utilities.transformIterator(resp, converter);
+      return new StandardTigrisCursor<>(resp, converter, context);
     } catch (StatusRuntimeException statusRuntimeException) {
+      context.cancel(statusRuntimeException);
+      throw new TigrisException(
+          SEARCH_FAILED,
+          TypeConverter.extractTigrisError(statusRuntimeException),
+          statusRuntimeException);
+    }
+  }
+
+  protected TigrisCursor<RawSearchResult> searchRawInternal(
+      SearchRequest request, SearchRequestOptions options) throws TigrisException {
+    Api.SearchRequest apiSearchRequest =
+        TypeConverter.toSearchRequest(databaseName, collectionName, request, options, objectMapper);
+    Context.CancellableContext context = Context.current().withCancellation();
+    try {
+      Iterator<Api.SearchResponse> resp;
+      Context previous = context.attach();
+      try {
+        resp = blockingStub.search(apiSearchRequest);
+      } finally {
+        context.detach(previous);
+      }
+      return new StandardTigrisCursor<>(resp, RawSearchResult::from, context);
+    } catch (StatusRuntimeException statusRuntimeException) {
+      context.cancel(statusRuntimeException);
       throw new TigrisException(
           SEARCH_FAILED,
           TypeConverter.extractTigrisError(statusRuntimeException),
@@ -148,6 +402,73 @@ abstract class AbstractTigrisCollection<T extends TigrisCollectionType> {
     }
   }
 
+  protected InsertResponse<T> insertRawInternal(
+      List<ByteString> documents, InsertRequestOptions insertRequestOptions, TransactionSession tx)
+      throws TigrisException {
+    try {
+      Api.InsertRequest insertRequest =
+          TypeConverter.toRawInsertRequest(
+              databaseName, collectionName, documents, insertRequestOptions);
+      Api.InsertResponse response;
+      if (tx != null) {
+        response =
+            TypeConverter.transactionAwareStub(blockingStub, ((StandardTransactionSession) tx))
+                .insert(insertRequest);
+      } else {
+        response = blockingStub.insert(insertRequest);
+      }
+      return new InsertResponse<>(
+          response.getStatus(),
+          response.getMetadata().getCreatedAt(),
+          response.getMetadata().getUpdatedAt(),
+          TypeConverter.toArrayOfMap(response.getKeysList(), objectMapper),
+          Collections.emptyList());
+    } catch (StatusRuntimeException statusRuntimeException) {
+      throw new TigrisException(
+          INSERT_FAILED,
+          TypeConverter.extractTigrisError(statusRuntimeException),
+          statusRuntimeException);
+    }
+  }
+
+  protected ListenableFuture<Api.InsertResponse> insertRawFutureInternal(
+      List<ByteString> documents, InsertRequestOptions insertRequestOptions) {
+    return futureStub.insert(
+        TypeConverter.toRawInsertRequest(
+            databaseName, collectionName, documents, insertRequestOptions));
+  }
+
+  protected InsertOrReplaceResponse<T> insertOrReplaceRawInternal(
+      List<ByteString> documents,
+      InsertOrReplaceRequestOptions insertOrReplaceRequestOptions,
+      TransactionSession tx)
+      throws TigrisException {
+    try {
+      Api.ReplaceRequest replaceRequest =
+          TypeConverter.toRawReplaceRequest(
+              databaseName, collectionName, documents, insertOrReplaceRequestOptions);
+      Api.ReplaceResponse response;
+      if (tx != null) {
+        response =
+            TypeConverter.transactionAwareStub(blockingStub, ((StandardTransactionSession) tx))
+                .replace(replaceRequest);
+      } else {
+        response = blockingStub.replace(replaceRequest);
+      }
+      return new InsertOrReplaceResponse<>(
+          response.getStatus(),
+          response.getMetadata().getCreatedAt(),
+          response.getMetadata().getUpdatedAt(),
+          TypeConverter.toArrayOfMap(response.getKeysList(), objectMapper),
+          Collections.emptyList());
+    } catch (StatusRuntimeException statusRuntimeException) {
+      throw new TigrisException(
+          INSERT_OR_REPLACE_FAILED,
+          TypeConverter.extractTigrisError(statusRuntimeException),
+          statusRuntimeException);
+    }
+  }
+
   protected UpdateResponse updateInternal(
       TigrisFilter filter,
       UpdateFields updateFields,
@@ -212,6 +533,69 @@ abstract class AbstractTigrisCollection<T extends TigrisCollectionType> {
     }
   }
 
+  protected CompletableFuture<InsertResponse<T>> insertFutureInternal(
+      TigrisGrpc.TigrisFutureStub futureStub,
+      Api.InsertRequest insertRequest,
+      List<T> documents,
+      Executor executor) {
+    return Utilities.transformFuture(
+        futureStub.insert(insertRequest),
+        input ->
+            new InsertResponse<>(
+                input.getStatus(),
+                input.getMetadata().getCreatedAt(),
+                input.getMetadata().getUpdatedAt(),
+                TypeConverter.toArrayOfMap(input.getKeysList(), objectMapper),
+                new ArrayList<>(documents)),
+        executor,
+        INSERT_FAILED);
+  }
+
+  protected CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplaceFutureInternal(
+      TigrisGrpc.TigrisFutureStub futureStub,
+      Api.ReplaceRequest replaceRequest,
+      List<T> documents,
+      Executor executor) {
+    return Utilities.transformFuture(
+        futureStub.replace(replaceRequest),
+        input ->
+            new InsertOrReplaceResponse<>(
+                input.getStatus(),
+                input.getMetadata().getCreatedAt(),
+                input.getMetadata().getUpdatedAt(),
+                TypeConverter.toArrayOfMap(input.getKeysList(), objectMapper),
+                new ArrayList<>(documents)),
+        executor,
+        INSERT_OR_REPLACE_FAILED);
+  }
+
+  protected CompletableFuture<UpdateResponse> updateFutureInternal(
+      TigrisGrpc.TigrisFutureStub futureStub, Api.UpdateRequest updateRequest, Executor executor) {
+    return Utilities.transformFuture(
+        futureStub.update(updateRequest),
+        input ->
+            new UpdateResponse(
+                input.getStatus(),
+                input.getMetadata().getCreatedAt(),
+                input.getMetadata().getUpdatedAt(),
+                input.getModifiedCount()),
+        executor,
+        UPDATE_FAILED);
+  }
+
+  protected CompletableFuture<DeleteResponse> deleteFutureInternal(
+      TigrisGrpc.TigrisFutureStub futureStub, Api.DeleteRequest deleteRequest, Executor executor) {
+    return Utilities.transformFuture(
+        futureStub.delete(deleteRequest),
+        response ->
+            new DeleteResponse(
+                response.getStatus(),
+                response.getMetadata().getCreatedAt(),
+                response.getMetadata().getUpdatedAt()),
+        executor,
+        DELETE_FAILED);
+  }
+
   protected InsertOrReplaceResponse<T> insertOrReplaceInternal(
       List<T> documents,
       InsertOrReplaceRequestOptions insertOrReplaceRequestOptions,
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.type.TigrisCollectionType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transaction aware operations that do not block the calling thread. Failures complete the returned
+ * futures exceptionally with a {@link com.tigrisdata.db.client.error.TigrisException}.
+ *
+ * <p>The operations are optional. The default implementations of the overloads with all the options
+ * fail with a {@link com.tigrisdata.db.client.error.TigrisException}, the other overloads delegate
+ * to them.
+ *
+ * @param <T> type of collection
+ */
+public interface AsyncTransactionalCollectionOperation<T extends TigrisCollectionType> {
+
+  /**
+   * Transaction aware read
+   *
+   * @param tx async transaction session
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @param reader reader callback
+   * @return handle to cancel the read
+   */
+  default TigrisReadHandle read(
+      AsyncTransactionSession tx,
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TigrisAsyncReader<T> reader) {
+    return Utilities.unsupportedRead(reader);
+  }
+
+  /**
+   * Transaction aware read
+   *
+   * @param tx async transaction session
+   * @param filter filter to narrow down read
+   * @param reader reader callback
+   * @return handle to cancel the read
+   */
+  default TigrisReadHandle read(
+      AsyncTransactionSession tx, TigrisFilter filter, TigrisAsyncReader<T> reader) {
+    return this.read(tx, filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
+  }
+
+  /**
+   * Transaction aware: Reads a single document
+   *
+   * @param tx async transaction session
+   * @param filter filters documents to read
+   * @return the future to the Optional of document
+   */
+  default CompletableFuture<Optional<T>> readOne(AsyncTransactionSession tx, TigrisFilter filter) {
+    return Utilities.unsupportedOperation();
+  }
+
+  /**
+   * Transaction aware insertion
+   *
+   * @param tx async transaction session
+   * @param documents list of documents to insert
+   * @param insertRequestOptions insert option
+   * @return the future to the {@link InsertResponse}
+   */
+  default CompletableFuture<InsertResponse<T>> insert(
+      AsyncTransactionSession tx, List<T> documents, InsertRequestOptions insertRequestOptions) {
+    return Utilities.unsupportedOperation();
+  }
+
+  /**
+   * Transaction aware insertion
+   *
+   * @param tx async transaction session
+   * @param documents list of documents to insert
+   * @return the future to the {@link InsertResponse}
+   */
+  default CompletableFuture<InsertResponse<T>> insert(
+      AsyncTransactionSession tx, List<T> documents) {
+    return this.insert(tx, documents, InsertRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Transaction aware insertion
+   *
+   * @param tx async transaction session
+   * @param document document to insert
+   * @return the future to the {@link InsertResponse}
+   */
+  default CompletableFuture<InsertResponse<T>> insert(AsyncTransactionSession tx, T document) {
+    return this.insert(tx, Collections.singletonList(document));
+  }
+
+  /**
+   * Transaction aware insert or replace
+   *
+   * @param tx async transaction session
+   * @param documents list of documents to insert or replace
+   * @param insertOrReplaceRequestOptions insert or replace option
+   * @return the future to the {@link InsertOrReplaceResponse}
+   */
+  default CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
+      AsyncTransactionSession tx,
+      List<T> documents,
+      InsertOrReplaceRequestOptions insertOrReplaceRequestOptions) {
+    return Utilities.unsupportedOperation();
+  }
+
+  /**
+   * Transaction aware insert or replace
+   *
+   * @param tx async transaction session
+   * @param documents list of documents to insert or replace
+   * @return the future to the {@link InsertOrReplaceResponse}
+   */
+  default CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
+      AsyncTransactionSession tx, List<T> documents) {
+    return this.insertOrReplace(tx, documents, InsertOrReplaceRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Transaction aware update
+   *
+   * @param tx async transaction session
+   * @param filter filter to narrow down documents to update
+   * @param updateFields update fields
+   * @param updateRequestOptions update option
+   * @return the future to the {@link UpdateResponse}
+   */
+  default CompletableFuture<UpdateResponse> update(
+      AsyncTransactionSession tx,
+      TigrisFilter filter,
+      UpdateFields updateFields,
+      UpdateRequestOptions updateRequestOptions) {
+    return Utilities.unsupportedOperation();
+  }
+
+  /**
+   * Transaction aware update
+   *
+   * @param tx async transaction session
+   * @param filter filter to narrow down documents to update
+   * @param updateFields update fields
+   * @return the future to the {@link UpdateResponse}
+   */
+  default CompletableFuture<UpdateResponse> update(
+      AsyncTransactionSession tx, TigrisFilter filter, UpdateFields updateFields) {
+    return this.update(tx, filter, updateFields, UpdateRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Transaction aware delete
+   *
+   * @param tx async transaction session
+   * @param filter filter to narrow down documents to delete
+   * @param deleteRequestOptions delete option
+   * @return the future to the {@link DeleteResponse}
+   */
+  default CompletableFuture<DeleteResponse> delete(
+      AsyncTransactionSession tx, TigrisFilter filter, DeleteRequestOptions deleteRequestOptions) {
+    return Utilities.unsupportedOperation();
+  }
+
+  /**
+   * Transaction aware delete
+   *
+   * @param tx async transaction session
+   * @param filter filter to narrow down documents to delete
+   * @return the future to the {@link DeleteResponse}
+   */
+  default CompletableFuture<DeleteResponse> delete(
+      AsyncTransactionSession tx, TigrisFilter filter) {
+    return this.delete(tx, filter, DeleteRequestOptions.DEFAULT_INSTANCE);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.client.error.TigrisException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Async transaction session over a {@link TransactionSession}, commit and rollback block a thread
+ * of the common pool instead of the calling thread
+ */
+final class BlockingAsyncTransactionSession implements AsyncTransactionSession {
+  private final TransactionSession session;
+
+  BlockingAsyncTransactionSession(TransactionSession session) {
+    this.session = session;
+  }
+
+  @Override
+  public CompletableFuture<CommitTransactionResponse> commit() {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return session.commit();
+          } catch (TigrisException ex) {
+            throw new CompletionException(ex);
+          }
+        });
+  }
+
+  @Override
+  public CompletableFuture<RollbackTransactionResponse> rollback() {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return session.rollback();
+          } catch (TigrisException ex) {
+            throw new CompletionException(ex);
+          }
+        });
+  }
+
+  TransactionSession getSession() {
+    return session;
+  }
+}
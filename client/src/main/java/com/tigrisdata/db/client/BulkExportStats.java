@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.time.Duration;
+
+/** Outcome and throughput of a bulk export */
+public final class BulkExportStats {
+  private final long documents;
+  private final long bytes;
+  private final Duration elapsed;
+
+  BulkExportStats(long documents, long bytes, Duration elapsed) {
+    this.documents = documents;
+    this.bytes = bytes;
+    this.elapsed = elapsed;
+  }
+
+  /** @return number of exported documents */
+  public long getDocuments() {
+    return documents;
+  }
+
+  /** @return number of NDJSON bytes written, before compression */
+  public long getBytes() {
+    return bytes;
+  }
+
+  /** @return time taken by the export */
+  public Duration getElapsed() {
+    return elapsed;
+  }
+
+  /** @return documents exported per second */
+  public double getDocumentsPerSecond() {
+    return perSecond(documents);
+  }
+
+  /** @return NDJSON bytes written per second */
+  public double getBytesPerSecond() {
+    return perSecond(bytes);
+  }
+
+  private double perSecond(long value) {
+    long nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : value * 1_000_000_000d / nanos;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkExportStats{"
+        + "documents="
+        + documents
+        + ", bytes="
+        + bytes
+        + ", elapsed="
+        + elapsed
+        + '}';
+  }
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import static com.tigrisdata.db.client.Constants.BULK_EXPORT_FAILED;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.StatusRuntimeException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports documents of a collection as NDJSON.
+ *
+ * <p>The JSON bytes received from the server are written as-is, documents are never bound to the
+ * collection's model class. Several key-range readers can export into separate shard files in
+ * parallel.
+ *
+ * @param <T> type of the collection
+ */
+public final class BulkExporter<T extends TigrisCollectionType> {
+  // upper bound of buffers handed to a single gathering write, two per document
+  private static final int MAX_GATHERED_BUFFERS = 1024;
+  private static final byte NEWLINE = '\n';
+
+  private final AbstractTigrisCollection<T> collection;
+  private final ReadFields readFields;
+  private final boolean compress;
+  private final int bufferSize;
+  private final int parallelism;
+
+  private BulkExporter(Builder<T> builder) {
+    this.collection = builder.collection;
+    this.readFields = builder.readFields;
+    this.compress = builder.compress;
+    this.bufferSize = builder.bufferSize;
+    this.parallelism = builder.parallelism;
+  }
+
+  /**
+   * Creates a new builder
+   *
+   * @param collection source collection
+   * @param <T> type of the collection
+   * @return new builder
+   */
+  public static <T extends TigrisCollectionType> Builder<T> newBuilder(
+      TigrisCollection<T> collection) {
+    return new Builder<>(Utilities.toAbstractCollection(collection));
+  }
+
+  /**
+   * Creates a new builder
+   *
+   * @param collection source collection
+   * @param <T> type of the collection
+   * @return new builder
+   */
+  public static <T extends TigrisCollectionType> Builder<T> newBuilder(
+      TigrisAsyncCollection<T> collection) {
+    return new Builder<>(Utilities.toAbstractCollection(collection));
+  }
+
+  /**
+   * Exports the matching documents to the given stream. The stream is flushed but not closed.
+   *
+   * @param outputStream destination
+   * @param filter documents to export
+   * @return export stats
+   * @throws TigrisException in case of an error
+   */
+  public BulkExportStats exportTo(OutputStream outputStream, TigrisFilter filter)
+      throws TigrisException {
+    long start = System.nanoTime();
+    try (TigrisCursor<ByteString> documents = read(filter)) {
+      long[] counters;
+      if (compress) {
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, bufferSize);
+        counters = writeToStream(documents, gzipOutputStream);
+        gzipOutputStream.finish();
+      } else {
+        counters = writeToStream(documents, outputStream);
+      }
+      outputStream.flush();
+      return new BulkExportStats(
+          counters[0], counters[1], Duration.ofNanos(System.nanoTime() - start));
+    } catch (IOException ex) {
+      throw new TigrisException(BULK_EXPORT_FAILED, ex);
+    } catch (StatusRuntimeException statusRuntimeException) {
+      throw new TigrisException(
+          BULK_EXPORT_FAILED,
+          TypeConverter.extractTigrisError(statusRuntimeException),
+          statusRuntimeException);
+    }
+  }
+
+  /**
+   * Exports the matching documents to the given file, the file is created or truncated.
+   * Uncompressed exports are written with gathering writes straight from the received buffers.
+   *
+   * @param file destination
+   * @param filter documents to export
+   * @return export stats
+   * @throws TigrisException in case of an error
+   */
+  public BulkExportStats exportTo(Path file, TigrisFilter filter) throws TigrisException {
+    if (compress) {
+      try (OutputStream outputStream = Files.newOutputStream(file)) {
+        return exportTo(outputStream, filter);
+      } catch (IOException ex) {
+        throw new TigrisException(BULK_EXPORT_FAILED, ex);
+      }
+    }
+    long start = System.nanoTime();
+    try (FileChannel channel =
+            FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        TigrisCursor<ByteString> documents = read(filter)) {
+      long[] counters = writeToChannel(documents, channel);
+      return new BulkExportStats(
+          counters[0], counters[1], Duration.ofNanos(System.nanoTime() - start));
+    } catch (IOException ex) {
+      throw new TigrisException(BULK_EXPORT_FAILED, ex);
+    } catch (StatusRuntimeException statusRuntimeException) {
+      throw new TigrisException(
+          BULK_EXPORT_FAILED,
+          TypeConverter.extractTigrisError(statusRuntimeException),
+          statusRuntimeException);
+    }
+  }
+
+  /**
+   * Exports each filter into its own shard file in parallel. Shards are named {@code
+   * <collection>-<index>.ndjson}, with a {@code .gz} suffix when compressed.
+   *
+   * @param directory destination directory
+   * @param shardFilters one filter per shard, usually disjoint key ranges
+   * @return export stats, in the order of the filters
+   * @throws TigrisException in case of an error
+   */
+  public List<BulkExportStats> exportShards(Path directory, List<TigrisFilter> shardFilters)
+      throws TigrisException {
+    AtomicInteger threadIndex = new AtomicInteger();
+    ExecutorService workers =
+        Executors.newFixedThreadPool(
+            Math.max(1, Math.min(parallelism, shardFilters.size())),
+            r -> {
+              Thread thread = new Thread(r);
+              thread.setName("tigris-bulk-export-" + threadIndex.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      List<Future<BulkExportStats>> shards = new ArrayList<>(shardFilters.size());
+      for (int i = 0; i < shardFilters.size(); i++) {
+        Path shardFile = directory.resolve(shardFileName(i));
+        TigrisFilter shardFilter = shardFilters.get(i);
+        shards.add(workers.submit(() -> exportTo(shardFile, shardFilter)));
+      }
+      List<BulkExportStats> result = new ArrayList<>(shards.size());
+      for (Future<BulkExportStats> shard : shards) {
+        result.add(shard.get());
+      }
+      return result;
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof TigrisException) {
+        throw (TigrisException) ex.getCause();
+      }
+      throw new TigrisException(BULK_EXPORT_FAILED, ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new TigrisException(BULK_EXPORT_FAILED, ex);
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  /**
+   * Splits the numeric key at the given points and exports every key range into its own shard in
+   * parallel, see {@link #exportShards(Path, List)}. {@code n} split points produce {@code n + 1}
+   * shards.
+   *
+   * @param directory destination directory
+   * @param filter documents to export
+   * @param key numeric key to split on, typically the primary key
+   * @param splitPoints strictly ascending split points
+   * @return export stats, in key order
+   * @throws TigrisException in case of an error
+   */
+  public List<BulkExportStats> exportKeyRanges(
+      Path directory, TigrisFilter filter, String key, long... splitPoints) throws TigrisException {
+    return exportShards(directory, KeyRanges.split(filter, key, splitPoints));
+  }
+
+  String shardFileName(int index) {
+    return collection.collectionName + "-" + index + (compress ? ".ndjson.gz" : ".ndjson");
+  }
+
+  private TigrisCursor<ByteString> read(TigrisFilter filter) throws TigrisException {
+    return collection.readRawInternal(
+        filter, readFields, ReadRequestOptions.DEFAULT_INSTANCE, null);
+  }
+
+  /** @return number of documents and bytes written */
+  private long[] writeToStream(Iterator<ByteString> documents, OutputStream outputStream)
+      throws IOException {
+    OutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, bufferSize);
+    long count = 0;
+    long bytes = 0;
+    while (documents.hasNext()) {
+      ByteString document = documents.next();
+      document.writeTo(bufferedOutputStream);
+      bufferedOutputStream.write(NEWLINE);
+      count++;
+      bytes += document.size() + 1;
+    }
+    bufferedOutputStream.flush();
+    return new long[] {count, bytes};
+  }
+
+  /** @return number of documents and bytes written */
+  private long[] writeToChannel(Iterator<ByteString> documents, FileChannel channel)
+      throws IOException {
+    ByteBuffer newline = ByteBuffer.wrap(new byte[] {NEWLINE}).asReadOnlyBuffer();
+    ByteBuffer[] pending = new ByteBuffer[MAX_GATHERED_BUFFERS];
+    int pendingCount = 0;
+    long pendingBytes = 0;
+    long count = 0;
+    long bytes = 0;
+    while (documents.hasNext()) {
+      ByteString document = documents.next();
+      pending[pendingCount++] = document.asReadOnlyByteBuffer();
+      pending[pendingCount++] = newline.duplicate();
+      pendingBytes += document.size() + 1;
+      count++;
+      if (pendingCount == pending.length || pendingBytes >= bufferSize) {
+        bytes += drain(channel, pending, pendingCount);
+        pendingCount = 0;
+        pendingBytes = 0;
+      }
+    }
+    bytes += drain(channel, pending, pendingCount);
+    return new long[] {count, bytes};
+  }
+
+  private static long drain(FileChannel channel, ByteBuffer[] buffers, int count)
+      throws IOException {
+    long written = 0;
+    int offset = 0;
+    while (offset < count) {
+      written += channel.write(buffers, offset, count - offset);
+      while (offset < count && !buffers[offset].hasRemaining()) {
+        buffers[offset++] = null;
+      }
+    }
+    return written;
+  }
+
+  /** Builder for {@link BulkExporter} */
+  public static final class Builder<T extends TigrisCollectionType> {
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    private final AbstractTigrisCollection<T> collection;
+    private ReadFields readFields;
+    private boolean compress;
+    private int bufferSize;
+    private int parallelism;
+
+    private Builder(AbstractTigrisCollection<T> collection) {
+      this.collection = collection;
+      this.readFields = ReadFields.all();
+      this.bufferSize = DEFAULT_BUFFER_SIZE;
+      this.parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Exports only the selected fields
+     *
+     * @param readFields fields to export
+     * @return ongoing builder
+     */
+    public Builder<T> withReadFields(ReadFields readFields) {
+      this.readFields = readFields;
+      return this;
+    }
+
+    /**
+     * Compresses the output with gzip
+     *
+     * @return ongoing builder
+     */
+    public Builder<T> withCompression() {
+      this.compress = true;
+      return this;
+    }
+
+    /**
+     * Sets the number of bytes buffered before they are written out
+     *
+     * @param bufferSize buffer size in bytes
+     * @return ongoing builder
+     */
+    public Builder<T> withBufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of shards exported concurrently, defaults to the number of available
+     * processors
+     *
+     * @param parallelism concurrent shard readers
+     * @return ongoing builder
+     */
+    public Builder<T> withParallelism(int parallelism) {
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Builds the instance of @{@link BulkExporter}
+     *
+     * @return new instance of {@link BulkExporter}
+     */
+    public BulkExporter<T> build() {
+      if (bufferSize < 1 || parallelism < 1) {
+        throw new IllegalArgumentException("bufferSize and parallelism must be positive");
+      }
+      return new BulkExporter<>(this);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.time.Duration;
+
+/** Progress and throughput of a bulk import */
+public final class BulkImportStats {
+  private final long documents;
+  private final long bytes;
+  private final long batches;
+  private final long totalBytes;
+  private final Duration elapsed;
+
+  BulkImportStats(long documents, long bytes, long batches, long totalBytes, Duration elapsed) {
+    this.documents = documents;
+    this.bytes = bytes;
+    this.batches = batches;
+    this.totalBytes = totalBytes;
+    this.elapsed = elapsed;
+  }
+
+  /** @return number of documents acknowledged by the server */
+  public long getDocuments() {
+    return documents;
+  }
+
+  /** @return number of document bytes acknowledged by the server */
+  public long getBytes() {
+    return bytes;
+  }
+
+  /** @return number of insert batches acknowledged by the server */
+  public long getBatches() {
+    return batches;
+  }
+
+  /** @return size of the source file in bytes */
+  public long getTotalBytes() {
+    return totalBytes;
+  }
+
+  /** @return time elapsed since the import started */
+  public Duration getElapsed() {
+    return elapsed;
+  }
+
+  /** @return documents imported per second */
+  public double getDocumentsPerSecond() {
+    return perSecond(documents);
+  }
+
+  /** @return document bytes imported per second */
+  public double getBytesPerSecond() {
+    return perSecond(bytes);
+  }
+
+  private double perSecond(long value) {
+    long nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : value * 1_000_000_000d / nanos;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkImportStats{"
+        + "documents="
+        + documents
+        + ", bytes="
+        + bytes
+        + ", batches="
+        + batches
+        + ", totalBytes="
+        + totalBytes
+        + ", elapsed="
+        + elapsed
+        + '}';
+  }
+}
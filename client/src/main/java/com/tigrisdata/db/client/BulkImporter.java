@@ -0,0 +1,571 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import static com.tigrisdata.db.client.Constants.BULK_IMPORT_ARRAY_TOO_LARGE;
+import static com.tigrisdata.db.client.Constants.BULK_IMPORT_FAILED;
+import static com.tigrisdata.db.client.Constants.BULK_IMPORT_INVALID_DOCUMENT;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.StatusRuntimeException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Imports NDJSON or JSON array files into a collection.
+ *
+ * <p>The file is memory-mapped and NDJSON files are split on newline boundaries across worker
+ * threads. Documents are passed to the server as the raw JSON bytes of the file, without a round
+ * trip through the collection's model class, and insert batches are pipelined with a bounded number
+ * of batches in flight.
+ *
+ * @param <T> type of the collection
+ */
+public final class BulkImporter<T extends TigrisCollectionType> {
+  // keep mapped segments well below the 2GB limit of a single mapping so that extending a segment
+  // to the next newline can never overflow it
+  private static final long MAX_SEGMENT_BYTES = 1L << 30;
+  private static final int SCAN_BUFFER_BYTES = 64 * 1024;
+  private static final byte[] UTF8_BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  private final AbstractTigrisCollection<T> collection;
+  private final BulkImportFormat format;
+  private final int batchSize;
+  private final int maxBatchBytes;
+  private final int parallelism;
+  private final int maxInFlightBatches;
+  private final InsertRequestOptions insertRequestOptions;
+  private final BulkImportProgressListener progressListener;
+
+  private BulkImporter(Builder<T> builder) {
+    this.collection = builder.collection;
+    this.format = builder.format;
+    this.batchSize = builder.batchSize;
+    this.maxBatchBytes = builder.maxBatchBytes;
+    this.parallelism = builder.parallelism;
+    this.maxInFlightBatches = builder.maxInFlightBatches();
+    this.insertRequestOptions = builder.insertRequestOptions;
+    this.progressListener = builder.progressListener;
+  }
+
+  /**
+   * Creates a new builder
+   *
+   * @param collection target collection
+   * @param <T> type of the collection
+   * @return new builder
+   */
+  public static <T extends TigrisCollectionType> Builder<T> newBuilder(
+      TigrisCollection<T> collection) {
+    return new Builder<>(Utilities.toAbstractCollection(collection));
+  }
+
+  /**
+   * Creates a new builder
+   *
+   * @param collection target collection
+   * @param <T> type of the collection
+   * @return new builder
+   */
+  public static <T extends TigrisCollectionType> Builder<T> newBuilder(
+      TigrisAsyncCollection<T> collection) {
+    return new Builder<>(Utilities.toAbstractCollection(collection));
+  }
+
+  /**
+   * Imports all documents of the given file and waits for the server to acknowledge them.
+   *
+   * @param path NDJSON or JSON array file
+   * @return final import stats
+   * @throws TigrisException in case of an error, documents of the batches acknowledged before the
+   *     error remain inserted
+   */
+  public BulkImportStats importFile(Path path) throws TigrisException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ImportRun run = new ImportRun(channel.size());
+      if (run.totalBytes == 0) {
+        return run.stats();
+      }
+      BulkImportFormat resolvedFormat =
+          format == BulkImportFormat.AUTO ? detectFormat(channel) : format;
+      try {
+        if (resolvedFormat == BulkImportFormat.JSON_ARRAY) {
+          importArray(channel, run);
+        } else {
+          importLines(channel, run);
+        }
+      } catch (TigrisException | IOException ex) {
+        // batches sent before the error must settle before the caller observes the collection
+        run.awaitInFlight();
+        throw ex;
+      }
+      run.awaitInFlight();
+      run.throwIfFailed();
+      return run.stats();
+    } catch (IOException ex) {
+      throw new TigrisException(BULK_IMPORT_FAILED, ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new TigrisException(BULK_IMPORT_FAILED, ex);
+    }
+  }
+
+  private void importLines(FileChannel channel, ImportRun run)
+      throws IOException, InterruptedException, TigrisException {
+    List<long[]> segments = splitOnNewlines(channel, byteOrderMarkLength(channel), run.totalBytes);
+    if (segments.isEmpty()) {
+      // the file holds nothing but a byte order mark
+      return;
+    }
+    AtomicInteger threadIndex = new AtomicInteger();
+    ExecutorService workers =
+        Executors.newFixedThreadPool(
+            Math.min(parallelism, segments.size()),
+            r -> {
+              Thread thread = new Thread(r);
+              thread.setName("tigris-bulk-import-" + threadIndex.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      List<Future<?>> tasks = new ArrayList<>(segments.size());
+      for (long[] segment : segments) {
+        MappedByteBuffer buffer =
+            channel.map(FileChannel.MapMode.READ_ONLY, segment[0], segment[1] - segment[0]);
+        tasks.add(
+            workers.submit(
+                () -> {
+                  importSegment(buffer, run);
+                  return null;
+                }));
+      }
+      for (Future<?> task : tasks) {
+        try {
+          task.get();
+        } catch (ExecutionException ex) {
+          run.fail(ex.getCause());
+        }
+      }
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  private void importSegment(ByteBuffer buffer, ImportRun run) throws InterruptedException {
+    Batch batch = new Batch();
+    int lineStart = 0;
+    int limit = buffer.limit();
+    for (int i = 0; i <= limit && !run.isFailed(); i++) {
+      if (i == limit || buffer.get(i) == '\n') {
+        ByteString document = slice(buffer, lineStart, i);
+        lineStart = i + 1;
+        if (document != null && batch.add(document)) {
+          run.send(batch);
+          batch = new Batch();
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      run.send(batch);
+    }
+  }
+
+  private void importArray(FileChannel channel, ImportRun run)
+      throws IOException, InterruptedException, TigrisException {
+    if (run.totalBytes > Integer.MAX_VALUE) {
+      throw new TigrisException(BULK_IMPORT_ARRAY_TOO_LARGE);
+    }
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, run.totalBytes);
+    try (JsonParser parser =
+        collection
+            .objectMapper
+            .getFactory()
+            .createParser(new ByteBufferBackedInputStream(buffer.duplicate()))) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new TigrisException(BULK_IMPORT_INVALID_DOCUMENT);
+      }
+      Batch batch = new Batch();
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY && !run.isFailed()) {
+        if (token != JsonToken.START_OBJECT) {
+          throw new TigrisException(BULK_IMPORT_INVALID_DOCUMENT);
+        }
+        int start = (int) parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        int end = (int) parser.getCurrentLocation().getByteOffset();
+        if (batch.add(slice(buffer, start, end))) {
+          run.send(batch);
+          batch = new Batch();
+        }
+      }
+      if (!batch.isEmpty()) {
+        run.send(batch);
+      }
+    }
+  }
+
+  /**
+   * Splits the file from {@code start} in roughly equal segments, each segment ends right after a
+   * newline (or at the end of the file) so no document spans two segments.
+   */
+  private List<long[]> splitOnNewlines(FileChannel channel, long start, long size)
+      throws IOException {
+    int segmentCount =
+        (int) Math.max(parallelism, (size + MAX_SEGMENT_BYTES - 1) / MAX_SEGMENT_BYTES);
+    List<long[]> segments = new ArrayList<>(segmentCount);
+    ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+    for (int i = 1; i <= segmentCount && start < size; i++) {
+      long end =
+          i == segmentCount
+              ? size
+              : nextLineStart(channel, size * i / segmentCount, size, scanBuffer);
+      if (end > start) {
+        segments.add(new long[] {start, end});
+        start = end;
+      }
+    }
+    return segments;
+  }
+
+  private static long nextLineStart(
+      FileChannel channel, long position, long size, ByteBuffer scanBuffer) throws IOException {
+    while (position < size) {
+      scanBuffer.clear();
+      int read = channel.read(scanBuffer, position);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (scanBuffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  private static BulkImportFormat detectFormat(FileChannel channel) throws IOException {
+    ByteBuffer head = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+    int read = channel.read(head, 0);
+    for (int i = byteOrderMarkLength(channel); i < read; i++) {
+      byte b = head.get(i);
+      if (b == '[') {
+        return BulkImportFormat.JSON_ARRAY;
+      }
+      if (!isWhitespace(b)) {
+        return BulkImportFormat.NDJSON;
+      }
+    }
+    return BulkImportFormat.NDJSON;
+  }
+
+  /** Wraps the trimmed region of the mapped file without copying, null for a blank region. */
+  private static ByteString slice(ByteBuffer buffer, int start, int end) {
+    while (start < end && isWhitespace(buffer.get(start))) {
+      start++;
+    }
+    while (end > start && isWhitespace(buffer.get(end - 1))) {
+      end--;
+    }
+    if (start == end) {
+      return null;
+    }
+    ByteBuffer slice = buffer.duplicate();
+    slice.limit(end).position(start);
+    return UnsafeByteOperations.unsafeWrap(slice.slice());
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+  }
+
+  /** @return length of the UTF-8 byte order mark the file starts with, 0 if there is none */
+  private static int byteOrderMarkLength(FileChannel channel) throws IOException {
+    ByteBuffer head = ByteBuffer.allocate(UTF8_BYTE_ORDER_MARK.length);
+    int read = channel.read(head, 0);
+    if (read < UTF8_BYTE_ORDER_MARK.length) {
+      return 0;
+    }
+    for (int i = 0; i < UTF8_BYTE_ORDER_MARK.length; i++) {
+      if (head.get(i) != UTF8_BYTE_ORDER_MARK[i]) {
+        return 0;
+      }
+    }
+    return UTF8_BYTE_ORDER_MARK.length;
+  }
+
+  private final class Batch {
+    private final List<ByteString> documents = new ArrayList<>(batchSize);
+    private long bytes;
+
+    /** @return true if the batch is full */
+    boolean add(ByteString document) {
+      documents.add(document);
+      bytes += document.size();
+      return documents.size() >= batchSize || bytes >= maxBatchBytes;
+    }
+
+    boolean isEmpty() {
+      return documents.isEmpty();
+    }
+  }
+
+  /** State of a single {@link #importFile(Path)} invocation */
+  private final class ImportRun {
+    private final long totalBytes;
+    private final long startNanos;
+    private final Semaphore inFlight;
+    private final AtomicLong documents;
+    private final AtomicLong bytes;
+    private final AtomicLong batches;
+    private final AtomicReference<Throwable> failure;
+
+    ImportRun(long totalBytes) {
+      this.totalBytes = totalBytes;
+      this.startNanos = System.nanoTime();
+      this.inFlight = new Semaphore(maxInFlightBatches);
+      this.documents = new AtomicLong();
+      this.bytes = new AtomicLong();
+      this.batches = new AtomicLong();
+      this.failure = new AtomicReference<>();
+    }
+
+    void send(Batch batch) throws InterruptedException {
+      inFlight.acquire();
+      if (isFailed()) {
+        inFlight.release();
+        return;
+      }
+      ListenableFuture<Api.InsertResponse> response;
+      try {
+        response = collection.insertRawFutureInternal(batch.documents, insertRequestOptions);
+      } catch (RuntimeException ex) {
+        fail(ex);
+        inFlight.release();
+        return;
+      }
+      Futures.addCallback(
+          response,
+          new FutureCallback<Api.InsertResponse>() {
+            @Override
+            public void onSuccess(Api.InsertResponse response) {
+              documents.addAndGet(batch.documents.size());
+              bytes.addAndGet(batch.bytes);
+              batches.incrementAndGet();
+              inFlight.release();
+              if (progressListener != null) {
+                progressListener.onProgress(stats());
+              }
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+              fail(throwable);
+              inFlight.release();
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+
+    void fail(Throwable throwable) {
+      failure.compareAndSet(null, throwable);
+    }
+
+    boolean isFailed() {
+      return failure.get() != null;
+    }
+
+    void awaitInFlight() throws InterruptedException {
+      inFlight.acquire(maxInFlightBatches);
+      inFlight.release(maxInFlightBatches);
+    }
+
+    void throwIfFailed() throws TigrisException {
+      Throwable throwable = failure.get();
+      if (throwable == null) {
+        return;
+      }
+      if (throwable instanceof TigrisException) {
+        throw (TigrisException) throwable;
+      }
+      if (throwable instanceof StatusRuntimeException) {
+        throw new TigrisException(
+            BULK_IMPORT_FAILED,
+            TypeConverter.extractTigrisError((StatusRuntimeException) throwable),
+            throwable);
+      }
+      throw new TigrisException(BULK_IMPORT_FAILED, throwable);
+    }
+
+    BulkImportStats stats() {
+      return new BulkImportStats(
+          documents.get(),
+          bytes.get(),
+          batches.get(),
+          totalBytes,
+          Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+  }
+
+  /** Builder for {@link BulkImporter} */
+  public static final class Builder<T extends TigrisCollectionType> {
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    // stays below the default 4MB gRPC message limit
+    public static final int DEFAULT_MAX_BATCH_BYTES = 3 * 1024 * 1024;
+
+    private final AbstractTigrisCollection<T> collection;
+    private BulkImportFormat format;
+    private int batchSize;
+    private int maxBatchBytes;
+    private int parallelism;
+    // null for twice the parallelism
+    private Integer maxInFlightBatches;
+    private InsertRequestOptions insertRequestOptions;
+    private BulkImportProgressListener progressListener;
+
+    private Builder(AbstractTigrisCollection<T> collection) {
+      this.collection = collection;
+      this.format = BulkImportFormat.AUTO;
+      this.batchSize = DEFAULT_BATCH_SIZE;
+      this.maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+      this.parallelism = Runtime.getRuntime().availableProcessors();
+      this.insertRequestOptions = InsertRequestOptions.DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Sets the file format, defaults to {@link BulkImportFormat#AUTO}
+     *
+     * @param format file format
+     * @return ongoing builder
+     */
+    public Builder<T> withFormat(BulkImportFormat format) {
+      this.format = format;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of documents per insert request
+     *
+     * @param batchSize documents per request
+     * @return ongoing builder
+     */
+    public Builder<T> withBatchSize(int batchSize) {
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum payload size of an insert request, a batch is sent as soon as either the
+     * batch size or this limit is reached
+     *
+     * @param maxBatchBytes bytes per request
+     * @return ongoing builder
+     */
+    public Builder<T> withMaxBatchBytes(int maxBatchBytes) {
+      this.maxBatchBytes = maxBatchBytes;
+      return this;
+    }
+
+    /**
+     * Sets the number of worker threads splitting NDJSON files, defaults to the number of available
+     * processors
+     *
+     * @param parallelism worker threads
+     * @return ongoing builder
+     */
+    public Builder<T> withParallelism(int parallelism) {
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of insert requests awaiting a server response, defaults to twice the
+     * parallelism
+     *
+     * @param maxInFlightBatches in flight requests
+     * @return ongoing builder
+     */
+    public Builder<T> withMaxInFlightBatches(int maxInFlightBatches) {
+      this.maxInFlightBatches = maxInFlightBatches;
+      return this;
+    }
+
+    /**
+     * Sets the options of every insert request
+     *
+     * @param insertRequestOptions insert options
+     * @return ongoing builder
+     */
+    public Builder<T> withInsertRequestOptions(InsertRequestOptions insertRequestOptions) {
+      this.insertRequestOptions = insertRequestOptions;
+      return this;
+    }
+
+    /**
+     * Sets the listener notified when batches are acknowledged
+     *
+     * @param progressListener listener
+     * @return ongoing builder
+     */
+    public Builder<T> withProgressListener(BulkImportProgressListener progressListener) {
+      this.progressListener = progressListener;
+      return this;
+    }
+
+    /**
+     * Builds the instance of @{@link BulkImporter}
+     *
+     * @return new instance of {@link BulkImporter}
+     */
+    public BulkImporter<T> build() {
+      if (batchSize < 1 || maxBatchBytes < 1 || parallelism < 1 || maxInFlightBatches() < 1) {
+        throw new IllegalArgumentException(
+            "batchSize, maxBatchBytes, parallelism and maxInFlightBatches must be positive");
+      }
+      return new BulkImporter<>(this);
+    }
+
+    private int maxInFlightBatches() {
+      return maxInFlightBatches != null ? maxInFlightBatches : 2 * parallelism;
+    }
+  }
+}
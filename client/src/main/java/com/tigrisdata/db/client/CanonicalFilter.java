@@ -0,0 +1,239 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Canonical form of a filter, equal for filters that only differ in the order or nesting of their
+ * logical operators.
+ *
+ * <p>Nested {@code $and}/{@code $or} nodes of the same operator are flattened, their operands are
+ * de-duplicated and sorted, and single operand nodes are unwrapped. Fields of a filter object and
+ * several operators on the same field become separate {@code $and} operands, and {@code $eq} is
+ * written in its short form. The canonical filter can be sent instead of the original one, and its
+ * JSON and 64-bit {@link #getHash() hash} serve as a cache key.
+ */
+public final class CanonicalFilter implements TigrisFilter {
+  private static final String EQ = ComparisonOperator.EQUALS.getOperator();
+  private static final String AND = LogicalFilterOperator.AND.getOperator();
+  private static final String OR = LogicalFilterOperator.OR.getOperator();
+  private static final Canonical MATCH_ALL = new Canonical(null, Collections.emptyList(), "{}");
+
+  private final String json;
+  // computed on first use, 0 until then
+  private volatile long hash;
+  private volatile boolean hashed;
+
+  private CanonicalFilter(String json) {
+    this.json = json;
+  }
+
+  /**
+   * Canonicalizes the filter
+   *
+   * @param filter filter to canonicalize
+   * @param objectMapper mapper of the client, used to serialize the filter values
+   * @return canonical filter
+   * @throws IllegalArgumentException if the filter does not serialize to a JSON object
+   */
+  public static CanonicalFilter of(TigrisFilter filter, ObjectMapper objectMapper) {
+    if (filter instanceof CanonicalFilter) {
+      return (CanonicalFilter) filter;
+    }
+    try {
+      JsonNode tree = objectMapper.readTree(filter.toJSON(objectMapper));
+      return new CanonicalFilter(new Canonicalizer(objectMapper).canonicalize(tree).json);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalArgumentException("Filter is not valid JSON", ex);
+    }
+  }
+
+  /** @return stable 64-bit fingerprint of the canonical JSON */
+  public long getHash() {
+    if (!hashed) {
+      hash = Hashing.farmHashFingerprint64().hashString(json, StandardCharsets.UTF_8).asLong();
+      hashed = true;
+    }
+    return hash;
+  }
+
+  @Override
+  public String toJSON(ObjectMapper objectMapper) {
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    CanonicalFilter that = (CanonicalFilter) o;
+    return json.equals(that.json);
+  }
+
+  @Override
+  public int hashCode() {
+    return json.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return json;
+  }
+
+  /**
+   * Canonical node. Logical nodes keep their canonical operands so that flattening them does not
+   * serialize anything again, the JSON is built once and is the sort key of the node.
+   */
+  private static final class Canonical {
+    // logical operator, null for a condition or match all
+    final String operator;
+    final List<Canonical> operands;
+    final String json;
+
+    Canonical(String operator, List<Canonical> operands, String json) {
+      this.operator = operator;
+      this.operands = operands;
+      this.json = json;
+    }
+
+    boolean isMatchAll() {
+      return this == MATCH_ALL;
+    }
+
+    boolean isLogical(String operator) {
+      return operator.equals(this.operator);
+    }
+  }
+
+  private static final class Canonicalizer {
+    private final ObjectMapper objectMapper;
+
+    Canonicalizer(ObjectMapper objectMapper) {
+      this.objectMapper = objectMapper;
+    }
+
+    Canonical canonicalize(JsonNode filter) throws JsonProcessingException {
+      if (!filter.isObject()) {
+        throw new IllegalArgumentException("Filter must be a JSON object: " + filter);
+      }
+      List<Canonical> conditions = new ArrayList<>(filter.size());
+      Iterator<Map.Entry<String, JsonNode>> fields = filter.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        if (field.getKey().equals(AND) || field.getKey().equals(OR)) {
+          List<Canonical> operands = new ArrayList<>(field.getValue().size());
+          for (JsonNode operand : field.getValue()) {
+            operands.add(canonicalize(operand));
+          }
+          conditions.add(field.getKey().equals(AND) ? and(operands) : or(operands));
+        } else if (isOperatorObject(field.getValue())) {
+          Iterator<Map.Entry<String, JsonNode>> operators = field.getValue().fields();
+          while (operators.hasNext()) {
+            Map.Entry<String, JsonNode> operator = operators.next();
+            conditions.add(
+                operator.getKey().equals(EQ)
+                    ? selector(field.getKey(), json(operator.getValue()))
+                    : selector(
+                        field.getKey(),
+                        "{" + quote(operator.getKey()) + ":" + json(operator.getValue()) + "}"));
+          }
+        } else {
+          conditions.add(selector(field.getKey(), json(field.getValue())));
+        }
+      }
+      return and(conditions);
+    }
+
+    private static Canonical selector(String key, String conditionJson) {
+      return new Canonical(
+          null, Collections.emptyList(), "{" + quote(key) + ":" + conditionJson + "}");
+    }
+
+    private static Canonical and(List<Canonical> operands) {
+      TreeMap<String, Canonical> distinct = new TreeMap<>();
+      for (Canonical operand : operands) {
+        if (operand.isLogical(AND)) {
+          for (Canonical nested : operand.operands) {
+            distinct.put(nested.json, nested);
+          }
+        } else if (!operand.isMatchAll()) {
+          distinct.put(operand.json, operand);
+        }
+      }
+      return logical(AND, distinct);
+    }
+
+    private static Canonical or(List<Canonical> operands) {
+      TreeMap<String, Canonical> distinct = new TreeMap<>();
+      for (Canonical operand : operands) {
+        if (operand.isMatchAll()) {
+          return operand;
+        } else if (operand.isLogical(OR)) {
+          for (Canonical nested : operand.operands) {
+            distinct.put(nested.json, nested);
+          }
+        } else {
+          distinct.put(operand.json, operand);
+        }
+      }
+      return logical(OR, distinct);
+    }
+
+    private static Canonical logical(String operator, TreeMap<String, Canonical> operands) {
+      if (operands.isEmpty()) {
+        return MATCH_ALL;
+      }
+      if (operands.size() == 1) {
+        return operands.firstEntry().getValue();
+      }
+      StringBuilder json = new StringBuilder();
+      json.append('{').append(quote(operator)).append(":[");
+      for (Canonical operand : operands.values()) {
+        if (json.charAt(json.length() - 1) != '[') {
+          json.append(',');
+        }
+        json.append(operand.json);
+      }
+      json.append("]}");
+      return new Canonical(operator, new ArrayList<>(operands.values()), json.toString());
+    }
+
+    private String json(JsonNode value) throws JsonProcessingException {
+      return objectMapper.writeValueAsString(value);
+    }
+
+    private static String quote(String text) {
+      return '"' + new String(JsonStringEncoder.getInstance().quoteAsString(text)) + '"';
+    }
+  }
+
+  private static boolean isOperatorObject(JsonNode condition) {
+    return condition.isObject()
+        && condition.size() > 0
+        && condition.fieldNames().next().startsWith("$");
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import io.grpc.ClientInterceptor;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches shared by all the databases and collections created from the same client. Entries depend
+ * on the client's {@link ObjectMapper} and therefore must not be shared across clients.
+ */
+final class ClientCaches {
+  private static final int MAX_CANONICAL_FILTERS = 10_000;
+
+  private final ObjectMapper objectMapper;
+  private final ConcurrentMap<Class<?>, Projection<?>> projections;
+  private final ConcurrentMap<Class<?>, String> primaryKeyFields;
+  // weak keys compare by identity, so a filter instance is canonicalized once
+  private final Cache<TigrisFilter, CanonicalFilter> canonicalFilters;
+  private final SingleFlight<ByteString, Optional<ByteString>> readOneFlights;
+  private final NearCache nearCache;
+  private final NegativeCache negativeCache;
+
+  ClientCaches(ObjectMapper objectMapper) {
+    this(objectMapper, null, null);
+  }
+
+  ClientCaches(
+      ObjectMapper objectMapper,
+      TigrisConfiguration.NearCacheConfig nearCacheConfig,
+      TigrisConfiguration.NegativeCacheConfig negativeCacheConfig) {
+    this.objectMapper = objectMapper;
+    this.projections = new ConcurrentHashMap<>();
+    this.primaryKeyFields = new ConcurrentHashMap<>();
+    this.canonicalFilters =
+        CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CANONICAL_FILTERS).build();
+    this.readOneFlights = new SingleFlight<>();
+    this.nearCache = nearCacheConfig == null ? null : new NearCache(nearCacheConfig);
+    this.negativeCache =
+        negativeCacheConfig == null ? null : new NegativeCache(negativeCacheConfig);
+  }
+
+  /**
+   * Returns the cached projection for the type, creating it on first use
+   *
+   * @param projectionType projection type
+   * @param <P> projection type
+   * @return projection
+   */
+  @SuppressWarnings("unchecked")
+  <P> Projection<P> projection(Class<P> projectionType) {
+    return (Projection<P>)
+        projections.computeIfAbsent(projectionType, type -> Projection.of(type, objectMapper));
+  }
+
+  /**
+   * Returns the cached primary key field of the model class, resolving it on first use
+   *
+   * @param documentType model class
+   * @return JSON name of the primary key field
+   * @throws IllegalArgumentException if the model does not have a single field primary key
+   */
+  String primaryKeyField(Class<?> documentType) {
+    return primaryKeyFields.computeIfAbsent(
+        documentType, type -> KeyedRead.primaryKeyField(objectMapper, type));
+  }
+
+  /**
+   * Returns the canonical form of the filter instance, canonicalizing it on first use. Filters are
+   * treated as immutable once they are read with.
+   *
+   * @param filter filter to canonicalize
+   * @return canonical filter
+   * @throws IllegalArgumentException if the filter does not serialize to a JSON object
+   */
+  CanonicalFilter canonicalFilter(TigrisFilter filter) {
+    CanonicalFilter canonicalFilter = canonicalFilters.getIfPresent(filter);
+    if (canonicalFilter == null) {
+      canonicalFilter = CanonicalFilter.of(filter, objectMapper);
+      canonicalFilters.put(filter, canonicalFilter);
+    }
+    return canonicalFilter;
+  }
+
+  /**
+   * Point reads in flight, keyed by the serialized read request. Results are the raw documents, so
+   * every caller decodes its own instance.
+   *
+   * @return single-flight of point reads
+   */
+  SingleFlight<ByteString, Optional<ByteString>> readOneFlights() {
+    return readOneFlights;
+  }
+
+  /** @return near cache, null when it is disabled */
+  NearCache nearCache() {
+    return nearCache;
+  }
+
+  /** @return negative cache, null when it is disabled */
+  NegativeCache negativeCache() {
+    return negativeCache;
+  }
+
+  /**
+   * Interceptor for the stubs of a collection, invalidating its cached reads around writes
+   *
+   * @param scope collection, see {@link NearCache#scope(String, String)}
+   * @return interceptor, null when no read cache is enabled
+   */
+  ClientInterceptor writeInterceptor(String scope) {
+    if (nearCache == null && negativeCache == null) {
+      return null;
+    }
+    return new InvalidatingInterceptor(
+        InvalidatingInterceptor.WRITE_METHODS,
+        request -> {
+          if (nearCache != null) {
+            nearCache.invalidate(scope, request);
+          }
+          // a delete cannot turn a miss into a match
+          if (negativeCache != null && !(request instanceof Api.DeleteRequest)) {
+            negativeCache.invalidate(scope);
+          }
+        });
+  }
+
+  /**
+   * Interceptor for transaction stubs, invalidating all the cached reads around commits, which make
+   * the transaction's writes visible to reads outside of it
+   *
+   * @return interceptor, null when no read cache is enabled
+   */
+  ClientInterceptor commitInterceptor() {
+    if (nearCache == null && negativeCache == null) {
+      return null;
+    }
+    return new InvalidatingInterceptor(
+        InvalidatingInterceptor.COMMIT_METHODS,
+        request -> {
+          if (nearCache != null) {
+            nearCache.invalidateAll();
+          }
+          if (negativeCache != null) {
+            negativeCache.invalidateAll();
+          }
+        });
+  }
+}
@@ -13,9 +13,19 @@
  */
 package com.tigrisdata.db.client;
 
+import com.tigrisdata.db.api.v1.grpc.Api;
+
 /** Represents options related to collection operations */
 public class CollectionOptions {
   private CollectionOptions() {}
 
   public static final CollectionOptions DEFAULT_INSTANCE = new CollectionOptions();
+
+  private static final Api.CollectionOptions API_DEFAULT_INSTANCE =
+      Api.CollectionOptions.getDefaultInstance();
+
+  /** @return protobuf counterpart, shared by all the requests */
+  Api.CollectionOptions toApi() {
+    return API_DEFAULT_INSTANCE;
+  }
 }
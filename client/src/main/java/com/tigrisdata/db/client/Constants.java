@@ -37,6 +37,7 @@ final class Constants {
   public static final String ROLLBACK_TRANSACTION_FAILED = "Failed to rollback transaction";
 
   public static final String TRANSACTION_FAILED = "Failed to perform transaction";
+  public static final String TRANSACTION_BATCH_FAILED = "Failed to execute transaction batch";
   public static final String DESCRIBE_DB_FAILED = "Failed to describe database";
 
   // collections
@@ -47,6 +48,14 @@ final class Constants {
   public static final String READ_FAILED = "Failed to read";
   public static final String SEARCH_FAILED = "Failed to search";
   public static final String DESCRIBE_COLLECTION_FAILED = "Failed to describe collection";
+  public static final String OPERATION_NOT_SUPPORTED =
+      "Operation is not supported by this collection implementation";
+  public static final String BULK_IMPORT_FAILED = "Failed to bulk import";
+  public static final String BULK_IMPORT_INVALID_DOCUMENT =
+      "Bulk import expects a JSON array of objects";
+  public static final String BULK_EXPORT_FAILED = "Failed to bulk export";
+  public static final String BULK_IMPORT_ARRAY_TOO_LARGE =
+      "JSON array files larger than 2GB are not supported, use NDJSON instead";
 
   // JSON
   public static final String JSON_SER_DE_ERROR =
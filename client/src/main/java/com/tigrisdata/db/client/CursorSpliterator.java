@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@link Spliterator} over a {@link TigrisCursor}. The cursor is consumed sequentially, splitting
+ * hands out arrays of buffered items in batches that grow with every split, so the parallel workers
+ * get enough items per task to outweigh the hand-off.
+ *
+ * @param <T> type of the items
+ */
+final class CursorSpliterator<T> implements Spliterator<T> {
+  static final int BATCH_UNIT = 1 << 10;
+  static final int MAX_BATCH = 1 << 25;
+  static final int CHARACTERISTICS = ORDERED | NONNULL;
+
+  private final TigrisCursor<T> cursor;
+  private long estimatedSize;
+  private int batch;
+
+  /**
+   * @param cursor source cursor
+   * @param estimatedSize upper bound of the number of items, {@link Long#MAX_VALUE} when unknown
+   */
+  CursorSpliterator(TigrisCursor<T> cursor, long estimatedSize) {
+    this.cursor = cursor;
+    this.estimatedSize = estimatedSize;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (!cursor.hasNext()) {
+      return false;
+    }
+    consumed(1);
+    action.accept(cursor.next());
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    while (cursor.hasNext()) {
+      consumed(1);
+      action.accept(cursor.next());
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    if (estimatedSize <= 1 || !cursor.hasNext()) {
+      return null;
+    }
+    int size = (int) Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), estimatedSize);
+    Object[] items = new Object[size];
+    int count = 0;
+    do {
+      items[count++] = cursor.next();
+    } while (count < size && cursor.hasNext());
+    batch = count;
+    consumed(count);
+    return Spliterators.spliterator(items, 0, count, CHARACTERISTICS);
+  }
+
+  @Override
+  public long estimateSize() {
+    return estimatedSize;
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  private void consumed(int count) {
+    if (estimatedSize != Long.MAX_VALUE) {
+      estimatedSize = Math.max(0, estimatedSize - count);
+    }
+  }
+}
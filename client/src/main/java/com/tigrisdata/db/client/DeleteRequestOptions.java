@@ -13,26 +13,36 @@
  */
 package com.tigrisdata.db.client;
 
+import com.tigrisdata.db.api.v1.grpc.Api;
+
 import java.util.Objects;
 
 /** Represents options related to Delete operations */
-public class DeleteRequestOptions {
-  private WriteOptions writeOptions;
+public final class DeleteRequestOptions {
+  public static final DeleteRequestOptions DEFAULT_INSTANCE = new DeleteRequestOptions();
+
+  private final WriteOptions writeOptions;
+  private final Api.DeleteRequestOptions apiOptions;
 
   public DeleteRequestOptions() {
-    this.writeOptions = WriteOptions.DEFAULT_INSTANCE;
+    this(WriteOptions.DEFAULT_INSTANCE);
   }
 
   public DeleteRequestOptions(WriteOptions writeOptions) {
     this.writeOptions = writeOptions;
+    this.apiOptions =
+        Api.DeleteRequestOptions.newBuilder()
+            .setWriteOptions(WriteOptions.toApi(writeOptions))
+            .build();
   }
 
   public WriteOptions getWriteOptions() {
     return writeOptions;
   }
 
-  public void setWriteOptions(WriteOptions writeOptions) {
-    this.writeOptions = writeOptions;
+  /** @return protobuf counterpart, built once */
+  Api.DeleteRequestOptions toApi() {
+    return apiOptions;
   }
 
   @Override
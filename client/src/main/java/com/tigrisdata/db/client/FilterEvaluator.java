@@ -0,0 +1,298 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates a {@link TigrisFilter} on the client, against model objects or raw JSON documents.
+ *
+ * <p>The filter is compiled once from its JSON form into a tree of predicates, so any filter
+ * serializing to the comparison operators of {@link Filters} and to {@code $and}/{@code $or} is
+ * supported, including {@link FilterTemplate bound templates} and {@link Filters#in set
+ * membership}. Fields are addressed by their dotted path. Numbers compare by value regardless of
+ * their type, and comparisons between different JSON types, or with a missing field, never match.
+ */
+public final class FilterEvaluator {
+  private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper();
+  private static final int NOT_COMPARABLE = Integer.MIN_VALUE;
+
+  private final ObjectMapper objectMapper;
+  private final Predicate<JsonNode> predicate;
+
+  private FilterEvaluator(ObjectMapper objectMapper, Predicate<JsonNode> predicate) {
+    this.objectMapper = objectMapper;
+    this.predicate = predicate;
+  }
+
+  /**
+   * Compiles the filter
+   *
+   * @param filter filter to evaluate
+   * @param objectMapper mapper of the client, used to serialize the filter and model objects
+   * @return evaluator
+   * @throws IllegalArgumentException if the filter uses an operator that cannot be evaluated
+   */
+  public static FilterEvaluator compile(TigrisFilter filter, ObjectMapper objectMapper) {
+    try {
+      return new FilterEvaluator(
+          objectMapper, compile(objectMapper.readTree(filter.toJSON(objectMapper))));
+    } catch (IOException ex) {
+      throw new IllegalArgumentException("Filter is not valid JSON", ex);
+    }
+  }
+
+  /**
+   * Compiles a serialized filter, such as the filter of a request
+   *
+   * @param filter JSON of the filter
+   * @return evaluator of raw documents
+   * @throws IllegalArgumentException if the filter cannot be evaluated
+   */
+  static FilterEvaluator compile(ByteString filter) {
+    if (filter.isEmpty()) {
+      return new FilterEvaluator(DEFAULT_OBJECT_MAPPER, document -> true);
+    }
+    try {
+      return new FilterEvaluator(
+          DEFAULT_OBJECT_MAPPER, compile(DEFAULT_OBJECT_MAPPER.readTree(filter.newInput())));
+    } catch (IOException ex) {
+      throw new IllegalArgumentException("Filter is not valid JSON", ex);
+    }
+  }
+
+  /**
+   * @param document model object
+   * @return true if the document matches the filter
+   */
+  public boolean test(Object document) {
+    return predicate.test(objectMapper.valueToTree(document));
+  }
+
+  /**
+   * @param document JSON document, such as a document read with the raw collection API
+   * @return true if the document matches the filter
+   * @throws IllegalArgumentException if the document is not valid JSON
+   */
+  public boolean test(ByteString document) {
+    try {
+      return predicate.test(objectMapper.readTree(document.newInput()));
+    } catch (IOException ex) {
+      throw new IllegalArgumentException("Document is not valid JSON", ex);
+    }
+  }
+
+  /**
+   * @param document parsed JSON document
+   * @return true if the document matches the filter
+   */
+  public boolean test(JsonNode document) {
+    return predicate.test(document);
+  }
+
+  /**
+   * @param <T> type of the model objects
+   * @return the evaluator as a predicate, for example to post-filter a stream
+   */
+  public <T> Predicate<T> asPredicate() {
+    return this::test;
+  }
+
+  private static Predicate<JsonNode> compile(JsonNode filter) {
+    if (!filter.isObject()) {
+      throw new IllegalArgumentException("Filter must be a JSON object: " + filter);
+    }
+    List<Predicate<JsonNode>> conditions = new ArrayList<>(filter.size());
+    Iterator<Map.Entry<String, JsonNode>> fields = filter.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      LogicalFilterOperator logicalOperator = logicalOperator(field.getKey());
+      if (logicalOperator != null) {
+        conditions.add(compileLogical(logicalOperator, field.getValue()));
+      } else if (field.getKey().startsWith("$")) {
+        throw new IllegalArgumentException("Unsupported filter operator " + field.getKey());
+      } else {
+        conditions.add(compileField(pointer(field.getKey()), field.getValue()));
+      }
+    }
+    // the fields of a filter object are implicitly and-ed, an empty filter matches everything
+    return and(conditions);
+  }
+
+  private static Predicate<JsonNode> compileLogical(
+      LogicalFilterOperator operator, JsonNode operands) {
+    if (!operands.isArray()) {
+      throw new IllegalArgumentException(operator.getOperator() + " requires an array of filters");
+    }
+    List<Predicate<JsonNode>> filters = new ArrayList<>(operands.size());
+    for (JsonNode operand : operands) {
+      filters.add(compile(operand));
+    }
+    return operator == LogicalFilterOperator.AND ? and(filters) : or(filters);
+  }
+
+  private static Predicate<JsonNode> compileField(JsonPointer pointer, JsonNode condition) {
+    if (!isOperatorObject(condition)) {
+      return document -> isEqual(document.at(pointer), condition);
+    }
+    List<Predicate<JsonNode>> comparisons = new ArrayList<>(condition.size());
+    Iterator<Map.Entry<String, JsonNode>> operators = condition.fields();
+    while (operators.hasNext()) {
+      Map.Entry<String, JsonNode> entry = operators.next();
+      ComparisonOperator operator = comparisonOperator(entry.getKey());
+      JsonNode operand = entry.getValue();
+      switch (operator) {
+        case EQUALS:
+          comparisons.add(document -> isEqual(document.at(pointer), operand));
+          break;
+        case LT:
+          comparisons.add(comparison(pointer, operand, result -> result < 0));
+          break;
+        case LTE:
+          comparisons.add(comparison(pointer, operand, result -> result <= 0));
+          break;
+        case GT:
+          comparisons.add(comparison(pointer, operand, result -> result > 0));
+          break;
+        case GTE:
+          comparisons.add(comparison(pointer, operand, result -> result >= 0));
+          break;
+        default:
+          throw new IllegalArgumentException("Unsupported filter operator " + entry.getKey());
+      }
+    }
+    return and(comparisons);
+  }
+
+  private static Predicate<JsonNode> comparison(
+      JsonPointer pointer, JsonNode operand, IntPredicate accepts) {
+    return document -> {
+      int result = compare(document.at(pointer), operand);
+      return result != NOT_COMPARABLE && accepts.test(result);
+    };
+  }
+
+  private static boolean isOperatorObject(JsonNode condition) {
+    return condition.isObject()
+        && condition.size() > 0
+        && condition.fieldNames().next().startsWith("$");
+  }
+
+  private static boolean isEqual(JsonNode value, JsonNode operand) {
+    if (value.isMissingNode()) {
+      return operand.isNull();
+    }
+    if (value.isNumber() && operand.isNumber()) {
+      return compareNumbers(value, operand) == 0;
+    }
+    return value.equals(operand);
+  }
+
+  /** @return comparison result, or {@link #NOT_COMPARABLE} */
+  private static int compare(JsonNode value, JsonNode operand) {
+    if (value.isNumber() && operand.isNumber()) {
+      return compareNumbers(value, operand);
+    }
+    if (value.isTextual() && operand.isTextual()) {
+      return Integer.signum(value.textValue().compareTo(operand.textValue()));
+    }
+    if (value.isBoolean() && operand.isBoolean()) {
+      return Boolean.compare(value.booleanValue(), operand.booleanValue());
+    }
+    return NOT_COMPARABLE;
+  }
+
+  private static int compareNumbers(JsonNode value, JsonNode operand) {
+    if (value.canConvertToExactIntegral() && operand.canConvertToExactIntegral()) {
+      if (value.canConvertToLong() && operand.canConvertToLong()) {
+        return Long.compare(value.longValue(), operand.longValue());
+      }
+    } else if (value.isFloatingPointNumber()
+        && operand.isFloatingPointNumber()
+        && !value.isBigDecimal()
+        && !operand.isBigDecimal()) {
+      return Double.compare(value.doubleValue(), operand.doubleValue());
+    }
+    return value.decimalValue().compareTo(operand.decimalValue());
+  }
+
+  private static Predicate<JsonNode> and(List<Predicate<JsonNode>> conditions) {
+    if (conditions.size() == 1) {
+      return conditions.get(0);
+    }
+    @SuppressWarnings("unchecked")
+    Predicate<JsonNode>[] all = conditions.toArray(new Predicate[0]);
+    return document -> {
+      for (Predicate<JsonNode> condition : all) {
+        if (!condition.test(document)) {
+          return false;
+        }
+      }
+      return true;
+    };
+  }
+
+  private static Predicate<JsonNode> or(List<Predicate<JsonNode>> conditions) {
+    if (conditions.size() == 1) {
+      return conditions.get(0);
+    }
+    @SuppressWarnings("unchecked")
+    Predicate<JsonNode>[] any = conditions.toArray(new Predicate[0]);
+    return document -> {
+      for (Predicate<JsonNode> condition : any) {
+        if (condition.test(document)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  private static JsonPointer pointer(String field) {
+    StringBuilder pointer = new StringBuilder(field.length() + 1);
+    for (String segment : field.split("\\.", -1)) {
+      pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+    }
+    return JsonPointer.compile(pointer.toString());
+  }
+
+  private static LogicalFilterOperator logicalOperator(String name) {
+    for (LogicalFilterOperator operator : LogicalFilterOperator.values()) {
+      if (operator.getOperator().equals(name)) {
+        return operator;
+      }
+    }
+    return null;
+  }
+
+  private static ComparisonOperator comparisonOperator(String name) {
+    for (ComparisonOperator operator : ComparisonOperator.values()) {
+      if (operator != ComparisonOperator.NONE && operator.getOperator().equals(name)) {
+        return operator;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported filter operator " + name);
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Filter with named placeholders, prepared once and bound to values per execution.
+ *
+ * <p>The first use with an {@link ObjectMapper} encodes the JSON around the placeholders. Binding
+ * only encodes the parameter values, which are spliced between the encoded segments without copying
+ * them. Bound filters are regular {@link TigrisFilter}s and can be passed to any read, update or
+ * delete.
+ *
+ * <pre>{@code
+ * FilterTemplate byOwner =
+ *     Filters.template(Filters.and(Filters.eq("owner", Filters.param("owner")),
+ *         Filters.gt("balance", Filters.param("min"))));
+ * collection.read(byOwner.bind("owner", "alice", "min", 100));
+ * }</pre>
+ */
+public final class FilterTemplate {
+  // only used to find the placeholders, executions encode with the client's mapper
+  private static final ObjectMapper PREPARE_OBJECT_MAPPER = new ObjectMapper();
+
+  private final TigrisFilter shape;
+  private volatile Encoded encoded;
+
+  FilterTemplate(TigrisFilter shape) {
+    this.shape = shape;
+    // fails early on shapes that cannot be encoded
+    this.encoded = encode(PREPARE_OBJECT_MAPPER);
+  }
+
+  /** @return names of the placeholders, in the order they first appear */
+  public Set<String> getParameterNames() {
+    return Collections.unmodifiableSet(new LinkedHashSet<>(encoded.parameters));
+  }
+
+  /**
+   * Binds the placeholders
+   *
+   * @param values parameter values, keyed by name
+   * @return filter ready to be executed
+   * @throws IllegalArgumentException if a placeholder has no value or a value has no placeholder
+   */
+  public TigrisFilter bind(Map<String, ?> values) {
+    Set<String> names = getParameterNames();
+    if (!names.equals(values.keySet())) {
+      throw new IllegalArgumentException(
+          "Filter template expects parameters " + names + ", got " + values.keySet());
+    }
+    return new BoundFilter(this, new HashMap<>(values));
+  }
+
+  /**
+   * Binds the placeholders
+   *
+   * @param nameValuePairs alternating parameter names and values
+   * @return filter ready to be executed
+   * @throws IllegalArgumentException if a placeholder has no value or a value has no placeholder
+   */
+  public TigrisFilter bind(Object... nameValuePairs) {
+    if (nameValuePairs.length % 2 != 0) {
+      throw new IllegalArgumentException("Parameters must be given as name and value pairs");
+    }
+    Map<String, Object> values = new HashMap<>();
+    for (int i = 0; i < nameValuePairs.length; i += 2) {
+      values.put(String.valueOf(nameValuePairs[i]), nameValuePairs[i + 1]);
+    }
+    return bind(values);
+  }
+
+  private Encoded encoded(ObjectMapper objectMapper) {
+    Encoded current = encoded;
+    if (current.objectMapper != objectMapper) {
+      current = encode(objectMapper);
+      encoded = current;
+    }
+    return current;
+  }
+
+  private Encoded encode(ObjectMapper objectMapper) {
+    SegmentOutputStream outputStream = new SegmentOutputStream();
+    try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+      FilterWriter.write(shape, generator, objectMapper);
+      generator.flush();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to encode the filter template", e);
+    }
+    outputStream.endSegment();
+    return new Encoded(objectMapper, outputStream.segments, outputStream.parameters);
+  }
+
+  /** Placeholder of a {@link FilterTemplate}, see {@link Filters#param(String)} */
+  public static final class Parameter {
+    private final String name;
+
+    Parameter(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    void writeTo(JsonGenerator generator) throws IOException {
+      if (!(generator.getOutputTarget() instanceof SegmentOutputStream)) {
+        throw new IllegalStateException(
+            "Filter parameter '" + name + "' must be bound through a FilterTemplate");
+      }
+      // an empty raw value lets the generator emit the separators around the placeholder
+      generator.writeRawValue("");
+      generator.flush();
+      ((SegmentOutputStream) generator.getOutputTarget()).placeholder(name);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      return name.equals(((Parameter) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return ":" + name;
+    }
+  }
+
+  /** Encoded JSON around the placeholders, there is one more segment than there are parameters */
+  private static final class Encoded {
+    final ObjectMapper objectMapper;
+    final List<ByteString> segments;
+    final List<String> parameters;
+
+    Encoded(ObjectMapper objectMapper, List<ByteString> segments, List<String> parameters) {
+      this.objectMapper = objectMapper;
+      this.segments = segments;
+      this.parameters = parameters;
+    }
+  }
+
+  private static final class SegmentOutputStream extends ByteArrayOutputStream {
+    final List<ByteString> segments = new ArrayList<>();
+    final List<String> parameters = new ArrayList<>();
+
+    void placeholder(String name) {
+      endSegment();
+      parameters.add(name);
+    }
+
+    void endSegment() {
+      segments.add(ByteString.copyFrom(buf, 0, count));
+      reset();
+    }
+  }
+
+  /** Template bound to parameter values */
+  static final class BoundFilter implements FilterWriter.StreamingFilter {
+    private final FilterTemplate template;
+    private final Map<String, Object> values;
+
+    BoundFilter(FilterTemplate template, Map<String, Object> values) {
+      this.template = template;
+      this.values = values;
+    }
+
+    ByteString toByteString(ObjectMapper objectMapper) {
+      Encoded encoded = template.encoded(objectMapper);
+      Map<String, ByteString> encodedValues = new HashMap<>();
+      ByteString result = encoded.segments.get(0);
+      for (int i = 0; i < encoded.parameters.size(); i++) {
+        String name = encoded.parameters.get(i);
+        ByteString value = encodedValues.get(name);
+        if (value == null) {
+          value = encodeValue(values.get(name), objectMapper);
+          encodedValues.put(name, value);
+        }
+        result = result.concat(value).concat(encoded.segments.get(i + 1));
+      }
+      return result;
+    }
+
+    @Override
+    public String toJSON(ObjectMapper objectMapper) {
+      return toByteString(objectMapper).toStringUtf8();
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator, ObjectMapper objectMapper) throws IOException {
+      generator.writeRawValue(toJSON(objectMapper));
+    }
+
+    private static ByteString encodeValue(Object value, ObjectMapper objectMapper) {
+      try {
+        return ByteString.copyFrom(objectMapper.writeValueAsBytes(value));
+      } catch (JsonProcessingException e) {
+        throw new IllegalArgumentException("Failed to encode the filter parameter " + value, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Serializes filter trees straight through a Jackson {@link JsonGenerator}. The client's own
+ * filters write themselves node by node, without building intermediate maps or strings, into a
+ * per-thread buffer that is reused across calls. Other {@link TigrisFilter} implementations are
+ * embedded as the raw JSON they produce.
+ */
+final class FilterWriter {
+  private static final int INITIAL_BUFFER_SIZE = 256;
+  // larger buffers are dropped after use rather than pinned to the thread
+  private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+  private static final ThreadLocal<PooledOutputStream> BUFFERS =
+      ThreadLocal.withInitial(PooledOutputStream::new);
+
+  private FilterWriter() {}
+
+  /** Filter that can write itself to a {@link JsonGenerator} */
+  interface StreamingFilter extends TigrisFilter {
+    /**
+     * @param generator destination
+     * @param objectMapper mapper used for values and for filters that cannot stream themselves
+     * @throws IOException in case of a serialization error
+     */
+    void writeTo(JsonGenerator generator, ObjectMapper objectMapper) throws IOException;
+  }
+
+  /**
+   * @param filter filter to serialize
+   * @param objectMapper mapper used for the filter values
+   * @return UTF-8 JSON of the filter
+   */
+  static ByteString toByteString(TigrisFilter filter, ObjectMapper objectMapper) {
+    if (filter instanceof FilterTemplate.BoundFilter) {
+      return ((FilterTemplate.BoundFilter) filter).toByteString(objectMapper);
+    }
+    if (!(filter instanceof StreamingFilter)) {
+      return ByteString.copyFromUtf8(filter.toJSON(objectMapper));
+    }
+    PooledOutputStream outputStream = acquire();
+    try {
+      serialize(filter, objectMapper, outputStream);
+      return ByteString.copyFrom(outputStream.buffer, 0, outputStream.count);
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  /**
+   * @param filter filter to serialize
+   * @param objectMapper mapper used for the filter values
+   * @return JSON of the filter
+   */
+  static String toJSON(StreamingFilter filter, ObjectMapper objectMapper) {
+    PooledOutputStream outputStream = acquire();
+    try {
+      serialize(filter, objectMapper, outputStream);
+      return new String(outputStream.buffer, 0, outputStream.count, StandardCharsets.UTF_8);
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  /**
+   * Writes a nested filter
+   *
+   * @param filter filter to write
+   * @param generator destination
+   * @param objectMapper mapper used for the filter values
+   * @throws IOException in case of a serialization error
+   */
+  static void write(TigrisFilter filter, JsonGenerator generator, ObjectMapper objectMapper)
+      throws IOException {
+    if (filter instanceof StreamingFilter) {
+      ((StreamingFilter) filter).writeTo(generator, objectMapper);
+    } else {
+      generator.writeRawValue(filter.toJSON(objectMapper));
+    }
+  }
+
+  private static void serialize(
+      TigrisFilter filter, ObjectMapper objectMapper, OutputStream outputStream) {
+    try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+      write(filter, generator, objectMapper);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "This was caused because the "
+              + filter.getClass().getSimpleName()
+              + "'s JSON serialization raised errors",
+          e);
+    }
+  }
+
+  private static PooledOutputStream acquire() {
+    PooledOutputStream pooled = BUFFERS.get();
+    // a filter serializing another filter from its toJSON must not share the buffer
+    return pooled.inUse ? new PooledOutputStream() : pooled.acquire();
+  }
+
+  /** Growable byte buffer, only valid until it is released */
+  private static final class PooledOutputStream extends OutputStream {
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int count;
+    private boolean inUse;
+
+    PooledOutputStream acquire() {
+      inUse = true;
+      return this;
+    }
+
+    void release() {
+      inUse = false;
+      count = 0;
+      if (buffer.length > MAX_POOLED_BUFFER_SIZE) {
+        buffer = new byte[INITIAL_BUFFER_SIZE];
+      }
+    }
+
+    @Override
+    public void write(int b) {
+      ensureCapacity(count + 1);
+      buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      ensureCapacity(count + length);
+      System.arraycopy(bytes, offset, buffer, count, length);
+      count += length;
+    }
+
+    private void ensureCapacity(int capacity) {
+      if (capacity < 0) {
+        throw new OutOfMemoryError("Filter too large");
+      }
+      if (capacity > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+      }
+    }
+  }
+}
@@ -13,6 +13,7 @@
  */
 package com.tigrisdata.db.client;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /** Helper class to help construct Filters */
@@ -251,6 +252,124 @@ public final class Filters {
     return new SelectorFilter<>(ComparisonOperator.GTE, key, value);
   }
 
+  /**
+   * Creates equals filter for given key and template parameter
+   *
+   * @param key field key
+   * @param parameter placeholder, see {@link #param(String)}
+   * @return constructed {@link SelectorFilter} of type {@link FilterTemplate.Parameter}
+   */
+  public static SelectorFilter<FilterTemplate.Parameter> eq(
+      String key, FilterTemplate.Parameter parameter) {
+    return new SelectorFilter<>(ComparisonOperator.EQUALS, key, parameter);
+  }
+
+  /**
+   * Creates less than filter for given key and template parameter
+   *
+   * @param key field key
+   * @param parameter placeholder, see {@link #param(String)}
+   * @return constructed {@link SelectorFilter} of type {@link FilterTemplate.Parameter}
+   */
+  public static SelectorFilter<FilterTemplate.Parameter> lt(
+      String key, FilterTemplate.Parameter parameter) {
+    return new SelectorFilter<>(ComparisonOperator.LT, key, parameter);
+  }
+
+  /**
+   * Creates less than equals filter for given key and template parameter
+   *
+   * @param key field key
+   * @param parameter placeholder, see {@link #param(String)}
+   * @return constructed {@link SelectorFilter} of type {@link FilterTemplate.Parameter}
+   */
+  public static SelectorFilter<FilterTemplate.Parameter> lte(
+      String key, FilterTemplate.Parameter parameter) {
+    return new SelectorFilter<>(ComparisonOperator.LTE, key, parameter);
+  }
+
+  /**
+   * Creates greater than filter for given key and template parameter
+   *
+   * @param key field key
+   * @param parameter placeholder, see {@link #param(String)}
+   * @return constructed {@link SelectorFilter} of type {@link FilterTemplate.Parameter}
+   */
+  public static SelectorFilter<FilterTemplate.Parameter> gt(
+      String key, FilterTemplate.Parameter parameter) {
+    return new SelectorFilter<>(ComparisonOperator.GT, key, parameter);
+  }
+
+  /**
+   * Creates greater than equals filter for given key and template parameter
+   *
+   * @param key field key
+   * @param parameter placeholder, see {@link #param(String)}
+   * @return constructed {@link SelectorFilter} of type {@link FilterTemplate.Parameter}
+   */
+  public static SelectorFilter<FilterTemplate.Parameter> gte(
+      String key, FilterTemplate.Parameter parameter) {
+    return new SelectorFilter<>(ComparisonOperator.GTE, key, parameter);
+  }
+
+  /**
+   * Creates a set membership filter, matching documents whose key equals any of the values. Reads
+   * with a large set are split into several concurrent requests.
+   *
+   * @param key field key
+   * @param values one or more values
+   * @return constructed {@link InFilter}
+   */
+  public static InFilter in(String key, Collection<?> values) {
+    return InFilter.of(key, values);
+  }
+
+  /**
+   * Creates a set membership filter, matching documents whose key equals any of the values
+   *
+   * @param key field key
+   * @param values one or more values
+   * @return constructed {@link InFilter}
+   */
+  public static InFilter in(String key, int... values) {
+    long[] longValues = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      longValues[i] = values[i];
+    }
+    return InFilter.of(key, longValues);
+  }
+
+  /**
+   * Creates a set membership filter, matching documents whose key equals any of the values
+   *
+   * @param key field key
+   * @param values one or more values
+   * @return constructed {@link InFilter}
+   */
+  public static InFilter in(String key, long... values) {
+    return InFilter.of(key, values);
+  }
+
+  /**
+   * Creates a named placeholder for a {@link FilterTemplate}
+   *
+   * @param name parameter name
+   * @return placeholder
+   */
+  public static FilterTemplate.Parameter param(String name) {
+    return new FilterTemplate.Parameter(name);
+  }
+
+  /**
+   * Prepares a filter containing placeholders, see {@link FilterTemplate}
+   *
+   * @param shape filter with placeholders created by {@link #param(String)}
+   * @return prepared template
+   */
+  public static FilterTemplate template(TigrisFilter shape) {
+    return new FilterTemplate(shape);
+  }
+
   /**
    * Creates a composite logical OR filter from input filters
    *
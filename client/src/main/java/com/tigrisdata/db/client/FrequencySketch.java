@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+/**
+ * Approximate access frequencies for the near cache admission policy. A count-min sketch of 4-bit
+ * counters, four per key, packed sixteen to a {@code long}. Once the number of recorded accesses
+ * reaches ten times the table width all counters are halved, so frequencies age and keys that
+ * stopped being read lose their advantage.
+ */
+final class FrequencySketch {
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final int MAX_FREQUENCY = 15;
+
+  private final long[] table;
+  private final int tableMask;
+  private final int sampleSize;
+  private int additions;
+
+  /** @param expectedEntries number of distinct keys expected to be tracked */
+  FrequencySketch(int expectedEntries) {
+    int width = Integer.highestOneBit(Math.max(16, Math.min(expectedEntries, 1 << 26)) - 1) << 1;
+    this.table = new long[width / 16 * 4];
+    this.tableMask = table.length - 1;
+    this.sampleSize = 10 * width;
+  }
+
+  /**
+   * @param hash hash of the key
+   * @return estimated number of recent accesses, at most 15
+   */
+  int frequency(int hash) {
+    int frequency = MAX_FREQUENCY;
+    for (int i = 0; i < SEEDS.length; i++) {
+      long counterHash = spread(hash, i);
+      frequency = Math.min(frequency, counter(index(counterHash), offset(counterHash)));
+    }
+    return frequency;
+  }
+
+  /** @param hash hash of the accessed key */
+  void increment(int hash) {
+    boolean added = false;
+    for (int i = 0; i < SEEDS.length; i++) {
+      long counterHash = spread(hash, i);
+      int index = index(counterHash);
+      int offset = offset(counterHash);
+      if (counter(index, offset) < MAX_FREQUENCY) {
+        table[index] += 1L << offset;
+        added = true;
+      }
+    }
+    if (added && ++additions == sampleSize) {
+      reset();
+    }
+  }
+
+  private void reset() {
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    additions /= 2;
+  }
+
+  private int counter(int index, int offset) {
+    return (int) ((table[index] >>> offset) & 0xfL);
+  }
+
+  private int index(long counterHash) {
+    return (int) (counterHash >>> 32) & tableMask;
+  }
+
+  private static int offset(long counterHash) {
+    return ((int) counterHash & 0xf) << 2;
+  }
+
+  private static long spread(int hash, int seedIndex) {
+    long result = (hash + SEEDS[seedIndex]) * SEEDS[(seedIndex + 1) & 3];
+    return result ^ (result >>> 29);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Set membership filter, serialized as a single {@code $or} of equality filters.
+ *
+ * <p>Integral values are kept in a sorted {@code long[]} without boxing, other values in an array
+ * in their original order; duplicates are dropped. Reads with more than {@link
+ * #MAX_VALUES_PER_REQUEST} values are split into several requests that run concurrently and are
+ * merged into a single result.
+ */
+final class InFilter implements FilterWriter.StreamingFilter {
+  static final int MAX_VALUES_PER_REQUEST = 256;
+  static final int MAX_CONCURRENT_REQUESTS = 8;
+
+  private final String key;
+  // exactly one of the two is set, the filter covers the values in [from, to)
+  private final long[] longValues;
+  private final Object[] values;
+  private final int from;
+  private final int to;
+
+  private InFilter(String key, long[] longValues, Object[] values, int from, int to) {
+    if (to <= from) {
+      throw new IllegalArgumentException("At least 1 value is required to form an in filter");
+    }
+    this.key = key;
+    this.longValues = longValues;
+    this.values = values;
+    this.from = from;
+    this.to = to;
+  }
+
+  static InFilter of(String key, long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int distinct = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[distinct - 1]) {
+        sorted[distinct++] = sorted[i];
+      }
+    }
+    return new InFilter(key, sorted, null, 0, distinct);
+  }
+
+  static InFilter of(String key, Collection<?> values) {
+    boolean integral = true;
+    for (Object value : values) {
+      if (!(value instanceof Long
+          || value instanceof Integer
+          || value instanceof Short
+          || value instanceof Byte)) {
+        integral = false;
+        break;
+      }
+    }
+    if (integral) {
+      long[] longValues = new long[values.size()];
+      int i = 0;
+      for (Object value : values) {
+        longValues[i++] = ((Number) value).longValue();
+      }
+      return of(key, longValues);
+    }
+    Object[] distinct = new LinkedHashSet<>(values).toArray();
+    return new InFilter(key, null, distinct, 0, distinct.length);
+  }
+
+  /** @return number of distinct values */
+  int size() {
+    return to - from;
+  }
+
+  /**
+   * @param maxValues maximum number of values per filter
+   * @return filters covering all the values, at most {@code maxValues} each
+   */
+  List<TigrisFilter> chunks(int maxValues) {
+    List<TigrisFilter> chunks = new ArrayList<>((size() + maxValues - 1) / maxValues);
+    for (int start = from; start < to; start += maxValues) {
+      chunks.add(new InFilter(key, longValues, values, start, Math.min(to, start + maxValues)));
+    }
+    return chunks;
+  }
+
+  /**
+   * @param readRequestOptions options of the read
+   * @return true if a read with this filter and these options is split into several requests
+   */
+  boolean isChunked(ReadRequestOptions readRequestOptions) {
+    // skip, limit and read options do not carry over to independent requests
+    return size() > MAX_VALUES_PER_REQUEST
+        && ReadRequestOptions.DEFAULT_INSTANCE.equals(readRequestOptions);
+  }
+
+  @Override
+  public String toJSON(ObjectMapper objectMapper) {
+    return FilterWriter.toJSON(this, objectMapper);
+  }
+
+  @Override
+  public void writeTo(JsonGenerator generator, ObjectMapper objectMapper) throws IOException {
+    if (size() == 1) {
+      writeSelector(generator, from);
+      return;
+    }
+    generator.writeStartObject();
+    generator.writeFieldName(LogicalFilterOperator.OR.getOperator());
+    generator.writeStartArray();
+    for (int i = from; i < to; i++) {
+      writeSelector(generator, i);
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private void writeSelector(JsonGenerator generator, int index) throws IOException {
+    generator.writeStartObject();
+    generator.writeFieldName(key);
+    if (longValues != null) {
+      generator.writeNumber(longValues[index]);
+    } else {
+      generator.writeObject(values[index]);
+    }
+    generator.writeEndObject();
+  }
+}
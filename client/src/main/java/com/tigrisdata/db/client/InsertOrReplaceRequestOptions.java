@@ -13,25 +13,36 @@
  */
 package com.tigrisdata.db.client;
 
+import com.tigrisdata.db.api.v1.grpc.Api;
+
 import java.util.Objects;
 /** Represents options related to InsertOrReplace operations */
-public class InsertOrReplaceRequestOptions {
-  private WriteOptions writeOptions;
+public final class InsertOrReplaceRequestOptions {
+  public static final InsertOrReplaceRequestOptions DEFAULT_INSTANCE =
+      new InsertOrReplaceRequestOptions();
+
+  private final WriteOptions writeOptions;
+  private final Api.ReplaceRequestOptions apiOptions;
 
   public InsertOrReplaceRequestOptions() {
-    this.writeOptions = WriteOptions.DEFAULT_INSTANCE;
+    this(WriteOptions.DEFAULT_INSTANCE);
   }
 
   public InsertOrReplaceRequestOptions(WriteOptions writeOptions) {
     this.writeOptions = writeOptions;
+    this.apiOptions =
+        Api.ReplaceRequestOptions.newBuilder()
+            .setWriteOptions(WriteOptions.toApi(writeOptions))
+            .build();
   }
 
   public WriteOptions getWriteOptions() {
     return writeOptions;
   }
 
-  public void setWriteOptions(WriteOptions writeOptions) {
-    this.writeOptions = writeOptions;
+  /** @return protobuf counterpart, built once */
+  Api.ReplaceRequestOptions toApi() {
+    return apiOptions;
   }
 
   @Override
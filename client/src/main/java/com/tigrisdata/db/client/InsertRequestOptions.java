@@ -13,25 +13,35 @@
  */
 package com.tigrisdata.db.client;
 
+import com.tigrisdata.db.api.v1.grpc.Api;
+
 import java.util.Objects;
 /** Represents options related to Insert operations */
-public class InsertRequestOptions {
-  private WriteOptions writeOptions;
+public final class InsertRequestOptions {
+  public static final InsertRequestOptions DEFAULT_INSTANCE = new InsertRequestOptions();
+
+  private final WriteOptions writeOptions;
+  private final Api.InsertRequestOptions apiOptions;
 
   public InsertRequestOptions() {
-    this.writeOptions = WriteOptions.DEFAULT_INSTANCE;
+    this(WriteOptions.DEFAULT_INSTANCE);
   }
 
   public InsertRequestOptions(WriteOptions writeOptions) {
     this.writeOptions = writeOptions;
+    this.apiOptions =
+        Api.InsertRequestOptions.newBuilder()
+            .setWriteOptions(WriteOptions.toApi(writeOptions))
+            .build();
   }
 
   public WriteOptions getWriteOptions() {
     return writeOptions;
   }
 
-  public void setWriteOptions(WriteOptions writeOptions) {
-    this.writeOptions = writeOptions;
+  /** @return protobuf counterpart, built once */
+  Api.InsertRequestOptions toApi() {
+    return apiOptions;
   }
 
   @Override
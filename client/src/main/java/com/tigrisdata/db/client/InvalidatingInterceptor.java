@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Runs a cache invalidation when the request of a matching call is sent and again when the call
+ * completes. Invalidating twice closes the window in which a read racing the call could cache the
+ * state from before it. The invalidation receives the request message.
+ */
+final class InvalidatingInterceptor implements ClientInterceptor {
+  static final Set<String> WRITE_METHODS =
+      Collections.unmodifiableSet(
+          new HashSet<>(
+              Arrays.asList(
+                  TigrisGrpc.getInsertMethod().getFullMethodName(),
+                  TigrisGrpc.getReplaceMethod().getFullMethodName(),
+                  TigrisGrpc.getUpdateMethod().getFullMethodName(),
+                  TigrisGrpc.getDeleteMethod().getFullMethodName())));
+  static final Set<String> COMMIT_METHODS =
+      Collections.singleton(TigrisGrpc.getCommitTransactionMethod().getFullMethodName());
+
+  private final Set<String> methods;
+  private final Consumer<Object> invalidation;
+
+  InvalidatingInterceptor(Set<String> methods, Consumer<Object> invalidation) {
+    this.methods = methods;
+    this.invalidation = invalidation;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    if (!methods.contains(method.getFullMethodName())) {
+      return next.newCall(method, callOptions);
+    }
+    return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+        next.newCall(method, callOptions)) {
+      private volatile ReqT request;
+
+      @Override
+      public void start(Listener<RespT> responseListener, Metadata headers) {
+        super.start(
+            new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+                responseListener) {
+              @Override
+              public void onClose(Status status, Metadata trailers) {
+                if (request != null) {
+                  invalidation.accept(request);
+                }
+                super.onClose(status, trailers);
+              }
+            },
+            headers);
+      }
+
+      @Override
+      public void sendMessage(ReqT message) {
+        request = message;
+        invalidation.accept(message);
+        super.sendMessage(message);
+      }
+    };
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link TigrisCursor} over an iterator of a read that cannot be cancelled. Closing the cursor only
+ * stops the iteration.
+ *
+ * @param <T> type of the items
+ */
+final class IteratorCursor<T> implements TigrisCursor<T> {
+  private final Iterator<T> iterator;
+  private boolean closed;
+
+  private IteratorCursor(Iterator<T> iterator) {
+    this.iterator = iterator;
+  }
+
+  /**
+   * @param iterator iterator of a read
+   * @param <T> type of the items
+   * @return the iterator itself when it is a cursor, otherwise a cursor over it
+   */
+  static <T> TigrisCursor<T> of(Iterator<T> iterator) {
+    if (iterator instanceof TigrisCursor) {
+      return (TigrisCursor<T>) iterator;
+    }
+    return new IteratorCursor<>(iterator);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !closed && iterator.hasNext();
+  }
+
+  @Override
+  public T next() {
+    if (closed) {
+      throw new NoSuchElementException();
+    }
+    return iterator.next();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Helpers to split the key space of a collection into contiguous ranges */
+final class KeyRanges {
+  private KeyRanges() {}
+
+  /**
+   * Splits the key space at the given points. For split points {@code p0 < p1 < ... < pn} the
+   * result covers {@code key < p0}, {@code p0 <= key < p1}, ..., {@code key >= pn}, each range is
+   * combined with the base filter.
+   *
+   * @param baseFilter filter every range is restricted to
+   * @param key numeric key to split on
+   * @param splitPoints strictly ascending split points
+   * @return one filter per range
+   */
+  static List<TigrisFilter> split(TigrisFilter baseFilter, String key, long[] splitPoints) {
+    for (int i = 1; i < splitPoints.length; i++) {
+      if (splitPoints[i] <= splitPoints[i - 1]) {
+        throw new IllegalArgumentException("Split points must be strictly ascending");
+      }
+    }
+    List<TigrisFilter> result = new ArrayList<>(splitPoints.length + 1);
+    if (splitPoints.length == 0) {
+      result.add(baseFilter);
+      return result;
+    }
+    result.add(restrict(baseFilter, Filters.lt(key, splitPoints[0])));
+    for (int i = 1; i < splitPoints.length; i++) {
+      result.add(
+          restrict(
+              baseFilter,
+              Filters.and(Filters.gte(key, splitPoints[i - 1]), Filters.lt(key, splitPoints[i]))));
+    }
+    result.add(restrict(baseFilter, Filters.gte(key, splitPoints[splitPoints.length - 1])));
+    return result;
+  }
+
+  static TigrisFilter restrict(TigrisFilter baseFilter, TigrisFilter range) {
+    if (baseFilter == null || Filters.nothing().equals(baseFilter)) {
+      return range;
+    }
+    return Filters.and(baseFilter, range);
+  }
+}
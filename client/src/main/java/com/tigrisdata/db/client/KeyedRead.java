@@ -0,0 +1,254 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import static com.tigrisdata.db.client.Constants.JSON_SER_DE_ERROR;
+import static com.tigrisdata.db.client.Constants.READ_FAILED;
+import static com.tigrisdata.db.client.TypeConverter.toReadRequest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.tigrisdata.db.annotation.TigrisPrimaryKey;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.Context;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads documents by key. Keys are read in chunks, each chunk is a single {@link InFilter}, and a
+ * bounded number of chunks is read concurrently. Documents are matched back to the requested keys
+ * by the value of the key field, so numeric keys match whatever number type the server returns. The
+ * returned future completes on the given executor, not on a transport thread.
+ *
+ * @param <K> type of the keys
+ * @param <T> type of the documents
+ */
+final class KeyedRead<K, T extends TigrisCollectionType> {
+  static final int CHUNK_SIZE = InFilter.MAX_VALUES_PER_REQUEST;
+  static final int MAX_CONCURRENT_CHUNKS = InFilter.MAX_CONCURRENT_REQUESTS;
+
+  private final AbstractTigrisCollection<T> collection;
+  private final String keyField;
+  private final String keyPointer;
+  private final ReadFields fields;
+  private final Executor executor;
+  // normalized key -> requested key, in request order
+  private final Map<String, K> requestedKeys;
+  private final List<List<K>> chunks;
+  private final Map<String, T> found = new ConcurrentHashMap<>();
+  private final Set<Context.CancellableContext> contexts = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger nextChunk = new AtomicInteger();
+  private final AtomicInteger remainingChunks;
+  private final CompletableFuture<KeyedReadResult<K, T>> result = new CompletableFuture<>();
+
+  KeyedRead(
+      AbstractTigrisCollection<T> collection,
+      String keyField,
+      Collection<K> keys,
+      ReadFields fields,
+      Executor executor) {
+    this.collection = collection;
+    this.keyField = keyField;
+    this.keyPointer = "/" + keyField.replace('.', '/');
+    this.fields = fields;
+    this.executor = executor;
+    this.requestedKeys = new LinkedHashMap<>();
+    for (K key : keys) {
+      requestedKeys.putIfAbsent(normalize(collection.objectMapper.valueToTree(key)), key);
+    }
+    this.chunks = new ArrayList<>();
+    List<K> chunk = new ArrayList<>(CHUNK_SIZE);
+    for (K key : requestedKeys.values()) {
+      chunk.add(key);
+      if (chunk.size() == CHUNK_SIZE) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>(CHUNK_SIZE);
+      }
+    }
+    if (!chunk.isEmpty()) {
+      chunks.add(chunk);
+    }
+    this.remainingChunks = new AtomicInteger(chunks.size());
+  }
+
+  CompletableFuture<KeyedReadResult<K, T>> start() {
+    CompletableFuture<KeyedReadResult<K, T>> completion = new CompletableFuture<>();
+    result.whenCompleteAsync(
+        (keyedReadResult, throwable) -> {
+          if (throwable != null) {
+            completion.completeExceptionally(throwable);
+          } else {
+            completion.complete(keyedReadResult);
+          }
+        },
+        executor);
+    if (chunks.isEmpty()) {
+      complete();
+    }
+    for (int i = 0; i < Math.min(MAX_CONCURRENT_CHUNKS, chunks.size()); i++) {
+      startNextChunk();
+    }
+    return completion;
+  }
+
+  private void startNextChunk() {
+    int index = nextChunk.getAndIncrement();
+    if (index >= chunks.size() || result.isDone()) {
+      return;
+    }
+    Api.ReadRequest readRequest =
+        toReadRequest(
+            collection.databaseName,
+            collection.collectionName,
+            filter(chunks.get(index)),
+            fields,
+            ReadRequestOptions.DEFAULT_INSTANCE,
+            collection.objectMapper);
+    Context.CancellableContext context = Context.current().withCancellation();
+    contexts.add(context);
+    context.run(
+        () ->
+            collection.stub.read(
+                readRequest,
+                new StreamObserver<Api.ReadResponse>() {
+                  @Override
+                  public void onNext(Api.ReadResponse readResponse) {
+                    try {
+                      JsonNode document =
+                          collection.objectMapper.readTree(readResponse.getData().newInput());
+                      String key = normalize(document.at(keyPointer));
+                      if (requestedKeys.containsKey(key)) {
+                        found.putIfAbsent(
+                            key,
+                            collection.objectMapper.treeToValue(
+                                document, collection.documentCollectionTypeClass));
+                      }
+                    } catch (IOException ex) {
+                      fail(new TigrisException(JSON_SER_DE_ERROR, ex));
+                    }
+                  }
+
+                  @Override
+                  public void onError(Throwable throwable) {
+                    contexts.remove(context);
+                    fail(StandardTigrisAsyncCollection.toTigrisException(READ_FAILED, throwable));
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                    contexts.remove(context);
+                    if (remainingChunks.decrementAndGet() == 0) {
+                      complete();
+                    } else {
+                      startNextChunk();
+                    }
+                  }
+                }));
+  }
+
+  private TigrisFilter filter(List<K> chunk) {
+    return InFilter.of(keyField, chunk);
+  }
+
+  private void complete() {
+    Map<K, T> documents = new LinkedHashMap<>();
+    Set<K> missingKeys = new LinkedHashSet<>();
+    for (Map.Entry<String, K> requestedKey : requestedKeys.entrySet()) {
+      T document = found.get(requestedKey.getKey());
+      if (document != null) {
+        documents.put(requestedKey.getValue(), document);
+      } else {
+        missingKeys.add(requestedKey.getValue());
+      }
+    }
+    result.complete(new KeyedReadResult<>(documents, missingKeys));
+  }
+
+  private void fail(TigrisException ex) {
+    if (result.completeExceptionally(ex)) {
+      contexts.forEach(context -> context.cancel(null));
+    }
+  }
+
+  private static String normalize(JsonNode key) {
+    if (key.isNumber()) {
+      return "n" + key.decimalValue().stripTrailingZeros().toPlainString();
+    } else if (key.isTextual()) {
+      return "s" + key.textValue();
+    }
+    return key.toString();
+  }
+
+  /**
+   * Resolves the primary key field of a model class
+   *
+   * @param objectMapper mapper naming the document fields
+   * @param documentType model class
+   * @return JSON name of the single primary key field
+   * @throws IllegalArgumentException if the model has no primary key or a composite one
+   */
+  static String primaryKeyField(ObjectMapper objectMapper, Class<?> documentType) {
+    List<String> primaryKeyFields = primaryKeyFields(objectMapper, documentType);
+    if (primaryKeyFields.size() != 1) {
+      throw new IllegalArgumentException(
+          documentType.getName()
+              + " does not have a single field primary key, pass the key field explicitly");
+    }
+    return primaryKeyFields.get(0);
+  }
+
+  /**
+   * Resolves the primary key fields of a model class
+   *
+   * @param objectMapper mapper naming the document fields
+   * @param documentType model class
+   * @return JSON names of the primary key fields in key order, empty if none is annotated
+   */
+  static List<String> primaryKeyFields(ObjectMapper objectMapper, Class<?> documentType) {
+    List<BeanPropertyDefinition> properties = new ArrayList<>();
+    objectMapper
+        .getSerializationConfig()
+        .introspect(objectMapper.constructType(documentType))
+        .findProperties()
+        .forEach(
+            property -> {
+              if (property.getField() != null
+                  && property.getField().hasAnnotation(TigrisPrimaryKey.class)) {
+                properties.add(property);
+              }
+            });
+    properties.sort(
+        Comparator.comparingInt(
+            property -> property.getField().getAnnotation(TigrisPrimaryKey.class).order()));
+    List<String> primaryKeyFields = new ArrayList<>(properties.size());
+    properties.forEach(property -> primaryKeyFields.add(property.getName()));
+    return primaryKeyFields;
+  }
+}
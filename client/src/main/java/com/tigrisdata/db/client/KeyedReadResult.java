@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Result of reading documents by their keys
+ *
+ * @param <K> type of the keys
+ * @param <T> type of the documents
+ */
+public final class KeyedReadResult<K, T> {
+  private final Map<K, T> documents;
+  private final Set<K> missingKeys;
+
+  KeyedReadResult(Map<K, T> documents, Set<K> missingKeys) {
+    this.documents = Collections.unmodifiableMap(documents);
+    this.missingKeys = Collections.unmodifiableSet(missingKeys);
+  }
+
+  /** @return found documents by key, in the order the keys were requested */
+  public Map<K, T> getDocuments() {
+    return documents;
+  }
+
+  /** @return requested keys without a document, in the order the keys were requested */
+  public Set<K> getMissingKeys() {
+    return missingKeys;
+  }
+
+  /**
+   * @param key requested key
+   * @return document of the key, empty if there is none
+   */
+  public Optional<T> get(K key) {
+    return Optional.ofNullable(documents.get(key));
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of documents read by {@link KeysetPaginator}
+ *
+ * @param <T> type of the documents
+ */
+public final class KeysetPage<T> {
+  private final List<T> documents;
+  private final String nextPageToken;
+
+  KeysetPage(List<T> documents, String nextPageToken) {
+    this.documents = documents;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /** @return documents of this page, in key order */
+  public List<T> getDocuments() {
+    return documents;
+  }
+
+  /** @return true if there are documents after this page */
+  public boolean hasNextPage() {
+    return nextPageToken != null;
+  }
+
+  /**
+   * Opaque token to resume reading after this page, see {@link KeysetPaginator#page(String)}. The
+   * token stays valid across client restarts.
+   *
+   * @return token of the next page, empty for the last page
+   */
+  public Optional<String> getNextPageToken() {
+    return Optional.ofNullable(nextPageToken);
+  }
+}
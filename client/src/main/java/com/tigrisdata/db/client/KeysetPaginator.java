@@ -0,0 +1,294 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import static com.tigrisdata.db.client.Constants.JSON_SER_DE_ERROR;
+import static com.tigrisdata.db.client.Constants.READ_FAILED;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.StatusRuntimeException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Pages through a collection by key rather than by offset. Every page is read with a filter
+ * selecting the keys after the last key of the previous page, so the server seeks to the page
+ * instead of scanning and discarding the skipped documents, and reading page N costs the same as
+ * reading the first page.
+ *
+ * <p>Reads return documents in primary key order, the key must therefore be the primary key, or its
+ * first field for a composite primary key. Pages of a composite primary key seek on all of its
+ * fields, so documents sharing the first field are not skipped at a page boundary. Keys must be
+ * numbers or strings.
+ *
+ * <pre>{@code
+ * KeysetPaginator<User> paginator =
+ *     KeysetPaginator.newBuilder(users, "id").withPageSize(100).build();
+ * KeysetPage<User> page = paginator.firstPage();
+ * while (page.hasNextPage()) {
+ *   page = paginator.page(page.getNextPageToken().get());
+ * }
+ * }</pre>
+ *
+ * @param <T> type of the collection
+ */
+public final class KeysetPaginator<T extends TigrisCollectionType> {
+  private static final String TOKEN_KEY = "k";
+  private static final String TOKEN_AFTER = "a";
+
+  private final AbstractTigrisCollection<T> collection;
+  private final String key;
+  // fields the pages seek on, the key followed by the rest of a composite primary key
+  private final List<String> seekKeys;
+  private final List<String> seekKeyPointers;
+  private final TigrisFilter filter;
+  private final ReadFields readFields;
+  private final int pageSize;
+
+  private KeysetPaginator(Builder<T> builder) {
+    this.collection = builder.collection;
+    this.key = builder.key;
+    this.seekKeys = seekKeys(builder.collection, builder.key);
+    this.seekKeyPointers = new ArrayList<>(seekKeys.size());
+    seekKeys.forEach(seekKey -> seekKeyPointers.add("/" + seekKey.replace('.', '/')));
+    this.filter = builder.filter;
+    this.readFields = builder.readFields;
+    this.pageSize = builder.pageSize;
+  }
+
+  /**
+   * Creates a new builder
+   *
+   * @param collection collection to page through
+   * @param key primary key field, nested fields are separated by dots
+   * @param <T> type of the collection
+   * @return new builder
+   */
+  public static <T extends TigrisCollectionType> Builder<T> newBuilder(
+      TigrisCollection<T> collection, String key) {
+    return new Builder<>(Utilities.toAbstractCollection(collection), key);
+  }
+
+  /**
+   * Reads the first page
+   *
+   * @return first page
+   * @throws TigrisException in case of an error
+   */
+  public KeysetPage<T> firstPage() throws TigrisException {
+    return read(filter);
+  }
+
+  /**
+   * Reads the page following the one that issued the token
+   *
+   * @param pageToken token from {@link KeysetPage#getNextPageToken()}
+   * @return next page
+   * @throws TigrisException in case of an error
+   * @throws IllegalArgumentException if the token is malformed or was issued for another key
+   */
+  public KeysetPage<T> page(String pageToken) throws TigrisException {
+    return read(KeyRanges.restrict(filter, after(decodeToken(pageToken))));
+  }
+
+  private KeysetPage<T> read(TigrisFilter pageFilter) throws TigrisException {
+    List<T> documents = new ArrayList<>(pageSize);
+    ByteString last = null;
+    boolean hasNextPage = false;
+    // one document more than the page tells whether there is a next page
+    try (TigrisCursor<ByteString> cursor =
+        collection.readRawInternal(
+            pageFilter, readFields, new ReadRequestOptions(0, pageSize + 1L), null)) {
+      while (cursor.hasNext()) {
+        ByteString data = cursor.next();
+        if (documents.size() == pageSize) {
+          hasNextPage = true;
+          break;
+        }
+        documents.add(collection.toDocument(data));
+        last = data;
+      }
+    } catch (StatusRuntimeException statusRuntimeException) {
+      throw new TigrisException(
+          READ_FAILED,
+          TypeConverter.extractTigrisError(statusRuntimeException),
+          statusRuntimeException);
+    } catch (IllegalArgumentException ex) {
+      throw new TigrisException(JSON_SER_DE_ERROR, ex.getCause());
+    }
+    return new KeysetPage<>(
+        Collections.unmodifiableList(documents), hasNextPage ? encodeToken(last) : null);
+  }
+
+  private String encodeToken(ByteString lastDocument) throws TigrisException {
+    JsonNode document;
+    try {
+      document = collection.objectMapper.readTree(lastDocument.newInput());
+    } catch (IOException ex) {
+      throw new TigrisException(JSON_SER_DE_ERROR, ex);
+    }
+    ObjectNode token = collection.objectMapper.createObjectNode();
+    token.put(TOKEN_KEY, key);
+    ArrayNode lastKeys = token.putArray(TOKEN_AFTER);
+    for (int i = 0; i < seekKeys.size(); i++) {
+      JsonNode lastKey = document.at(seekKeyPointers.get(i));
+      if (!lastKey.isNumber() && !lastKey.isTextual()) {
+        throw new TigrisException(
+            READ_FAILED,
+            new IllegalStateException(
+                "Key " + seekKeys.get(i) + " is missing or neither a number nor a string"));
+      }
+      lastKeys.add(lastKey);
+    }
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private List<Object> decodeToken(String pageToken) {
+    JsonNode token;
+    try {
+      token = collection.objectMapper.readTree(Base64.getUrlDecoder().decode(pageToken));
+    } catch (IllegalArgumentException | IOException ex) {
+      throw new IllegalArgumentException("Malformed page token", ex);
+    }
+    if (token == null || !key.equals(token.path(TOKEN_KEY).asText(null))) {
+      throw new IllegalArgumentException("Page token was not issued for key " + key);
+    }
+    JsonNode lastKeys = token.path(TOKEN_AFTER);
+    if (!lastKeys.isArray() || lastKeys.size() != seekKeys.size()) {
+      throw new IllegalArgumentException("Malformed page token");
+    }
+    List<Object> result = new ArrayList<>(lastKeys.size());
+    for (JsonNode lastKey : lastKeys) {
+      if (lastKey.isIntegralNumber() && lastKey.canConvertToLong()) {
+        result.add(lastKey.longValue());
+      } else if (lastKey.isNumber()) {
+        result.add(lastKey.doubleValue());
+      } else if (lastKey.isTextual()) {
+        result.add(lastKey.textValue());
+      } else {
+        throw new IllegalArgumentException("Malformed page token");
+      }
+    }
+    return result;
+  }
+
+  /** @return filter selecting the keys after the tuple, {@code (k1 > a) OR (k1 = a AND k2 > b)} */
+  private TigrisFilter after(List<Object> lastKeys) {
+    TigrisFilter[] alternatives = new TigrisFilter[lastKeys.size()];
+    for (int i = 0; i < lastKeys.size(); i++) {
+      TigrisFilter greater =
+          new SelectorFilter<>(ComparisonOperator.GT, seekKeys.get(i), lastKeys.get(i));
+      if (i == 0) {
+        alternatives[i] = greater;
+        continue;
+      }
+      TigrisFilter[] operands = new TigrisFilter[i + 1];
+      for (int j = 0; j < i; j++) {
+        operands[j] =
+            new SelectorFilter<>(ComparisonOperator.EQUALS, seekKeys.get(j), lastKeys.get(j));
+      }
+      operands[i] = greater;
+      alternatives[i] = Filters.and(operands);
+    }
+    return alternatives.length == 1 ? alternatives[0] : Filters.or(alternatives);
+  }
+
+  private static List<String> seekKeys(AbstractTigrisCollection<?> collection, String key) {
+    List<String> primaryKeyFields =
+        KeyedRead.primaryKeyFields(collection.objectMapper, collection.documentCollectionTypeClass);
+    if (primaryKeyFields.size() > 1 && primaryKeyFields.get(0).equals(key)) {
+      return Collections.unmodifiableList(primaryKeyFields);
+    }
+    return Collections.singletonList(key);
+  }
+
+  /** Builder for {@link KeysetPaginator} */
+  public static final class Builder<T extends TigrisCollectionType> {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final AbstractTigrisCollection<T> collection;
+    private final String key;
+    private TigrisFilter filter;
+    private ReadFields readFields;
+    private int pageSize;
+
+    private Builder(AbstractTigrisCollection<T> collection, String key) {
+      this.collection = collection;
+      this.key = key;
+      this.filter = Filters.nothing();
+      this.readFields = ReadFields.all();
+      this.pageSize = DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Pages through the matching documents only
+     *
+     * @param filter filter to narrow down the pages
+     * @return ongoing builder
+     */
+    public Builder<T> withFilter(TigrisFilter filter) {
+      this.filter = filter;
+      return this;
+    }
+
+    /**
+     * Reads only the selected fields, they must include the key
+     *
+     * @param readFields fields to read
+     * @return ongoing builder
+     */
+    public Builder<T> withReadFields(ReadFields readFields) {
+      this.readFields = readFields;
+      return this;
+    }
+
+    /**
+     * Sets the number of documents per page
+     *
+     * @param pageSize documents per page
+     * @return ongoing builder
+     */
+    public Builder<T> withPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      return this;
+    }
+
+    /**
+     * Builds the {@link KeysetPaginator}
+     *
+     * @return new instance of {@link KeysetPaginator}
+     */
+    public KeysetPaginator<T> build() {
+      if (key == null || key.isEmpty()) {
+        throw new IllegalArgumentException("key is required");
+      }
+      if (pageSize < 1 || pageSize == Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("pageSize must be positive");
+      }
+      return new KeysetPaginator<>(this);
+    }
+  }
+}
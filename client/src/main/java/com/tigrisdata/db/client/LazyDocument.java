@@ -0,0 +1,227 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import static com.tigrisdata.db.client.Constants.JSON_SER_DE_ERROR;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.type.TigrisCollectionType;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-only view of a document backed by the JSON bytes received from the server.
+ *
+ * <p>Top-level fields are indexed on demand: a lookup scans the document only until the requested
+ * field is found and remembers the offsets of every field it skipped over. Only the value of the
+ * requested field is parsed. The full model object is built only when {@link #materialize()} is
+ * called.
+ *
+ * <p>Instances are safe to use from multiple threads.
+ *
+ * @param <T> type of the collection
+ */
+public final class LazyDocument<T extends TigrisCollectionType> {
+
+  private final ByteString data;
+  private final Class<T> documentCollectionTypeClass;
+  private final ObjectMapper objectMapper;
+
+  // field name -> {start, end} byte offsets of the value
+  private final Map<String, int[]> fieldOffsets;
+  private JsonParser scanner;
+  private boolean scanned;
+  private volatile T materialized;
+
+  LazyDocument(ByteString data, Class<T> documentCollectionTypeClass, ObjectMapper objectMapper) {
+    this.data = data;
+    this.documentCollectionTypeClass = documentCollectionTypeClass;
+    this.objectMapper = objectMapper;
+    this.fieldOffsets = new LinkedHashMap<>();
+  }
+
+  /** @return JSON bytes of the document as received from the server */
+  public ByteString getRaw() {
+    return data;
+  }
+
+  /**
+   * Checks if the document has the top-level field
+   *
+   * @param fieldName field name
+   * @return true if the field is present
+   * @throws TigrisException in case the document is not valid JSON
+   */
+  public boolean has(String fieldName) throws TigrisException {
+    return offsetsOf(fieldName) != null;
+  }
+
+  /**
+   * JSON bytes of a top-level field value, without parsing it
+   *
+   * @param fieldName field name
+   * @return optionally the raw value
+   * @throws TigrisException in case the document is not valid JSON
+   */
+  public Optional<ByteString> getRaw(String fieldName) throws TigrisException {
+    int[] offsets = offsetsOf(fieldName);
+    if (offsets == null) {
+      return Optional.empty();
+    }
+    return Optional.of(data.substring(offsets[0], offsets[1]));
+  }
+
+  /**
+   * Parses a top-level field value into a tree
+   *
+   * @param fieldName field name
+   * @return optionally the value
+   * @throws TigrisException in case the value cannot be parsed
+   */
+  public Optional<JsonNode> get(String fieldName) throws TigrisException {
+    Optional<ByteString> raw = getRaw(fieldName);
+    if (!raw.isPresent()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(objectMapper.readTree(raw.get().newInput()));
+    } catch (IOException ex) {
+      throw new TigrisException(JSON_SER_DE_ERROR, ex);
+    }
+  }
+
+  /**
+   * Parses a top-level field value into the given type
+   *
+   * @param fieldName field name
+   * @param valueType type of the value
+   * @param <V> type of the value
+   * @return optionally the value, empty if the field is absent
+   * @throws TigrisException in case the value cannot be converted to the given type
+   */
+  public <V> Optional<V> get(String fieldName, Class<V> valueType) throws TigrisException {
+    Optional<ByteString> raw = getRaw(fieldName);
+    if (!raw.isPresent()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(objectMapper.readValue(raw.get().newInput(), valueType));
+    } catch (IOException ex) {
+      throw new TigrisException(JSON_SER_DE_ERROR, ex);
+    }
+  }
+
+  /**
+   * Names of all the top-level fields, this scans the whole document once
+   *
+   * @return field names in document order
+   * @throws TigrisException in case the document is not valid JSON
+   */
+  public synchronized Set<String> fieldNames() throws TigrisException {
+    offsetsOf(null);
+    return Collections.unmodifiableSet(fieldOffsets.keySet());
+  }
+
+  /**
+   * Binds the whole document to the collection type. The result is cached.
+   *
+   * @return the document
+   * @throws TigrisException in case the document cannot be converted
+   */
+  public T materialize() throws TigrisException {
+    T result = materialized;
+    if (result == null) {
+      try {
+        result = objectMapper.readValue(data.newInput(), documentCollectionTypeClass);
+      } catch (IOException ex) {
+        throw new TigrisException(JSON_SER_DE_ERROR, ex);
+      }
+      materialized = result;
+    }
+    return result;
+  }
+
+  /**
+   * Finds the offsets of the field, resuming the scan where the previous lookup stopped.
+   *
+   * @param fieldName field to look up, null scans the whole document
+   * @return value offsets or null if the field is absent
+   */
+  private synchronized int[] offsetsOf(String fieldName) throws TigrisException {
+    if (fieldName != null) {
+      int[] offsets = fieldOffsets.get(fieldName);
+      if (offsets != null || scanned) {
+        return offsets;
+      }
+    }
+    try {
+      if (scanner == null) {
+        if (scanned) {
+          return null;
+        }
+        scanner = objectMapper.getFactory().createParser(data.newInput());
+        if (scanner.nextToken() != JsonToken.START_OBJECT) {
+          throw new TigrisException(
+              JSON_SER_DE_ERROR, new IllegalStateException("Document is not a JSON object"));
+        }
+      }
+      while (scanner.nextToken() == JsonToken.FIELD_NAME) {
+        String name = scanner.getCurrentName();
+        scanner.nextToken();
+        int start = (int) scanner.getTokenLocation().getByteOffset();
+        scanner.skipChildren();
+        // string values are decoded lazily, finish the token so the location is past its end
+        scanner.finishToken();
+        int end = (int) scanner.getCurrentLocation().getByteOffset();
+        int[] offsets = new int[] {start, end};
+        fieldOffsets.put(name, offsets);
+        if (name.equals(fieldName)) {
+          return offsets;
+        }
+      }
+      finishScan();
+      return null;
+    } catch (IOException ex) {
+      finishScan();
+      throw new TigrisException(JSON_SER_DE_ERROR, ex);
+    }
+  }
+
+  private void finishScan() {
+    scanned = true;
+    if (scanner != null) {
+      try {
+        scanner.close();
+      } catch (IOException ignore) {
+        // nothing to release, the parser reads from memory
+      }
+      scanner = null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "LazyDocument{" + data.toStringUtf8() + '}';
+  }
+}
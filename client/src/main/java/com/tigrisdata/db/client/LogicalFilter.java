@@ -13,12 +13,14 @@
  */
 package com.tigrisdata.db.client;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
 import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
-class LogicalFilter implements TigrisFilter {
+class LogicalFilter implements FilterWriter.StreamingFilter {
 
   private final LogicalFilterOperator logicalFilterOperator;
   private final TigrisFilter[] tigrisFilters;
@@ -34,12 +36,32 @@ class LogicalFilter implements TigrisFilter {
 
   @Override
   public String toJSON(ObjectMapper objectMapper) {
-    return "{\""
-        + logicalFilterOperator.getOperator()
-        + "\":["
-        + Arrays.stream(tigrisFilters)
-            .map(filter -> filter.toJSON(objectMapper))
-            .collect(Collectors.joining(","))
-        + "]}";
+    return FilterWriter.toJSON(this, objectMapper);
+  }
+
+  @Override
+  public void writeTo(JsonGenerator generator, ObjectMapper objectMapper) throws IOException {
+    generator.writeStartObject();
+    generator.writeFieldName(logicalFilterOperator.getOperator());
+    generator.writeStartArray();
+    for (TigrisFilter filter : tigrisFilters) {
+      FilterWriter.write(filter, generator, objectMapper);
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    LogicalFilter that = (LogicalFilter) o;
+    return logicalFilterOperator == that.logicalFilterOperator
+        && Arrays.equals(tigrisFilters, that.tigrisFilters);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(logicalFilterOperator, Arrays.hashCode(tigrisFilters));
   }
 }
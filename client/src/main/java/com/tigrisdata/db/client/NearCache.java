@@ -0,0 +1,360 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Client side cache of serialized {@code readOne} results, bounded by the total size of the
+ * entries.
+ *
+ * <p>Eviction follows W-TinyLFU. New entries enter a small LRU window. Entries leaving the window
+ * compete with the eldest entry of the main space and are only admitted if they were read more
+ * often, as estimated by a {@link FrequencySketch}. The main space is a segmented LRU, entries read
+ * again while on probation move to the protected segment. One-off reads therefore cannot flush
+ * frequently read documents out of the cache.
+ *
+ * <p>Invalidation happens when a write through the client is sent and again when it completes.
+ * Deletes only remove the cached documents matching their filter, evaluated with a {@link
+ * FilterEvaluator}, since removing other documents cannot change which document a read finds first.
+ * Other writes bump the generation of the written collection, entries stamped with an older
+ * generation are dropped when they are read next. Reads record the generation before they are sent
+ * and are not cached if any write to the collection started in the meantime.
+ */
+final class NearCache {
+  // approximate per entry bookkeeping on top of the key and value bytes
+  static final int ENTRY_OVERHEAD = 96;
+  // collections with more cached entries are invalidated as a whole rather than entry by entry
+  static final int MAX_SELECTIVE_INVALIDATION_SCAN = 1024;
+  private static final double WINDOW_RATIO = 0.01;
+  private static final double PROTECTED_RATIO = 0.8;
+
+  private enum Region {
+    WINDOW,
+    PROBATION,
+    PROTECTED
+  }
+
+  private static final class Node {
+    final ByteString key;
+    final String scope;
+    final ByteString value;
+    final long weight;
+    final long expiresAt;
+    final long generation;
+    Region region;
+
+    Node(
+        ByteString key,
+        String scope,
+        ByteString value,
+        long weight,
+        long expiresAt,
+        long generation) {
+      this.key = key;
+      this.scope = scope;
+      this.value = value;
+      this.weight = weight;
+      this.expiresAt = expiresAt;
+      this.generation = generation;
+    }
+  }
+
+  private final long windowMaximum;
+  private final long mainMaximum;
+  private final long protectedMaximum;
+  private final long timeToLiveNanos;
+  private final LongSupplier nanoTime;
+  private final FrequencySketch sketch;
+  private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, AtomicLong> writes = new ConcurrentHashMap<>();
+  private final AtomicLong epoch = new AtomicLong();
+
+  // guarded by this, iteration order of the regions is least recently used first
+  private final Map<ByteString, Node> data = new HashMap<>();
+  private final Map<String, Set<Node>> scopeNodes = new HashMap<>();
+  private final LinkedHashMap<ByteString, Node> window = new LinkedHashMap<>();
+  private final LinkedHashMap<ByteString, Node> probation = new LinkedHashMap<>();
+  private final LinkedHashMap<ByteString, Node> protectedSegment = new LinkedHashMap<>();
+  private long windowWeight;
+  private long probationWeight;
+  private long protectedWeight;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  NearCache(TigrisConfiguration.NearCacheConfig config) {
+    this(config, System::nanoTime);
+  }
+
+  NearCache(TigrisConfiguration.NearCacheConfig config, LongSupplier nanoTime) {
+    this.windowMaximum = Math.max(1, (long) (config.getMaximumWeight() * WINDOW_RATIO));
+    this.mainMaximum = Math.max(1, config.getMaximumWeight() - windowMaximum);
+    this.protectedMaximum = (long) (mainMaximum * PROTECTED_RATIO);
+    this.timeToLiveNanos = config.getTimeToLive().toNanos();
+    this.nanoTime = nanoTime;
+    this.sketch =
+        new FrequencySketch(
+            (int) Math.min(Integer.MAX_VALUE, config.getMaximumWeight() / (4 * ENTRY_OVERHEAD)));
+  }
+
+  /**
+   * @param scope collection of the read
+   * @return generation to pass to {@link #put(String, ByteString, ByteString, long)} for a read
+   *     sent now
+   */
+  long generation(String scope) {
+    // all counters only grow, the sum changes whenever any of them does
+    return counter(writes, scope).get() + validity(scope);
+  }
+
+  /** @return generation entries of the collection must be stamped with to be served */
+  private long validity(String scope) {
+    return counter(generations, scope).get() + epoch.get();
+  }
+
+  /**
+   * @param scope collection of the read
+   * @param key serialized read request
+   * @return cached document, null on a miss
+   */
+  synchronized ByteString get(String scope, ByteString key) {
+    sketch.increment(key.hashCode());
+    Node node = data.get(key);
+    if (node == null) {
+      missCount++;
+      return null;
+    }
+    if (nanoTime.getAsLong() - node.expiresAt >= 0 || node.generation != validity(scope)) {
+      remove(node);
+      missCount++;
+      return null;
+    }
+    hitCount++;
+    onHit(node);
+    return node.value;
+  }
+
+  /**
+   * Caches a document unless a write to its collection started after the generation was taken
+   *
+   * @param scope collection of the read
+   * @param key serialized read request
+   * @param value document
+   * @param generation generation taken before the read was sent
+   */
+  synchronized void put(String scope, ByteString key, ByteString value, long generation) {
+    if (generation != generation(scope)) {
+      return;
+    }
+    long weight = key.size() + value.size() + ENTRY_OVERHEAD;
+    if (weight > windowMaximum + mainMaximum) {
+      return;
+    }
+    Node existing = data.get(key);
+    if (existing != null) {
+      remove(existing);
+    }
+    Node node =
+        new Node(
+            key, scope, value, weight, nanoTime.getAsLong() + timeToLiveNanos, validity(scope));
+    node.region = Region.WINDOW;
+    data.put(key, node);
+    scopeNodes.computeIfAbsent(scope, ignored -> new HashSet<>()).add(node);
+    window.put(key, node);
+    windowWeight += weight;
+    evict();
+  }
+
+  /** @param scope collection whose entries are no longer valid */
+  void invalidate(String scope) {
+    counter(generations, scope).incrementAndGet();
+    invalidationCount.incrementAndGet();
+  }
+
+  /**
+   * Invalidates the entries a write may change
+   *
+   * @param scope written collection
+   * @param request write request
+   */
+  void invalidate(String scope, Object request) {
+    if (!(request instanceof Api.DeleteRequest)) {
+      invalidate(scope);
+      return;
+    }
+    FilterEvaluator deleted;
+    try {
+      deleted = FilterEvaluator.compile(((Api.DeleteRequest) request).getFilter());
+    } catch (IllegalArgumentException ex) {
+      invalidate(scope);
+      return;
+    }
+    counter(writes, scope).incrementAndGet();
+    invalidationCount.incrementAndGet();
+    synchronized (this) {
+      Set<Node> nodes = scopeNodes.get(scope);
+      if (nodes == null) {
+        return;
+      }
+      if (nodes.size() > MAX_SELECTIVE_INVALIDATION_SCAN) {
+        counter(generations, scope).incrementAndGet();
+        return;
+      }
+      for (Node node : new ArrayList<>(nodes)) {
+        if (matches(deleted, node.value)) {
+          remove(node);
+        }
+      }
+    }
+  }
+
+  /** Invalidates the entries of all the collections */
+  void invalidateAll() {
+    epoch.incrementAndGet();
+    invalidationCount.incrementAndGet();
+  }
+
+  synchronized NearCacheStats stats() {
+    return new NearCacheStats(
+        hitCount,
+        missCount,
+        evictionCount,
+        invalidationCount.get(),
+        data.size(),
+        windowWeight + probationWeight + protectedWeight);
+  }
+
+  static String scope(String databaseName, String collectionName) {
+    return databaseName + '/' + collectionName;
+  }
+
+  private static boolean matches(FilterEvaluator filter, ByteString document) {
+    try {
+      return filter.test(document);
+    } catch (IllegalArgumentException ex) {
+      // documents that cannot be evaluated are dropped to be safe
+      return true;
+    }
+  }
+
+  private static AtomicLong counter(ConcurrentMap<String, AtomicLong> counters, String scope) {
+    return counters.computeIfAbsent(scope, ignored -> new AtomicLong());
+  }
+
+  private void onHit(Node node) {
+    switch (node.region) {
+      case WINDOW:
+        touch(window, node);
+        break;
+      case PROBATION:
+        probation.remove(node.key);
+        probationWeight -= node.weight;
+        node.region = Region.PROTECTED;
+        protectedSegment.put(node.key, node);
+        protectedWeight += node.weight;
+        // demote the eldest protected entries back to probation
+        while (protectedWeight > protectedMaximum && protectedSegment.size() > 1) {
+          Node demoted = eldest(protectedSegment);
+          protectedSegment.remove(demoted.key);
+          protectedWeight -= demoted.weight;
+          demoted.region = Region.PROBATION;
+          probation.put(demoted.key, demoted);
+          probationWeight += demoted.weight;
+        }
+        break;
+      case PROTECTED:
+        touch(protectedSegment, node);
+        break;
+    }
+  }
+
+  private void evict() {
+    while (windowWeight > windowMaximum && !window.isEmpty()) {
+      Node candidate = eldest(window);
+      window.remove(candidate.key);
+      windowWeight -= candidate.weight;
+      candidate.region = Region.PROBATION;
+      probation.put(candidate.key, candidate);
+      probationWeight += candidate.weight;
+      admit(candidate);
+    }
+  }
+
+  private void admit(Node candidate) {
+    while (probationWeight + protectedWeight > mainMaximum) {
+      Node victim = eldest(probation);
+      if (victim == candidate) {
+        victim = protectedSegment.isEmpty() ? null : eldest(protectedSegment);
+      }
+      if (victim == null
+          || sketch.frequency(candidate.key.hashCode())
+              <= sketch.frequency(victim.key.hashCode())) {
+        remove(candidate);
+        evictionCount++;
+        return;
+      }
+      remove(victim);
+      evictionCount++;
+    }
+  }
+
+  private void remove(Node node) {
+    data.remove(node.key);
+    Set<Node> nodes = scopeNodes.get(node.scope);
+    nodes.remove(node);
+    if (nodes.isEmpty()) {
+      scopeNodes.remove(node.scope);
+    }
+    switch (node.region) {
+      case WINDOW:
+        window.remove(node.key);
+        windowWeight -= node.weight;
+        break;
+      case PROBATION:
+        probation.remove(node.key);
+        probationWeight -= node.weight;
+        break;
+      case PROTECTED:
+        protectedSegment.remove(node.key);
+        protectedWeight -= node.weight;
+        break;
+    }
+  }
+
+  private static void touch(LinkedHashMap<ByteString, Node> region, Node node) {
+    region.remove(node.key);
+    region.put(node.key, node);
+  }
+
+  private static Node eldest(LinkedHashMap<ByteString, Node> region) {
+    Iterator<Node> iterator = region.values().iterator();
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+/** Near cache statistics, a snapshot taken when they were requested */
+public final class NearCacheStats {
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final long invalidationCount;
+  private final long entryCount;
+  private final long weight;
+
+  NearCacheStats(
+      long hitCount,
+      long missCount,
+      long evictionCount,
+      long invalidationCount,
+      long entryCount,
+      long weight) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.invalidationCount = invalidationCount;
+    this.entryCount = entryCount;
+    this.weight = weight;
+  }
+
+  /** @return number of reads served from the cache */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /** @return number of reads sent to the server */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /** @return fraction of the reads served from the cache, 1 when there were no reads */
+  public double getHitRate() {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  /** @return number of entries evicted to stay within the maximum weight */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /** @return number of writes that invalidated cached entries */
+  public long getInvalidationCount() {
+    return invalidationCount;
+  }
+
+  /** @return number of cached entries, including entries not yet dropped after expiring */
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  /** @return total size of the cached entries in bytes */
+  public long getWeight() {
+    return weight;
+  }
+
+  @Override
+  public String toString() {
+    return "NearCacheStats{"
+        + "hitCount="
+        + hitCount
+        + ", missCount="
+        + missCount
+        + ", evictionCount="
+        + evictionCount
+        + ", invalidationCount="
+        + invalidationCount
+        + ", entryCount="
+        + entryCount
+        + ", weight="
+        + weight
+        + '}';
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the {@code readOne} requests that recently found no document, so repeated misses are
+ * answered without a server round trip.
+ *
+ * <p>Each collection records its misses in a pair of Bloom filters. New misses go to the current
+ * filter, lookups consult both. The current filter becomes the previous one every half of the time
+ * to live, or once it holds the expected number of misses, and the previous filter is dropped when
+ * its oldest miss could have reached the time to live.
+ *
+ * <p>Invalidation is by collection, the same way as for the {@link NearCache}: writes through the
+ * client drop the filters of the written collection, and misses of reads racing a write are not
+ * recorded.
+ */
+final class NegativeCache {
+  @SuppressWarnings("UnstableApiUsage")
+  private static final Funnel<ByteString> KEY_FUNNEL =
+      (key, into) -> into.putBytes(key.asReadOnlyByteBuffer());
+
+  private final int expectedInsertions;
+  private final double falsePositiveProbability;
+  private final long rotationNanos;
+  private final LongSupplier nanoTime;
+  private final ConcurrentMap<String, ScopeFilters> filters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+  private final AtomicLong epoch = new AtomicLong();
+
+  NegativeCache(TigrisConfiguration.NegativeCacheConfig config) {
+    this(config, System::nanoTime);
+  }
+
+  NegativeCache(TigrisConfiguration.NegativeCacheConfig config, LongSupplier nanoTime) {
+    this.expectedInsertions = config.getExpectedInsertions();
+    this.falsePositiveProbability = config.getFalsePositiveProbability();
+    this.rotationNanos = config.getTimeToLive().toNanos() / 2;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * @param scope collection, see {@link NearCache#scope(String, String)}
+   * @return generation to pass to {@link #record(String, ByteString, long)}
+   */
+  long generation(String scope) {
+    return generations.computeIfAbsent(scope, ignored -> new AtomicLong()).get() + epoch.get();
+  }
+
+  /**
+   * @param scope collection
+   * @param key serialized read request
+   * @return true if the request recently found no document
+   */
+  boolean isMiss(String scope, ByteString key) {
+    ScopeFilters scopeFilters = filters.get(scope);
+    return scopeFilters != null && scopeFilters.mightContain(key, nanoTime.getAsLong());
+  }
+
+  /**
+   * Records a miss, unless the collection was written since the generation was taken
+   *
+   * @param scope collection
+   * @param key serialized read request
+   * @param generation generation taken before the read was sent
+   */
+  void record(String scope, ByteString key, long generation) {
+    ScopeFilters scopeFilters = filters.computeIfAbsent(scope, ignored -> new ScopeFilters());
+    // the filters of a concurrent invalidation are either already detached or the generation
+    // check below fails, so a stale miss is never recorded into live filters
+    if (generation == generation(scope)) {
+      scopeFilters.put(key, nanoTime.getAsLong());
+    }
+  }
+
+  /** @param scope collection whose misses are no longer valid */
+  void invalidate(String scope) {
+    generations.computeIfAbsent(scope, ignored -> new AtomicLong()).incrementAndGet();
+    filters.remove(scope);
+  }
+
+  /** Invalidates the misses of all the collections */
+  void invalidateAll() {
+    epoch.incrementAndGet();
+    filters.clear();
+  }
+
+  private BloomFilter<ByteString> newFilter() {
+    return BloomFilter.create(KEY_FUNNEL, expectedInsertions, falsePositiveProbability);
+  }
+
+  /** Current and previous filter of a collection */
+  private final class ScopeFilters {
+    private BloomFilter<ByteString> current = newFilter();
+    private BloomFilter<ByteString> previous;
+    private int currentCount;
+    private long rotatedAt = nanoTime.getAsLong();
+    private long previousRotatedAt;
+
+    synchronized boolean mightContain(ByteString key, long now) {
+      expire(now);
+      return current.mightContain(key) || (previous != null && previous.mightContain(key));
+    }
+
+    synchronized void put(ByteString key, long now) {
+      expire(now);
+      if (currentCount >= expectedInsertions) {
+        rotate(now);
+      }
+      if (current.put(key)) {
+        currentCount++;
+      }
+    }
+
+    private void expire(long now) {
+      if (now - rotatedAt >= rotationNanos) {
+        rotate(now);
+      }
+      // the previous filter expires with the oldest miss it may hold
+      if (previous != null && now - previousRotatedAt >= 2 * rotationNanos) {
+        previous = null;
+      }
+    }
+
+    private void rotate(long now) {
+      previous = current;
+      previousRotatedAt = rotatedAt;
+      current = newFilter();
+      currentCount = 0;
+      rotatedAt = now;
+    }
+  }
+}
@@ -0,0 +1,595 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import static com.tigrisdata.db.client.Constants.JSON_SER_DE_ERROR;
+import static com.tigrisdata.db.client.Constants.READ_FAILED;
+import static com.tigrisdata.db.client.TypeConverter.toReadRequest;
+
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Scans a collection as several key ranges read concurrently.
+ *
+ * <p>The key space of a numeric key, usually the primary key, is split into ranges with {@code
+ * gte}/{@code lt} filters. Every range is an independent server stream, the results of all ranges
+ * are merged without any ordering guarantee across ranges. Use more ranges than the desired
+ * parallelism so that uneven ranges balance out.
+ *
+ * @param <T> type of the collection
+ */
+public final class ParallelScan<T extends TigrisCollectionType> {
+  private static final Object END = new Object();
+  private static final long OFFER_TIMEOUT_MS = 100;
+
+  private final AbstractTigrisCollection<T> collection;
+  private final List<TigrisFilter> ranges;
+  private final ReadFields readFields;
+  private final int parallelism;
+  private final int bufferSize;
+
+  private ParallelScan(Builder<T> builder) {
+    this.collection = builder.collection;
+    this.ranges =
+        Collections.unmodifiableList(
+            builder.partitions != null
+                ? new ArrayList<>(builder.partitions)
+                : KeyRanges.split(builder.filter, builder.key, builder.splitPoints));
+    this.readFields = builder.readFields;
+    this.parallelism = builder.parallelism;
+    this.bufferSize = builder.bufferSize;
+  }
+
+  /**
+   * Creates a new builder
+   *
+   * @param collection collection to scan
+   * @param <T> type of the collection
+   * @return new builder
+   */
+  public static <T extends TigrisCollectionType> Builder<T> newBuilder(
+      TigrisCollection<T> collection) {
+    return new Builder<>(Utilities.toAbstractCollection(collection));
+  }
+
+  /**
+   * Creates a new builder
+   *
+   * @param collection collection to scan
+   * @param <T> type of the collection
+   * @return new builder
+   */
+  public static <T extends TigrisCollectionType> Builder<T> newBuilder(
+      TigrisAsyncCollection<T> collection) {
+    return new Builder<>(Utilities.toAbstractCollection(collection));
+  }
+
+  /** @return range filters, one server stream each */
+  public List<TigrisFilter> getRanges() {
+    return ranges;
+  }
+
+  /**
+   * Spliterator over all the ranges. Splitting hands out whole ranges, so a parallel stream reads
+   * up to as many ranges concurrently as it has workers. A range is read only once traversal
+   * reaches it.
+   *
+   * <p>Range reads left open by a traversal that stops early are not closed, callers use {@link
+   * #stream()} and close it instead.
+   *
+   * @return spliterator, read errors are thrown as {@link IllegalStateException}
+   */
+  Spliterator<T> spliterator() {
+    return new RangeSpliterator(0, ranges.size(), ConcurrentHashMap.newKeySet());
+  }
+
+  /**
+   * Parallel stream over all the ranges, closing the stream cancels the range reads still open.
+   *
+   * @return parallel stream, to be closed when not fully consumed
+   */
+  public Stream<T> stream() {
+    Set<TigrisCursor<T>> openCursors = ConcurrentHashMap.newKeySet();
+    return StreamSupport.stream(new RangeSpliterator(0, ranges.size(), openCursors), true)
+        .onClose(() -> openCursors.forEach(TigrisCursor::close));
+  }
+
+  /**
+   * Reads up to {@code parallelism} ranges concurrently on background threads and merges them into
+   * a single cursor.
+   *
+   * @return cursor over all the ranges, to be closed when not exhausted
+   */
+  public TigrisCursor<T> cursor() {
+    return new MergingCursor();
+  }
+
+  /**
+   * Reads up to {@code parallelism} ranges concurrently with the asynchronous API. Callbacks are
+   * never invoked concurrently. {@code onCompleted} is invoked once all the ranges are read, the
+   * first failing range cancels the others and is reported through {@code onError}.
+   *
+   * @param callback receives the documents of all the ranges
+   * @return handle to cancel all the range reads
+   */
+  public TigrisReadHandle readAsync(TigrisAsyncCallback<T> callback) {
+    AsyncScan scan = new AsyncScan(callback);
+    scan.start();
+    return scan::cancel;
+  }
+
+  private TigrisCursor<T> openRange(int index) {
+    try {
+      return collection.readInternal(
+          ranges.get(index), readFields, ReadRequestOptions.DEFAULT_INSTANCE, null);
+    } catch (TigrisException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private final class RangeSpliterator implements Spliterator<T> {
+    private int from;
+    private int to;
+    private final Set<TigrisCursor<T>> openCursors;
+    private TigrisCursor<T> current;
+
+    private RangeSpliterator(int from, int to, Set<TigrisCursor<T>> openCursors) {
+      this.from = from;
+      this.to = to;
+      this.openCursors = openCursors;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      while (true) {
+        if (current == null) {
+          if (from >= to) {
+            return false;
+          }
+          current = openRange(from++);
+          openCursors.add(current);
+        }
+        if (current.hasNext()) {
+          action.accept(current.next());
+          return true;
+        }
+        openCursors.remove(current);
+        current = null;
+      }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      if (current != null || to - from < 2) {
+        return null;
+      }
+      int mid = (from + to) >>> 1;
+      RangeSpliterator prefix = new RangeSpliterator(from, mid, openCursors);
+      from = mid;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+      return NONNULL;
+    }
+  }
+
+  private final class MergingCursor implements TigrisCursor<T> {
+    // documents of all the ranges, then END or the first failure
+    private final BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(bufferSize + 1);
+    private final Set<TigrisCursor<T>> openCursors = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextRange = new AtomicInteger();
+    private final AtomicInteger activeWorkers;
+    private final ExecutorService workers;
+    private Object head;
+    private volatile boolean closed;
+
+    private MergingCursor() {
+      int workerCount = Math.max(1, Math.min(parallelism, ranges.size()));
+      AtomicInteger threadIndex = new AtomicInteger();
+      this.activeWorkers = new AtomicInteger(workerCount);
+      this.workers =
+          Executors.newFixedThreadPool(
+              workerCount,
+              r -> {
+                Thread thread = new Thread(r);
+                thread.setName("tigris-parallel-scan-" + threadIndex.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+              });
+      for (int i = 0; i < workerCount; i++) {
+        workers.execute(this::work);
+      }
+      workers.shutdown();
+    }
+
+    private void work() {
+      try {
+        int index;
+        while (!closed && (index = nextRange.getAndIncrement()) < ranges.size()) {
+          TigrisCursor<T> range = openRange(index);
+          openCursors.add(range);
+          try {
+            while (!closed && range.hasNext()) {
+              if (!enqueue(range.next())) {
+                return;
+              }
+            }
+          } finally {
+            openCursors.remove(range);
+            range.close();
+          }
+        }
+        if (activeWorkers.decrementAndGet() == 0) {
+          enqueue(END);
+        }
+      } catch (RuntimeException ex) {
+        enqueue(ex);
+      }
+    }
+
+    private boolean enqueue(Object element) {
+      try {
+        while (!closed) {
+          if (buffer.offer(element, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            return true;
+          }
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      return false;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (closed) {
+        return false;
+      }
+      if (head == null) {
+        try {
+          head = buffer.take();
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          close();
+          throw new IllegalStateException("Interrupted while waiting for the next document", ex);
+        }
+      }
+      if (head == END) {
+        close();
+        return false;
+      }
+      if (head instanceof RuntimeException) {
+        RuntimeException failure = (RuntimeException) head;
+        close();
+        throw failure;
+      }
+      return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T result = (T) head;
+      head = null;
+      return result;
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        openCursors.forEach(TigrisCursor::close);
+        workers.shutdownNow();
+        buffer.clear();
+      }
+    }
+  }
+
+  private final class AsyncScan {
+    private final TigrisAsyncCallback<T> callback;
+    private final AtomicInteger nextRange = new AtomicInteger();
+    private final AtomicInteger remainingRanges = new AtomicInteger(ranges.size());
+    private final Set<Context.CancellableContext> contexts = ConcurrentHashMap.newKeySet();
+    // guarded by this
+    private boolean done;
+    private boolean cancelled;
+
+    private AsyncScan(TigrisAsyncCallback<T> callback) {
+      this.callback = callback;
+    }
+
+    void start() {
+      for (int i = 0; i < Math.max(1, Math.min(parallelism, ranges.size())); i++) {
+        startNextRange();
+      }
+    }
+
+    void cancel() {
+      synchronized (this) {
+        cancelled = true;
+      }
+      // the range reads report the cancellation through onError
+      contexts.forEach(context -> context.cancel(null));
+    }
+
+    private void startNextRange() {
+      Context.CancellableContext context = Context.current().withCancellation();
+      int index;
+      boolean cancelledBeforeStart;
+      // contexts registered after done was set would never be cancelled
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        index = nextRange.getAndIncrement();
+        if (index >= ranges.size()) {
+          return;
+        }
+        cancelledBeforeStart = cancelled;
+        if (!cancelledBeforeStart) {
+          contexts.add(context);
+        }
+      }
+      if (cancelledBeforeStart) {
+        context.cancel(null);
+        // the range reads in flight may all have completed before the cancellation reached them
+        fail(
+            StandardTigrisAsyncCollection.toTigrisException(
+                READ_FAILED,
+                Status.CANCELLED.withDescription("Scan was cancelled").asRuntimeException()));
+        return;
+      }
+      Api.ReadRequest readRequest =
+          toReadRequest(
+              collection.databaseName,
+              collection.collectionName,
+              ranges.get(index),
+              readFields,
+              ReadRequestOptions.DEFAULT_INSTANCE,
+              collection.objectMapper);
+      context.run(
+          () ->
+              collection.stub.read(
+                  readRequest,
+                  new StreamObserver<Api.ReadResponse>() {
+                    @Override
+                    public void onNext(Api.ReadResponse readResponse) {
+                      T document;
+                      try {
+                        document = collection.toDocument(readResponse.getData());
+                      } catch (IllegalArgumentException ex) {
+                        fail(new TigrisException(JSON_SER_DE_ERROR, ex.getCause()));
+                        return;
+                      }
+                      synchronized (AsyncScan.this) {
+                        if (!done) {
+                          callback.onNext(document);
+                        }
+                      }
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                      contexts.remove(context);
+                      fail(StandardTigrisAsyncCollection.toTigrisException(READ_FAILED, throwable));
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                      contexts.remove(context);
+                      if (remainingRanges.decrementAndGet() == 0) {
+                        synchronized (AsyncScan.this) {
+                          if (!done) {
+                            done = true;
+                            callback.onCompleted();
+                          }
+                        }
+                      } else {
+                        startNextRange();
+                      }
+                    }
+                  }));
+    }
+
+    private void fail(TigrisException ex) {
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        done = true;
+      }
+      cancel();
+      callback.onError(ex);
+    }
+  }
+
+  /** Builder for {@link ParallelScan} */
+  public static final class Builder<T extends TigrisCollectionType> {
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final AbstractTigrisCollection<T> collection;
+    private TigrisFilter filter;
+    private ReadFields readFields;
+    private String key;
+    private long[] splitPoints;
+    private List<TigrisFilter> partitions;
+    private int parallelism;
+    private int bufferSize;
+
+    Builder(AbstractTigrisCollection<T> collection) {
+      this.collection = collection;
+      this.filter = Filters.nothing();
+      this.readFields = ReadFields.all();
+      this.splitPoints = new long[0];
+      this.parallelism = Runtime.getRuntime().availableProcessors();
+      this.bufferSize = DEFAULT_BUFFER_SIZE;
+    }
+
+    /**
+     * Scans only the matching documents
+     *
+     * @param filter filter every range is restricted to
+     * @return ongoing builder
+     */
+    public Builder<T> withFilter(TigrisFilter filter) {
+      this.filter = filter;
+      return this;
+    }
+
+    /**
+     * Reads only the selected fields
+     *
+     * @param readFields fields to read
+     * @return ongoing builder
+     */
+    public Builder<T> withReadFields(ReadFields readFields) {
+      this.readFields = readFields;
+      return this;
+    }
+
+    /**
+     * Splits the key space at the given points, {@code n} points produce {@code n + 1} ranges
+     *
+     * @param key numeric key to split on
+     * @param splitPoints strictly ascending split points
+     * @return ongoing builder
+     */
+    public Builder<T> withSplitPoints(String key, long... splitPoints) {
+      this.key = key;
+      this.splitPoints = splitPoints.clone();
+      return this;
+    }
+
+    /**
+     * Splits {@code [min, max)} into equally wide ranges, keys outside of it fall into the first
+     * and the last range
+     *
+     * @param key numeric key to split on
+     * @param min lowest expected key
+     * @param max highest expected key, exclusive
+     * @param partitions number of ranges
+     * @return ongoing builder
+     */
+    public Builder<T> withUniformSplits(String key, long min, long max, int partitions) {
+      if (partitions < 1 || max <= min) {
+        throw new IllegalArgumentException("partitions must be positive and max above min");
+      }
+      BigInteger lower = BigInteger.valueOf(min);
+      BigInteger width = BigInteger.valueOf(max).subtract(lower);
+      List<Long> points = new ArrayList<>(partitions - 1);
+      for (int i = 1; i < partitions; i++) {
+        long point =
+            lower
+                .add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(partitions)))
+                .longValue();
+        // narrow key spaces yield fewer ranges rather than empty ones
+        if (points.isEmpty() ? point > min : point > points.get(points.size() - 1)) {
+          points.add(point);
+        }
+      }
+      long[] result = new long[points.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = points.get(i);
+      }
+      return withSplitPoints(key, result);
+    }
+
+    /**
+     * Scans the given filters instead of key ranges, each filter is read as its own server stream.
+     * The filters should be disjoint, documents matching several of them are read more than once.
+     *
+     * @param partitions filters to read
+     * @return ongoing builder
+     */
+    public Builder<T> withPartitions(List<TigrisFilter> partitions) {
+      this.partitions = partitions;
+      return this;
+    }
+
+    /**
+     * Sets the number of ranges read concurrently by {@link #cursor()} and {@link
+     * #readAsync(TigrisAsyncCallback)}
+     *
+     * @param parallelism number of concurrent range reads
+     * @return ongoing builder
+     */
+    public Builder<T> withParallelism(int parallelism) {
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the number of documents {@link #cursor()} buffers ahead of the caller
+     *
+     * @param bufferSize number of documents
+     * @return ongoing builder
+     */
+    public Builder<T> withBufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+      return this;
+    }
+
+    /**
+     * Builds the {@link ParallelScan}
+     *
+     * @return new instance of {@link ParallelScan}
+     */
+    public ParallelScan<T> build() {
+      if (parallelism < 1 || bufferSize < 1) {
+        throw new IllegalArgumentException("parallelism and bufferSize must be positive");
+      }
+      if (partitions != null && (key != null || partitions.isEmpty())) {
+        throw new IllegalArgumentException(
+            "partitions must not be empty and cannot be combined with split points");
+      }
+      if (key == null && splitPoints.length > 0) {
+        throw new IllegalArgumentException("key is required to split the key space");
+      }
+      return new ParallelScan<>(this);
+    }
+  }
+}
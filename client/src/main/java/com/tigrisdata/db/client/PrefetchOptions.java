@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Options for reading ahead of the caller. A background task pulls documents from the server into a
+ * bounded buffer and decodes them in parallel, so network waits and JSON binding overlap with the
+ * caller's processing. Documents are still returned in server order.
+ */
+public final class PrefetchOptions {
+  public static final int DEFAULT_BUFFER_SIZE = 256;
+
+  private final int bufferSize;
+  private final int decodeParallelism;
+  private final Executor executor;
+
+  private PrefetchOptions(Builder builder) {
+    this.bufferSize = builder.bufferSize;
+    this.decodeParallelism = builder.decodeParallelism;
+    this.executor = builder.executor;
+  }
+
+  /** @return maximum number of documents read ahead of the caller */
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  /** @return maximum number of documents decoded concurrently */
+  public int getDecodeParallelism() {
+    return decodeParallelism;
+  }
+
+  /** @return executor decoding the documents, null for the client's shared daemon threads */
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Builder API for {@link PrefetchOptions}
+   *
+   * @return {@link PrefetchOptions.Builder}
+   */
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PrefetchOptions that = (PrefetchOptions) o;
+    return bufferSize == that.bufferSize
+        && decodeParallelism == that.decodeParallelism
+        && Objects.equals(executor, that.executor);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(bufferSize, decodeParallelism, executor);
+  }
+
+  public static final class Builder {
+    private int bufferSize;
+    private int decodeParallelism;
+    private Executor executor;
+
+    private Builder() {
+      this.bufferSize = DEFAULT_BUFFER_SIZE;
+      this.decodeParallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Sets the maximum number of documents read ahead of the caller
+     *
+     * @param bufferSize positive number of documents
+     * @return ongoing builder
+     */
+    public Builder withBufferSize(int bufferSize) {
+      if (bufferSize <= 0) {
+        throw new IllegalArgumentException("bufferSize must be positive");
+      }
+      this.bufferSize = bufferSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of documents decoded concurrently, 1 decodes on the read-ahead thread
+     *
+     * @param decodeParallelism positive number of concurrent decodes
+     * @return ongoing builder
+     */
+    public Builder withDecodeParallelism(int decodeParallelism) {
+      if (decodeParallelism <= 0) {
+        throw new IllegalArgumentException("decodeParallelism must be positive");
+      }
+      this.decodeParallelism = decodeParallelism;
+      return this;
+    }
+
+    /**
+     * Sets the executor decoding the documents. The read-ahead itself always runs on the client's
+     * shared daemon threads, so any executor works, including a single thread one. Decoding uses up
+     * to {@code decodeParallelism} of its threads, and none when decoding runs on the read-ahead
+     * thread.
+     *
+     * @param executor executor
+     * @return ongoing builder
+     */
+    public Builder withExecutor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds the {@link PrefetchOptions}
+     *
+     * @return {@link PrefetchOptions}
+     */
+    public PrefetchOptions build() {
+      return new PrefetchOptions(this);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@link TigrisCursor} that reads ahead of the caller. A background task drains the source cursor
+ * into a bounded queue of decode futures, decoding runs on the executor, and the caller takes the
+ * futures in order. The background task always runs on the client's own threads: it blocks while
+ * waiting for decode permits, and on a small caller executor it would starve the decodes that
+ * release them. The queue bound keeps memory flat and pushes back on the server through gRPC flow
+ * control once the caller falls behind.
+ *
+ * @param <F> type of the source items
+ * @param <T> type of the decoded items
+ */
+final class PrefetchingCursor<F, T> implements TigrisCursor<T> {
+  private static final Object END = new Object();
+  private static final long OFFER_TIMEOUT_MS = 100;
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+  private static final ExecutorService SHARED_EXECUTOR =
+      Executors.newCachedThreadPool(
+          r -> {
+            Thread thread = new Thread(r);
+            thread.setName("tigris-prefetch-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final TigrisCursor<F> source;
+  private final Function<F, T> decoder;
+  // decodes only, the read-ahead runs on SHARED_EXECUTOR
+  private final Executor executor;
+  private final Semaphore decodePermits;
+  private final boolean decodeInline;
+  // decode futures in source order, then END or the failure of the source
+  private final BlockingQueue<Object> buffer;
+  private Object head;
+  private volatile boolean closed;
+
+  PrefetchingCursor(TigrisCursor<F> source, Function<F, T> decoder, PrefetchOptions options) {
+    this.source = source;
+    this.decoder = decoder;
+    this.executor = options.getExecutor() == null ? SHARED_EXECUTOR : options.getExecutor();
+    this.decodeInline = options.getDecodeParallelism() == 1;
+    this.decodePermits = new Semaphore(options.getDecodeParallelism());
+    this.buffer = new ArrayBlockingQueue<>(options.getBufferSize() + 1);
+    SHARED_EXECUTOR.execute(this::fetch);
+  }
+
+  private void fetch() {
+    try {
+      while (!closed && source.hasNext()) {
+        F item = source.next();
+        CompletableFuture<T> decoded;
+        if (decodeInline) {
+          decoded = new CompletableFuture<>();
+          try {
+            decoded.complete(decoder.apply(item));
+          } catch (Throwable throwable) {
+            decoded.completeExceptionally(throwable);
+          }
+        } else {
+          decodePermits.acquire();
+          decoded = CompletableFuture.supplyAsync(() -> decoder.apply(item), executor);
+          decoded.whenComplete((result, throwable) -> decodePermits.release());
+        }
+        enqueue(decoded);
+      }
+      enqueueTerminal(END);
+    } catch (Throwable throwable) {
+      // the caller blocks until it takes a terminal element, so one is queued whatever failed
+      enqueueTerminal(throwable);
+      if (throwable instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  // waits for room in the buffer unless the cursor gets closed
+  private void enqueue(Object element) throws InterruptedException {
+    while (!closed) {
+      if (buffer.offer(element, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    }
+  }
+
+  // like enqueue, but an interrupt cannot keep the terminal element from the caller
+  private void enqueueTerminal(Object terminal) {
+    boolean interrupted = false;
+    while (!closed) {
+      try {
+        if (buffer.offer(terminal, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+          break;
+        }
+      } catch (InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    if (head == null) {
+      try {
+        head = buffer.take();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        close();
+        throw new IllegalStateException("Interrupted while waiting for the next document", ex);
+      }
+    }
+    if (head == END) {
+      close();
+      return false;
+    }
+    if (head instanceof Throwable) {
+      Throwable failure = (Throwable) head;
+      close();
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+      throw new IllegalStateException(failure);
+    }
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    CompletableFuture<T> decoded = (CompletableFuture<T>) head;
+    head = null;
+    try {
+      return decoded.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      if (ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      source.close();
+      buffer.clear();
+    }
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.google.protobuf.ByteString;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decodes documents into a projection type, a class or an interface that declares a subset of the
+ * collection fields.
+ *
+ * <p>The fields to request from the server are derived from the properties of the projection type,
+ * so the server only sends what the projection can hold. Classes are bound by Jackson ignoring
+ * unknown properties. Interfaces are backed by a proxy that converts the field values on access,
+ * every abstract method of the interface must be a getter and default methods run their own body.
+ *
+ * @param <P> projection type
+ */
+final class Projection<P> {
+  private final Class<P> projectionType;
+  private final ReadFields readFields;
+  private final ObjectReader reader;
+  // interface getter -> field name and reader of its value, null for class projections
+  private final Map<Method, PropertyReader> interfaceProperties;
+  // interface default method -> handle invoking its body, null for class projections
+  private final Map<Method, MethodHandle> defaultMethods;
+
+  private Projection(
+      Class<P> projectionType,
+      ReadFields readFields,
+      ObjectReader reader,
+      Map<Method, PropertyReader> interfaceProperties,
+      Map<Method, MethodHandle> defaultMethods) {
+    this.projectionType = projectionType;
+    this.readFields = readFields;
+    this.reader = reader;
+    this.interfaceProperties = interfaceProperties;
+    this.defaultMethods = defaultMethods;
+  }
+
+  static <P> Projection<P> of(Class<P> projectionType, ObjectMapper objectMapper) {
+    if (projectionType.isInterface()
+        && !JsonNode.class.isAssignableFrom(projectionType)
+        && !Map.class.isAssignableFrom(projectionType)) {
+      Map<Method, PropertyReader> properties = new LinkedHashMap<>();
+      Map<Method, MethodHandle> defaultMethods = new HashMap<>();
+      ReadFields.ReadFieldsBuilder readFieldsBuilder = ReadFields.newBuilder();
+      for (Method method : projectionType.getMethods()) {
+        if (Modifier.isStatic(method.getModifiers()) || isObjectMethod(method)) {
+          continue;
+        }
+        if (method.isDefault()) {
+          defaultMethods.put(method, defaultMethodHandle(method));
+          continue;
+        }
+        String fieldName = propertyName(method);
+        if (fieldName == null) {
+          throw new IllegalArgumentException(
+              "Method is not a property of the projection: " + method);
+        }
+        properties.put(
+            method,
+            new PropertyReader(
+                fieldName,
+                objectMapper.readerFor(objectMapper.constructType(method.getGenericReturnType()))));
+        readFieldsBuilder.includeField(fieldName);
+      }
+      return new Projection<>(
+          projectionType,
+          properties.isEmpty() ? ReadFields.all() : readFieldsBuilder.build(),
+          objectMapper.readerFor(JsonNode.class),
+          Collections.unmodifiableMap(properties),
+          Collections.unmodifiableMap(defaultMethods));
+    }
+
+    ObjectReader reader =
+        objectMapper
+            .readerFor(projectionType)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    return new Projection<>(
+        projectionType, classReadFields(projectionType, objectMapper), reader, null, null);
+  }
+
+  /** @return fields to request from the server for this projection */
+  ReadFields getReadFields() {
+    return readFields;
+  }
+
+  /**
+   * Decodes a document into the projection type
+   *
+   * @param data JSON bytes of the document
+   * @return projection of the document
+   * @throws IOException in case the document cannot be decoded
+   */
+  P decode(ByteString data) throws IOException {
+    if (interfaceProperties == null) {
+      return reader.readValue(data.newInput());
+    }
+    JsonNode node = reader.readTree(data.newInput());
+    return projectionType.cast(
+        Proxy.newProxyInstance(
+            projectionType.getClassLoader(),
+            new Class<?>[] {projectionType},
+            new ProjectionInvocationHandler(node, interfaceProperties, defaultMethods)));
+  }
+
+  private static ReadFields classReadFields(Class<?> projectionType, ObjectMapper objectMapper) {
+    if (JsonNode.class.isAssignableFrom(projectionType)
+        || Map.class.isAssignableFrom(projectionType)
+        || projectionType == Object.class) {
+      return ReadFields.all();
+    }
+    BeanDescription beanDescription =
+        objectMapper
+            .getDeserializationConfig()
+            .introspect(objectMapper.constructType(projectionType));
+    ReadFields.ReadFieldsBuilder readFieldsBuilder = ReadFields.newBuilder();
+    boolean found = false;
+    for (BeanPropertyDefinition property : beanDescription.findProperties()) {
+      if (property.couldDeserialize()) {
+        readFieldsBuilder.includeField(property.getName());
+        found = true;
+      }
+    }
+    return found ? readFieldsBuilder.build() : ReadFields.all();
+  }
+
+  /** @return field read by the getter, null if the method is not a getter */
+  private static String propertyName(Method method) {
+    if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+      return null;
+    }
+    JsonProperty jsonProperty = method.getAnnotation(JsonProperty.class);
+    if (jsonProperty != null && !jsonProperty.value().isEmpty()) {
+      return jsonProperty.value();
+    }
+    String name = method.getName();
+    if (name.startsWith("get") && name.length() > 3) {
+      name = name.substring(3);
+    } else if (name.startsWith("is")
+        && name.length() > 2
+        && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+      name = name.substring(2);
+    }
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static boolean isObjectMethod(Method method) {
+    try {
+      Object.class.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Resolves a handle that runs the body of a default method on a proxy. Java 9 and later provide
+   * {@code MethodHandles.privateLookupIn}, on Java 8 a private lookup is created through the
+   * non-public {@link MethodHandles.Lookup} constructor.
+   */
+  private static MethodHandle defaultMethodHandle(Method method) {
+    Class<?> declaringClass = method.getDeclaringClass();
+    try {
+      MethodHandles.Lookup lookup;
+      try {
+        Method privateLookupIn =
+            MethodHandles.class.getMethod(
+                "privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        lookup =
+            (MethodHandles.Lookup)
+                privateLookupIn.invoke(null, declaringClass, MethodHandles.lookup());
+      } catch (NoSuchMethodException ex) {
+        Constructor<MethodHandles.Lookup> constructor =
+            MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+        constructor.setAccessible(true);
+        lookup = constructor.newInstance(declaringClass, MethodHandles.Lookup.PRIVATE);
+      }
+      return lookup.unreflectSpecial(method, declaringClass);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      throw new IllegalArgumentException("Default method cannot be invoked: " + method, ex);
+    }
+  }
+
+  private static final class PropertyReader {
+    private final String fieldName;
+    private final ObjectReader reader;
+
+    private PropertyReader(String fieldName, ObjectReader reader) {
+      this.fieldName = fieldName;
+      this.reader = reader;
+    }
+  }
+
+  private static final class ProjectionInvocationHandler implements InvocationHandler {
+    private final JsonNode node;
+    private final Map<Method, PropertyReader> properties;
+    private final Map<Method, MethodHandle> defaultMethods;
+
+    private ProjectionInvocationHandler(
+        JsonNode node,
+        Map<Method, PropertyReader> properties,
+        Map<Method, MethodHandle> defaultMethods) {
+      this.node = node;
+      this.properties = properties;
+      this.defaultMethods = defaultMethods;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      PropertyReader property = properties.get(method);
+      if (property != null) {
+        JsonNode value = node.get(property.fieldName);
+        return property.reader.readValue(value == null ? NullNode.getInstance() : value);
+      }
+      MethodHandle defaultMethod = defaultMethods.get(method);
+      if (defaultMethod != null) {
+        return defaultMethod.bindTo(proxy).invokeWithArguments(args == null ? new Object[0] : args);
+      }
+      switch (method.getName()) {
+        case "equals":
+          return args[0] != null
+              && Proxy.isProxyClass(args[0].getClass())
+              && Proxy.getInvocationHandler(args[0]) instanceof ProjectionInvocationHandler
+              && node.equals(
+                  ((ProjectionInvocationHandler) Proxy.getInvocationHandler(args[0])).node);
+        case "hashCode":
+          return node.hashCode();
+        case "toString":
+          return node.toString();
+        default:
+          throw new UnsupportedOperationException(
+              "Method is not a property of the projection: " + method);
+      }
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.search.RawSearchResult;
+import com.tigrisdata.db.client.search.SearchRequest;
+import com.tigrisdata.db.client.search.SearchRequestOptions;
+import com.tigrisdata.db.type.TigrisCollectionType;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Raw view of an async Tigris collection. Documents are read and written as JSON bytes, as sent to
+ * and received from the server, without binding them to the collection's model class.
+ *
+ * <p>{@code byte[]} and {@link ByteBuffer} documents are wrapped without copying, they must not be
+ * modified until the returned future completes.
+ *
+ * @param <T> type of the collection
+ */
+public interface RawTigrisAsyncCollection<T extends TigrisCollectionType> {
+
+  /**
+   * Reads matching documents as JSON bytes
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @param reader reader callback
+   */
+  void read(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TigrisAsyncCallback<ByteString> reader);
+
+  /**
+   * Reads matching documents as JSON bytes
+   *
+   * @param filter filter to narrow down read
+   * @param reader reader callback
+   */
+  void read(TigrisFilter filter, TigrisAsyncCallback<ByteString> reader);
+
+  /**
+   * Reads all the documents as JSON bytes
+   *
+   * @param reader reader callback
+   */
+  void readAll(TigrisAsyncCallback<ByteString> reader);
+
+  /**
+   * Reads a single document as JSON bytes
+   *
+   * @param filter filter to read one document
+   * @return a future to the document
+   */
+  CompletableFuture<Optional<ByteString>> readOne(TigrisFilter filter);
+
+  /**
+   * Search for documents in a collection, hits carry the documents as JSON bytes
+   *
+   * @param request search request to execute
+   * @param options search pagination options
+   * @param reader reader callback
+   */
+  void search(
+      SearchRequest request,
+      SearchRequestOptions options,
+      TigrisAsyncCallback<RawSearchResult> reader);
+
+  /**
+   * Search for documents in a collection, hits carry the documents as JSON bytes
+   *
+   * @param request search request to execute
+   * @param reader reader callback
+   */
+  void search(SearchRequest request, TigrisAsyncCallback<RawSearchResult> reader);
+
+  /**
+   * Inserts JSON documents into the collection
+   *
+   * @param documents JSON documents
+   * @param insertRequestOptions insert option
+   * @return a future to the {@link InsertResponse}
+   */
+  CompletableFuture<InsertResponse<T>> insert(
+      List<ByteString> documents, InsertRequestOptions insertRequestOptions);
+
+  /**
+   * Inserts JSON documents into the collection
+   *
+   * @param documents JSON documents
+   * @return a future to the {@link InsertResponse}
+   */
+  CompletableFuture<InsertResponse<T>> insert(List<ByteString> documents);
+
+  /**
+   * Inserts a JSON document into the collection
+   *
+   * @param document JSON document
+   * @return a future to the {@link InsertResponse}
+   */
+  CompletableFuture<InsertResponse<T>> insert(ByteString document);
+
+  /**
+   * Inserts a JSON document into the collection
+   *
+   * @param document UTF-8 encoded JSON document
+   * @return a future to the {@link InsertResponse}
+   */
+  CompletableFuture<InsertResponse<T>> insert(byte[] document);
+
+  /**
+   * Inserts a JSON document into the collection
+   *
+   * @param document UTF-8 encoded JSON document, between its position and limit
+   * @return a future to the {@link InsertResponse}
+   */
+  CompletableFuture<InsertResponse<T>> insert(ByteBuffer document);
+
+  /**
+   * Inserts or replaces JSON documents in the collection
+   *
+   * @param documents JSON documents
+   * @param insertOrReplaceRequestOptions options
+   * @return a future to the {@link InsertOrReplaceResponse}
+   */
+  CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
+      List<ByteString> documents, InsertOrReplaceRequestOptions insertOrReplaceRequestOptions);
+
+  /**
+   * Inserts or replaces JSON documents in the collection
+   *
+   * @param documents JSON documents
+   * @return a future to the {@link InsertOrReplaceResponse}
+   */
+  CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(List<ByteString> documents);
+
+  /**
+   * Inserts or replaces a JSON document in the collection
+   *
+   * @param document JSON document
+   * @return a future to the {@link InsertOrReplaceResponse}
+   */
+  CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(ByteString document);
+
+  /**
+   * Inserts or replaces a JSON document in the collection
+   *
+   * @param document UTF-8 encoded JSON document
+   * @return a future to the {@link InsertOrReplaceResponse}
+   */
+  CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(byte[] document);
+
+  /**
+   * Inserts or replaces a JSON document in the collection
+   *
+   * @param document UTF-8 encoded JSON document, between its position and limit
+   * @return a future to the {@link InsertOrReplaceResponse}
+   */
+  CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(ByteBuffer document);
+
+  /** @return Name of the collection */
+  String name();
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.search.RawSearchResult;
+import com.tigrisdata.db.client.search.SearchRequest;
+import com.tigrisdata.db.client.search.SearchRequestOptions;
+import com.tigrisdata.db.type.TigrisCollectionType;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Raw view of a Tigris collection. Documents are read and written as JSON bytes, as sent to and
+ * received from the server, without binding them to the collection's model class.
+ *
+ * <p>{@code byte[]} and {@link ByteBuffer} documents are wrapped without copying, they must not be
+ * modified until the call returns.
+ *
+ * @param <T> type of the collection
+ */
+public interface RawTigrisCollection<T extends TigrisCollectionType> {
+
+  /**
+   * Reads matching documents as JSON bytes
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @return cursor over the documents, close it to cancel the read early
+   * @throws TigrisException in case of an error
+   */
+  TigrisCursor<ByteString> read(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions)
+      throws TigrisException;
+
+  /**
+   * Reads matching documents as JSON bytes
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @return cursor over the documents, close it to cancel the read early
+   * @throws TigrisException in case of an error
+   */
+  TigrisCursor<ByteString> read(TigrisFilter filter, ReadFields fields) throws TigrisException;
+
+  /**
+   * Reads matching documents as JSON bytes
+   *
+   * @param filter filter to narrow down read
+   * @return cursor over the documents, close it to cancel the read early
+   * @throws TigrisException in case of an error
+   */
+  TigrisCursor<ByteString> read(TigrisFilter filter) throws TigrisException;
+
+  /**
+   * Reads all the documents as JSON bytes
+   *
+   * @return cursor over the documents, close it to cancel the read early
+   * @throws TigrisException in case of an error
+   */
+  TigrisCursor<ByteString> readAll() throws TigrisException;
+
+  /**
+   * Reads a single document as JSON bytes
+   *
+   * @param filter filter to read one document
+   * @return optionally the document
+   * @throws TigrisException in case of an error
+   */
+  Optional<ByteString> readOne(TigrisFilter filter) throws TigrisException;
+
+  /**
+   * Search for documents in a collection, hits carry the documents as JSON bytes
+   *
+   * @param request search request to execute
+   * @param options search pagination options
+   * @return optionally the search result
+   * @throws TigrisException in case of an error
+   */
+  Optional<RawSearchResult> search(SearchRequest request, SearchRequestOptions options)
+      throws TigrisException;
+
+  /**
+   * Search for documents in a collection, hits carry the documents as JSON bytes
+   *
+   * @param request search request to execute
+   * @return cursor over the search results, to be closed when not exhausted
+   * @throws TigrisException in case of an error
+   */
+  TigrisCursor<RawSearchResult> search(SearchRequest request) throws TigrisException;
+
+  /**
+   * Inserts JSON documents into the collection
+   *
+   * @param documents JSON documents
+   * @param insertRequestOptions insert option
+   * @return an instance of {@link InsertResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertResponse<T> insert(List<ByteString> documents, InsertRequestOptions insertRequestOptions)
+      throws TigrisException;
+
+  /**
+   * Inserts JSON documents into the collection
+   *
+   * @param documents JSON documents
+   * @return an instance of {@link InsertResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertResponse<T> insert(List<ByteString> documents) throws TigrisException;
+
+  /**
+   * Inserts a JSON document into the collection
+   *
+   * @param document JSON document
+   * @return an instance of {@link InsertResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertResponse<T> insert(ByteString document) throws TigrisException;
+
+  /**
+   * Inserts a JSON document into the collection
+   *
+   * @param document UTF-8 encoded JSON document
+   * @return an instance of {@link InsertResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertResponse<T> insert(byte[] document) throws TigrisException;
+
+  /**
+   * Inserts a JSON document into the collection
+   *
+   * @param document UTF-8 encoded JSON document, between its position and limit
+   * @return an instance of {@link InsertResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertResponse<T> insert(ByteBuffer document) throws TigrisException;
+
+  /**
+   * Inserts or replaces JSON documents in the collection
+   *
+   * @param documents JSON documents
+   * @param insertOrReplaceRequestOptions options
+   * @return an instance of {@link InsertOrReplaceResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertOrReplaceResponse<T> insertOrReplace(
+      List<ByteString> documents, InsertOrReplaceRequestOptions insertOrReplaceRequestOptions)
+      throws TigrisException;
+
+  /**
+   * Inserts or replaces JSON documents in the collection
+   *
+   * @param documents JSON documents
+   * @return an instance of {@link InsertOrReplaceResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertOrReplaceResponse<T> insertOrReplace(List<ByteString> documents) throws TigrisException;
+
+  /**
+   * Inserts or replaces a JSON document in the collection
+   *
+   * @param document JSON document
+   * @return an instance of {@link InsertOrReplaceResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertOrReplaceResponse<T> insertOrReplace(ByteString document) throws TigrisException;
+
+  /**
+   * Inserts or replaces a JSON document in the collection
+   *
+   * @param document UTF-8 encoded JSON document
+   * @return an instance of {@link InsertOrReplaceResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertOrReplaceResponse<T> insertOrReplace(byte[] document) throws TigrisException;
+
+  /**
+   * Inserts or replaces a JSON document in the collection
+   *
+   * @param document UTF-8 encoded JSON document, between its position and limit
+   * @return an instance of {@link InsertOrReplaceResponse} from server
+   * @throws TigrisException in case of an error
+   */
+  InsertOrReplaceResponse<T> insertOrReplace(ByteBuffer document) throws TigrisException;
+
+  /** @return Name of the collection */
+  String name();
+}
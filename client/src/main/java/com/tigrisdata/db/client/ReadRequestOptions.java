@@ -13,49 +13,57 @@
  */
 package com.tigrisdata.db.client;
 
+import com.tigrisdata.db.api.v1.grpc.Api;
+
 import java.util.Objects;
 
 /** Represents options related to Read operations */
-public class ReadRequestOptions {
-  // TODO: add offset and make this class immutable
-  private ReadOptions readOptions;
-  private long skip;
-  private long limit;
+public final class ReadRequestOptions {
+  public static final ReadRequestOptions DEFAULT_INSTANCE = new ReadRequestOptions();
+
+  // readOne reads only the first matching document
+  static final ReadRequestOptions READ_ONE = new ReadRequestOptions(0L, 1L);
 
-  public ReadRequestOptions() {}
+  // TODO: add offset
+  private final ReadOptions readOptions;
+  private final long skip;
+  private final long limit;
+  private final Api.ReadRequestOptions apiOptions;
+
+  public ReadRequestOptions() {
+    this(ReadOptions.DEFAULT_INSTANCE);
+  }
 
   public ReadRequestOptions(ReadOptions readOptions) {
-    this.readOptions = readOptions;
+    this(readOptions, 0L, 0L);
   }
 
   public ReadRequestOptions(long skip, long limit) {
-    this.readOptions = ReadOptions.DEFAULT_INSTANCE;
+    this(ReadOptions.DEFAULT_INSTANCE, skip, limit);
+  }
+
+  private ReadRequestOptions(ReadOptions readOptions, long skip, long limit) {
+    this.readOptions = readOptions;
     this.skip = skip;
     this.limit = limit;
+    this.apiOptions = Api.ReadRequestOptions.newBuilder().setSkip(skip).setLimit(limit).build();
   }
 
   public ReadOptions getReadOptions() {
     return readOptions;
   }
 
-  public void setReadOptions(ReadOptions readOptions) {
-    this.readOptions = readOptions;
-  }
-
   public long getSkip() {
     return skip;
   }
 
-  public void setSkip(long skip) {
-    this.skip = skip;
-  }
-
   public long getLimit() {
     return limit;
   }
 
-  public void setLimit(long limit) {
-    this.limit = limit;
+  /** @return protobuf counterpart, built once */
+  Api.ReadRequestOptions toApi() {
+    return apiOptions;
   }
 
   @Override
@@ -13,15 +13,13 @@
  */
 package com.tigrisdata.db.client;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.io.IOException;
 import java.util.Objects;
 
-final class SelectorFilter<T> implements TigrisFilter {
+final class SelectorFilter<T> implements FilterWriter.StreamingFilter {
 
   private final ComparisonOperator comparisonOperator;
   private final String key;
@@ -35,28 +33,34 @@ final class SelectorFilter<T> implements TigrisFilter {
 
   @Override
   public String toJSON(ObjectMapper objectMapper) {
-    Map<String, Object> map = new LinkedHashMap<>();
+    return FilterWriter.toJSON(this, objectMapper);
+  }
+
+  @Override
+  public void writeTo(JsonGenerator generator, ObjectMapper objectMapper) throws IOException {
+    generator.writeStartObject();
     switch (comparisonOperator) {
       case NONE:
-        return "{}";
+        break;
       case EQUALS:
-        map.put(key, val);
+        generator.writeFieldName(key);
+        writeValue(generator);
         break;
       default:
-        Map<String, Object> nestedMap =
-            new HashMap<String, Object>() {
-              {
-                put(comparisonOperator.getOperator(), val);
-              }
-            };
-        map.put(key, nestedMap);
+        generator.writeFieldName(key);
+        generator.writeStartObject();
+        generator.writeFieldName(comparisonOperator.getOperator());
+        writeValue(generator);
+        generator.writeEndObject();
     }
+    generator.writeEndObject();
+  }
 
-    try {
-      return objectMapper.writeValueAsString(map);
-    } catch (JsonProcessingException e) {
-      throw new IllegalStateException(
-          "This was caused because the SelectorFilter's JSON serialization raised errors", e);
+  private void writeValue(JsonGenerator generator) throws IOException {
+    if (val instanceof FilterTemplate.Parameter) {
+      ((FilterTemplate.Parameter) val).writeTo(generator);
+    } else {
+      generator.writeObject(val);
     }
   }
 
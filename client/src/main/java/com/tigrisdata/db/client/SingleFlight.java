@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls. While a call for a key is in flight, callers of the same
+ * key share its result instead of issuing their own call. The key is released before its result is
+ * published, so a caller arriving afterwards always starts a fresh call and never observes a result
+ * older than its own request.
+ *
+ * @param <K> type of the call keys
+ * @param <V> type of the call results
+ */
+final class SingleFlight<K, V> {
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Joins the call in flight for the key or starts a new one
+   *
+   * @param key identity of the call
+   * @param call starts the call, invoked at most once per flight
+   * @return result of the shared call
+   */
+  CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+    CompletableFuture<V> existing = inFlight.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    existing = inFlight.putIfAbsent(key, flight);
+    if (existing != null) {
+      return existing;
+    }
+    try {
+      call.get()
+          .whenComplete(
+              (result, throwable) -> {
+                inFlight.remove(key, flight);
+                if (throwable != null) {
+                  flight.completeExceptionally(throwable);
+                } else {
+                  flight.complete(result);
+                }
+              });
+    } catch (RuntimeException ex) {
+      inFlight.remove(key, flight);
+      flight.completeExceptionally(ex);
+    }
+    return flight;
+  }
+
+  /** @return number of calls in flight */
+  int inFlight() {
+    return inFlight.size();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.api.v1.grpc.Api;
+import static com.tigrisdata.db.client.Constants.COMMIT_TRANSACTION_FAILED;
+import static com.tigrisdata.db.client.Constants.ROLLBACK_TRANSACTION_FAILED;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/** Async transactional session, shares the headers and stubs of a transactional session */
+class StandardAsyncTransactionSession implements AsyncTransactionSession {
+  private final StandardTransactionSession session;
+  private final Executor executor;
+
+  StandardAsyncTransactionSession(StandardTransactionSession session, Executor executor) {
+    this.session = session;
+    this.executor = executor;
+  }
+
+  @Override
+  public CompletableFuture<CommitTransactionResponse> commit() {
+    return Utilities.transformFuture(
+        session
+            .getFutureStub()
+            .commitTransaction(
+                Api.CommitTransactionRequest.newBuilder()
+                    .setProject(session.getDatabaseName())
+                    .build()),
+        response -> new CommitTransactionResponse(response.getStatus()),
+        executor,
+        COMMIT_TRANSACTION_FAILED);
+  }
+
+  @Override
+  public CompletableFuture<RollbackTransactionResponse> rollback() {
+    return Utilities.transformFuture(
+        session
+            .getFutureStub()
+            .rollbackTransaction(
+                Api.RollbackTransactionRequest.newBuilder()
+                    .setProject(session.getDatabaseName())
+                    .build()),
+        response -> new RollbackTransactionResponse(response.getStatus()),
+        executor,
+        ROLLBACK_TRANSACTION_FAILED);
+  }
+
+  StandardTransactionSession getSession() {
+    return session;
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import static com.tigrisdata.db.client.Constants.INSERT_FAILED;
+import static com.tigrisdata.db.client.Constants.INSERT_OR_REPLACE_FAILED;
+import static com.tigrisdata.db.client.Constants.READ_FAILED;
+import static com.tigrisdata.db.client.Constants.SEARCH_FAILED;
+import static com.tigrisdata.db.client.TypeConverter.toReadRequest;
+import static com.tigrisdata.db.client.TypeConverter.toSearchRequest;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.client.search.RawSearchResult;
+import com.tigrisdata.db.client.search.SearchRequest;
+import com.tigrisdata.db.client.search.SearchRequestOptions;
+import com.tigrisdata.db.type.TigrisCollectionType;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/** Raw view implementation over an async Tigris collection */
+class StandardRawTigrisAsyncCollection<T extends TigrisCollectionType>
+    implements RawTigrisAsyncCollection<T> {
+
+  private final AbstractTigrisCollection<T> collection;
+  private final Executor executor;
+
+  StandardRawTigrisAsyncCollection(AbstractTigrisCollection<T> collection, Executor executor) {
+    this.collection = collection;
+    this.executor = executor;
+  }
+
+  @Override
+  public void read(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TigrisAsyncCallback<ByteString> reader) {
+    collection.stub.read(
+        toReadRequest(filter, fields, readRequestOptions),
+        new StandardTigrisAsyncCollection.CallbackResponseObserverAdapter<>(
+            reader, Api.ReadResponse::getData, READ_FAILED));
+  }
+
+  @Override
+  public void read(TigrisFilter filter, TigrisAsyncCallback<ByteString> reader) {
+    this.read(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
+  }
+
+  @Override
+  public void readAll(TigrisAsyncCallback<ByteString> reader) {
+    this.read(Filters.nothing(), ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
+  }
+
+  @Override
+  public CompletableFuture<Optional<ByteString>> readOne(TigrisFilter filter) {
+    return collection.readOneRawInternal(filter);
+  }
+
+  @Override
+  public void search(
+      SearchRequest request,
+      SearchRequestOptions options,
+      TigrisAsyncCallback<RawSearchResult> reader) {
+    collection.stub.search(
+        toSearchRequest(
+            collection.databaseName,
+            collection.collectionName,
+            request,
+            options,
+            collection.objectMapper),
+        new StandardTigrisAsyncCollection.CallbackResponseObserverAdapter<>(
+            reader, RawSearchResult::from, SEARCH_FAILED));
+  }
+
+  @Override
+  public void search(SearchRequest request, TigrisAsyncCallback<RawSearchResult> reader) {
+    this.search(request, null, reader);
+  }
+
+  @Override
+  public CompletableFuture<InsertResponse<T>> insert(
+      List<ByteString> documents, InsertRequestOptions insertRequestOptions) {
+    return Utilities.transformFuture(
+        collection.insertRawFutureInternal(documents, insertRequestOptions),
+        input ->
+            new InsertResponse<>(
+                input.getStatus(),
+                input.getMetadata().getCreatedAt(),
+                input.getMetadata().getUpdatedAt(),
+                TypeConverter.toArrayOfMap(input.getKeysList(), collection.objectMapper),
+                Collections.emptyList()),
+        executor,
+        INSERT_FAILED);
+  }
+
+  @Override
+  public CompletableFuture<InsertResponse<T>> insert(List<ByteString> documents) {
+    return this.insert(documents, InsertRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public CompletableFuture<InsertResponse<T>> insert(ByteString document) {
+    return this.insert(Collections.singletonList(document));
+  }
+
+  @Override
+  public CompletableFuture<InsertResponse<T>> insert(byte[] document) {
+    return this.insert(UnsafeByteOperations.unsafeWrap(document));
+  }
+
+  @Override
+  public CompletableFuture<InsertResponse<T>> insert(ByteBuffer document) {
+    return this.insert(UnsafeByteOperations.unsafeWrap(document));
+  }
+
+  @Override
+  public CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
+      List<ByteString> documents, InsertOrReplaceRequestOptions insertOrReplaceRequestOptions) {
+    return Utilities.transformFuture(
+        collection.futureStub.replace(
+            TypeConverter.toRawReplaceRequest(
+                collection.databaseName,
+                collection.collectionName,
+                documents,
+                insertOrReplaceRequestOptions)),
+        input ->
+            new InsertOrReplaceResponse<>(
+                input.getStatus(),
+                input.getMetadata().getCreatedAt(),
+                input.getMetadata().getUpdatedAt(),
+                TypeConverter.toArrayOfMap(input.getKeysList(), collection.objectMapper),
+                Collections.emptyList()),
+        executor,
+        INSERT_OR_REPLACE_FAILED);
+  }
+
+  @Override
+  public CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(List<ByteString> documents) {
+    return this.insertOrReplace(documents, InsertOrReplaceRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(ByteString document) {
+    return this.insertOrReplace(Collections.singletonList(document));
+  }
+
+  @Override
+  public CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(byte[] document) {
+    return this.insertOrReplace(UnsafeByteOperations.unsafeWrap(document));
+  }
+
+  @Override
+  public CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(ByteBuffer document) {
+    return this.insertOrReplace(UnsafeByteOperations.unsafeWrap(document));
+  }
+
+  @Override
+  public String name() {
+    return collection.collectionName;
+  }
+
+  private Api.ReadRequest toReadRequest(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions) {
+    return TypeConverter.toReadRequest(
+        collection.databaseName,
+        collection.collectionName,
+        filter,
+        fields,
+        readRequestOptions,
+        collection.objectMapper);
+  }
+}
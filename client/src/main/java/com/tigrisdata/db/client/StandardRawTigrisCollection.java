@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import static com.tigrisdata.db.client.Constants.READ_FAILED;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.search.RawSearchResult;
+import com.tigrisdata.db.client.search.SearchRequest;
+import com.tigrisdata.db.client.search.SearchRequestOptions;
+import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.StatusRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/** Raw view implementation over a Tigris collection */
+class StandardRawTigrisCollection<T extends TigrisCollectionType>
+    implements RawTigrisCollection<T> {
+
+  private final AbstractTigrisCollection<T> collection;
+
+  StandardRawTigrisCollection(AbstractTigrisCollection<T> collection) {
+    this.collection = collection;
+  }
+
+  @Override
+  public TigrisCursor<ByteString> read(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions)
+      throws TigrisException {
+    return collection.readRawInternal(filter, fields, readRequestOptions, null);
+  }
+
+  @Override
+  public TigrisCursor<ByteString> read(TigrisFilter filter, ReadFields fields)
+      throws TigrisException {
+    return this.read(filter, fields, ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public TigrisCursor<ByteString> read(TigrisFilter filter) throws TigrisException {
+    return this.read(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public TigrisCursor<ByteString> readAll() throws TigrisException {
+    return this.read(Filters.nothing(), ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public Optional<ByteString> readOne(TigrisFilter filter) throws TigrisException {
+    if (collection.isReadOneCached()) {
+      try {
+        return collection.readOneRawInternal(filter).get();
+      } catch (ExecutionException ex) {
+        if (ex.getCause() instanceof TigrisException) {
+          throw (TigrisException) ex.getCause();
+        }
+        throw new TigrisException(READ_FAILED, ex.getCause());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new TigrisException(READ_FAILED, ex);
+      }
+    }
+    try (TigrisCursor<ByteString> cursor =
+        this.read(filter, ReadFields.all(), ReadRequestOptions.READ_ONE)) {
+      if (cursor.hasNext()) {
+        return Optional.of(cursor.next());
+      }
+    } catch (StatusRuntimeException statusRuntimeException) {
+      throw new TigrisException(
+          READ_FAILED,
+          TypeConverter.extractTigrisError(statusRuntimeException),
+          statusRuntimeException);
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<RawSearchResult> search(SearchRequest request, SearchRequestOptions options)
+      throws TigrisException {
+    try (TigrisCursor<RawSearchResult> resultIterator =
+        collection.searchRawInternal(request, options)) {
+      if (resultIterator.hasNext()) {
+        return Optional.of(resultIterator.next());
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public TigrisCursor<RawSearchResult> search(SearchRequest request) throws TigrisException {
+    return collection.searchRawInternal(request, null);
+  }
+
+  @Override
+  public InsertResponse<T> insert(
+      List<ByteString> documents, InsertRequestOptions insertRequestOptions)
+      throws TigrisException {
+    return collection.insertRawInternal(documents, insertRequestOptions, null);
+  }
+
+  @Override
+  public InsertResponse<T> insert(List<ByteString> documents) throws TigrisException {
+    return this.insert(documents, InsertRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public InsertResponse<T> insert(ByteString document) throws TigrisException {
+    return this.insert(Collections.singletonList(document));
+  }
+
+  @Override
+  public InsertResponse<T> insert(byte[] document) throws TigrisException {
+    return this.insert(UnsafeByteOperations.unsafeWrap(document));
+  }
+
+  @Override
+  public InsertResponse<T> insert(ByteBuffer document) throws TigrisException {
+    return this.insert(UnsafeByteOperations.unsafeWrap(document));
+  }
+
+  @Override
+  public InsertOrReplaceResponse<T> insertOrReplace(
+      List<ByteString> documents, InsertOrReplaceRequestOptions insertOrReplaceRequestOptions)
+      throws TigrisException {
+    return collection.insertOrReplaceRawInternal(documents, insertOrReplaceRequestOptions, null);
+  }
+
+  @Override
+  public InsertOrReplaceResponse<T> insertOrReplace(List<ByteString> documents)
+      throws TigrisException {
+    return this.insertOrReplace(documents, InsertOrReplaceRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public InsertOrReplaceResponse<T> insertOrReplace(ByteString document) throws TigrisException {
+    return this.insertOrReplace(Collections.singletonList(document));
+  }
+
+  @Override
+  public InsertOrReplaceResponse<T> insertOrReplace(byte[] document) throws TigrisException {
+    return this.insertOrReplace(UnsafeByteOperations.unsafeWrap(document));
+  }
+
+  @Override
+  public InsertOrReplaceResponse<T> insertOrReplace(ByteBuffer document) throws TigrisException {
+    return this.insertOrReplace(UnsafeByteOperations.unsafeWrap(document));
+  }
+
+  @Override
+  public String name() {
+    return collection.collectionName;
+  }
+}
@@ -105,7 +105,8 @@ public class StandardTigrisAsyncClient extends AbstractTigrisClient implements T
         executor,
         objectMapper,
         modelToJsonSchema,
-        configuration);
+        configuration,
+        caches);
   }
 
   @Override
@@ -143,6 +144,7 @@ public class StandardTigrisAsyncClient extends AbstractTigrisClient implements T
     private final ObjectMapper objectMapper;
     private final ModelToJsonSchema modelToJsonSchema;
     private final TigrisConfiguration configuration;
+    private final ClientCaches caches;
 
     public CreateDatabaseExceptionHandler(
         String dbName,
@@ -153,7 +155,8 @@ public class StandardTigrisAsyncClient extends AbstractTigrisClient implements T
         ManagedChannel channel,
         ObjectMapper objectMapper,
         ModelToJsonSchema modelToJsonSchema,
-        TigrisConfiguration configuration) {
+        TigrisConfiguration configuration,
+        ClientCaches caches) {
       this.dbName = dbName;
       this.stub = stub;
       this.futureStub = futureStub;
@@ -163,6 +166,7 @@ public class StandardTigrisAsyncClient extends AbstractTigrisClient implements T
       this.objectMapper = objectMapper;
       this.modelToJsonSchema = modelToJsonSchema;
       this.configuration = configuration;
+      this.caches = caches;
     }
 
     @Override
@@ -182,7 +186,8 @@ public class StandardTigrisAsyncClient extends AbstractTigrisClient implements T
                   executor,
                   objectMapper,
                   modelToJsonSchema,
-                  configuration));
+                  configuration,
+                  caches));
           return;
         }
       }
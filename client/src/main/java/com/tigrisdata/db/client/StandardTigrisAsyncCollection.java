@@ -19,16 +19,11 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.tigrisdata.db.api.v1.grpc.Api;
 import com.tigrisdata.db.api.v1.grpc.Api.SearchResponse;
 import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
-import static com.tigrisdata.db.client.Constants.DELETE_FAILED;
 import static com.tigrisdata.db.client.Constants.DESCRIBE_COLLECTION_FAILED;
-import static com.tigrisdata.db.client.Constants.INSERT_FAILED;
-import static com.tigrisdata.db.client.Constants.INSERT_OR_REPLACE_FAILED;
 import static com.tigrisdata.db.client.Constants.JSON_SER_DE_ERROR;
 import static com.tigrisdata.db.client.Constants.READ_FAILED;
 import static com.tigrisdata.db.client.Constants.SEARCH_FAILED;
-import static com.tigrisdata.db.client.Constants.UPDATE_FAILED;
 import static com.tigrisdata.db.client.TypeConverter.extractTigrisError;
-import static com.tigrisdata.db.client.TypeConverter.readOneDefaultReadRequestOptions;
 import static com.tigrisdata.db.client.TypeConverter.toCollectionDescription;
 import static com.tigrisdata.db.client.TypeConverter.toCollectionOptions;
 import static com.tigrisdata.db.client.TypeConverter.toDeleteRequest;
@@ -43,17 +38,20 @@ import com.tigrisdata.db.client.search.SearchRequest;
 import com.tigrisdata.db.client.search.SearchRequestOptions;
 import com.tigrisdata.db.client.search.SearchResult;
 import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.Context;
 import io.grpc.ManagedChannel;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * An async implementation of Tigris Collection
@@ -64,8 +62,6 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
     extends AbstractTigrisCollection<T> implements TigrisAsyncCollection<T> {
 
   private final Executor executor;
-  private final TigrisGrpc.TigrisStub stub;
-  private final TigrisGrpc.TigrisFutureStub futureStub;
 
   StandardTigrisAsyncCollection(
       String databaseName,
@@ -73,16 +69,10 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
       ManagedChannel channel,
       Executor executor,
       ObjectMapper objectMapper,
-      TigrisConfiguration configuration) {
-    super(
-        databaseName,
-        documentCollectionTypeClass,
-        Utilities.newBlockingStub(channel, configuration),
-        objectMapper,
-        configuration);
+      TigrisConfiguration configuration,
+      ClientCaches caches) {
+    super(databaseName, documentCollectionTypeClass, channel, objectMapper, configuration, caches);
     this.executor = executor;
-    this.stub = Utilities.newStub(channel, configuration);
-    this.futureStub = Utilities.newFutureStub(channel, configuration);
   }
 
   @Override
@@ -91,44 +81,82 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
       ReadFields fields,
       ReadRequestOptions readRequestOptions,
       TigrisAsyncReader<T> reader) {
+    this.readCancellable(filter, fields, readRequestOptions, reader);
+  }
+
+  @Override
+  public TigrisReadHandle readCancellable(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TigrisAsyncReader<T> reader) {
+    if (isChunked(filter, readRequestOptions)) {
+      return chunkedScan((InFilter) filter, fields).readAsync(reader);
+    }
     Api.ReadRequest readRequest =
         toReadRequest(
             databaseName, collectionName, filter, fields, readRequestOptions, objectMapper);
-    stub.read(
-        readRequest,
-        new ReadManyResponseObserverAdapter<>(
-            reader, documentCollectionTypeClass, objectMapper, READ_FAILED));
+    return startCancellable(
+        () ->
+            stub.read(
+                readRequest,
+                new ReadManyResponseObserverAdapter<>(
+                    reader, documentCollectionTypeClass, objectMapper, READ_FAILED)));
   }
 
   @Override
   public void read(TigrisFilter filter, ReadFields fields, TigrisAsyncReader<T> reader) {
-    this.read(filter, fields, new ReadRequestOptions(), reader);
+    this.read(filter, fields, ReadRequestOptions.DEFAULT_INSTANCE, reader);
   }
 
   @Override
   public void read(TigrisFilter filter, TigrisAsyncReader<T> reader) {
-    this.read(filter, ReadFields.all(), new ReadRequestOptions(), reader);
+    this.read(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
   }
 
   @Override
   public void readAll(TigrisAsyncReader<T> reader) {
-    this.read(Filters.nothing(), ReadFields.all(), new ReadRequestOptions(), reader);
+    this.read(Filters.nothing(), ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
   }
 
   @Override
   public void readAll(ReadFields readFields, TigrisAsyncReader<T> reader) {
-    this.read(Filters.nothing(), readFields, new ReadRequestOptions(), reader);
+    this.read(Filters.nothing(), readFields, ReadRequestOptions.DEFAULT_INSTANCE, reader);
+  }
+
+  @Override
+  public TigrisReadHandle readCancellable(TigrisFilter filter, TigrisAsyncReader<T> reader) {
+    return this.readCancellable(
+        filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
   }
 
   @Override
   public CompletableFuture<Optional<T>> readOne(TigrisFilter filter) {
+    if (this.isReadOneCached()) {
+      CompletableFuture<Optional<T>> result = new CompletableFuture<>();
+      this.readOneRawInternal(filter)
+          .whenComplete(
+              (data, throwable) -> {
+                if (throwable != null) {
+                  result.completeExceptionally(throwable);
+                  return;
+                }
+                try {
+                  result.complete(data.map(this::toDocument));
+                } catch (IllegalArgumentException ex) {
+                  result.completeExceptionally(
+                      new TigrisException(JSON_SER_DE_ERROR, ex.getCause()));
+                }
+              });
+      return result;
+    }
     Api.ReadRequest readRequest =
         toReadRequest(
             databaseName,
             collectionName,
             filter,
             ReadFields.all(),
-            readOneDefaultReadRequestOptions(),
+            ReadRequestOptions.READ_ONE,
             objectMapper);
     CompletableFuture<Optional<T>> completableFuture = new CompletableFuture<>();
     stub.read(
@@ -138,14 +166,90 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
     return completableFuture;
   }
 
+  @Override
+  public TigrisReadHandle readLazy(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TigrisAsyncCallback<LazyDocument<T>> reader) {
+    Api.ReadRequest readRequest =
+        toReadRequest(
+            databaseName, collectionName, filter, fields, readRequestOptions, objectMapper);
+    return startCancellable(
+        () ->
+            stub.read(
+                readRequest,
+                new CallbackResponseObserverAdapter<>(
+                    reader, readResponse -> toLazyDocument(readResponse.getData()), READ_FAILED)));
+  }
+
+  @Override
+  public TigrisReadHandle readLazy(
+      TigrisFilter filter, TigrisAsyncCallback<LazyDocument<T>> reader) {
+    return this.readLazy(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
+  }
+
+  @Override
+  public <P> TigrisReadHandle read(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      Class<P> projectionType,
+      TigrisAsyncCallback<P> reader) {
+    Projection<P> projection = caches.projection(projectionType);
+    Api.ReadRequest readRequest =
+        toReadRequest(
+            databaseName,
+            collectionName,
+            filter,
+            projectionReadFields(projection, fields),
+            readRequestOptions,
+            objectMapper);
+    return startCancellable(
+        () ->
+            stub.read(
+                readRequest,
+                new CallbackResponseObserverAdapter<>(
+                    reader,
+                    readResponse -> {
+                      try {
+                        return projection.decode(readResponse.getData());
+                      } catch (IOException ex) {
+                        throw new IllegalArgumentException(ex);
+                      }
+                    },
+                    READ_FAILED)));
+  }
+
+  @Override
+  public <K> CompletableFuture<KeyedReadResult<K, T>> readByKeys(Collection<K> keys) {
+    return this.readByKeys(
+        caches.primaryKeyField(documentCollectionTypeClass), keys, ReadFields.all());
+  }
+
+  @Override
+  public <K> CompletableFuture<KeyedReadResult<K, T>> readByKeys(
+      String keyField, Collection<K> keys, ReadFields fields) {
+    return this.readByKeysInternal(keyField, keys, fields, executor);
+  }
+
   @Override
   public void search(
       SearchRequest request, SearchRequestOptions options, TigrisAsyncSearchReader<T> reader) {
+    this.searchCancellable(request, options, reader);
+  }
+
+  @Override
+  public TigrisReadHandle searchCancellable(
+      SearchRequest request, SearchRequestOptions options, TigrisAsyncSearchReader<T> reader) {
     Api.SearchRequest searchRequest =
         toSearchRequest(databaseName, collectionName, request, options, objectMapper);
-    stub.search(
-        searchRequest,
-        new SearchResponseObserverAdapter<>(reader, documentCollectionTypeClass, objectMapper));
+    return startCancellable(
+        () ->
+            stub.search(
+                searchRequest,
+                new SearchResponseObserverAdapter<>(
+                    reader, documentCollectionTypeClass, objectMapper)));
   }
 
   @Override
@@ -153,26 +257,64 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
     this.search(request, null, reader);
   }
 
+  @Override
+  public TigrisReadHandle searchCancellable(
+      SearchRequest request, TigrisAsyncSearchReader<T> reader) {
+    return this.searchCancellable(request, null, reader);
+  }
+
+  @Override
+  public TigrisPublisher<T> readPublisher(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions) {
+    Api.ReadRequest readRequest =
+        toReadRequest(
+            databaseName, collectionName, filter, fields, readRequestOptions, objectMapper);
+    return new StreamingPublisher<Api.ReadRequest, Api.ReadResponse, T>(
+        observer -> stub.read(readRequest, observer),
+        readResponse -> {
+          try {
+            return objectMapper.readValue(
+                readResponse.getData().newInput(), documentCollectionTypeClass);
+          } catch (IOException ex) {
+            throw new IllegalArgumentException(ex);
+          }
+        },
+        READ_FAILED);
+  }
+
+  @Override
+  public TigrisPublisher<T> readPublisher(TigrisFilter filter) {
+    return this.readPublisher(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public TigrisPublisher<SearchResult<T>> searchPublisher(
+      SearchRequest request, SearchRequestOptions options) {
+    Api.SearchRequest searchRequest =
+        toSearchRequest(databaseName, collectionName, request, options, objectMapper);
+    return new StreamingPublisher<Api.SearchRequest, Api.SearchResponse, SearchResult<T>>(
+        observer -> stub.search(searchRequest, observer),
+        searchResponse ->
+            SearchResult.from(searchResponse, objectMapper, documentCollectionTypeClass),
+        SEARCH_FAILED);
+  }
+
   @Override
   public CompletableFuture<InsertResponse<T>> insert(
       List<T> documents, InsertRequestOptions insertRequestOptions) throws TigrisException {
+    return insert(futureStub, documents, insertRequestOptions);
+  }
+
+  private CompletableFuture<InsertResponse<T>> insert(
+      TigrisGrpc.TigrisFutureStub futureStub,
+      List<T> documents,
+      InsertRequestOptions insertRequestOptions)
+      throws TigrisException {
     try {
       Api.InsertRequest insertRequest =
           toInsertRequest(
               databaseName, collectionName, documents, insertRequestOptions, objectMapper);
-      ListenableFuture<Api.InsertResponse> insertResponseListenableFuture =
-          futureStub.insert(insertRequest);
-      return Utilities.transformFuture(
-          insertResponseListenableFuture,
-          input ->
-              new InsertResponse<>(
-                  input.getStatus(),
-                  input.getMetadata().getCreatedAt(),
-                  input.getMetadata().getUpdatedAt(),
-                  TypeConverter.toArrayOfMap(input.getKeysList(), objectMapper),
-                  new ArrayList<>(documents)),
-          executor,
-          INSERT_FAILED);
+      return insertFutureInternal(futureStub, insertRequest, documents, executor);
     } catch (JsonProcessingException jsonProcessingException) {
       throw new TigrisException(JSON_SER_DE_ERROR, jsonProcessingException);
     }
@@ -180,7 +322,7 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
 
   @Override
   public CompletableFuture<InsertResponse<T>> insert(List<T> documents) throws TigrisException {
-    return this.insert(documents, new InsertRequestOptions());
+    return this.insert(documents, InsertRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
@@ -192,23 +334,19 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
   public CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
       List<T> documents, InsertOrReplaceRequestOptions insertOrReplaceRequestOptions)
       throws TigrisException {
+    return insertOrReplace(futureStub, documents, insertOrReplaceRequestOptions);
+  }
+
+  private CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
+      TigrisGrpc.TigrisFutureStub futureStub,
+      List<T> documents,
+      InsertOrReplaceRequestOptions insertOrReplaceRequestOptions)
+      throws TigrisException {
     try {
       Api.ReplaceRequest replaceRequest =
           toReplaceRequest(
               databaseName, collectionName, documents, insertOrReplaceRequestOptions, objectMapper);
-      ListenableFuture<Api.ReplaceResponse> replaceResponseListenableFuture =
-          futureStub.replace(replaceRequest);
-      return Utilities.transformFuture(
-          replaceResponseListenableFuture,
-          input ->
-              new InsertOrReplaceResponse<>(
-                  input.getStatus(),
-                  input.getMetadata().getCreatedAt(),
-                  input.getMetadata().getUpdatedAt(),
-                  TypeConverter.toArrayOfMap(input.getKeysList(), objectMapper),
-                  new ArrayList<>(documents)),
-          executor,
-          INSERT_OR_REPLACE_FAILED);
+      return insertOrReplaceFutureInternal(futureStub, replaceRequest, documents, executor);
     } catch (JsonProcessingException jsonProcessingException) {
       throw new TigrisException(JSON_SER_DE_ERROR, jsonProcessingException);
     }
@@ -217,57 +355,51 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
   @Override
   public CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(List<T> documents)
       throws TigrisException {
-    return this.insertOrReplace(documents, new InsertOrReplaceRequestOptions());
+    return this.insertOrReplace(documents, InsertOrReplaceRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public CompletableFuture<UpdateResponse> update(
       TigrisFilter filter, UpdateFields fields, UpdateRequestOptions updateRequestOptions)
       throws TigrisException {
+    return update(futureStub, filter, fields, updateRequestOptions);
+  }
+
+  private CompletableFuture<UpdateResponse> update(
+      TigrisGrpc.TigrisFutureStub futureStub,
+      TigrisFilter filter,
+      UpdateFields fields,
+      UpdateRequestOptions updateRequestOptions) {
     Api.UpdateRequest updateRequest =
         toUpdateRequest(
             databaseName, collectionName, filter, fields, updateRequestOptions, objectMapper);
-    ListenableFuture<Api.UpdateResponse> updateResponseListenableFuture =
-        futureStub.update(updateRequest);
-    return Utilities.transformFuture(
-        updateResponseListenableFuture,
-        input ->
-            new UpdateResponse(
-                input.getStatus(),
-                input.getMetadata().getCreatedAt(),
-                input.getMetadata().getUpdatedAt(),
-                input.getModifiedCount()),
-        executor,
-        UPDATE_FAILED);
+    return updateFutureInternal(futureStub, updateRequest, executor);
   }
 
   @Override
   public CompletableFuture<UpdateResponse> update(TigrisFilter filter, UpdateFields fields)
       throws TigrisException {
-    return this.update(filter, fields, new UpdateRequestOptions());
+    return this.update(filter, fields, UpdateRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public CompletableFuture<DeleteResponse> delete(
       TigrisFilter filter, DeleteRequestOptions deleteRequestOptions) {
+    return delete(futureStub, filter, deleteRequestOptions);
+  }
+
+  private CompletableFuture<DeleteResponse> delete(
+      TigrisGrpc.TigrisFutureStub futureStub,
+      TigrisFilter filter,
+      DeleteRequestOptions deleteRequestOptions) {
     Api.DeleteRequest deleteRequest =
         toDeleteRequest(databaseName, collectionName, filter, deleteRequestOptions, objectMapper);
-    ListenableFuture<Api.DeleteResponse> deleteResponseListenableFuture =
-        futureStub.delete(deleteRequest);
-    return Utilities.transformFuture(
-        deleteResponseListenableFuture,
-        response ->
-            new DeleteResponse(
-                response.getStatus(),
-                response.getMetadata().getCreatedAt(),
-                response.getMetadata().getUpdatedAt()),
-        executor,
-        DELETE_FAILED);
+    return deleteFutureInternal(futureStub, deleteRequest, executor);
   }
 
   @Override
   public CompletableFuture<DeleteResponse> delete(TigrisFilter filter) {
-    return this.delete(filter, new DeleteRequestOptions());
+    return this.delete(filter, DeleteRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
@@ -292,6 +424,11 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
         DESCRIBE_COLLECTION_FAILED);
   }
 
+  @Override
+  public RawTigrisAsyncCollection<T> raw() {
+    return new StandardRawTigrisAsyncCollection<>(this, executor);
+  }
+
   @Override
   public String name() {
     return collectionName;
@@ -309,23 +446,22 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
 
   @Override
   public Iterator<T> read(TransactionSession tx, TigrisFilter filter) throws TigrisException {
-    return this.read(tx, filter, ReadFields.all(), new ReadRequestOptions());
+    return this.read(tx, filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public Iterator<T> read(TransactionSession session, TigrisFilter filter, ReadFields fields)
       throws TigrisException {
-    return this.readInternal(filter, fields, new ReadRequestOptions(), session);
+    return this.readInternal(filter, fields, ReadRequestOptions.DEFAULT_INSTANCE, session);
   }
 
   @Override
   public Optional<T> readOne(TransactionSession session, TigrisFilter filter)
       throws TigrisException {
-    Iterator<T> iterator =
-        this.readInternal(filter, ReadFields.all(), readOneDefaultReadRequestOptions(), session);
-    try {
-      if (iterator.hasNext()) {
-        return Optional.of(iterator.next());
+    try (TigrisCursor<T> cursor =
+        this.readInternal(filter, ReadFields.all(), ReadRequestOptions.READ_ONE, session)) {
+      if (cursor.hasNext()) {
+        return Optional.of(cursor.next());
       }
     } catch (StatusRuntimeException statusRuntimeException) {
       throw new TigrisException(
@@ -346,8 +482,7 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
   @Override
   public InsertResponse<T> insert(TransactionSession session, List<T> documents)
       throws TigrisException {
-    return insertInternal(
-        documents, new InsertRequestOptions(WriteOptions.DEFAULT_INSTANCE), session);
+    return insertInternal(documents, InsertRequestOptions.DEFAULT_INSTANCE, session);
   }
 
   @Override
@@ -367,7 +502,7 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
   @Override
   public InsertOrReplaceResponse<T> insertOrReplace(TransactionSession session, List<T> documents)
       throws TigrisException {
-    return this.insertOrReplace(session, documents, new InsertOrReplaceRequestOptions());
+    return this.insertOrReplace(session, documents, InsertOrReplaceRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
@@ -384,7 +519,8 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
   public UpdateResponse update(
       TransactionSession session, TigrisFilter filter, UpdateFields updateFields)
       throws TigrisException {
-    return this.updateInternal(filter, updateFields, new UpdateRequestOptions(), session);
+    return this.updateInternal(
+        filter, updateFields, UpdateRequestOptions.DEFAULT_INSTANCE, session);
   }
 
   @Override
@@ -397,8 +533,134 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
   @Override
   public DeleteResponse delete(TransactionSession session, TigrisFilter filter)
       throws TigrisException {
-    return this.deleteInternal(
-        filter, new DeleteRequestOptions(WriteOptions.DEFAULT_INSTANCE), session);
+    return this.deleteInternal(filter, DeleteRequestOptions.DEFAULT_INSTANCE, session);
+  }
+
+  @Override
+  public TigrisReadHandle read(
+      AsyncTransactionSession tx,
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TigrisAsyncReader<T> reader) {
+    Api.ReadRequest readRequest =
+        toReadRequest(
+            databaseName, collectionName, filter, fields, readRequestOptions, objectMapper);
+    TigrisGrpc.TigrisStub transactionStub = session(tx).transactional(stub);
+    return startCancellable(
+        () ->
+            transactionStub.read(
+                readRequest,
+                new ReadManyResponseObserverAdapter<>(
+                    reader, documentCollectionTypeClass, objectMapper, READ_FAILED)));
+  }
+
+  @Override
+  public TigrisReadHandle read(
+      AsyncTransactionSession tx, TigrisFilter filter, TigrisAsyncReader<T> reader) {
+    return this.read(tx, filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
+  }
+
+  @Override
+  public CompletableFuture<Optional<T>> readOne(AsyncTransactionSession tx, TigrisFilter filter) {
+    Api.ReadRequest readRequest =
+        toReadRequest(
+            databaseName,
+            collectionName,
+            filter,
+            ReadFields.all(),
+            ReadRequestOptions.READ_ONE,
+            objectMapper);
+    CompletableFuture<Optional<T>> completableFuture = new CompletableFuture<>();
+    session(tx)
+        .transactional(stub)
+        .read(
+            readRequest,
+            new ReadSingleResponseObserverAdapter<>(
+                completableFuture, documentCollectionTypeClass, objectMapper, READ_FAILED));
+    return completableFuture;
+  }
+
+  @Override
+  public CompletableFuture<InsertResponse<T>> insert(
+      AsyncTransactionSession tx, List<T> documents, InsertRequestOptions insertRequestOptions) {
+    try {
+      return insert(session(tx).transactional(futureStub), documents, insertRequestOptions);
+    } catch (TigrisException tigrisException) {
+      return failedFuture(tigrisException);
+    }
+  }
+
+  @Override
+  public CompletableFuture<InsertResponse<T>> insert(
+      AsyncTransactionSession tx, List<T> documents) {
+    return this.insert(tx, documents, InsertRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public CompletableFuture<InsertResponse<T>> insert(AsyncTransactionSession tx, T document) {
+    return this.insert(tx, Collections.singletonList(document));
+  }
+
+  @Override
+  public CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
+      AsyncTransactionSession tx,
+      List<T> documents,
+      InsertOrReplaceRequestOptions insertOrReplaceRequestOptions) {
+    try {
+      return insertOrReplace(
+          session(tx).transactional(futureStub), documents, insertOrReplaceRequestOptions);
+    } catch (TigrisException tigrisException) {
+      return failedFuture(tigrisException);
+    }
+  }
+
+  @Override
+  public CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
+      AsyncTransactionSession tx, List<T> documents) {
+    return this.insertOrReplace(tx, documents, InsertOrReplaceRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public CompletableFuture<UpdateResponse> update(
+      AsyncTransactionSession tx,
+      TigrisFilter filter,
+      UpdateFields updateFields,
+      UpdateRequestOptions updateRequestOptions) {
+    return update(
+        session(tx).transactional(futureStub), filter, updateFields, updateRequestOptions);
+  }
+
+  @Override
+  public CompletableFuture<UpdateResponse> update(
+      AsyncTransactionSession tx, TigrisFilter filter, UpdateFields updateFields) {
+    return this.update(tx, filter, updateFields, UpdateRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public CompletableFuture<DeleteResponse> delete(
+      AsyncTransactionSession tx, TigrisFilter filter, DeleteRequestOptions deleteRequestOptions) {
+    return delete(session(tx).transactional(futureStub), filter, deleteRequestOptions);
+  }
+
+  @Override
+  public CompletableFuture<DeleteResponse> delete(AsyncTransactionSession tx, TigrisFilter filter) {
+    return this.delete(tx, filter, DeleteRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  private static StandardTransactionSession session(AsyncTransactionSession tx) {
+    if (tx instanceof BlockingAsyncTransactionSession) {
+      // begun by a database that wraps this client's blocking sessions, see
+      // TigrisAsyncDatabase#beginAsyncTransaction
+      return (StandardTransactionSession) ((BlockingAsyncTransactionSession) tx).getSession();
+    }
+    return ((StandardAsyncTransactionSession) tx).getSession();
+  }
+
+  private static <R> CompletableFuture<R> failedFuture(Throwable throwable) {
+    CompletableFuture<R> result = new CompletableFuture<>();
+    result.completeExceptionally(throwable);
+    return result;
   }
 
   static class ReadManyResponseObserverAdapter<T extends TigrisCollectionType>
@@ -536,4 +798,56 @@ class StandardTigrisAsyncCollection<T extends TigrisCollectionType>
       reader.onCompleted();
     }
   }
+
+  /** Starts a streaming call within its own cancellable context */
+  private static TigrisReadHandle startCancellable(Runnable call) {
+    Context.CancellableContext context = Context.current().withCancellation();
+    context.run(call);
+    return () -> context.cancel(null);
+  }
+
+  static TigrisException toTigrisException(String errorMessage, Throwable throwable) {
+    if (throwable instanceof StatusRuntimeException) {
+      return new TigrisException(
+          errorMessage, extractTigrisError((StatusRuntimeException) throwable), throwable);
+    }
+    return new TigrisException(errorMessage, throwable);
+  }
+
+  /** Forwards converted server messages to a user callback */
+  static class CallbackResponseObserverAdapter<F, T> implements StreamObserver<F> {
+
+    private final TigrisAsyncCallback<T> callback;
+    private final Function<F, T> converter;
+    private final String errorMessage;
+
+    CallbackResponseObserverAdapter(
+        TigrisAsyncCallback<T> callback, Function<F, T> converter, String errorMessage) {
+      this.callback = callback;
+      this.converter = converter;
+      this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public void onNext(F message) {
+      T converted;
+      try {
+        converted = converter.apply(message);
+      } catch (IllegalArgumentException ex) {
+        callback.onError(new TigrisException(JSON_SER_DE_ERROR, ex.getCause()));
+        return;
+      }
+      callback.onNext(converted);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      callback.onError(toTigrisException(errorMessage, throwable));
+    }
+
+    @Override
+    public void onCompleted() {
+      callback.onCompleted();
+    }
+  }
 }
@@ -41,6 +41,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -52,6 +53,7 @@ class StandardTigrisAsyncDatabase extends AbstractTigrisDatabase implements Tigr
   private final ObjectMapper objectMapper;
   private final ModelToJsonSchema modelToJsonSchema;
   private final TigrisConfiguration configuration;
+  private final ClientCaches caches;
 
   StandardTigrisAsyncDatabase(
       String databaseName,
@@ -61,13 +63,15 @@ class StandardTigrisAsyncDatabase extends AbstractTigrisDatabase implements Tigr
       Executor executor,
       ObjectMapper objectMapper,
       ModelToJsonSchema modelToJsonSchema,
-      TigrisConfiguration configuration) {
+      TigrisConfiguration configuration,
+      ClientCaches caches) {
     super(databaseName, blockingStub, configuration);
     this.futureStub = futureStub;
     this.channel = channel;
     this.executor = executor;
     this.objectMapper = objectMapper;
     this.modelToJsonSchema = modelToJsonSchema;
+    this.caches = caches;
     this.configuration = configuration;
   }
 
@@ -151,12 +155,24 @@ class StandardTigrisAsyncDatabase extends AbstractTigrisDatabase implements Tigr
   public <C extends TigrisCollectionType> TigrisAsyncCollection<C> getCollection(
       Class<C> documentCollectionTypeClass) {
     return new StandardTigrisAsyncCollection<>(
-        db, documentCollectionTypeClass, channel, executor, objectMapper, configuration);
+        db, documentCollectionTypeClass, channel, executor, objectMapper, configuration, caches);
   }
 
   @Override
   public CompletableFuture<TransactionSession> beginTransaction(
       TransactionOptions transactionOptions) {
+    return beginSession(transactionOptions, session -> session);
+  }
+
+  @Override
+  public CompletableFuture<AsyncTransactionSession> beginAsyncTransaction(
+      TransactionOptions transactionOptions) {
+    return beginSession(
+        transactionOptions, session -> new StandardAsyncTransactionSession(session, executor));
+  }
+
+  private <S> CompletableFuture<S> beginSession(
+      TransactionOptions transactionOptions, Function<StandardTransactionSession, S> wrapper) {
     AtomicReference<Metadata> headersCapturer = new AtomicReference<>();
     AtomicReference<Metadata> trailersCapturer = new AtomicReference<>();
 
@@ -171,8 +187,14 @@ class StandardTigrisAsyncDatabase extends AbstractTigrisDatabase implements Tigr
     return Utilities.transformFuture(
         beginTransactionResponseListenableFuture,
         response ->
-            new StandardTransactionSession(
-                db, response.getTxCtx(), channel, configuration, getCookie(headersCapturer.get())),
+            wrapper.apply(
+                new StandardTransactionSession(
+                    db,
+                    response.getTxCtx(),
+                    channel,
+                    configuration,
+                    getCookie(headersCapturer.get()),
+                    caches)),
         executor,
         BEGIN_TRANSACTION_FAILED);
   }
@@ -65,7 +65,9 @@ public class StandardTigrisClient extends AbstractTigrisClient implements Tigris
         channel,
         objectMapper,
         modelToJsonSchema,
-        configuration);
+        configuration,
+        caches,
+        transactionRetryMetrics);
   }
 
   @Override
@@ -20,18 +20,22 @@ import static com.tigrisdata.db.client.TypeConverter.toCollectionOptions;
 import com.tigrisdata.db.client.config.TigrisConfiguration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.tigrisdata.db.api.v1.grpc.Api;
-import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
 import com.tigrisdata.db.client.error.TigrisException;
 import com.tigrisdata.db.client.search.SearchRequest;
 import com.tigrisdata.db.client.search.SearchRequestOptions;
 import com.tigrisdata.db.client.search.SearchResult;
 import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.ManagedChannel;
 import io.grpc.StatusRuntimeException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
 /** Tigris collection implementation */
 class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractTigrisCollection<T>
@@ -40,10 +44,11 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
   StandardTigrisCollection(
       String databaseName,
       Class<T> documentCollectionTypeClass,
-      TigrisGrpc.TigrisBlockingStub stub,
+      ManagedChannel channel,
       ObjectMapper objectMapper,
-      TigrisConfiguration configuration) {
-    super(databaseName, documentCollectionTypeClass, stub, objectMapper, configuration);
+      TigrisConfiguration configuration,
+      ClientCaches caches) {
+    super(databaseName, documentCollectionTypeClass, channel, objectMapper, configuration, caches);
   }
 
   @Override
@@ -61,7 +66,7 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
 
   @Override
   public Iterator<T> read(TigrisFilter filter) throws TigrisException {
-    return this.read(filter, ReadFields.all(), new ReadRequestOptions());
+    return this.read(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
@@ -76,28 +81,28 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
 
   @Override
   public Iterator<T> read(TransactionSession tx, TigrisFilter filter) throws TigrisException {
-    return this.read(tx, filter, ReadFields.all(), new ReadRequestOptions());
+    return this.read(tx, filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public Iterator<T> read(TigrisFilter filter, ReadFields fields) throws TigrisException {
-    return this.read(filter, fields, new ReadRequestOptions());
+    return this.read(filter, fields, ReadRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public Iterator<T> read(TransactionSession session, TigrisFilter filter, ReadFields fields)
       throws TigrisException {
-    return this.read(session, filter, fields, new ReadRequestOptions());
+    return this.read(session, filter, fields, ReadRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public Iterator<T> readAll() throws TigrisException {
-    return this.read(Filters.nothing(), ReadFields.all(), new ReadRequestOptions());
+    return this.read(Filters.nothing(), ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public Iterator<T> readAll(ReadFields readFields) throws TigrisException {
-    return this.read(Filters.nothing(), readFields, new ReadRequestOptions());
+    return this.read(Filters.nothing(), readFields, ReadRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
@@ -108,10 +113,94 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
   @Override
   public Optional<T> readOne(TransactionSession session, TigrisFilter filter)
       throws TigrisException {
-    Iterator<T> iterator = this.read(session, filter);
-    try {
-      if (iterator.hasNext()) {
-        return Optional.of(iterator.next());
+    if (session == null && this.isReadOneCached()) {
+      try {
+        return this.readOneRawInternal(filter).get().map(this::toDocument);
+      } catch (ExecutionException ex) {
+        if (ex.getCause() instanceof TigrisException) {
+          throw (TigrisException) ex.getCause();
+        }
+        throw new TigrisException(READ_FAILED, ex.getCause());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new TigrisException(READ_FAILED, ex);
+      }
+    }
+    // a single document is read and the stream is closed rather than left running
+    try (TigrisCursor<T> cursor =
+        this.readInternal(filter, ReadFields.all(), ReadRequestOptions.READ_ONE, session)) {
+      if (cursor.hasNext()) {
+        return Optional.of(cursor.next());
+      }
+    } catch (StatusRuntimeException statusRuntimeException) {
+      throw new TigrisException(
+          READ_FAILED,
+          TypeConverter.extractTigrisError(statusRuntimeException),
+          statusRuntimeException);
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public TigrisCursor<T> cursor(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions)
+      throws TigrisException {
+    return this.readInternal(filter, fields, readRequestOptions, null);
+  }
+
+  @Override
+  public TigrisCursor<T> cursor(TigrisFilter filter) throws TigrisException {
+    return this.cursor(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public TigrisCursor<T> cursor(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      PrefetchOptions prefetchOptions)
+      throws TigrisException {
+    return new PrefetchingCursor<>(
+        this.readRawInternal(filter, fields, readRequestOptions, null),
+        this::toDocument,
+        prefetchOptions);
+  }
+
+  @Override
+  public Iterator<LazyDocument<T>> readLazy(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions)
+      throws TigrisException {
+    return this.readLazyInternal(filter, fields, readRequestOptions, null);
+  }
+
+  @Override
+  public Iterator<LazyDocument<T>> readLazy(TigrisFilter filter) throws TigrisException {
+    return this.readLazy(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  @Override
+  public <P> Iterator<P> read(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      Class<P> projectionType)
+      throws TigrisException {
+    return this.readProjectionInternal(filter, fields, readRequestOptions, projectionType, null);
+  }
+
+  @Override
+  public <P> Iterator<P> read(TigrisFilter filter, Class<P> projectionType) throws TigrisException {
+    return this.read(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, projectionType);
+  }
+
+  @Override
+  public <P> Optional<P> readOne(TigrisFilter filter, Class<P> projectionType)
+      throws TigrisException {
+    try (TigrisCursor<P> cursor =
+        this.readProjectionInternal(
+            filter, ReadFields.all(), ReadRequestOptions.READ_ONE, projectionType, null)) {
+      if (cursor.hasNext()) {
+        return Optional.of(cursor.next());
       }
     } catch (StatusRuntimeException statusRuntimeException) {
       throw new TigrisException(
@@ -122,12 +211,35 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
     return Optional.empty();
   }
 
+  @Override
+  public <K> KeyedReadResult<K, T> readByKeys(Collection<K> keys) throws TigrisException {
+    return this.readByKeys(
+        caches.primaryKeyField(documentCollectionTypeClass), keys, ReadFields.all());
+  }
+
+  @Override
+  public <K> KeyedReadResult<K, T> readByKeys(
+      String keyField, Collection<K> keys, ReadFields fields) throws TigrisException {
+    try {
+      return this.readByKeysInternal(keyField, keys, fields, MoreExecutors.directExecutor()).get();
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof TigrisException) {
+        throw (TigrisException) ex.getCause();
+      }
+      throw new TigrisException(READ_FAILED, ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new TigrisException(READ_FAILED, ex);
+    }
+  }
+
   @Override
   public Optional<SearchResult<T>> search(SearchRequest request, SearchRequestOptions options)
       throws TigrisException {
-    Iterator<SearchResult<T>> resultIterator = this.searchInternal(request, options);
-    if (resultIterator.hasNext()) {
-      return Optional.of(resultIterator.next());
+    try (TigrisCursor<SearchResult<T>> resultIterator = this.searchInternal(request, options)) {
+      if (resultIterator.hasNext()) {
+        return Optional.of(resultIterator.next());
+      }
     }
     return Optional.empty();
   }
@@ -137,6 +249,12 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
     return this.searchInternal(request, null);
   }
 
+  @Override
+  public Stream<SearchResult<T>> searchStream(SearchRequest request, SearchRequestOptions options)
+      throws TigrisException {
+    return this.searchInternal(request, options).stream();
+  }
+
   @Override
   public InsertResponse<T> insert(List<T> documents, InsertRequestOptions insertRequestOptions)
       throws TigrisException {
@@ -152,13 +270,13 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
 
   @Override
   public InsertResponse<T> insert(List<T> documents) throws TigrisException {
-    return this.insert(documents, new InsertRequestOptions(WriteOptions.DEFAULT_INSTANCE));
+    return this.insert(documents, InsertRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public InsertResponse<T> insert(TransactionSession session, List<T> documents)
       throws TigrisException {
-    return this.insert(session, documents, new InsertRequestOptions(WriteOptions.DEFAULT_INSTANCE));
+    return this.insert(session, documents, InsertRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
@@ -189,13 +307,13 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
 
   @Override
   public InsertOrReplaceResponse<T> insertOrReplace(List<T> documents) throws TigrisException {
-    return this.insertOrReplace(documents, new InsertOrReplaceRequestOptions());
+    return this.insertOrReplace(documents, InsertOrReplaceRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public InsertOrReplaceResponse<T> insertOrReplace(TransactionSession session, List<T> documents)
       throws TigrisException {
-    return this.insertOrReplace(session, documents, new InsertOrReplaceRequestOptions());
+    return this.insertOrReplace(session, documents, InsertOrReplaceRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
@@ -218,14 +336,14 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
   @Override
   public UpdateResponse update(TigrisFilter filter, UpdateFields updateFields)
       throws TigrisException {
-    return update(filter, updateFields, new UpdateRequestOptions());
+    return update(filter, updateFields, UpdateRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public UpdateResponse update(
       TransactionSession session, TigrisFilter filter, UpdateFields updateFields)
       throws TigrisException {
-    return this.update(session, filter, updateFields, new UpdateRequestOptions());
+    return this.update(session, filter, updateFields, UpdateRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
@@ -243,13 +361,13 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
 
   @Override
   public DeleteResponse delete(TigrisFilter filter) throws TigrisException {
-    return this.delete(filter, new DeleteRequestOptions(WriteOptions.DEFAULT_INSTANCE));
+    return this.delete(filter, DeleteRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
   public DeleteResponse delete(TransactionSession session, TigrisFilter filter)
       throws TigrisException {
-    return this.delete(session, filter, new DeleteRequestOptions(WriteOptions.DEFAULT_INSTANCE));
+    return this.delete(session, filter, DeleteRequestOptions.DEFAULT_INSTANCE);
   }
 
   @Override
@@ -270,6 +388,11 @@ class StandardTigrisCollection<T extends TigrisCollectionType> extends AbstractT
     }
   }
 
+  @Override
+  public RawTigrisCollection<T> raw() {
+    return new StandardRawTigrisCollection<>(this);
+  }
+
   @Override
   public String name() {
     return collectionName;
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import io.grpc.Context;
+import io.grpc.StatusRuntimeException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * {@link TigrisCursor} over a blocking server streaming call started within a cancellable gRPC
+ * context. Closing the cursor cancels the context and therefore the call.
+ *
+ * @param <F> response type of the call
+ * @param <T> type of the items
+ */
+final class StandardTigrisCursor<F, T> implements TigrisCursor<T> {
+  private final Iterator<F> source;
+  private final Function<F, T> converter;
+  private final Context.CancellableContext context;
+  private volatile boolean closed;
+
+  StandardTigrisCursor(
+      Iterator<F> source, Function<F, T> converter, Context.CancellableContext context) {
+    this.source = source;
+    this.converter = converter;
+    this.context = context;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    try {
+      if (source.hasNext()) {
+        return true;
+      }
+    } catch (StatusRuntimeException statusRuntimeException) {
+      if (closed) {
+        // cancelled by close() from another thread
+        return false;
+      }
+      close();
+      throw statusRuntimeException;
+    }
+    // exhausted, release the context
+    close();
+    return false;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return converter.apply(source.next());
+  }
+
+  /**
+   * Applies a conversion to the items, the returned cursor shares the server call with this one
+   *
+   * @param mapper conversion of the items
+   * @param <R> type of the converted items
+   * @return converted cursor
+   */
+  <R> StandardTigrisCursor<F, R> map(Function<T, R> mapper) {
+    return new StandardTigrisCursor<>(source, converter.andThen(mapper), context);
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      context.cancel(null);
+    }
+  }
+}
@@ -46,6 +46,8 @@ class StandardTigrisDatabase extends AbstractTigrisDatabase implements TigrisDat
   private final ManagedChannel managedChannel;
   private final ObjectMapper objectMapper;
   private final ModelToJsonSchema modelToJsonSchema;
+  private final ClientCaches caches;
+  private final TransactionRetryMetrics transactionRetryMetrics;
 
   StandardTigrisDatabase(
       String dbName,
@@ -53,11 +55,15 @@ class StandardTigrisDatabase extends AbstractTigrisDatabase implements TigrisDat
       ManagedChannel managedChannel,
       ObjectMapper objectMapper,
       ModelToJsonSchema modelToJsonSchema,
-      TigrisConfiguration configuration) {
+      TigrisConfiguration configuration,
+      ClientCaches caches,
+      TransactionRetryMetrics transactionRetryMetrics) {
     super(dbName, blockingStub, configuration);
     this.managedChannel = managedChannel;
     this.objectMapper = objectMapper;
     this.modelToJsonSchema = modelToJsonSchema;
+    this.caches = caches;
+    this.transactionRetryMetrics = transactionRetryMetrics;
   }
 
   @Override
@@ -88,7 +94,7 @@ class StandardTigrisDatabase extends AbstractTigrisDatabase implements TigrisDat
   public <C extends TigrisCollectionType> TigrisCollection<C> getCollection(
       Class<C> documentCollectionTypeClass) {
     return new StandardTigrisCollection<>(
-        db, documentCollectionTypeClass, blockingStub, objectMapper, configuration);
+        db, documentCollectionTypeClass, managedChannel, objectMapper, configuration, caches);
   }
 
   @Override
@@ -114,7 +120,8 @@ class StandardTigrisDatabase extends AbstractTigrisDatabase implements TigrisDat
           transactionCtx,
           managedChannel,
           configuration,
-          TypeConverter.getCookie(headersCapturer.get()));
+          TypeConverter.getCookie(headersCapturer.get()),
+          caches);
     } catch (StatusRuntimeException statusRuntimeException) {
       throw new TigrisException(
           BEGIN_TRANSACTION_FAILED,
@@ -210,15 +217,39 @@ class StandardTigrisDatabase extends AbstractTigrisDatabase implements TigrisDat
       sessionConsumer.accept(session);
       session.commit();
     } catch (StatusRuntimeException statusRuntimeException) {
-      session.rollback();
-      throw new TigrisException(
-          TRANSACTION_FAILED,
-          TypeConverter.extractTigrisError(statusRuntimeException),
-          statusRuntimeException);
+      throw rollback(
+          session,
+          new TigrisException(
+              TRANSACTION_FAILED,
+              TypeConverter.extractTigrisError(statusRuntimeException),
+              statusRuntimeException));
     } catch (Throwable ex) {
+      throw rollback(session, new TigrisException(TRANSACTION_FAILED, ex));
+    }
+  }
+
+  @Override
+  public void transact(
+      Consumer<TransactionSession> sessionConsumer, TransactionRetryPolicy retryPolicy)
+      throws TigrisException {
+    retryPolicy.run(() -> transact(sessionConsumer), transactionRetryMetrics);
+  }
+
+  /**
+   * Rolls back a failed transaction. A conflicting transaction may already be rolled back by the
+   * server, so a failing rollback must not hide the failure of the transaction.
+   *
+   * @param session failed transaction
+   * @param failure failure of the transaction
+   * @return the failure, with the rollback failure suppressed
+   */
+  private static TigrisException rollback(TransactionSession session, TigrisException failure) {
+    try {
       session.rollback();
-      throw new TigrisException(TRANSACTION_FAILED, ex);
+    } catch (TigrisException rollbackException) {
+      failure.addSuppressed(rollbackException);
     }
+    return failure;
   }
 
   @Override
@@ -17,40 +17,77 @@ import com.tigrisdata.db.api.v1.grpc.Api;
 import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
 import com.tigrisdata.db.client.config.TigrisConfiguration;
 import com.tigrisdata.db.client.error.TigrisException;
+import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.AbstractStub;
 import io.grpc.stub.MetadataUtils;
 
-/** Transactional session implementation */
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Transactional session implementation.
+ *
+ * <p>The transaction headers are prepared once and the stubs carrying them are cached per session,
+ * operations of the transaction reuse them instead of intercepting the stub on every call.
+ */
 class StandardTransactionSession implements TransactionSession {
+  private static final Metadata.Key<String> ORIGIN_KEY =
+      Metadata.Key.of(Constants.TRANSACTION_HEADER_ORIGIN_KEY, Metadata.ASCII_STRING_MARSHALLER);
+  private static final Metadata.Key<String> ID_KEY =
+      Metadata.Key.of(Constants.TRANSACTION_HEADER_ID_KEY, Metadata.ASCII_STRING_MARSHALLER);
+
   private final Api.TransactionCtx transactionCtx;
   private final String databaseName;
-  private final TigrisGrpc.TigrisBlockingStub stub;
   private final String cookie;
-  private static final String COOKIE_HEADER = "set-cookie";
+  private final ClientInterceptor headersInterceptor;
+  // stubs of the collections and databases used in this session, keyed by identity
+  private final ConcurrentMap<AbstractStub<?>, AbstractStub<?>> stubs = new ConcurrentHashMap<>();
+  private final TigrisGrpc.TigrisBlockingStub stub;
+  private final TigrisGrpc.TigrisFutureStub futureStub;
 
   StandardTransactionSession(
       String databaseName,
       Api.TransactionCtx transactionCtx,
       ManagedChannel managedChannel,
       TigrisConfiguration configuration,
-      String cookie) {
+      String cookie,
+      ClientCaches caches) {
     this.databaseName = databaseName;
     this.transactionCtx = transactionCtx;
     this.cookie = cookie;
     // prepare headers
     Metadata transactionHeaders = new Metadata();
-    transactionHeaders.put(
-        Metadata.Key.of(Constants.TRANSACTION_HEADER_ORIGIN_KEY, Metadata.ASCII_STRING_MARSHALLER),
-        transactionCtx.getOrigin());
-    transactionHeaders.put(
-        Metadata.Key.of(Constants.TRANSACTION_HEADER_ID_KEY, Metadata.ASCII_STRING_MARSHALLER),
-        transactionCtx.getId());
-    // attach headers
+    transactionHeaders.put(ORIGIN_KEY, transactionCtx.getOrigin());
+    transactionHeaders.put(ID_KEY, transactionCtx.getId());
+    if (cookie != null && !cookie.isEmpty()) {
+      transactionHeaders.put(TypeConverter.OUTBOUND_COOKIE_KEY, cookie);
+    }
+    this.headersInterceptor = MetadataUtils.newAttachHeadersInterceptor(transactionHeaders);
+    TigrisGrpc.TigrisBlockingStub sessionStub =
+        Utilities.newBlockingStub(managedChannel, configuration);
+    TigrisGrpc.TigrisFutureStub sessionFutureStub =
+        Utilities.newFutureStub(managedChannel, configuration);
+    ClientInterceptor invalidation = caches.commitInterceptor();
     this.stub =
-        Utilities.newBlockingStub(managedChannel, configuration)
-            .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(transactionHeaders));
+        transactional(
+            invalidation == null ? sessionStub : sessionStub.withInterceptors(invalidation));
+    this.futureStub =
+        transactional(
+            invalidation == null
+                ? sessionFutureStub
+                : sessionFutureStub.withInterceptors(invalidation));
+  }
+
+  /**
+   * @param stub blocking, future or async stub
+   * @return the stub attaching the headers of this transaction, created once per stub
+   */
+  @SuppressWarnings("unchecked")
+  <S extends AbstractStub<S>> S transactional(S stub) {
+    return (S) stubs.computeIfAbsent(stub, ignored -> stub.withInterceptors(headersInterceptor));
   }
 
   @Override
@@ -58,9 +95,7 @@ class StandardTransactionSession implements TransactionSession {
     try {
       Api.CommitTransactionRequest commitTransactionRequest =
           Api.CommitTransactionRequest.newBuilder().setProject(databaseName).build();
-      Api.CommitTransactionResponse response =
-          TypeConverter.transactionAwareStub(stub, this)
-              .commitTransaction(commitTransactionRequest);
+      Api.CommitTransactionResponse response = stub.commitTransaction(commitTransactionRequest);
       return new CommitTransactionResponse(response.getStatus());
     } catch (StatusRuntimeException statusRuntimeException) {
       throw new TigrisException(
@@ -76,8 +111,7 @@ class StandardTransactionSession implements TransactionSession {
       Api.RollbackTransactionRequest rollbackTransactionRequest =
           Api.RollbackTransactionRequest.newBuilder().setProject(databaseName).build();
       Api.RollbackTransactionResponse response =
-          TypeConverter.transactionAwareStub(stub, this)
-              .rollbackTransaction(rollbackTransactionRequest);
+          stub.rollbackTransaction(rollbackTransactionRequest);
       return new RollbackTransactionResponse(response.getStatus());
     } catch (StatusRuntimeException statusRuntimeException) {
       throw new TigrisException(
@@ -87,6 +121,15 @@ class StandardTransactionSession implements TransactionSession {
     }
   }
 
+  /** @return future stub to commit or roll back this transaction with */
+  TigrisGrpc.TigrisFutureStub getFutureStub() {
+    return futureStub;
+  }
+
+  String getDatabaseName() {
+    return databaseName;
+  }
+
   Api.TransactionCtx getTransactionCtx() {
     return transactionCtx;
   }
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import static com.tigrisdata.db.client.Constants.JSON_SER_DE_ERROR;
+
+import com.tigrisdata.db.client.error.TigrisException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link TigrisPublisher} over a server streaming call. Automatic inbound flow control of the call
+ * is disabled and subscriber demand is passed on as transport requests, so a slow subscriber
+ * throttles the server instead of buffering messages in the client.
+ *
+ * @param <R> request type of the call
+ * @param <F> response type of the call
+ * @param <T> type of the published items
+ */
+final class StreamingPublisher<R, F, T> implements TigrisPublisher<T> {
+  private final Consumer<StreamObserver<F>> callStarter;
+  private final Function<F, T> converter;
+  private final String errorMessage;
+
+  /**
+   * @param callStarter starts the call with the given response observer
+   * @param converter converts responses to items, throws {@link IllegalArgumentException} when the
+   *     response cannot be converted
+   * @param errorMessage error message for failures of the call
+   */
+  StreamingPublisher(
+      Consumer<StreamObserver<F>> callStarter, Function<F, T> converter, String errorMessage) {
+    this.callStarter = callStarter;
+    this.converter = converter;
+    this.errorMessage = errorMessage;
+  }
+
+  @Override
+  public void subscribe(TigrisSubscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber);
+    StreamingSubscription subscription = new StreamingSubscription(subscriber);
+    // the subscriber is attached before the call starts, no signal can race onSubscribe
+    subscriber.onSubscribe(subscription);
+    if (!subscription.isDone()) {
+      callStarter.accept(subscription);
+      subscription.started();
+    }
+  }
+
+  private final class StreamingSubscription
+      implements TigrisSubscription, ClientResponseObserver<R, F> {
+    private final TigrisSubscriber<? super T> subscriber;
+    private final Object lock = new Object();
+    private ClientCallStreamObserver<R> call;
+    private boolean started;
+    // demand not yet passed on to the transport
+    private long pending;
+    // demand passed on to the transport but not yet delivered
+    private long outstanding;
+    private volatile boolean done;
+
+    private StreamingSubscription(TigrisSubscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<R> requestStream) {
+      this.call = requestStream;
+      requestStream.disableAutoRequestWithInitial(0);
+    }
+
+    void started() {
+      boolean cancelled;
+      synchronized (lock) {
+        started = true;
+        cancelled = done;
+      }
+      if (cancelled) {
+        // cancelled while the call was starting
+        call.cancel("Subscription cancelled", null);
+      } else {
+        drain();
+      }
+    }
+
+    boolean isDone() {
+      return done;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        if (terminate()) {
+          cancelCall();
+          subscriber.onError(
+              new IllegalArgumentException("Requested number of items must be positive: " + n));
+        }
+        return;
+      }
+      synchronized (lock) {
+        pending = pending + n < 0 ? Long.MAX_VALUE : pending + n;
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      if (terminate()) {
+        cancelCall();
+      }
+    }
+
+    @Override
+    public void onNext(F message) {
+      if (done) {
+        return;
+      }
+      synchronized (lock) {
+        outstanding--;
+      }
+      T item;
+      try {
+        item = converter.apply(message);
+      } catch (IllegalArgumentException ex) {
+        if (terminate()) {
+          cancelCall();
+          subscriber.onError(new TigrisException(JSON_SER_DE_ERROR, ex));
+        }
+        return;
+      }
+      subscriber.onNext(item);
+      drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      if (terminate()) {
+        subscriber.onError(
+            StandardTigrisAsyncCollection.toTigrisException(errorMessage, throwable));
+      }
+    }
+
+    @Override
+    public void onCompleted() {
+      if (terminate()) {
+        subscriber.onComplete();
+      }
+    }
+
+    private void cancelCall() {
+      boolean cancelCall;
+      synchronized (lock) {
+        cancelCall = started;
+      }
+      // when not started yet the call is cancelled by started()
+      if (cancelCall) {
+        call.cancel("Subscription cancelled", null);
+      }
+    }
+
+    private boolean terminate() {
+      synchronized (lock) {
+        if (done) {
+          return false;
+        }
+        done = true;
+        return true;
+      }
+    }
+
+    // passes pending demand on to the transport, which accepts at most Integer.MAX_VALUE at a time
+    private void drain() {
+      int toRequest;
+      synchronized (lock) {
+        if (!started || done) {
+          return;
+        }
+        toRequest = (int) Math.min(pending, Integer.MAX_VALUE - outstanding);
+        pending -= toRequest;
+        outstanding += toRequest;
+      }
+      if (toRequest > 0) {
+        call.request(toRequest);
+      }
+    }
+  }
+}
@@ -14,6 +14,7 @@
 package com.tigrisdata.db.client;
 
 import java.io.Closeable;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /** Tigris async client */
@@ -28,4 +29,12 @@ public interface TigrisAsyncClient extends Closeable {
 
   /** @return future to the server metadata */
   CompletableFuture<ServerMetadata> getServerMetadata();
+
+  /**
+   * @return near cache statistics, empty when the near cache is not enabled
+   * @see com.tigrisdata.db.client.config.TigrisConfiguration.Builder#withNearCache
+   */
+  default Optional<NearCacheStats> getNearCacheStats() {
+    return Optional.empty();
+  }
 }
@@ -16,7 +16,9 @@ package com.tigrisdata.db.client;
 import com.tigrisdata.db.client.error.TigrisException;
 import com.tigrisdata.db.client.search.SearchRequest;
 import com.tigrisdata.db.client.search.SearchRequestOptions;
+import com.tigrisdata.db.client.search.SearchResult;
 import com.tigrisdata.db.type.TigrisCollectionType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -27,7 +29,7 @@ import java.util.concurrent.CompletableFuture;
  * @param <T> type of collection
  */
 public interface TigrisAsyncCollection<T extends TigrisCollectionType>
-    extends TransactionalCollectionOperation<T> {
+    extends TransactionalCollectionOperation<T>, AsyncTransactionalCollectionOperation<T> {
 
   /**
    * @param filter filter to narrow down read
@@ -73,6 +75,41 @@ public interface TigrisAsyncCollection<T extends TigrisCollectionType>
    */
   void readAll(ReadFields readFields, TigrisAsyncReader<T> reader);
 
+  /**
+   * Reads matching documents and returns a handle to cancel the read. Cancelling stops the server
+   * call, the reader then receives {@code onError} and no further documents.
+   *
+   * <p>Optional operation, the default implementation does not start the read and passes a {@link
+   * TigrisException} to the reader.
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @param reader reader callback
+   * @return handle to cancel the read
+   * @see #read(TigrisFilter, ReadFields, ReadRequestOptions, TigrisAsyncReader)
+   */
+  default TigrisReadHandle readCancellable(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TigrisAsyncReader<T> reader) {
+    return Utilities.unsupportedRead(reader);
+  }
+
+  /**
+   * Reads matching documents and returns a handle to cancel the read.
+   *
+   * @param filter filter to narrow down read
+   * @param reader reader callback
+   * @return handle to cancel the read
+   * @see #readCancellable(TigrisFilter, ReadFields, ReadRequestOptions, TigrisAsyncReader)
+   */
+  default TigrisReadHandle readCancellable(TigrisFilter filter, TigrisAsyncReader<T> reader) {
+    return this.readCancellable(
+        filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
+  }
+
   /**
    * Reads a single document. This method is generally recommended for point lookup, if used for
    * non-point lookup any arbitrary matching document will be returned.
@@ -82,6 +119,153 @@ public interface TigrisAsyncCollection<T extends TigrisCollectionType>
    */
   CompletableFuture<Optional<T>> readOne(TigrisFilter filter);
 
+  /**
+   * Reads matching documents as {@link LazyDocument} views. Fields are parsed only when accessed
+   * and the document is bound to the collection type only when materialized.
+   *
+   * <p>Optional operation, the default implementation does not start the read and passes a {@link
+   * TigrisException} to the reader.
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @param reader reader callback
+   * @return handle to cancel the read
+   */
+  default TigrisReadHandle readLazy(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      TigrisAsyncCallback<LazyDocument<T>> reader) {
+    return Utilities.unsupportedRead(reader);
+  }
+
+  /**
+   * Reads matching documents as {@link LazyDocument} views.
+   *
+   * @param filter filter to narrow down read
+   * @param reader reader callback
+   * @return handle to cancel the read
+   * @see #readLazy(TigrisFilter, ReadFields, ReadRequestOptions, TigrisAsyncCallback)
+   */
+  default TigrisReadHandle readLazy(
+      TigrisFilter filter, TigrisAsyncCallback<LazyDocument<T>> reader) {
+    return this.readLazy(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, reader);
+  }
+
+  /**
+   * Reads matching documents into a projection type. The projection is a class or an interface
+   * declaring a subset of the collection fields, only those fields are requested from the server
+   * unless {@code fields} selects them explicitly. Abstract methods of an interface must be
+   * getters, default methods run their own body.
+   *
+   * <p>Optional operation, the default implementation does not start the read and passes a {@link
+   * TigrisException} to the reader.
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @param projectionType class or interface to read the documents into
+   * @param reader reader callback
+   * @param <P> projection type
+   * @return handle to cancel the read
+   */
+  default <P> TigrisReadHandle read(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      Class<P> projectionType,
+      TigrisAsyncCallback<P> reader) {
+    return Utilities.unsupportedRead(reader);
+  }
+
+  /**
+   * Reads matching documents into a projection type.
+   *
+   * @param filter filter to narrow down read
+   * @param projectionType class or interface to read the documents into
+   * @param reader reader callback
+   * @param <P> projection type
+   * @return handle to cancel the read
+   * @see #read(TigrisFilter, ReadFields, ReadRequestOptions, Class, TigrisAsyncCallback)
+   */
+  default <P> TigrisReadHandle read(
+      TigrisFilter filter, Class<P> projectionType, TigrisAsyncCallback<P> reader) {
+    return this.read(
+        filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, projectionType, reader);
+  }
+
+  /**
+   * Reads a single document into a projection type.
+   *
+   * @param filter filter to narrow down read
+   * @param projectionType class or interface to read the document into
+   * @param <P> projection type
+   * @return a future to the optionally projected document
+   * @see #read(TigrisFilter, ReadFields, ReadRequestOptions, Class, TigrisAsyncCallback)
+   */
+  default <P> CompletableFuture<Optional<P>> readOne(TigrisFilter filter, Class<P> projectionType) {
+    CompletableFuture<Optional<P>> completableFuture = new CompletableFuture<>();
+    this.read(
+        filter,
+        ReadFields.all(),
+        ReadRequestOptions.READ_ONE,
+        projectionType,
+        new TigrisAsyncCallback<P>() {
+          @Override
+          public void onNext(P document) {
+            completableFuture.complete(Optional.of(document));
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            completableFuture.completeExceptionally(t);
+          }
+
+          @Override
+          public void onCompleted() {
+            completableFuture.complete(Optional.empty());
+          }
+        });
+    return completableFuture;
+  }
+
+  /**
+   * Reads documents by their primary key. The model class must have a single {@code
+   * TigrisPrimaryKey} field. Keys are read in chunks of bounded size, and the chunks are read
+   * concurrently.
+   *
+   * <p>Optional operation, the future of the default implementation fails with a {@link
+   * TigrisException}.
+   *
+   * @param keys primary keys, duplicates are read once
+   * @param <K> type of the keys
+   * @return a future to the found documents by key and the keys without a document
+   * @throws IllegalArgumentException if the model class does not have a single field primary key
+   */
+  default <K> CompletableFuture<KeyedReadResult<K, T>> readByKeys(Collection<K> keys) {
+    return Utilities.unsupportedOperation();
+  }
+
+  /**
+   * Reads documents by the values of a unique field.
+   *
+   * <p>Optional operation, the future of the default implementation fails with a {@link
+   * TigrisException}.
+   *
+   * @param keyField unique field, nested fields are separated by dots
+   * @param keys field values, duplicates are read once
+   * @param fields optionally specify fields you want to be returned from server, they must include
+   *     the key field
+   * @param <K> type of the keys
+   * @return a future to the found documents by key and the keys without a document
+   * @see #readByKeys(Collection)
+   */
+  default <K> CompletableFuture<KeyedReadResult<K, T>> readByKeys(
+      String keyField, Collection<K> keys, ReadFields fields) {
+    return Utilities.unsupportedOperation();
+  }
+
   /**
    * Search for documents in a collection. Easily perform sophisticated queries and refine results
    * using filters with advanced features like faceting and ordering.
@@ -108,6 +292,82 @@ public interface TigrisAsyncCollection<T extends TigrisCollectionType>
    */
   void search(SearchRequest request, TigrisAsyncSearchReader<T> reader);
 
+  /**
+   * Search for documents in a collection and returns a handle to cancel the search. Cancelling
+   * stops the server call, the reader then receives {@code onError} and no further results.
+   *
+   * <p>Optional operation, the default implementation does not start the search and passes a {@link
+   * TigrisException} to the reader.
+   *
+   * @param request search request to execute
+   * @param options search pagination options
+   * @param reader reader callback
+   * @return handle to cancel the search
+   * @see #search(SearchRequest, SearchRequestOptions, TigrisAsyncSearchReader)
+   */
+  default TigrisReadHandle searchCancellable(
+      SearchRequest request, SearchRequestOptions options, TigrisAsyncSearchReader<T> reader) {
+    return Utilities.unsupportedRead(reader);
+  }
+
+  /**
+   * Search for documents in a collection with default pagination options and returns a handle to
+   * cancel the search.
+   *
+   * @param request search request to execute
+   * @param reader reader callback
+   * @return handle to cancel the search
+   * @see #searchCancellable(SearchRequest, SearchRequestOptions, TigrisAsyncSearchReader)
+   */
+  default TigrisReadHandle searchCancellable(
+      SearchRequest request, TigrisAsyncSearchReader<T> reader) {
+    return this.searchCancellable(request, null, reader);
+  }
+
+  /**
+   * Reads matching documents with demand-driven flow control. Documents are requested from the
+   * server only as the subscriber signals demand, so a slow subscriber does not cause unbounded
+   * buffering in the client.
+   *
+   * <p>Optional operation, the publisher of the default implementation signals a {@link
+   * TigrisException} to every subscriber.
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @return cold publisher, each subscription issues a new read
+   */
+  default TigrisPublisher<T> readPublisher(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions) {
+    return Utilities.unsupportedPublisher();
+  }
+
+  /**
+   * Reads matching documents with demand-driven flow control.
+   *
+   * @param filter filter to narrow down read
+   * @return cold publisher, each subscription issues a new read
+   * @see #readPublisher(TigrisFilter, ReadFields, ReadRequestOptions)
+   */
+  default TigrisPublisher<T> readPublisher(TigrisFilter filter) {
+    return this.readPublisher(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Searches for documents with demand-driven flow control, each item is one page of results.
+   *
+   * <p>Optional operation, the publisher of the default implementation signals a {@link
+   * TigrisException} to every subscriber.
+   *
+   * @param request search request to execute
+   * @param options search pagination options
+   * @return cold publisher, each subscription issues a new search
+   */
+  default TigrisPublisher<SearchResult<T>> searchPublisher(
+      SearchRequest request, SearchRequestOptions options) {
+    return Utilities.unsupportedPublisher();
+  }
+
   /**
    * Inserts documents into collection
    *
@@ -223,6 +483,19 @@ public interface TigrisAsyncCollection<T extends TigrisCollectionType>
   CompletableFuture<CollectionDescription> describe(CollectionOptions collectionOptions)
       throws TigrisException;
 
+  /**
+   * Raw view of this collection that reads and writes documents as JSON bytes, without binding them
+   * to the model class. Useful to forward documents without paying for deserialization.
+   *
+   * <p>Optional operation, the default implementation throws {@link UnsupportedOperationException}.
+   *
+   * @return raw view of the collection
+   * @throws UnsupportedOperationException if the implementation has no raw view
+   */
+  default RawTigrisAsyncCollection<T> raw() {
+    throw new UnsupportedOperationException(Constants.OPERATION_NOT_SUPPORTED);
+  }
+
   /** @return Name of the collection */
   String name();
 }
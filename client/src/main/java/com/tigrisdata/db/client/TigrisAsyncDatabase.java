@@ -87,6 +87,20 @@ public interface TigrisAsyncDatabase {
    */
   CompletableFuture<TransactionSession> beginTransaction(TransactionOptions transactionOptions);
 
+  /**
+   * Begins the transaction on current database, whose operations and completion do not block the
+   * calling thread, see {@link AsyncTransactionalCollectionOperation}. The default implementation
+   * wraps the session of {@link #beginTransaction(TransactionOptions)}, its commit and rollback
+   * block a thread of the common fork-join pool.
+   *
+   * @param transactionOptions options
+   * @return the future to the {@link AsyncTransactionSession}
+   */
+  default CompletableFuture<AsyncTransactionSession> beginAsyncTransaction(
+      TransactionOptions transactionOptions) {
+    return beginTransaction(transactionOptions).thenApply(BlockingAsyncTransactionSession::new);
+  }
+
   /**
    * @return the future to the {@link DatabaseDescription} containing description of database.
    * @throws TigrisException in case of an error.
@@ -16,6 +16,7 @@ package com.tigrisdata.db.client;
 import com.tigrisdata.db.client.error.TigrisException;
 
 import java.io.Closeable;
+import java.util.Optional;
 
 /** Tigris client */
 public interface TigrisClient extends Closeable {
@@ -32,4 +33,20 @@ public interface TigrisClient extends Closeable {
    * @throws TigrisException in case of auth error or any other failure.
    */
   ServerMetadata getServerMetadata() throws TigrisException;
+
+  /**
+   * @return near cache statistics, empty when the near cache is not enabled
+   * @see com.tigrisdata.db.client.config.TigrisConfiguration.Builder#withNearCache
+   */
+  default Optional<NearCacheStats> getNearCacheStats() {
+    return Optional.empty();
+  }
+
+  /**
+   * @return statistics of the transactions run with a retry policy
+   * @see TigrisDatabase#transact(java.util.function.Consumer, TransactionRetryPolicy)
+   */
+  default TransactionRetryStats getTransactionRetryStats() {
+    return new TransactionRetryStats(0, 0, 0, 0, 0);
+  }
 }
@@ -19,9 +19,13 @@ import com.tigrisdata.db.client.search.SearchRequestOptions;
 import com.tigrisdata.db.client.search.SearchResult;
 import com.tigrisdata.db.type.TigrisCollectionType;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Tigris collection
@@ -96,6 +100,227 @@ public interface TigrisCollection<T extends TigrisCollectionType>
    */
   Optional<T> readOne(TigrisFilter filter) throws TigrisException;
 
+  /**
+   * Reads matching documents through a cursor that can be closed before it is exhausted. Closing
+   * the cursor cancels the read on the server. The default implementation wraps {@link
+   * #read(TigrisFilter, ReadFields, ReadRequestOptions)}, its cursor stops iterating on close but
+   * cannot cancel the read unless the returned iterator is itself a cursor.
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @return cursor over the matching documents, to be closed after use
+   * @throws TigrisException in case of an error
+   */
+  default TigrisCursor<T> cursor(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions)
+      throws TigrisException {
+    return IteratorCursor.of(this.read(filter, fields, readRequestOptions));
+  }
+
+  /**
+   * Reads matching documents through a cursor that can be closed before it is exhausted.
+   *
+   * @param filter filter to narrow down read
+   * @return cursor over the matching documents, to be closed after use
+   * @throws TigrisException in case of an error
+   * @see #cursor(TigrisFilter, ReadFields, ReadRequestOptions)
+   */
+  default TigrisCursor<T> cursor(TigrisFilter filter) throws TigrisException {
+    return this.cursor(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Reads matching documents as a {@link java.util.stream.Stream}. The estimated size is the read
+   * limit when one is set. Closing the stream closes the {@link #cursor(TigrisFilter, ReadFields,
+   * ReadRequestOptions) cursor} it is read from, which cancels the server call.
+   *
+   * <pre>{@code
+   * try (Stream<User> users = collection.stream(filter, ReadFields.all(), options)) {
+   *   users.parallel().forEach(this::process);
+   * }
+   * }</pre>
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @return ordered stream of the matching documents, to be closed when not fully consumed
+   * @throws TigrisException in case of an error
+   */
+  default Stream<T> stream(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions)
+      throws TigrisException {
+    TigrisCursor<T> cursor = this.cursor(filter, fields, readRequestOptions);
+    long limit = readRequestOptions == null ? 0 : readRequestOptions.getLimit();
+    return StreamSupport.stream(
+            new CursorSpliterator<>(cursor, limit > 0 ? limit : Long.MAX_VALUE), false)
+        .onClose(cursor::close);
+  }
+
+  /**
+   * Reads matching documents as a {@link java.util.stream.Stream}.
+   *
+   * @param filter filter to narrow down read
+   * @return ordered stream of the matching documents, to be closed when not fully consumed
+   * @throws TigrisException in case of an error
+   * @see #stream(TigrisFilter, ReadFields, ReadRequestOptions)
+   */
+  default Stream<T> stream(TigrisFilter filter) throws TigrisException {
+    return this.stream(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Reads matching documents through a cursor that reads ahead of the caller. Documents are fetched
+   * and decoded in the background into a bounded buffer while the caller processes earlier ones,
+   * and are returned in server order. The default implementation reads ahead of {@link
+   * #cursor(TigrisFilter, ReadFields, ReadRequestOptions)}, documents are then decoded by that
+   * cursor rather than in parallel.
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @param prefetchOptions read-ahead buffer and decode parallelism
+   * @return cursor over the matching documents, to be closed when not exhausted
+   * @throws TigrisException in case of an error
+   */
+  default TigrisCursor<T> cursor(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      PrefetchOptions prefetchOptions)
+      throws TigrisException {
+    return new PrefetchingCursor<>(
+        this.cursor(filter, fields, readRequestOptions), Function.identity(), prefetchOptions);
+  }
+
+  /**
+   * Reads matching documents as {@link LazyDocument} views. Fields are parsed only when accessed
+   * and the document is bound to the collection type only when materialized.
+   *
+   * <p>Optional operation, the default implementation throws a {@link TigrisException}.
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @return stream of lazy documents
+   * @throws TigrisException in case of an error or when the operation is not supported
+   */
+  default Iterator<LazyDocument<T>> readLazy(
+      TigrisFilter filter, ReadFields fields, ReadRequestOptions readRequestOptions)
+      throws TigrisException {
+    throw new TigrisException(Constants.OPERATION_NOT_SUPPORTED);
+  }
+
+  /**
+   * Reads matching documents as {@link LazyDocument} views.
+   *
+   * @param filter filter to narrow down read
+   * @return stream of lazy documents
+   * @throws TigrisException in case of an error
+   * @see #readLazy(TigrisFilter, ReadFields, ReadRequestOptions)
+   */
+  default Iterator<LazyDocument<T>> readLazy(TigrisFilter filter) throws TigrisException {
+    return this.readLazy(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Reads matching documents into a projection type. The projection is a class or an interface
+   * declaring a subset of the collection fields, only those fields are requested from the server
+   * unless {@code fields} selects them explicitly. Abstract methods of an interface must be
+   * getters, default methods run their own body.
+   *
+   * <p>Optional operation, the default implementation throws a {@link TigrisException}.
+   *
+   * @param filter filter to narrow down read
+   * @param fields optionally specify fields you want to be returned from server
+   * @param readRequestOptions read options
+   * @param projectionType class or interface to read the documents into
+   * @param <P> projection type
+   * @return stream of projected documents
+   * @throws TigrisException in case of an error or when the operation is not supported
+   */
+  default <P> Iterator<P> read(
+      TigrisFilter filter,
+      ReadFields fields,
+      ReadRequestOptions readRequestOptions,
+      Class<P> projectionType)
+      throws TigrisException {
+    throw new TigrisException(Constants.OPERATION_NOT_SUPPORTED);
+  }
+
+  /**
+   * Reads matching documents into a projection type.
+   *
+   * @param filter filter to narrow down read
+   * @param projectionType class or interface to read the documents into
+   * @param <P> projection type
+   * @return stream of projected documents
+   * @throws TigrisException in case of an error
+   * @see #read(TigrisFilter, ReadFields, ReadRequestOptions, Class)
+   */
+  default <P> Iterator<P> read(TigrisFilter filter, Class<P> projectionType)
+      throws TigrisException {
+    return this.read(filter, ReadFields.all(), ReadRequestOptions.DEFAULT_INSTANCE, projectionType);
+  }
+
+  /**
+   * Reads a single document into a projection type.
+   *
+   * @param filter filter to narrow down read
+   * @param projectionType class or interface to read the document into
+   * @param <P> projection type
+   * @return optionally the projected document
+   * @throws TigrisException in case of an error
+   * @see #read(TigrisFilter, ReadFields, ReadRequestOptions, Class)
+   */
+  default <P> Optional<P> readOne(TigrisFilter filter, Class<P> projectionType)
+      throws TigrisException {
+    try (TigrisCursor<P> cursor =
+        IteratorCursor.of(
+            this.read(filter, ReadFields.all(), ReadRequestOptions.READ_ONE, projectionType))) {
+      if (cursor.hasNext()) {
+        return Optional.of(cursor.next());
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Reads documents by their primary key. The model class must have a single {@code
+   * TigrisPrimaryKey} field. Keys are read in chunks of bounded size, and the chunks are read
+   * concurrently.
+   *
+   * <p>Optional operation, the default implementation throws a {@link TigrisException}.
+   *
+   * @param keys primary keys, duplicates are read once
+   * @param <K> type of the keys
+   * @return found documents by key and the keys without a document
+   * @throws TigrisException in case of an error or when the operation is not supported
+   * @throws IllegalArgumentException if the model class does not have a single field primary key
+   */
+  default <K> KeyedReadResult<K, T> readByKeys(Collection<K> keys) throws TigrisException {
+    throw new TigrisException(Constants.OPERATION_NOT_SUPPORTED);
+  }
+
+  /**
+   * Reads documents by the values of a unique field.
+   *
+   * <p>Optional operation, the default implementation throws a {@link TigrisException}.
+   *
+   * @param keyField unique field, nested fields are separated by dots
+   * @param keys field values, duplicates are read once
+   * @param fields optionally specify fields you want to be returned from server, they must include
+   *     the key field
+   * @param <K> type of the keys
+   * @return found documents by key and the keys without a document
+   * @throws TigrisException in case of an error or when the operation is not supported
+   * @see #readByKeys(Collection)
+   */
+  default <K> KeyedReadResult<K, T> readByKeys(
+      String keyField, Collection<K> keys, ReadFields fields) throws TigrisException {
+    throw new TigrisException(Constants.OPERATION_NOT_SUPPORTED);
+  }
+
   /**
    * Search for documents in a collection. Easily perform sophisticated queries and refine results
    * using filters with advanced features like faceting and ordering.
@@ -124,6 +349,25 @@ public interface TigrisCollection<T extends TigrisCollectionType>
    */
   Iterator<SearchResult<T>> search(SearchRequest request) throws TigrisException;
 
+  /**
+   * Search for documents in a collection, streaming one {@link SearchResult} per page. Closing the
+   * stream cancels the server call. The default implementation streams {@link
+   * #search(SearchRequest)} when no options are given, otherwise the single page returned by {@link
+   * #search(SearchRequest, SearchRequestOptions)}.
+   *
+   * @param request search request to execute
+   * @param options pagination options, may be null
+   * @return ordered stream of search results, to be closed when not fully consumed
+   * @throws TigrisException in case of error
+   */
+  default Stream<SearchResult<T>> searchStream(SearchRequest request, SearchRequestOptions options)
+      throws TigrisException {
+    if (options == null) {
+      return IteratorCursor.of(this.search(request)).stream();
+    }
+    return this.search(request, options).map(Stream::of).orElseGet(Stream::empty);
+  }
+
   /**
    * Inserts the documents into collection.
    *
@@ -242,6 +486,19 @@ public interface TigrisCollection<T extends TigrisCollectionType>
    */
   CollectionDescription describe(CollectionOptions collectionOptions) throws TigrisException;
 
+  /**
+   * Raw view of this collection that reads and writes documents as JSON bytes, without binding them
+   * to the model class. Useful to forward documents without paying for deserialization.
+   *
+   * <p>Optional operation, the default implementation throws {@link UnsupportedOperationException}.
+   *
+   * @return raw view of the collection
+   * @throws UnsupportedOperationException if the implementation has no raw view
+   */
+  default RawTigrisCollection<T> raw() {
+    throw new UnsupportedOperationException(Constants.OPERATION_NOT_SUPPORTED);
+  }
+
   /** @return Name of the collection */
   String name();
 }
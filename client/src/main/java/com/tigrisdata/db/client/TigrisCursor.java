@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over a streaming read that can be closed before it is exhausted. Closing the cursor
+ * cancels the server call, so abandoning a large scan does not keep the server streaming results.
+ *
+ * <pre>{@code
+ * try (TigrisCursor<User> cursor = collection.cursor(filter)) {
+ *   while (cursor.hasNext()) {
+ *     if (process(cursor.next())) {
+ *       break;
+ *     }
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>{@link #stream()} exposes the remaining items as a {@link Stream}, closing the stream closes
+ * the cursor.
+ *
+ * @param <T> type of the items
+ */
+public interface TigrisCursor<T> extends Iterator<T>, AutoCloseable {
+
+  /**
+   * Cancels the server call if it is still running. After closing, {@link #hasNext()} returns
+   * false. Closing an exhausted or already closed cursor has no effect.
+   */
+  @Override
+  void close();
+
+  /**
+   * Streams the remaining items. The stream is ordered and can run in parallel, items are then
+   * handed to the workers in growing batches. Close the stream when it is not fully consumed.
+   *
+   * @return stream over the remaining items
+   */
+  default Stream<T> stream() {
+    return StreamSupport.stream(new CursorSpliterator<>(this, Long.MAX_VALUE), false)
+        .onClose(this::close);
+  }
+}
@@ -117,4 +117,28 @@ public interface TigrisDatabase {
    * @throws TigrisException in case of an error
    */
   void transact(Consumer<TransactionSession> tx) throws TigrisException;
+
+  /**
+   * performs batch of operation in a transaction, like {@link #transact(Consumer)}, and runs it
+   * again in a new transaction when it fails because of a conflict with concurrent transactions.
+   * The consumer therefore may run more than once and must not have side effects outside of the
+   * transaction.
+   *
+   * <p>Usage:
+   *
+   * <pre>{@code
+   * db.transact(
+   *     session -> collection.insert(session, new User(1, "Name")),
+   *     TransactionRetryPolicy.DEFAULT_INSTANCE);
+   * }</pre>
+   *
+   * @param tx consumer to consume session
+   * @param retryPolicy which failures to retry, how often and for how long
+   * @throws TigrisException in case of an error that is not retried or when the retries are
+   *     exhausted
+   */
+  default void transact(Consumer<TransactionSession> tx, TransactionRetryPolicy retryPolicy)
+      throws TigrisException {
+    retryPolicy.run(() -> transact(tx));
+  }
 }
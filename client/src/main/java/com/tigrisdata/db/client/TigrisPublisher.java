@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+/**
+ * Demand-driven source of documents. Follows the Reactive Streams {@code Publisher} contract.
+ *
+ * <p>The client targets Java 8 and does not depend on Reactive Streams, so it ships no adapter to
+ * {@code org.reactivestreams.Publisher} or {@code java.util.concurrent.Flow.Publisher}. Callers
+ * that need one must write it, forwarding every method of the publisher, subscriber and
+ * subscription to its counterpart.
+ *
+ * <p>Publishers are cold: every subscription issues a new request to the server.
+ *
+ * @param <T> type of the published items
+ */
+public interface TigrisPublisher<T> {
+
+  /**
+   * Starts a new stream for the subscriber. Nothing is received from the server until the
+   * subscriber requests items through {@link TigrisSubscription#request(long)}.
+   *
+   * @param subscriber subscriber to receive the items
+   */
+  void subscribe(TigrisSubscriber<? super T> subscriber);
+}
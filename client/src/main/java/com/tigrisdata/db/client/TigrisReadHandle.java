@@ -0,0 +1,26 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+/** Handle to a streaming read started by {@link TigrisAsyncCollection} */
+@FunctionalInterface
+public interface TigrisReadHandle {
+
+  /**
+   * Cancels the server call. If the stream has not finished yet, the reader receives {@code
+   * onError} with a cancellation error and no further documents. Cancelling a finished stream has
+   * no effect.
+   */
+  void cancel();
+}
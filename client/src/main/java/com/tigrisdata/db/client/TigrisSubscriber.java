@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+/**
+ * Receives items from a {@link TigrisPublisher}. Follows the Reactive Streams {@code Subscriber}
+ * contract.
+ *
+ * @param <T> type of the received items
+ */
+public interface TigrisSubscriber<T> {
+
+  /**
+   * Invoked once before any other method. No items are delivered until demand is signalled with
+   * {@link TigrisSubscription#request(long)}.
+   *
+   * @param subscription subscription to request items or cancel the stream
+   */
+  void onSubscribe(TigrisSubscription subscription);
+
+  /**
+   * Receives the next item, never called more times than requested.
+   *
+   * @param item the item
+   */
+  void onNext(T item);
+
+  /**
+   * Receives terminating error of the stream. Not invoked after the subscription is cancelled.
+   *
+   * @param throwable captures the error
+   */
+  void onError(Throwable throwable);
+
+  /** Receives a notification of successful stream completion. */
+  void onComplete();
+}
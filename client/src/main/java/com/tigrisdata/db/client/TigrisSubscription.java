@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+/**
+ * Link between a {@link TigrisPublisher} and a {@link TigrisSubscriber}. Follows the Reactive
+ * Streams {@code Subscription} contract. Both methods are safe to call from any thread.
+ */
+public interface TigrisSubscription {
+
+  /**
+   * Adds demand for {@code n} more items. Demand is forwarded to the transport, so the server sends
+   * no more than requested. Non-positive values cancel the stream and signal {@link
+   * IllegalArgumentException} to the subscriber.
+   *
+   * @param n number of additional items, {@link Long#MAX_VALUE} for unbounded
+   */
+  void request(long n);
+
+  /** Cancels the underlying server call. Subsequent calls have no effect. */
+  void cancel();
+}
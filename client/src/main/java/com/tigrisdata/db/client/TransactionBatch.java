@@ -0,0 +1,537 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import static com.tigrisdata.db.client.Constants.JSON_SER_DE_ERROR;
+import static com.tigrisdata.db.client.Constants.TRANSACTION_BATCH_FAILED;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.type.TigrisCollectionType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Writes queued in a transaction and sent together, so a transaction with many writes waits for
+ * about one round trip instead of one per write.
+ *
+ * <p>Writes are sent concurrently on the transaction's stubs when the batch is executed. Writes to
+ * the same primary key of a collection are still sent in the order they were queued, each after the
+ * previous one completed. Updates and deletes whose filter is not an equality on the primary key,
+ * and documents without a single field primary key, order against all the other writes to the
+ * collection instead.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * TransactionSession session = db.beginTransaction(TransactionOptions.DEFAULT_INSTANCE);
+ * TransactionBatch batch = TransactionBatch.of(session);
+ * for (User user : users) {
+ *   batch.insert(collection, user);
+ * }
+ * batch.delete(collection, Filters.eq("id", 1));
+ * batch.commit();
+ * }</pre>
+ */
+public final class TransactionBatch {
+  private static final Executor DIRECT_EXECUTOR = MoreExecutors.directExecutor();
+
+  private final StandardTransactionSession session;
+  // guarded by this
+  private final List<Operation<?>> operations = new ArrayList<>();
+  private boolean executed;
+
+  private TransactionBatch(StandardTransactionSession session) {
+    this.session = session;
+  }
+
+  /**
+   * Creates an empty batch
+   *
+   * @param session transaction session the writes belong to
+   * @return batch of the transaction
+   */
+  public static TransactionBatch of(TransactionSession session) {
+    if (!(session instanceof StandardTransactionSession)) {
+      throw new IllegalArgumentException("Unsupported transaction session " + session);
+    }
+    return new TransactionBatch((StandardTransactionSession) session);
+  }
+
+  /**
+   * Queues an insertion
+   *
+   * @param collection collection to insert into
+   * @param documents list of documents to insert
+   * @param insertRequestOptions insert option
+   * @param <T> type of the collection
+   * @return the future to the {@link InsertResponse}, completed once the batch was executed
+   * @throws TigrisException in case the documents cannot be serialized
+   */
+  public <T extends TigrisCollectionType> CompletableFuture<InsertResponse<T>> insert(
+      TransactionalCollectionOperation<T> collection,
+      List<T> documents,
+      InsertRequestOptions insertRequestOptions)
+      throws TigrisException {
+    AbstractTigrisCollection<T> target = target(collection);
+    Api.InsertRequest insertRequest;
+    try {
+      insertRequest =
+          TypeConverter.toInsertRequest(
+              target.databaseName,
+              target.collectionName,
+              documents,
+              insertRequestOptions,
+              target.objectMapper);
+    } catch (JsonProcessingException jsonProcessingException) {
+      throw new TigrisException(JSON_SER_DE_ERROR, jsonProcessingException);
+    }
+    TigrisGrpc.TigrisFutureStub stub = session.transactional(target.futureStub);
+    return queue(
+        target,
+        documentKeys(target, documents),
+        () -> target.insertFutureInternal(stub, insertRequest, documents, DIRECT_EXECUTOR));
+  }
+
+  /**
+   * Queues an insertion
+   *
+   * @param collection collection to insert into
+   * @param documents list of documents to insert
+   * @param <T> type of the collection
+   * @return the future to the {@link InsertResponse}, completed once the batch was executed
+   * @throws TigrisException in case the documents cannot be serialized
+   */
+  public <T extends TigrisCollectionType> CompletableFuture<InsertResponse<T>> insert(
+      TransactionalCollectionOperation<T> collection, List<T> documents) throws TigrisException {
+    return insert(collection, documents, InsertRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Queues an insertion
+   *
+   * @param collection collection to insert into
+   * @param document document to insert
+   * @param <T> type of the collection
+   * @return the future to the {@link InsertResponse}, completed once the batch was executed
+   * @throws TigrisException in case the document cannot be serialized
+   */
+  public <T extends TigrisCollectionType> CompletableFuture<InsertResponse<T>> insert(
+      TransactionalCollectionOperation<T> collection, T document) throws TigrisException {
+    return insert(collection, Collections.singletonList(document));
+  }
+
+  /**
+   * Queues an insert or replace
+   *
+   * @param collection collection to write to
+   * @param documents list of documents to insert or replace
+   * @param insertOrReplaceRequestOptions insert or replace option
+   * @param <T> type of the collection
+   * @return the future to the {@link InsertOrReplaceResponse}, completed once the batch was
+   *     executed
+   * @throws TigrisException in case the documents cannot be serialized
+   */
+  public <T extends TigrisCollectionType>
+      CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
+          TransactionalCollectionOperation<T> collection,
+          List<T> documents,
+          InsertOrReplaceRequestOptions insertOrReplaceRequestOptions)
+          throws TigrisException {
+    AbstractTigrisCollection<T> target = target(collection);
+    Api.ReplaceRequest replaceRequest;
+    try {
+      replaceRequest =
+          TypeConverter.toReplaceRequest(
+              target.databaseName,
+              target.collectionName,
+              documents,
+              insertOrReplaceRequestOptions,
+              target.objectMapper);
+    } catch (JsonProcessingException jsonProcessingException) {
+      throw new TigrisException(JSON_SER_DE_ERROR, jsonProcessingException);
+    }
+    TigrisGrpc.TigrisFutureStub stub = session.transactional(target.futureStub);
+    return queue(
+        target,
+        documentKeys(target, documents),
+        () ->
+            target.insertOrReplaceFutureInternal(stub, replaceRequest, documents, DIRECT_EXECUTOR));
+  }
+
+  /**
+   * Queues an insert or replace
+   *
+   * @param collection collection to write to
+   * @param documents list of documents to insert or replace
+   * @param <T> type of the collection
+   * @return the future to the {@link InsertOrReplaceResponse}, completed once the batch was
+   *     executed
+   * @throws TigrisException in case the documents cannot be serialized
+   */
+  public <T extends TigrisCollectionType>
+      CompletableFuture<InsertOrReplaceResponse<T>> insertOrReplace(
+          TransactionalCollectionOperation<T> collection, List<T> documents)
+          throws TigrisException {
+    return insertOrReplace(collection, documents, InsertOrReplaceRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Queues an update
+   *
+   * @param collection collection to update
+   * @param filter filter to narrow down documents to update
+   * @param updateFields update fields
+   * @param updateRequestOptions update option
+   * @param <T> type of the collection
+   * @return the future to the {@link UpdateResponse}, completed once the batch was executed
+   */
+  public <T extends TigrisCollectionType> CompletableFuture<UpdateResponse> update(
+      TransactionalCollectionOperation<T> collection,
+      TigrisFilter filter,
+      UpdateFields updateFields,
+      UpdateRequestOptions updateRequestOptions) {
+    AbstractTigrisCollection<T> target = target(collection);
+    Api.UpdateRequest updateRequest =
+        TypeConverter.toUpdateRequest(
+            target.databaseName,
+            target.collectionName,
+            filter,
+            updateFields,
+            updateRequestOptions,
+            target.objectMapper);
+    TigrisGrpc.TigrisFutureStub stub = session.transactional(target.futureStub);
+    return queue(
+        target,
+        filterKeys(target, updateRequest.getFilter().toStringUtf8()),
+        () -> target.updateFutureInternal(stub, updateRequest, DIRECT_EXECUTOR));
+  }
+
+  /**
+   * Queues an update
+   *
+   * @param collection collection to update
+   * @param filter filter to narrow down documents to update
+   * @param updateFields update fields
+   * @param <T> type of the collection
+   * @return the future to the {@link UpdateResponse}, completed once the batch was executed
+   */
+  public <T extends TigrisCollectionType> CompletableFuture<UpdateResponse> update(
+      TransactionalCollectionOperation<T> collection,
+      TigrisFilter filter,
+      UpdateFields updateFields) {
+    return update(collection, filter, updateFields, UpdateRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /**
+   * Queues a delete
+   *
+   * @param collection collection to delete from
+   * @param filter filter to narrow down documents to delete
+   * @param deleteRequestOptions delete option
+   * @param <T> type of the collection
+   * @return the future to the {@link DeleteResponse}, completed once the batch was executed
+   */
+  public <T extends TigrisCollectionType> CompletableFuture<DeleteResponse> delete(
+      TransactionalCollectionOperation<T> collection,
+      TigrisFilter filter,
+      DeleteRequestOptions deleteRequestOptions) {
+    AbstractTigrisCollection<T> target = target(collection);
+    Api.DeleteRequest deleteRequest =
+        TypeConverter.toDeleteRequest(
+            target.databaseName,
+            target.collectionName,
+            filter,
+            deleteRequestOptions,
+            target.objectMapper);
+    TigrisGrpc.TigrisFutureStub stub = session.transactional(target.futureStub);
+    return queue(
+        target,
+        filterKeys(target, deleteRequest.getFilter().toStringUtf8()),
+        () -> target.deleteFutureInternal(stub, deleteRequest, DIRECT_EXECUTOR));
+  }
+
+  /**
+   * Queues a delete
+   *
+   * @param collection collection to delete from
+   * @param filter filter to narrow down documents to delete
+   * @param <T> type of the collection
+   * @return the future to the {@link DeleteResponse}, completed once the batch was executed
+   */
+  public <T extends TigrisCollectionType> CompletableFuture<DeleteResponse> delete(
+      TransactionalCollectionOperation<T> collection, TigrisFilter filter) {
+    return delete(collection, filter, DeleteRequestOptions.DEFAULT_INSTANCE);
+  }
+
+  /** @return number of queued writes */
+  public synchronized int size() {
+    return operations.size();
+  }
+
+  /**
+   * Sends the queued writes without waiting for them
+   *
+   * @return the future completed once all the writes completed, exceptionally if any failed
+   * @throws IllegalStateException if the batch was already executed
+   */
+  public CompletableFuture<Void> executeAsync() {
+    List<Operation<?>> queued;
+    synchronized (this) {
+      if (executed) {
+        throw new IllegalStateException("Transaction batch was already executed");
+      }
+      executed = true;
+      queued = new ArrayList<>(operations);
+    }
+    Map<String, ScopeOrder> orders = new HashMap<>();
+    CompletableFuture<?>[] results = new CompletableFuture<?>[queued.size()];
+    for (int i = 0; i < queued.size(); i++) {
+      Operation<?> operation = queued.get(i);
+      List<CompletableFuture<?>> dependencies =
+          orders.computeIfAbsent(operation.scope, ignored -> new ScopeOrder()).add(operation);
+      if (dependencies.isEmpty()) {
+        operation.send();
+      } else {
+        CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+            .whenComplete(
+                (ignored, throwable) -> {
+                  if (throwable == null) {
+                    operation.send();
+                  } else {
+                    operation.result.completeExceptionally(unwrap(throwable));
+                  }
+                });
+      }
+      results[i] = operation.result;
+    }
+    return CompletableFuture.allOf(results);
+  }
+
+  /**
+   * Sends the queued writes and waits for all of them to complete
+   *
+   * @throws TigrisException of the first queued write that failed
+   * @throws IllegalStateException if the batch was already executed
+   */
+  public void execute() throws TigrisException {
+    CompletableFuture<Void> all = executeAsync();
+    try {
+      all.get();
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+      throw new TigrisException(TRANSACTION_BATCH_FAILED, interruptedException);
+    } catch (ExecutionException executionException) {
+      throw firstFailure(executionException.getCause());
+    }
+  }
+
+  /**
+   * Sends the queued writes, waits for all of them to complete and commits the transaction. Like
+   * {@link TigrisDatabase#transact(java.util.function.Consumer)}, the transaction is rolled back
+   * when a write or the commit fails.
+   *
+   * @return an instance of {@link CommitTransactionResponse} from server
+   * @throws TigrisException of the first queued write that failed or of the failed commit, a failed
+   *     rollback is added to it as suppressed exception
+   */
+  public CommitTransactionResponse commit() throws TigrisException {
+    try {
+      execute();
+      return session.commit();
+    } catch (TigrisException ex) {
+      try {
+        session.rollback();
+      } catch (TigrisException rollbackException) {
+        ex.addSuppressed(rollbackException);
+      }
+      throw ex;
+    }
+  }
+
+  private synchronized <R> CompletableFuture<R> queue(
+      AbstractTigrisCollection<?> collection,
+      Set<String> keys,
+      Supplier<CompletableFuture<R>> send) {
+    if (executed) {
+      throw new IllegalStateException("Transaction batch was already executed");
+    }
+    Operation<R> operation =
+        new Operation<>(
+            NearCache.scope(collection.databaseName, collection.collectionName), keys, send);
+    operations.add(operation);
+    return operation.result;
+  }
+
+  private TigrisException firstFailure(Throwable fallback) {
+    List<Operation<?>> queued;
+    synchronized (this) {
+      queued = new ArrayList<>(operations);
+    }
+    Throwable failure = unwrap(fallback);
+    for (Operation<?> operation : queued) {
+      if (operation.result.isCompletedExceptionally()) {
+        try {
+          operation.result.join();
+        } catch (CompletionException completionException) {
+          failure = unwrap(completionException);
+        }
+        break;
+      }
+    }
+    return failure instanceof TigrisException
+        ? (TigrisException) failure
+        : new TigrisException(TRANSACTION_BATCH_FAILED, failure);
+  }
+
+  /** @return primary keys of the documents, null when they cannot be determined */
+  private static <T extends TigrisCollectionType> Set<String> documentKeys(
+      AbstractTigrisCollection<T> collection, Collection<T> documents) {
+    String keyField = primaryKeyField(collection);
+    if (keyField == null) {
+      return null;
+    }
+    Set<String> keys = new HashSet<>();
+    for (T document : documents) {
+      JsonNode key = collection.objectMapper.valueToTree(document).get(keyField);
+      // documents without a key get a generated one, which no other write can refer to yet
+      if (key != null && !key.isNull()) {
+        keys.add(key.toString());
+      }
+    }
+    return keys;
+  }
+
+  /** @return the key the filter is an equality on, null when it can match any document */
+  private static Set<String> filterKeys(AbstractTigrisCollection<?> collection, String filter) {
+    String keyField = primaryKeyField(collection);
+    if (keyField == null) {
+      return null;
+    }
+    JsonNode node;
+    try {
+      node = collection.objectMapper.readTree(filter);
+    } catch (JsonProcessingException ex) {
+      return null;
+    }
+    if (node == null || !node.isObject() || node.size() != 1 || !node.has(keyField)) {
+      return null;
+    }
+    JsonNode key = node.get(keyField);
+    return key.isValueNode() ? Collections.singleton(key.toString()) : null;
+  }
+
+  private static String primaryKeyField(AbstractTigrisCollection<?> collection) {
+    try {
+      return collection.caches.primaryKeyField(collection.documentCollectionTypeClass);
+    } catch (IllegalArgumentException ex) {
+      return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends TigrisCollectionType> AbstractTigrisCollection<T> target(
+      TransactionalCollectionOperation<T> collection) {
+    if (!(collection instanceof AbstractTigrisCollection)) {
+      throw new IllegalArgumentException("Unsupported collection " + collection);
+    }
+    return (AbstractTigrisCollection<T>) collection;
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+  }
+
+  private static final class Operation<R> {
+    final String scope;
+    // null when the write may touch any document of the collection
+    final Set<String> keys;
+    final Supplier<CompletableFuture<R>> sender;
+    final CompletableFuture<R> result = new CompletableFuture<>();
+
+    Operation(String scope, Set<String> keys, Supplier<CompletableFuture<R>> sender) {
+      this.scope = scope;
+      this.keys = keys;
+      this.sender = sender;
+    }
+
+    void send() {
+      CompletableFuture<R> response;
+      try {
+        response = sender.get();
+      } catch (RuntimeException ex) {
+        result.completeExceptionally(ex);
+        return;
+      }
+      response.whenComplete(
+          (value, throwable) -> {
+            if (throwable == null) {
+              result.complete(value);
+            } else {
+              result.completeExceptionally(unwrap(throwable));
+            }
+          });
+    }
+  }
+
+  /** Tracks the writes to one collection that later writes must wait for */
+  private static final class ScopeOrder {
+    private CompletableFuture<?> lastUnkeyed;
+    private final Map<String, CompletableFuture<?>> lastByKey = new HashMap<>();
+    private final List<CompletableFuture<?>> sinceUnkeyed = new ArrayList<>();
+
+    /** @return writes the operation must wait for */
+    List<CompletableFuture<?>> add(Operation<?> operation) {
+      List<CompletableFuture<?>> dependencies = new ArrayList<>();
+      if (operation.keys == null) {
+        if (lastUnkeyed != null) {
+          dependencies.add(lastUnkeyed);
+        }
+        dependencies.addAll(sinceUnkeyed);
+        lastUnkeyed = operation.result;
+        lastByKey.clear();
+        sinceUnkeyed.clear();
+        return dependencies;
+      }
+      if (lastUnkeyed != null) {
+        dependencies.add(lastUnkeyed);
+      }
+      for (String key : operation.keys) {
+        CompletableFuture<?> previous = lastByKey.put(key, operation.result);
+        if (previous != null) {
+          dependencies.add(previous);
+        }
+      }
+      sinceUnkeyed.add(operation.result);
+      return dependencies;
+    }
+  }
+}
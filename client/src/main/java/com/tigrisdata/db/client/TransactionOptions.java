@@ -12,7 +12,18 @@
  * limitations under the License.
  */
 package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.api.v1.grpc.Api;
+
 /** Represents options related to Transaction operations */
 public class TransactionOptions {
   public static final TransactionOptions DEFAULT_INSTANCE = new TransactionOptions();
+
+  private static final Api.TransactionOptions API_DEFAULT_INSTANCE =
+      Api.TransactionOptions.getDefaultInstance();
+
+  /** @return protobuf counterpart, shared by all the requests */
+  Api.TransactionOptions toApi() {
+    return API_DEFAULT_INSTANCE;
+  }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Counters behind {@link TransactionRetryStats}, shared by the databases of a client */
+final class TransactionRetryMetrics {
+  private final LongAdder transactions = new LongAdder();
+  private final LongAdder attempts = new LongAdder();
+  private final LongAdder conflicts = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder exhausted = new LongAdder();
+
+  void onTransaction() {
+    transactions.increment();
+  }
+
+  /** @param retry whether the attempt re-runs a failed one */
+  void onAttempt(boolean retry) {
+    attempts.increment();
+    if (retry) {
+      retries.increment();
+    }
+  }
+
+  void onConflict() {
+    conflicts.increment();
+  }
+
+  void onExhausted() {
+    exhausted.increment();
+  }
+
+  TransactionRetryStats stats() {
+    return new TransactionRetryStats(
+        transactions.sum(), attempts.sum(), conflicts.sum(), retries.sum(), exhausted.sum());
+  }
+}
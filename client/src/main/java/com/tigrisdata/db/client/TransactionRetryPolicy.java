@@ -0,0 +1,303 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.rpc.RetryInfo;
+import com.tigrisdata.db.api.v1.grpc.ObservabilityOuterClass;
+import com.tigrisdata.db.client.error.TigrisError;
+import com.tigrisdata.db.client.error.TigrisException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy to re-run transactions that failed because they conflicted with concurrent transactions,
+ * see {@link TigrisDatabase#transact(java.util.function.Consumer, TransactionRetryPolicy)}.
+ *
+ * <p>A failure is retried when the server reports it as {@code ABORTED} or {@code CONFLICT}, or
+ * attaches a {@link RetryInfo} to it. Retries back off exponentially with full jitter, never
+ * shorter than the delay the server asked for, and stop after the maximum number of attempts or
+ * once the next attempt would start after the maximum elapsed time.
+ */
+public final class TransactionRetryPolicy {
+  public static final int DEFAULT_MAX_ATTEMPTS = 5;
+  public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(20);
+  public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(1);
+  public static final Duration DEFAULT_MAX_ELAPSED_TIME = Duration.ofSeconds(10);
+
+  public static final TransactionRetryPolicy DEFAULT_INSTANCE = newBuilder().build();
+
+  private static final double BACKOFF_MULTIPLIER = 2.0;
+
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Duration maxElapsedTime;
+
+  private TransactionRetryPolicy(Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.initialBackoff = builder.initialBackoff;
+    this.maxBackoff = builder.maxBackoff;
+    this.maxElapsedTime = builder.maxElapsedTime;
+  }
+
+  /** @return maximum number of times the transaction runs, including the first one */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /** @return upper bound of the backoff before the first retry */
+  public Duration getInitialBackoff() {
+    return initialBackoff;
+  }
+
+  /** @return upper bound of the backoff before any retry */
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  /** @return time after the first attempt started beyond which no retry starts */
+  public Duration getMaxElapsedTime() {
+    return maxElapsedTime;
+  }
+
+  /**
+   * Runs the transaction until an attempt succeeds, fails in a way that is not retried, or the
+   * attempts or the time run out. Every attempt must run in a new transaction and roll it back on
+   * failure.
+   *
+   * @param transaction runs a single attempt
+   * @throws TigrisException failure of the last attempt
+   */
+  void run(Attempt transaction) throws TigrisException {
+    run(transaction, null);
+  }
+
+  /**
+   * Runs the transaction like {@link #run(Attempt)} and records the attempts.
+   *
+   * @param transaction runs a single attempt
+   * @param metrics counters to record the attempts in, null to not record them
+   * @throws TigrisException failure of the last attempt
+   */
+  void run(Attempt transaction, TransactionRetryMetrics metrics) throws TigrisException {
+    if (metrics != null) {
+      metrics.onTransaction();
+    }
+    long deadline = System.nanoTime() + maxElapsedTime.toNanos();
+    for (int attempt = 1; ; attempt++) {
+      if (metrics != null) {
+        metrics.onAttempt(attempt > 1);
+      }
+      try {
+        transaction.run();
+        return;
+      } catch (TigrisException ex) {
+        if (!isRetryable(ex)) {
+          throw ex;
+        }
+        if (metrics != null) {
+          metrics.onConflict();
+        }
+        long backoffNanos = backoffNanos(attempt, ex);
+        if (attempt >= maxAttempts || System.nanoTime() + backoffNanos - deadline > 0) {
+          if (metrics != null) {
+            metrics.onExhausted();
+          }
+          throw ex;
+        }
+        try {
+          TimeUnit.NANOSECONDS.sleep(backoffNanos);
+        } catch (InterruptedException interruptedException) {
+          Thread.currentThread().interrupt();
+          ex.addSuppressed(interruptedException);
+          throw ex;
+        }
+      }
+    }
+  }
+
+  /** A single attempt of a transaction */
+  interface Attempt {
+    void run() throws TigrisException;
+  }
+
+  /**
+   * @param failure failure of an attempt, possibly wrapped by the transaction's consumer
+   * @return whether running the transaction again may succeed
+   */
+  boolean isRetryable(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof StatusRuntimeException) {
+        StatusRuntimeException statusRuntimeException = (StatusRuntimeException) cause;
+        return statusRuntimeException.getStatus().getCode() == Status.Code.ABORTED
+            || isConflict(TypeConverter.extractTigrisError(statusRuntimeException))
+            || TypeConverter.extractRetryInfo(statusRuntimeException).isPresent();
+      }
+      if (cause instanceof TigrisException
+          && isConflict(((TigrisException) cause).getTigrisErrorOptional())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param retry number of the retry, 1 for the first one
+   * @param failure failure being retried
+   * @return nanoseconds to wait before the retry
+   */
+  long backoffNanos(int retry, Throwable failure) {
+    double ceiling =
+        Math.min(
+            maxBackoff.toNanos(),
+            initialBackoff.toNanos() * Math.pow(BACKOFF_MULTIPLIER, retry - 1));
+    long backoff = (long) (ThreadLocalRandom.current().nextDouble() * ceiling);
+    return Math.max(backoff, requestedDelayNanos(failure));
+  }
+
+  private static long requestedDelayNanos(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof StatusRuntimeException) {
+        return TypeConverter.extractRetryInfo((StatusRuntimeException) cause)
+            .filter(RetryInfo::hasRetryDelay)
+            .map(
+                retryInfo ->
+                    Duration.ofSeconds(
+                            retryInfo.getRetryDelay().getSeconds(),
+                            retryInfo.getRetryDelay().getNanos())
+                        .toNanos())
+            .orElse(0L);
+      }
+    }
+    return 0L;
+  }
+
+  private static boolean isConflict(Optional<TigrisError> tigrisError) {
+    return tigrisError
+        .map(TigrisError::getCode)
+        .filter(
+            code ->
+                code == ObservabilityOuterClass.Code.ABORTED
+                    || code == ObservabilityOuterClass.Code.CONFLICT)
+        .isPresent();
+  }
+
+  /**
+   * Builder API for {@link TransactionRetryPolicy}
+   *
+   * @return {@link TransactionRetryPolicy.Builder}
+   */
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    TransactionRetryPolicy that = (TransactionRetryPolicy) o;
+    return maxAttempts == that.maxAttempts
+        && initialBackoff.equals(that.initialBackoff)
+        && maxBackoff.equals(that.maxBackoff)
+        && maxElapsedTime.equals(that.maxElapsedTime);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(maxAttempts, initialBackoff, maxBackoff, maxElapsedTime);
+  }
+
+  public static final class Builder {
+    private int maxAttempts;
+    private Duration initialBackoff;
+    private Duration maxBackoff;
+    private Duration maxElapsedTime;
+
+    private Builder() {
+      this.maxAttempts = DEFAULT_MAX_ATTEMPTS;
+      this.initialBackoff = DEFAULT_INITIAL_BACKOFF;
+      this.maxBackoff = DEFAULT_MAX_BACKOFF;
+      this.maxElapsedTime = DEFAULT_MAX_ELAPSED_TIME;
+    }
+
+    /**
+     * Sets the maximum number of times the transaction runs, including the first one
+     *
+     * @param maxAttempts positive number of attempts, 1 disables retries
+     * @return ongoing builder
+     */
+    public Builder withMaxAttempts(int maxAttempts) {
+      if (maxAttempts <= 0) {
+        throw new IllegalArgumentException("maxAttempts must be positive");
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Sets the upper bound of the backoff before the first retry, it doubles for every retry
+     *
+     * @param initialBackoff non-negative backoff
+     * @return ongoing builder
+     */
+    public Builder withInitialBackoff(Duration initialBackoff) {
+      this.initialBackoff = nonNegative(initialBackoff, "initialBackoff");
+      return this;
+    }
+
+    /**
+     * Sets the upper bound of the backoff before any retry
+     *
+     * @param maxBackoff non-negative backoff
+     * @return ongoing builder
+     */
+    public Builder withMaxBackoff(Duration maxBackoff) {
+      this.maxBackoff = nonNegative(maxBackoff, "maxBackoff");
+      return this;
+    }
+
+    /**
+     * Sets the time after the first attempt started beyond which no retry starts
+     *
+     * @param maxElapsedTime non-negative time
+     * @return ongoing builder
+     */
+    public Builder withMaxElapsedTime(Duration maxElapsedTime) {
+      this.maxElapsedTime = nonNegative(maxElapsedTime, "maxElapsedTime");
+      return this;
+    }
+
+    /**
+     * Builds the {@link TransactionRetryPolicy}
+     *
+     * @return {@link TransactionRetryPolicy}
+     */
+    public TransactionRetryPolicy build() {
+      return new TransactionRetryPolicy(this);
+    }
+
+    private static Duration nonNegative(Duration duration, String name) {
+      if (duration == null || duration.isNegative()) {
+        throw new IllegalArgumentException(name + " must not be negative");
+      }
+      return duration;
+    }
+  }
+}
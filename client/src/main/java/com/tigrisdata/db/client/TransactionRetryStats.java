@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+/** Transaction retry statistics, a snapshot taken when they were requested */
+public final class TransactionRetryStats {
+  private final long transactionCount;
+  private final long attemptCount;
+  private final long conflictCount;
+  private final long retryCount;
+  private final long exhaustedCount;
+
+  TransactionRetryStats(
+      long transactionCount,
+      long attemptCount,
+      long conflictCount,
+      long retryCount,
+      long exhaustedCount) {
+    this.transactionCount = transactionCount;
+    this.attemptCount = attemptCount;
+    this.conflictCount = conflictCount;
+    this.retryCount = retryCount;
+    this.exhaustedCount = exhaustedCount;
+  }
+
+  /** @return number of transactions run with a retry policy */
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+
+  /** @return number of times these transactions ran, including retries */
+  public long getAttemptCount() {
+    return attemptCount;
+  }
+
+  /** @return number of attempts that failed with a retryable conflict */
+  public long getConflictCount() {
+    return conflictCount;
+  }
+
+  /** @return number of attempts that were retries */
+  public long getRetryCount() {
+    return retryCount;
+  }
+
+  /** @return number of transactions that gave up on a conflict, out of attempts or time */
+  public long getExhaustedCount() {
+    return exhaustedCount;
+  }
+
+  /** @return fraction of the attempts that conflicted, 0 when there were no attempts */
+  public double getConflictRate() {
+    return attemptCount == 0 ? 0.0 : (double) conflictCount / attemptCount;
+  }
+
+  /** @return average number of retries per transaction, 0 when there were no transactions */
+  public double getRetryRate() {
+    return transactionCount == 0 ? 0.0 : (double) retryCount / transactionCount;
+  }
+
+  @Override
+  public String toString() {
+    return "TransactionRetryStats{"
+        + "transactionCount="
+        + transactionCount
+        + ", attemptCount="
+        + attemptCount
+        + ", conflictCount="
+        + conflictCount
+        + ", retryCount="
+        + retryCount
+        + ", exhaustedCount="
+        + exhaustedCount
+        + '}';
+  }
+}
@@ -30,7 +30,6 @@ import com.tigrisdata.db.client.search.SearchRequest;
 import com.tigrisdata.db.client.search.SearchRequestOptions;
 import io.grpc.Metadata;
 import io.grpc.StatusRuntimeException;
-import io.grpc.stub.MetadataUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -106,28 +105,7 @@ final class TypeConverter {
   static TigrisGrpc.TigrisBlockingStub transactionAwareStub(
       TigrisGrpc.TigrisBlockingStub blockingStub,
       StandardTransactionSession standardTransactionSession) {
-    // prepare headers
-    Metadata transactionHeaders = new Metadata();
-    transactionHeaders.put(
-        Metadata.Key.of(Constants.TRANSACTION_HEADER_ORIGIN_KEY, Metadata.ASCII_STRING_MARSHALLER),
-        standardTransactionSession.getTransactionCtx().getOrigin());
-    transactionHeaders.put(
-        Metadata.Key.of(Constants.TRANSACTION_HEADER_ID_KEY, Metadata.ASCII_STRING_MARSHALLER),
-        standardTransactionSession.getTransactionCtx().getId());
-    if (standardTransactionSession.getCookie() != null
-        || !standardTransactionSession.getCookie().isEmpty()) {
-      transactionHeaders.put(OUTBOUND_COOKIE_KEY, standardTransactionSession.getCookie());
-    }
-    // attach headers
-    return blockingStub.withInterceptors(
-        MetadataUtils.newAttachHeadersInterceptor(transactionHeaders));
-  }
-
-  public static ReadRequestOptions readOneDefaultReadRequestOptions() {
-    ReadRequestOptions readRequestOptions = new ReadRequestOptions();
-    readRequestOptions.setLimit(1L);
-    readRequestOptions.setSkip(0L);
-    return readRequestOptions;
+    return standardTransactionSession.transactional(blockingStub);
   }
 
   public static Api.DropCollectionRequest toDropCollectionRequest(
@@ -143,7 +121,9 @@ final class TypeConverter {
       String databaseName, TransactionOptions transactionOptions) {
     return Api.BeginTransactionRequest.newBuilder()
         .setProject(databaseName)
-        .setOptions(Api.TransactionOptions.newBuilder().build())
+        .setOptions(
+            (transactionOptions == null ? TransactionOptions.DEFAULT_INSTANCE : transactionOptions)
+                .toApi())
         .build();
   }
 
@@ -154,18 +134,12 @@ final class TypeConverter {
       ReadFields fields,
       ReadRequestOptions readRequestOptions,
       ObjectMapper objectMapper) {
-    Api.ReadRequestOptions readRequestOptionsAPI =
-        Api.ReadRequestOptions.newBuilder()
-            .setLimit(readRequestOptions.getLimit())
-            .setSkip(readRequestOptions.getSkip())
-            .build();
-
     Api.ReadRequest.Builder readRequestBuilder =
         Api.ReadRequest.newBuilder()
             .setProject(databaseName)
             .setCollection(collectionName)
-            .setFilter(ByteString.copyFromUtf8(filter.toJSON(objectMapper)))
-            .setOptions(readRequestOptionsAPI);
+            .setFilter(FilterWriter.toByteString(filter, objectMapper))
+            .setOptions(readRequestOptions.toApi());
     if (!fields.isEmpty()) {
       readRequestBuilder.setFields(ByteString.copyFromUtf8(fields.toJSON(objectMapper)));
     }
@@ -189,7 +163,7 @@ final class TypeConverter {
       builder.addAllSearchFields(req.getSearchFields().getFields());
     }
     if (Objects.nonNull(req.getFilter())) {
-      builder.setFilter(ByteString.copyFromUtf8(req.getFilter().toJSON(objectMapper)));
+      builder.setFilter(FilterWriter.toByteString(req.getFilter(), objectMapper));
     }
     if (Objects.nonNull(req.getFacetQuery())) {
       builder.setFacet(ByteString.copyFromUtf8(req.getFacetQuery().toJSON(objectMapper)));
@@ -215,10 +189,7 @@ final class TypeConverter {
         Api.InsertRequest.newBuilder()
             .setProject(databaseName)
             .setCollection(collectionName)
-            .setOptions(
-                Api.InsertRequestOptions.newBuilder()
-                    .setWriteOptions(toWriteOptions(insertRequestOptions.getWriteOptions()))
-                    .build());
+            .setOptions(insertRequestOptions.toApi());
     for (T document : documents) {
       insertRequestBuilder.addDocuments(
           ByteString.copyFromUtf8(objectMapper.writeValueAsString(document)));
@@ -226,6 +197,19 @@ final class TypeConverter {
     return insertRequestBuilder.build();
   }
 
+  public static Api.InsertRequest toRawInsertRequest(
+      String databaseName,
+      String collectionName,
+      List<ByteString> documents,
+      InsertRequestOptions insertRequestOptions) {
+    return Api.InsertRequest.newBuilder()
+        .setProject(databaseName)
+        .setCollection(collectionName)
+        .setOptions(insertRequestOptions.toApi())
+        .addAllDocuments(documents)
+        .build();
+  }
+
   public static Map<String, Object>[] toArrayOfMap(
       List<ByteString> keys, ObjectMapper objectMapper) {
     try {
@@ -268,11 +252,7 @@ final class TypeConverter {
         Api.ReplaceRequest.newBuilder()
             .setProject(databaseName)
             .setCollection(collectionName)
-            .setOptions(
-                Api.ReplaceRequestOptions.newBuilder()
-                    .setWriteOptions(
-                        toWriteOptions(insertOrReplaceRequestOptions.getWriteOptions()))
-                    .build());
+            .setOptions(insertOrReplaceRequestOptions.toApi());
     for (T document : documents) {
       replaceRequestBuilder.addDocuments(
           ByteString.copyFromUtf8(objectMapper.writeValueAsString(document)));
@@ -280,6 +260,19 @@ final class TypeConverter {
     return replaceRequestBuilder.build();
   }
 
+  public static Api.ReplaceRequest toRawReplaceRequest(
+      String databaseName,
+      String collectionName,
+      List<ByteString> documents,
+      InsertOrReplaceRequestOptions insertOrReplaceRequestOptions) {
+    return Api.ReplaceRequest.newBuilder()
+        .setProject(databaseName)
+        .setCollection(collectionName)
+        .setOptions(insertOrReplaceRequestOptions.toApi())
+        .addAllDocuments(documents)
+        .build();
+  }
+
   public static Api.UpdateRequest toUpdateRequest(
       String databaseName,
       String collectionName,
@@ -291,12 +284,9 @@ final class TypeConverter {
     return Api.UpdateRequest.newBuilder()
         .setProject(databaseName)
         .setCollection(collectionName)
-        .setFilter(ByteString.copyFromUtf8(filter.toJSON(objectMapper)))
+        .setFilter(FilterWriter.toByteString(filter, objectMapper))
         .setFields(ByteString.copyFromUtf8(updateFields.toJSON(objectMapper)))
-        .setOptions(
-            Api.UpdateRequestOptions.newBuilder()
-                .setWriteOptions(toWriteOptions(updateRequestOptions.getWriteOptions()))
-                .build())
+        .setOptions(updateRequestOptions.toApi())
         .build();
   }
 
@@ -309,11 +299,8 @@ final class TypeConverter {
     return Api.DeleteRequest.newBuilder()
         .setProject(databaseName)
         .setCollection(collectionName)
-        .setFilter(ByteString.copyFromUtf8(filter.toJSON(objectMapper)))
-        .setOptions(
-            Api.DeleteRequestOptions.newBuilder()
-                .setWriteOptions(toWriteOptions(deleteRequestOptions.getWriteOptions()))
-                .build())
+        .setFilter(FilterWriter.toByteString(filter, objectMapper))
+        .setOptions(deleteRequestOptions.toApi())
         .build();
   }
 
@@ -329,13 +316,8 @@ final class TypeConverter {
   }
 
   public static Api.CollectionOptions toCollectionOptions(CollectionOptions collectionOptions) {
-    Api.CollectionOptions.Builder collectionsOptionBuilder = Api.CollectionOptions.newBuilder();
-    return collectionsOptionBuilder.build();
-  }
-
-  private static Api.WriteOptions toWriteOptions(WriteOptions writeOptions) {
-    Api.WriteOptions.Builder writeOptionsBuilder = Api.WriteOptions.newBuilder();
-    return writeOptionsBuilder.build();
+    return (collectionOptions == null ? CollectionOptions.DEFAULT_INSTANCE : collectionOptions)
+        .toApi();
   }
 
   public static CollectionDescription toCollectionDescription(
@@ -13,26 +13,36 @@
  */
 package com.tigrisdata.db.client;
 
+import com.tigrisdata.db.api.v1.grpc.Api;
+
 import java.util.Objects;
 
 /** represents options for UpdateRequest */
-public class UpdateRequestOptions {
-  private WriteOptions writeOptions;
+public final class UpdateRequestOptions {
+  public static final UpdateRequestOptions DEFAULT_INSTANCE = new UpdateRequestOptions();
+
+  private final WriteOptions writeOptions;
+  private final Api.UpdateRequestOptions apiOptions;
 
   public UpdateRequestOptions() {
-    this.writeOptions = WriteOptions.DEFAULT_INSTANCE;
+    this(WriteOptions.DEFAULT_INSTANCE);
   }
 
   public UpdateRequestOptions(WriteOptions writeOptions) {
     this.writeOptions = writeOptions;
+    this.apiOptions =
+        Api.UpdateRequestOptions.newBuilder()
+            .setWriteOptions(WriteOptions.toApi(writeOptions))
+            .build();
   }
 
   public WriteOptions getWriteOptions() {
     return writeOptions;
   }
 
-  public void setWriteOptions(WriteOptions writeOptions) {
-    this.writeOptions = writeOptions;
+  /** @return protobuf counterpart, built once */
+  Api.UpdateRequestOptions toApi() {
+    return apiOptions;
   }
 
   @Override
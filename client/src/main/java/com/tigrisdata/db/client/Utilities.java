@@ -176,7 +176,12 @@ final class Utilities {
         new FutureCallback<F>() {
           @Override
           public void onSuccess(F f) {
-            result.complete(converter.apply(f));
+            try {
+              result.complete(converter.apply(f));
+            } catch (RuntimeException ex) {
+              // the callback executor only logs, the future would never complete
+              result.completeExceptionally(new TigrisException(errorMessage, ex));
+            }
           }
 
           @Override
@@ -266,6 +271,67 @@ final class Utilities {
     return result;
   }
 
+  /**
+   * Unwraps a collection created by this client to access its internal operations.
+   *
+   * @param collection {@link TigrisCollection} or {@link TigrisAsyncCollection}
+   * @param <T> type of the collection
+   * @return the collection implementation
+   * @throws IllegalArgumentException if the collection was not created by this client
+   */
+  static <T extends TigrisCollectionType> AbstractTigrisCollection<T> toAbstractCollection(
+      Object collection) {
+    if (!(collection instanceof AbstractTigrisCollection)) {
+      throw new IllegalArgumentException(
+          "Only collections created by the Tigris client are supported");
+    }
+    return (AbstractTigrisCollection<T>) collection;
+  }
+
+  /**
+   * Future of an optional operation that the collection implementation does not support.
+   *
+   * @param <T> type of the future
+   * @return future failed with a {@link TigrisException}
+   */
+  static <T> CompletableFuture<T> unsupportedOperation() {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    result.completeExceptionally(new TigrisException(Constants.OPERATION_NOT_SUPPORTED));
+    return result;
+  }
+
+  /**
+   * Reports to the callback of an optional streaming operation that the collection implementation
+   * does not support it.
+   *
+   * @param callback callback of the operation
+   * @return handle that has nothing to cancel
+   */
+  static TigrisReadHandle unsupportedRead(TigrisAsyncCallback<?> callback) {
+    callback.onError(new TigrisException(Constants.OPERATION_NOT_SUPPORTED));
+    return () -> {};
+  }
+
+  /**
+   * Publisher of an optional operation that the collection implementation does not support.
+   *
+   * @param <T> type of the published items
+   * @return publisher that signals a {@link TigrisException} right after the subscription
+   */
+  static <T> TigrisPublisher<T> unsupportedPublisher() {
+    return subscriber -> {
+      subscriber.onSubscribe(
+          new TigrisSubscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {}
+          });
+      subscriber.onError(new TigrisException(Constants.OPERATION_NOT_SUPPORTED));
+    };
+  }
+
   static class ConvertedIterator<F, T> implements Iterator<T> {
 
     private final Iterator<F> sourceIterator;
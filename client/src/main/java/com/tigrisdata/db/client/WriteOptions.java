@@ -13,6 +13,16 @@
  */
 package com.tigrisdata.db.client;
 
+import com.tigrisdata.db.api.v1.grpc.Api;
+
 class WriteOptions {
   public static final WriteOptions DEFAULT_INSTANCE = new WriteOptions();
+
+  private static final Api.WriteOptions API_DEFAULT_INSTANCE =
+      Api.WriteOptions.getDefaultInstance();
+
+  /** @return protobuf counterpart of the write options, missing options are the defaults */
+  static Api.WriteOptions toApi(WriteOptions writeOptions) {
+    return API_DEFAULT_INSTANCE;
+  }
 }
@@ -38,6 +38,9 @@ public class TigrisConfiguration {
   private final TigrisConfiguration.NetworkConfig network;
   private final TigrisConfiguration.AuthConfig authConfig;
   private final ObjectMapper objectMapper;
+  private final boolean readCoalescing;
+  private final TigrisConfiguration.NearCacheConfig nearCache;
+  private final TigrisConfiguration.NegativeCacheConfig negativeCache;
 
   private TigrisConfiguration(Builder builder) {
     this.serverURL = builder.baseURL;
@@ -45,6 +48,9 @@ public class TigrisConfiguration {
     this.network = builder.network;
     this.objectMapper = builder.objectMapper;
     this.authConfig = builder.authConfig;
+    this.readCoalescing = builder.readCoalescing;
+    this.nearCache = builder.nearCache;
+    this.negativeCache = builder.negativeCache;
   }
 
   /**
@@ -77,6 +83,20 @@ public class TigrisConfiguration {
     return authConfig;
   }
 
+  public boolean isReadCoalescing() {
+    return readCoalescing;
+  }
+
+  /** @return near cache configuration, null when the near cache is disabled */
+  public NearCacheConfig getNearCache() {
+    return nearCache;
+  }
+
+  /** @return negative cache configuration, null when the negative cache is disabled */
+  public NegativeCacheConfig getNegativeCache() {
+    return negativeCache;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -85,12 +105,16 @@ public class TigrisConfiguration {
     return Objects.equals(serverURL, that.serverURL)
         && Objects.equals(network, that.network)
         && Objects.equals(authConfig, that.authConfig)
-        && Objects.equals(objectMapper, that.objectMapper);
+        && Objects.equals(objectMapper, that.objectMapper)
+        && readCoalescing == that.readCoalescing
+        && Objects.equals(nearCache, that.nearCache)
+        && Objects.equals(negativeCache, that.negativeCache);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(serverURL, network, authConfig, objectMapper);
+    return Objects.hash(
+        serverURL, network, authConfig, objectMapper, readCoalescing, nearCache, negativeCache);
   }
 
   /** Builder class for {@link TigrisConfiguration} */
@@ -103,6 +127,9 @@ public class TigrisConfiguration {
     private TigrisConfiguration.AuthConfig authConfig;
     private boolean keepIsPrefixForBooleanFields;
     private ObjectMapper objectMapper;
+    private boolean readCoalescing;
+    private TigrisConfiguration.NearCacheConfig nearCache;
+    private TigrisConfiguration.NegativeCacheConfig negativeCache;
 
     private Builder(String baseURL, String projectName) {
       this.baseURL = baseURL;
@@ -188,6 +215,43 @@ public class TigrisConfiguration {
       return this;
     }
 
+    /**
+     * Coalesces concurrent identical point reads. While a {@code readOne} is in flight, identical
+     * {@code readOne} calls outside of transactions wait for its result instead of issuing their
+     * own call, so a hot key costs one call per round trip rather than one per caller.
+     *
+     * @return ongoing builder
+     */
+    public Builder withReadCoalescing() {
+      this.readCoalescing = true;
+      return this;
+    }
+
+    /**
+     * Enables the near cache, a client side cache of {@code readOne} results. See {@link
+     * NearCacheConfig}.
+     *
+     * @param nearCache near cache config
+     * @return ongoing builder
+     */
+    public Builder withNearCache(TigrisConfiguration.NearCacheConfig nearCache) {
+      this.nearCache = nearCache;
+      return this;
+    }
+
+    /**
+     * Enables the negative cache, which remembers the filters of recent {@code readOne} calls that
+     * found no document and answers repeated ones without a server round trip. See {@link
+     * NegativeCacheConfig}.
+     *
+     * @param negativeCache negative cache config
+     * @return ongoing builder
+     */
+    public Builder withNegativeCache(TigrisConfiguration.NegativeCacheConfig negativeCache) {
+      this.negativeCache = negativeCache;
+      return this;
+    }
+
     public TigrisConfiguration build() {
       if (!this.baseURL.contains(":")) {
         this.baseURL = this.baseURL + ":" + DEFAULT_GRPC_PORT;
@@ -219,12 +283,16 @@ public class TigrisConfiguration {
       return Objects.equals(baseURL, builder.baseURL)
           && Objects.equals(network, builder.network)
           && Objects.equals(authConfig, builder.authConfig)
-          && Objects.equals(objectMapper, builder.objectMapper);
+          && Objects.equals(objectMapper, builder.objectMapper)
+          && readCoalescing == builder.readCoalescing
+          && Objects.equals(nearCache, builder.nearCache)
+          && Objects.equals(negativeCache, builder.negativeCache);
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(baseURL, network, authConfig, objectMapper);
+      return Objects.hash(
+          baseURL, network, authConfig, objectMapper, readCoalescing, nearCache, negativeCache);
     }
   }
 
@@ -262,6 +330,206 @@ public class TigrisConfiguration {
     }
   }
 
+  /**
+   * Near cache configuration. The near cache keeps the documents returned by {@code readOne}
+   * outside of transactions, in their serialized form, bounded by their total size. Entries expire
+   * after the time to live, and writes through the same client invalidate the entries of the
+   * written collection. Writes by other clients are only observed once the entries expire.
+   */
+  public static class NearCacheConfig {
+    private final long maximumWeight;
+    private final Duration timeToLive;
+
+    public static Builder newBuilder() {
+      return new Builder();
+    }
+
+    private NearCacheConfig(Builder builder) {
+      this.maximumWeight = builder.maximumWeight;
+      this.timeToLive = builder.timeToLive;
+    }
+
+    /** @return maximum total size of the cached entries in bytes */
+    public long getMaximumWeight() {
+      return maximumWeight;
+    }
+
+    public Duration getTimeToLive() {
+      return timeToLive;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      NearCacheConfig that = (NearCacheConfig) o;
+      return maximumWeight == that.maximumWeight && Objects.equals(timeToLive, that.timeToLive);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(maximumWeight, timeToLive);
+    }
+
+    /** Builder class for {@link NearCacheConfig} */
+    public static class Builder {
+      public static final long DEFAULT_MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+      public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(60);
+
+      private long maximumWeight;
+      private Duration timeToLive;
+
+      public Builder() {
+        this.maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+        this.timeToLive = DEFAULT_TIME_TO_LIVE;
+      }
+
+      /**
+       * Bounds the total size of the cached entries, defaults to 32MB
+       *
+       * @param maximumWeight size in bytes
+       * @return ongoing builder
+       */
+      public Builder withMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        return this;
+      }
+
+      /**
+       * Sets how long an entry is served after it was read, defaults to 60 seconds
+       *
+       * @param timeToLive duration of time
+       * @return ongoing builder
+       */
+      public Builder withTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+      }
+
+      public NearCacheConfig build() {
+        if (maximumWeight < 1 || timeToLive == null || timeToLive.isNegative()) {
+          throw new IllegalArgumentException(
+              "maximumWeight must be positive and timeToLive must not be negative");
+        }
+        return new NearCacheConfig(this);
+      }
+    }
+  }
+
+  /**
+   * Negative cache configuration. Misses are recorded per collection in Bloom filters that are
+   * rotated as they age, so a recorded miss is served for at most the time to live. A Bloom filter
+   * may report a key it has never seen, such a false positive answers {@code readOne} with an empty
+   * result for an existing document; the probability is bounded by the configured false positive
+   * probability.
+   */
+  public static class NegativeCacheConfig {
+    private final int expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Duration timeToLive;
+
+    public static Builder newBuilder() {
+      return new Builder();
+    }
+
+    private NegativeCacheConfig(Builder builder) {
+      this.expectedInsertions = builder.expectedInsertions;
+      this.falsePositiveProbability = builder.falsePositiveProbability;
+      this.timeToLive = builder.timeToLive;
+    }
+
+    /** @return number of misses a collection's filter is sized for */
+    public int getExpectedInsertions() {
+      return expectedInsertions;
+    }
+
+    public double getFalsePositiveProbability() {
+      return falsePositiveProbability;
+    }
+
+    public Duration getTimeToLive() {
+      return timeToLive;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      NegativeCacheConfig that = (NegativeCacheConfig) o;
+      return expectedInsertions == that.expectedInsertions
+          && Double.compare(that.falsePositiveProbability, falsePositiveProbability) == 0
+          && Objects.equals(timeToLive, that.timeToLive);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(expectedInsertions, falsePositiveProbability, timeToLive);
+    }
+
+    /** Builder class for {@link NegativeCacheConfig} */
+    public static class Builder {
+      public static final int DEFAULT_EXPECTED_INSERTIONS = 10_000;
+      public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.0001;
+      public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(10);
+
+      private int expectedInsertions;
+      private double falsePositiveProbability;
+      private Duration timeToLive;
+
+      public Builder() {
+        this.expectedInsertions = DEFAULT_EXPECTED_INSERTIONS;
+        this.falsePositiveProbability = DEFAULT_FALSE_POSITIVE_PROBABILITY;
+        this.timeToLive = DEFAULT_TIME_TO_LIVE;
+      }
+
+      /**
+       * Sizes the filter of each collection, defaults to 10000 misses
+       *
+       * @param expectedInsertions number of misses per time to live
+       * @return ongoing builder
+       */
+      public Builder withExpectedInsertions(int expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+        return this;
+      }
+
+      /**
+       * Sets the probability of answering a read with a miss that was never recorded, defaults to
+       * 0.0001
+       *
+       * @param falsePositiveProbability probability between 0 and 1, exclusive
+       * @return ongoing builder
+       */
+      public Builder withFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+        return this;
+      }
+
+      /**
+       * Sets how long a miss is served after it was recorded, defaults to 10 seconds
+       *
+       * @param timeToLive duration of time
+       * @return ongoing builder
+       */
+      public Builder withTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+      }
+
+      public NegativeCacheConfig build() {
+        if (expectedInsertions < 1
+            || !(falsePositiveProbability > 0 && falsePositiveProbability < 1)
+            || timeToLive == null
+            || timeToLive.isNegative()) {
+          throw new IllegalArgumentException(
+              "expectedInsertions must be positive, falsePositiveProbability must be between 0"
+                  + " and 1 and timeToLive must not be negative");
+        }
+        return new NegativeCacheConfig(this);
+      }
+    }
+  }
+
   /** Tigris network related configuration */
   public static class NetworkConfig {
 
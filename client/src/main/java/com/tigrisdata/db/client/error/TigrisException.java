@@ -25,6 +25,11 @@ public class TigrisException extends Exception {
     this.tigrisErrorOptional = tigrisErrorOptional;
   }
 
+  public TigrisException(String message) {
+    super(message);
+    this.tigrisErrorOptional = Optional.empty();
+  }
+
   public TigrisException(String message, Throwable cause) {
     super(message, cause);
     this.tigrisErrorOptional = Optional.empty();
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client.search;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import java.util.Objects;
+
+/**
+ * Representation of {@link Api.SearchHit} that provides the document as raw JSON bytes, as received
+ * from the server, and associated metadata
+ */
+public final class RawHit {
+
+  private final ByteString document;
+  private final HitMeta meta;
+
+  private RawHit(ByteString document, HitMeta meta) {
+    this.document = document;
+    this.meta = meta;
+  }
+
+  /**
+   * Raw JSON bytes of the matched document
+   *
+   * @return {@link ByteString}
+   */
+  public ByteString getDocument() {
+    return document;
+  }
+
+  /**
+   * Relevance metadata for matched document
+   *
+   * @return {@link HitMeta}
+   */
+  public HitMeta getMeta() {
+    return meta;
+  }
+
+  /**
+   * Conversion utility for creating {@link RawHit} from server response
+   *
+   * @param resp {@link Api.SearchHit} from server response
+   * @return {@link RawHit}
+   */
+  static RawHit from(Api.SearchHit resp) {
+    Objects.requireNonNull(resp);
+    return new RawHit(resp.getData(), HitMeta.from(resp.getMetadata()));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    RawHit rawHit = (RawHit) o;
+
+    if (!Objects.equals(document, rawHit.document)) {
+      return false;
+    }
+    return Objects.equals(meta, rawHit.meta);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = document != null ? document.hashCode() : 0;
+    result = 31 * result + (meta != null ? meta.hashCode() : 0);
+    return result;
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.grpc.ContextSettingServerInterceptor;
+import com.tigrisdata.db.client.grpc.CookieSetterServerInterceptor;
+import com.tigrisdata.db.client.grpc.TransactionTestTigrisService;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+public class AsyncTransactionSessionTest {
+  private static String SERVER_NAME;
+  private static final TransactionTestTigrisService TEST_TRANSACTION_USER_SERVICE =
+      new TransactionTestTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .intercept(new CookieSetterServerInterceptor())
+                .intercept(new ContextSettingServerInterceptor())
+                .addService(TEST_TRANSACTION_USER_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_TRANSACTION_USER_SERVICE.reset();
+  }
+
+  @Test
+  public void testWritesAndCommit() throws Exception {
+    TigrisAsyncDatabase db1 =
+        TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1").getDatabase();
+    AsyncTransactionSession session =
+        db1.beginAsyncTransaction(TransactionOptions.DEFAULT_INSTANCE).get();
+    TigrisAsyncCollection<DB1_C1> collection = db1.getCollection(DB1_C1.class);
+
+    Assert.assertEquals(1, collection.insert(session, new DB1_C1(5, "foo")).get().getKeys().length);
+    collection.insertOrReplace(session, Collections.singletonList(new DB1_C1(6, "bar"))).get();
+    collection
+        .update(
+            session, Filters.eq("id", 5), UpdateFields.newBuilder().set("name", "new name").build())
+        .get();
+    collection.delete(session, Filters.eq("id", 0L)).get();
+    session.commit().get();
+  }
+
+  @Test
+  public void testSessionWrappingBlockingSession() throws Exception {
+    TigrisAsyncDatabase db1 =
+        TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1").getDatabase();
+    // what the default beginAsyncTransaction of other database implementations returns
+    AsyncTransactionSession session =
+        new BlockingAsyncTransactionSession(
+            db1.beginTransaction(TransactionOptions.DEFAULT_INSTANCE).get());
+    TigrisAsyncCollection<DB1_C1> collection = db1.getCollection(DB1_C1.class);
+
+    Assert.assertEquals(1, collection.insert(session, new DB1_C1(5, "foo")).get().getKeys().length);
+    Assert.assertNotNull(session.commit().get());
+  }
+
+  @Test
+  public void testReads() throws Exception {
+    TigrisAsyncDatabase db1 =
+        TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1").getDatabase();
+    AsyncTransactionSession session =
+        db1.beginAsyncTransaction(TransactionOptions.DEFAULT_INSTANCE).get();
+    TigrisAsyncCollection<DB1_C1> collection = db1.getCollection(DB1_C1.class);
+
+    Assert.assertEquals(
+        Optional.of(new DB1_C1(3L, "db1_c1_d3")),
+        collection.readOne(session, Filters.eq("id", 3L)).get());
+
+    List<DB1_C1> documents = new ArrayList<>();
+    CompletableFuture<Void> completed = new CompletableFuture<>();
+    collection.read(
+        session,
+        Filters.nothing(),
+        new TigrisAsyncReader<DB1_C1>() {
+          @Override
+          public void onNext(DB1_C1 document) {
+            documents.add(document);
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            completed.completeExceptionally(t);
+          }
+
+          @Override
+          public void onCompleted() {
+            completed.complete(null);
+          }
+        });
+    completed.get();
+    Assert.assertEquals(5, documents.size());
+    session.rollback().get();
+  }
+
+  @Test
+  public void testCommitOnlyOnce() throws Exception {
+    TigrisAsyncDatabase db1 =
+        TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1").getDatabase();
+    AsyncTransactionSession session =
+        db1.beginAsyncTransaction(TransactionOptions.DEFAULT_INSTANCE).get();
+    session.commit().get();
+    try {
+      session.commit().get();
+      Assert.fail("above is expected to fail");
+    } catch (ExecutionException executionException) {
+      Assert.assertTrue(executionException.getCause() instanceof TigrisException);
+      Assert.assertTrue(
+          executionException
+              .getCause()
+              .getMessage()
+              .startsWith(Constants.COMMIT_TRANSACTION_FAILED));
+    }
+  }
+}
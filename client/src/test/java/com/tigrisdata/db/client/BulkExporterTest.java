@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BulkExporterTest {
+
+  private static String SERVER_NAME;
+  private static final TestTigrisService TEST_USER_SERVICE = new TestTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final String EXPECTED_NDJSON =
+      "{\"id\":0,\"name\":\"db1_c1_d0\"}\n"
+          + "{\"id\":1,\"name\":\"db1_c1_d1\"}\n"
+          + "{\"id\":2,\"name\":\"db1_c1_d2\"}\n"
+          + "{\"id\":3,\"name\":\"db1_c1_d3\"}\n"
+          + "{\"id\":4,\"name\":\"db1_c1_d4\"}\n";
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_USER_SERVICE.reset();
+  }
+
+  @Test
+  public void testExportToStream() throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BulkExportStats stats =
+        BulkExporter.newBuilder(getCollection()).build().exportTo(outputStream, Filters.nothing());
+    Assert.assertEquals(EXPECTED_NDJSON, outputStream.toString("UTF-8"));
+    Assert.assertEquals(5, stats.getDocuments());
+    Assert.assertEquals(EXPECTED_NDJSON.length(), stats.getBytes());
+  }
+
+  @Test
+  public void testExportToFile() throws Exception {
+    Path file = temporaryFolder.newFile().toPath();
+    BulkExportStats stats =
+        BulkExporter.newBuilder(getCollection())
+            .withBufferSize(16)
+            .build()
+            .exportTo(file, Filters.nothing());
+    Assert.assertEquals(
+        EXPECTED_NDJSON, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    Assert.assertEquals(5, stats.getDocuments());
+    Assert.assertEquals(Files.size(file), stats.getBytes());
+  }
+
+  @Test
+  public void testCompressedExportToFile() throws Exception {
+    Path file = temporaryFolder.newFile().toPath();
+    BulkExporter.newBuilder(getCollection())
+        .withCompression()
+        .build()
+        .exportTo(file, Filters.nothing());
+    Assert.assertEquals(EXPECTED_NDJSON, gunzip(file));
+  }
+
+  @Test
+  public void testExportShards() throws Exception {
+    Path directory = temporaryFolder.newFolder().toPath();
+    BulkExporter<DB1_C1> exporter =
+        BulkExporter.newBuilder(getCollection()).withCompression().withParallelism(2).build();
+    List<BulkExportStats> stats =
+        exporter.exportShards(
+            directory,
+            Arrays.asList(Filters.eq("id", 1), Filters.eq("id", 3), Filters.eq("id", 4)));
+
+    Assert.assertEquals(3, stats.size());
+    Assert.assertEquals(
+        "{\"id\":3,\"name\":\"db1_c1_d3\"}\n", gunzip(directory.resolve("db1_c1-1.ndjson.gz")));
+    Assert.assertEquals(
+        "{\"id\":4,\"name\":\"db1_c1_d4\"}\n", gunzip(directory.resolve("db1_c1-2.ndjson.gz")));
+    for (BulkExportStats shardStats : stats) {
+      Assert.assertEquals(1, shardStats.getDocuments());
+    }
+  }
+
+  @Test
+  public void testExportKeyRanges() throws Exception {
+    Path directory = temporaryFolder.newFolder().toPath();
+    List<BulkExportStats> stats =
+        BulkExporter.newBuilder(getCollection())
+            .build()
+            .exportKeyRanges(directory, Filters.nothing(), "id", 2, 4);
+    Assert.assertEquals(3, stats.size());
+    for (int i = 0; i < 3; i++) {
+      Assert.assertTrue(Files.exists(directory.resolve("db1_c1-" + i + ".ndjson")));
+    }
+  }
+
+  private TigrisCollection<DB1_C1> getCollection() {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    return client.getDatabase().getCollection(DB1_C1.class);
+  }
+
+  private static String gunzip(Path file) throws IOException {
+    try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(file))) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[1024];
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        outputStream.write(buffer, 0, read);
+      }
+      return outputStream.toString("UTF-8");
+    }
+  }
+}
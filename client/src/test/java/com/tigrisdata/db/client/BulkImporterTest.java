@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BulkImporterTest {
+
+  private static String SERVER_NAME;
+  private static final List<ByteString> INSERTED_DOCUMENTS = new CopyOnWriteArrayList<>();
+  private static final AtomicInteger ACKNOWLEDGED_INSERTS = new AtomicInteger();
+  private static final ScheduledExecutorService DELAYED_RESPONSES =
+      Executors.newSingleThreadScheduledExecutor();
+  private static volatile long insertDelayMillis;
+  private static final TestTigrisService TEST_USER_SERVICE =
+      new TestTigrisService() {
+        @Override
+        public synchronized void insert(
+            Api.InsertRequest request, StreamObserver<Api.InsertResponse> responseObserver) {
+          INSERTED_DOCUMENTS.addAll(request.getDocumentsList());
+          if (insertDelayMillis == 0) {
+            ACKNOWLEDGED_INSERTS.incrementAndGet();
+            super.insert(request, responseObserver);
+            return;
+          }
+          DELAYED_RESPONSES.schedule(
+              () -> {
+                // counted before the response is sent, so the importer cannot observe the
+                // acknowledgement before the counter moves
+                ACKNOWLEDGED_INSERTS.incrementAndGet();
+                super.insert(request, responseObserver);
+              },
+              insertDelayMillis,
+              TimeUnit.MILLISECONDS);
+        }
+      };
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_USER_SERVICE.reset();
+    INSERTED_DOCUMENTS.clear();
+    ACKNOWLEDGED_INSERTS.set(0);
+    insertDelayMillis = 0;
+  }
+
+  @Test
+  public void testImportNDJSON() throws Exception {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      content.append("{\"id\":").append(100 + i).append(",\"name\":\"imported_").append(i);
+      content.append("\"}").append(i % 10 == 0 ? "\r\n\n" : "\n");
+    }
+    Path file = write(content.toString());
+
+    TigrisCollection<DB1_C1> collection = getCollection();
+    AtomicLong lastReported = new AtomicLong();
+    BulkImportStats stats =
+        BulkImporter.newBuilder(collection)
+            .withBatchSize(7)
+            .withParallelism(4)
+            .withMaxInFlightBatches(3)
+            .withProgressListener(
+                progress -> lastReported.accumulateAndGet(progress.getDocuments(), Math::max))
+            .build()
+            .importFile(file);
+
+    Assert.assertEquals(100, stats.getDocuments());
+    Assert.assertEquals(100, lastReported.get());
+    Assert.assertEquals(Files.size(file), stats.getTotalBytes());
+    Assert.assertTrue(stats.getBatches() >= 15);
+    List<DB1_C1> docs = readAll(collection);
+    Assert.assertEquals(105, docs.size());
+    Assert.assertTrue(docs.contains(new DB1_C1(199, "imported_99")));
+  }
+
+  @Test
+  public void testImportNDJSONWithByteOrderMark() throws Exception {
+    Path file = write("\uFEFF{\"id\":10,\"name\":\"a\"}\n{\"id\":11,\"name\":\"b\"}\n");
+
+    TigrisCollection<DB1_C1> collection = getCollection();
+    BulkImportStats stats =
+        BulkImporter.newBuilder(collection).withParallelism(2).build().importFile(file);
+
+    Assert.assertEquals(2, stats.getDocuments());
+    Assert.assertTrue(
+        INSERTED_DOCUMENTS.contains(ByteString.copyFromUtf8("{\"id\":10,\"name\":\"a\"}")));
+    Assert.assertTrue(
+        INSERTED_DOCUMENTS.contains(ByteString.copyFromUtf8("{\"id\":11,\"name\":\"b\"}")));
+  }
+
+  @Test
+  public void testImportByteOrderMarkOnly() throws Exception {
+    BulkImportStats stats =
+        BulkImporter.newBuilder(getCollection()).build().importFile(write("\uFEFF"));
+    Assert.assertEquals(0, stats.getDocuments());
+    Assert.assertTrue(INSERTED_DOCUMENTS.isEmpty());
+  }
+
+  @Test
+  public void testImportJSONArray() throws Exception {
+    Path file =
+        write(
+            " [ {\"id\": 10, \"name\": \"a\"},\n{\"id\": 11, \"name\": \"[b]\", \"tags\": {\"x\": [1]}} ]");
+
+    TigrisCollection<DB1_C1> collection = getCollection();
+    BulkImportStats stats = BulkImporter.newBuilder(collection).build().importFile(file);
+
+    Assert.assertEquals(2, stats.getDocuments());
+    Assert.assertEquals(1, stats.getBatches());
+    List<DB1_C1> docs = readAll(collection);
+    Assert.assertTrue(docs.contains(new DB1_C1(10, "a")));
+    Assert.assertTrue(docs.contains(new DB1_C1(11, "[b]")));
+  }
+
+  @Test
+  public void testImportEmptyFile() throws Exception {
+    BulkImportStats stats = BulkImporter.newBuilder(getCollection()).build().importFile(write(""));
+    Assert.assertEquals(0, stats.getDocuments());
+  }
+
+  @Test
+  public void testImportInvalidArray() throws Exception {
+    try {
+      BulkImporter.newBuilder(getCollection())
+          .withFormat(BulkImportFormat.JSON_ARRAY)
+          .build()
+          .importFile(write("[1, 2]"));
+      Assert.fail("This must fail");
+    } catch (TigrisException ex) {
+      Assert.assertEquals(Constants.BULK_IMPORT_INVALID_DOCUMENT, ex.getMessage());
+    }
+  }
+
+  @Test
+  public void testInvalidDocumentWaitsForSentBatches() throws Exception {
+    insertDelayMillis = 200;
+    try {
+      BulkImporter.newBuilder(getCollection())
+          .withBatchSize(1)
+          .build()
+          .importFile(write("[{\"id\": 10, \"name\": \"a\"}, {\"id\": 11, \"name\": \"b\"}, 1]"));
+      Assert.fail("This must fail");
+    } catch (TigrisException ex) {
+      Assert.assertEquals(Constants.BULK_IMPORT_INVALID_DOCUMENT, ex.getMessage());
+    }
+    Assert.assertEquals(2, INSERTED_DOCUMENTS.size());
+    Assert.assertEquals(2, ACKNOWLEDGED_INSERTS.get());
+  }
+
+  private TigrisCollection<DB1_C1> getCollection() {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    return client.getDatabase().getCollection(DB1_C1.class);
+  }
+
+  private Path write(String content) throws IOException {
+    Path file = temporaryFolder.newFile().toPath();
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private static List<DB1_C1> readAll(TigrisCollection<DB1_C1> collection) throws TigrisException {
+    List<DB1_C1> result = new ArrayList<>();
+    Iterator<DB1_C1> iterator = collection.readAll();
+    iterator.forEachRemaining(result::add);
+    return result;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CanonicalFilterTest {
+
+  private static final ObjectMapper DEFAULT_OBJECT_MAPPER =
+      TigrisConfiguration.newBuilder("test", "db1").build().getObjectMapper();
+
+  @Test
+  public void operandOrderDoesNotMatter() {
+    CanonicalFilter first = canonical(Filters.and(Filters.eq("a", 1), Filters.gt("b", 2)));
+    CanonicalFilter second = canonical(Filters.and(Filters.gt("b", 2), Filters.eq("a", 1)));
+    Assert.assertEquals(first, second);
+    Assert.assertEquals(first.getHash(), second.getHash());
+    Assert.assertEquals(first.hashCode(), second.hashCode());
+    Assert.assertEquals(
+        "{\"$and\":[{\"a\":1},{\"b\":{\"$gt\":2}}]}", first.toJSON(DEFAULT_OBJECT_MAPPER));
+  }
+
+  @Test
+  public void nestedOperatorsAreFlattenedAndDeduplicated() {
+    CanonicalFilter nested =
+        canonical(
+            Filters.or(
+                Filters.eq("a", 1),
+                Filters.or(Filters.eq("b", 2), Filters.eq("a", 1)),
+                Filters.and(Filters.eq("c", 3), Filters.eq("c", 3))));
+    Assert.assertEquals(
+        "{\"$or\":[{\"a\":1},{\"b\":2},{\"c\":3}]}", nested.toJSON(DEFAULT_OBJECT_MAPPER));
+    Assert.assertEquals(
+        nested, canonical(Filters.or(Filters.eq("c", 3), Filters.eq("b", 2), Filters.eq("a", 1))));
+  }
+
+  @Test
+  public void implicitAndAndShortEquality() {
+    TigrisFilter implicit = objectMapper -> "{\"b\":{\"$eq\":2,\"$lt\":5},\"a\":1}";
+    Assert.assertEquals(
+        canonical(Filters.and(Filters.eq("a", 1), Filters.eq("b", 2), Filters.lt("b", 5))),
+        canonical(implicit));
+  }
+
+  @Test
+  public void matchAllOperands() {
+    Assert.assertEquals(
+        "{}",
+        canonical(Filters.or(Filters.eq("a", 1), Filters.nothing())).toJSON(DEFAULT_OBJECT_MAPPER));
+    Assert.assertEquals(
+        "{\"a\":1}",
+        canonical(Filters.and(Filters.eq("a", 1), Filters.nothing()))
+            .toJSON(DEFAULT_OBJECT_MAPPER));
+  }
+
+  @Test
+  public void differentFiltersDiffer() {
+    Assert.assertNotEquals(
+        canonical(Filters.and(Filters.eq("a", 1), Filters.eq("b", 2))),
+        canonical(Filters.or(Filters.eq("a", 1), Filters.eq("b", 2))));
+    Assert.assertNotEquals(
+        canonical(Filters.eq("a", 1)).getHash(), canonical(Filters.eq("a", 2)).getHash());
+  }
+
+  @Test
+  public void inFilterIsCanonical() {
+    Assert.assertEquals(
+        canonical(Filters.in("id", Arrays.asList(3, 1, 2, 1))),
+        canonical(Filters.in("id", Arrays.asList(2, 3, 1))));
+  }
+
+  @Test
+  public void hashIsStable() {
+    // the fingerprint must not change between releases, it may be persisted by metrics
+    Assert.assertEquals(
+        canonical(Filters.eq("a", 1)).getHash(),
+        Hashing.farmHashFingerprint64().hashString("{\"a\":1}", StandardCharsets.UTF_8).asLong());
+  }
+
+  @Test
+  public void logicalFilterEquality() {
+    TigrisFilter first = Filters.and(Filters.eq("a", 1), Filters.eq("b", 2));
+    Assert.assertEquals(first, Filters.and(Filters.eq("a", 1), Filters.eq("b", 2)));
+    Assert.assertEquals(
+        first.hashCode(), Filters.and(Filters.eq("a", 1), Filters.eq("b", 2)).hashCode());
+    Assert.assertNotEquals(first, Filters.or(Filters.eq("a", 1), Filters.eq("b", 2)));
+  }
+
+  @Test
+  public void cachedPerFilterInstance() {
+    ClientCaches caches = new ClientCaches(DEFAULT_OBJECT_MAPPER);
+    TigrisFilter filter = Filters.and(Filters.eq("a", 1), Filters.eq("b", 2));
+    CanonicalFilter canonicalFilter = caches.canonicalFilter(filter);
+    Assert.assertSame(canonicalFilter, caches.canonicalFilter(filter));
+    // an equal filter instance is canonicalized on its own, to the same form
+    CanonicalFilter other =
+        caches.canonicalFilter(Filters.and(Filters.eq("b", 2), Filters.eq("a", 1)));
+    Assert.assertNotSame(canonicalFilter, other);
+    Assert.assertEquals(canonicalFilter, other);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nonObjectFilter() {
+    canonical(objectMapper -> "[1]");
+  }
+
+  private static CanonicalFilter canonical(TigrisFilter filter) {
+    return CanonicalFilter.of(filter, DEFAULT_OBJECT_MAPPER);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public class CursorSpliteratorTest {
+
+  @Test
+  public void testCharacteristics() {
+    Spliterator<Long> spliterator = new CursorSpliterator<>(cursor(10, null), Long.MAX_VALUE);
+    Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+    Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+    Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+    Assert.assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+  }
+
+  @Test
+  public void testEstimatedSizeFromLimit() {
+    Spliterator<Long> spliterator = new CursorSpliterator<>(cursor(10, null), 10);
+    Assert.assertEquals(10, spliterator.estimateSize());
+    spliterator.tryAdvance(item -> {});
+    Assert.assertEquals(9, spliterator.estimateSize());
+  }
+
+  @Test
+  public void testSplitsInGrowingBatches() {
+    Spliterator<Long> spliterator = new CursorSpliterator<>(cursor(5000, null), Long.MAX_VALUE);
+    Spliterator<Long> first = spliterator.trySplit();
+    Spliterator<Long> second = spliterator.trySplit();
+    Assert.assertEquals(CursorSpliterator.BATCH_UNIT, first.estimateSize());
+    Assert.assertEquals(2 * CursorSpliterator.BATCH_UNIT, second.estimateSize());
+    Assert.assertTrue(first.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+
+    List<Long> items = new ArrayList<>();
+    first.forEachRemaining(items::add);
+    second.forEachRemaining(items::add);
+    spliterator.forEachRemaining(items::add);
+    Assert.assertEquals(LongStream.range(0, 5000).boxed().collect(Collectors.toList()), items);
+    Assert.assertNull(spliterator.trySplit());
+  }
+
+  @Test
+  public void testSplitDoesNotExceedLimit() {
+    Spliterator<Long> spliterator = new CursorSpliterator<>(cursor(3, null), 3);
+    Assert.assertEquals(3, spliterator.trySplit().estimateSize());
+    Assert.assertEquals(0, spliterator.estimateSize());
+  }
+
+  @Test
+  public void testParallelStreamKeepsOrder() {
+    AtomicBoolean closed = new AtomicBoolean();
+    try (Stream<Long> stream = cursor(10_000, closed).stream()) {
+      Assert.assertEquals(
+          LongStream.range(0, 10_000).boxed().collect(Collectors.toList()),
+          stream.parallel().map(item -> item).collect(Collectors.toList()));
+    }
+    Assert.assertTrue(closed.get());
+  }
+
+  private static TigrisCursor<Long> cursor(long size, AtomicBoolean closed) {
+    Iterator<Long> items = LongStream.range(0, size).iterator();
+    return new TigrisCursor<Long>() {
+      @Override
+      public void close() {
+        if (closed != null) {
+          closed.set(true);
+        }
+      }
+
+      @Override
+      public boolean hasNext() {
+        return items.hasNext();
+      }
+
+      @Override
+      public Long next() {
+        return items.next();
+      }
+    };
+  }
+}
@@ -54,9 +54,9 @@ public class DeleteRequestOptionsTest {
 
   @Test
   public void testAccessors() {
-    DeleteRequestOptions op = new DeleteRequestOptions();
     WriteOptions writeOptions = WriteOptions.DEFAULT_INSTANCE;
-    op.setWriteOptions(writeOptions);
+    DeleteRequestOptions op = new DeleteRequestOptions(writeOptions);
     Assert.assertEquals(writeOptions, op.getWriteOptions());
+    Assert.assertSame(op.toApi(), op.toApi());
   }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class FilterEvaluatorTest {
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      TigrisConfiguration.newBuilder("test", "db1").build().getObjectMapper();
+  private static final DB1_C1 DOCUMENT = new DB1_C1(5, "alice");
+
+  @Test
+  public void testComparisons() {
+    Assert.assertTrue(matches(Filters.eq("id", 5)));
+    Assert.assertTrue(matches(Filters.eq("name", "alice")));
+    Assert.assertFalse(matches(Filters.eq("name", "bob")));
+    Assert.assertTrue(matches(Filters.lt("id", 6)));
+    Assert.assertFalse(matches(Filters.lt("id", 5)));
+    Assert.assertTrue(matches(Filters.lte("id", 5L)));
+    Assert.assertTrue(matches(Filters.gt("id", 4.5)));
+    Assert.assertFalse(matches(Filters.gt("id", 5.0f)));
+    Assert.assertTrue(matches(Filters.gte("id", 5.0)));
+    Assert.assertTrue(matches(Filters.nothing()));
+  }
+
+  @Test
+  public void testMismatchedTypesAndMissingFields() {
+    Assert.assertFalse(matches(Filters.eq("id", "5")));
+    Assert.assertFalse(matches(Filters.lt("name", 5)));
+    Assert.assertFalse(matches(Filters.gte("name", 5)));
+    Assert.assertFalse(matches(Filters.eq("missing", 1)));
+    Assert.assertFalse(matches(Filters.lt("missing", 1)));
+  }
+
+  @Test
+  public void testLogicalFilters() {
+    Assert.assertTrue(matches(Filters.and(Filters.gte("id", 1), Filters.lt("id", 10))));
+    Assert.assertFalse(matches(Filters.and(Filters.gte("id", 1), Filters.eq("name", "bob"))));
+    Assert.assertTrue(matches(Filters.or(Filters.eq("name", "bob"), Filters.eq("id", 5))));
+    Assert.assertTrue(
+        matches(
+            Filters.or(
+                Filters.eq("name", "bob"),
+                Filters.and(Filters.eq("name", "alice"), Filters.gt("id", 1)))));
+    Assert.assertTrue(matches(Filters.in("id", 1, 3, 5)));
+    Assert.assertFalse(matches(Filters.in("id", Arrays.asList(1, 3))));
+    Assert.assertTrue(
+        matches(Filters.template(Filters.eq("name", Filters.param("n"))).bind("n", "alice")));
+  }
+
+  @Test
+  public void testRawDocuments() {
+    FilterEvaluator evaluator =
+        FilterEvaluator.compile(
+            Filters.and(Filters.eq("address.city", "Paris"), Filters.gt("age", 30)), OBJECT_MAPPER);
+    Assert.assertTrue(
+        evaluator.test(
+            ByteString.copyFromUtf8("{\"age\":31,\"address\":{\"city\":\"Paris\",\"zip\":1}}")));
+    Assert.assertFalse(
+        evaluator.test(ByteString.copyFromUtf8("{\"age\":31,\"address\":{\"city\":\"Rome\"}}")));
+    Assert.assertFalse(evaluator.test(ByteString.copyFromUtf8("{\"age\":31}")));
+
+    // serialized filters, as found in requests
+    FilterEvaluator fromRequest =
+        FilterEvaluator.compile(ByteString.copyFromUtf8("{\"id\":{\"$gte\":2,\"$lt\":4},\"k\":1}"));
+    Assert.assertTrue(fromRequest.test(ByteString.copyFromUtf8("{\"id\":3,\"k\":1}")));
+    Assert.assertFalse(fromRequest.test(ByteString.copyFromUtf8("{\"id\":4,\"k\":1}")));
+    Assert.assertFalse(fromRequest.test(ByteString.copyFromUtf8("{\"id\":3,\"k\":2}")));
+    Assert.assertTrue(
+        FilterEvaluator.compile(ByteString.EMPTY).test(ByteString.copyFromUtf8("{}")));
+  }
+
+  @Test
+  public void testUnsupportedOperator() {
+    TigrisFilter regex = objectMapper -> "{\"name\":{\"$regex\":\"^a\"}}";
+    try {
+      FilterEvaluator.compile(regex, OBJECT_MAPPER);
+      Assert.fail("This must fail");
+    } catch (IllegalArgumentException ex) {
+      Assert.assertEquals("Unsupported filter operator $regex", ex.getMessage());
+    }
+  }
+
+  @Test
+  public void testPostFiltering() {
+    List<DB1_C1> documents =
+        Arrays.asList(new DB1_C1(1, "a"), new DB1_C1(2, "b"), new DB1_C1(3, "c"));
+    List<DB1_C1> filtered =
+        documents.stream()
+            .filter(FilterEvaluator.compile(Filters.gte("id", 2), OBJECT_MAPPER).asPredicate())
+            .collect(Collectors.toList());
+    Assert.assertEquals(Arrays.asList(new DB1_C1(2, "b"), new DB1_C1(3, "c")), filtered);
+  }
+
+  private static boolean matches(TigrisFilter filter) {
+    return FilterEvaluator.compile(filter, OBJECT_MAPPER).test(DOCUMENT);
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.UUID;
+
+public class FilterTemplateTest {
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      TigrisConfiguration.newBuilder("test", "db1").build().getObjectMapper();
+  private static String SERVER_NAME;
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(new TestTigrisService())
+                .build())
+        .start();
+  }
+
+  @Test
+  public void testBindsParameters() {
+    FilterTemplate template =
+        Filters.template(
+            Filters.or(
+                Filters.and(
+                    Filters.gte("k1", Filters.param("min")),
+                    Filters.lt("k1", Filters.param("max"))),
+                Filters.eq("k2", Filters.param("name")),
+                Filters.eq("k3", true)));
+    Assert.assertEquals(
+        new LinkedHashSet<>(Arrays.asList("min", "max", "name")), template.getParameterNames());
+
+    TigrisFilter bound = template.bind("min", 10, "max", 20.5, "name", "v\"2");
+    TigrisFilter literal =
+        Filters.or(
+            Filters.and(Filters.gte("k1", 10), Filters.lt("k1", 20.5)),
+            Filters.eq("k2", "v\"2"),
+            Filters.eq("k3", true));
+    Assert.assertEquals(literal.toJSON(OBJECT_MAPPER), bound.toJSON(OBJECT_MAPPER));
+    Assert.assertEquals(
+        FilterWriter.toByteString(literal, OBJECT_MAPPER),
+        FilterWriter.toByteString(bound, OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testRepeatedParameter() {
+    FilterTemplate template =
+        Filters.template(
+            Filters.or(Filters.eq("a", Filters.param("v")), Filters.eq("b", Filters.param("v"))));
+    UUID uuid = UUID.fromString("aa8f8da5-5fd6-4660-a348-9ed7fe96253a");
+    Assert.assertEquals(Collections.singleton("v"), template.getParameterNames());
+    Assert.assertEquals(
+        ByteString.copyFromUtf8("{\"$or\":[{\"a\":\"" + uuid + "\"},{\"b\":\"" + uuid + "\"}]}"),
+        FilterWriter.toByteString(template.bind("v", uuid), OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testBoundFilterInsideOtherFilters() {
+    FilterTemplate template = Filters.template(Filters.eq("id", Filters.param("id")));
+    Assert.assertEquals(
+        "{\"$and\":[{\"id\":5},{\"k\":1}]}",
+        Filters.and(template.bind("id", 5), Filters.eq("k", 1)).toJSON(OBJECT_MAPPER));
+    Assert.assertEquals(
+        "{\"id\":6}", template.bind(Collections.singletonMap("id", 6)).toJSON(OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testInvalidBindings() {
+    FilterTemplate template = Filters.template(Filters.eq("id", Filters.param("id")));
+    assertIllegalArgument(() -> template.bind());
+    assertIllegalArgument(() -> template.bind("id", 1, "other", 2));
+    assertIllegalArgument(() -> template.bind("id"));
+  }
+
+  @Test
+  public void testUnboundParameter() {
+    try {
+      Filters.eq("id", Filters.param("id")).toJSON(OBJECT_MAPPER);
+      Assert.fail("This must fail");
+    } catch (IllegalStateException ex) {
+      Assert.assertEquals(
+          "Filter parameter 'id' must be bound through a FilterTemplate", ex.getMessage());
+    }
+  }
+
+  @Test
+  public void testReadWithTemplate() throws Exception {
+    TigrisCollection<DB1_C1> collection =
+        TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1")
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    FilterTemplate byId = Filters.template(Filters.eq("id", Filters.param("id")));
+    for (int i = 1; i <= 3; i++) {
+      Assert.assertEquals("db1_c1_d" + i, collection.readOne(byId.bind("id", i)).get().getName());
+    }
+  }
+
+  private static void assertIllegalArgument(Runnable runnable) {
+    try {
+      runnable.run();
+      Assert.fail("This must fail");
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+}
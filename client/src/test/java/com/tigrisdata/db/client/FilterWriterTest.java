@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FilterWriterTest {
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      TigrisConfiguration.newBuilder("test", "db1").build().getObjectMapper();
+
+  @Test
+  public void testWritesFilterTree() {
+    TigrisFilter filter =
+        Filters.or(
+            Filters.and(Filters.gte("k1", 10), Filters.lt("k1", 20.5)),
+            Filters.eq("k2", "v\"2"),
+            Filters.eq("k3", true));
+    String expected =
+        "{\"$or\":[{\"$and\":[{\"k1\":{\"$gte\":10}},{\"k1\":{\"$lt\":20.5}}]},"
+            + "{\"k2\":\"v\\\"2\"},{\"k3\":true}]}";
+    Assert.assertEquals(expected, filter.toJSON(OBJECT_MAPPER));
+    Assert.assertEquals(
+        ByteString.copyFromUtf8(expected), FilterWriter.toByteString(filter, OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testEmbedsOtherFilters() {
+    TigrisFilter custom = objectMapper -> "{\"k1\":{\"$regex\":\"^a\"}}";
+    TigrisFilter filter = Filters.and(custom, Filters.eq("k2", 2));
+    Assert.assertEquals(
+        ByteString.copyFromUtf8("{\"$and\":[{\"k1\":{\"$regex\":\"^a\"}},{\"k2\":2}]}"),
+        FilterWriter.toByteString(filter, OBJECT_MAPPER));
+    Assert.assertEquals(
+        ByteString.copyFromUtf8("{\"k1\":{\"$regex\":\"^a\"}}"),
+        FilterWriter.toByteString(custom, OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testNestedSerialization() {
+    // a custom filter serializing a client filter while the outer filter is being written
+    TigrisFilter wrapping = objectMapper -> Filters.eq("k1", 1).toJSON(objectMapper);
+    Assert.assertEquals(
+        "{\"$or\":[{\"k1\":1},{\"k2\":2}]}",
+        Filters.or(wrapping, Filters.eq("k2", 2)).toJSON(OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testLargeFilters() {
+    List<TigrisFilter> filters = new ArrayList<>();
+    StringBuilder expected = new StringBuilder("{\"$or\":[");
+    for (int i = 0; i < 20_000; i++) {
+      filters.add(Filters.eq("id", i));
+      expected.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append('}');
+    }
+    expected.append("]}");
+    TigrisFilter large = Filters.or(filters.toArray(new TigrisFilter[0]));
+    Assert.assertEquals(expected.toString(), large.toJSON(OBJECT_MAPPER));
+    // the buffer is usable again after a large filter
+    Assert.assertEquals("{\"id\":1}", Filters.eq("id", 1).toJSON(OBJECT_MAPPER));
+    Assert.assertEquals("{}", Filters.nothing().toJSON(OBJECT_MAPPER));
+  }
+}
@@ -15,10 +15,11 @@ package com.tigrisdata.db.client;
 
 import static java.lang.String.format;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.io.JsonEOFException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tigrisdata.db.client.config.TigrisConfiguration;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.UUID;
@@ -127,7 +128,7 @@ public class FiltersTest {
     ObjectMapper objectMapper =
         new ObjectMapper() {
           @Override
-          public String writeValueAsString(Object value) throws JsonProcessingException {
+          public void writeValue(JsonGenerator generator, Object value) throws IOException {
             throw new JsonEOFException(null, null, null);
           }
         };
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FrequencySketchTest {
+
+  @Test
+  public void testCountsAccesses() {
+    FrequencySketch sketch = new FrequencySketch(1024);
+    Assert.assertEquals(0, sketch.frequency(42));
+    for (int i = 0; i < 5; i++) {
+      sketch.increment(42);
+    }
+    Assert.assertEquals(5, sketch.frequency(42));
+    Assert.assertEquals(0, sketch.frequency(43));
+  }
+
+  @Test
+  public void testSaturates() {
+    FrequencySketch sketch = new FrequencySketch(1024);
+    for (int i = 0; i < 100; i++) {
+      sketch.increment(7);
+    }
+    Assert.assertEquals(15, sketch.frequency(7));
+  }
+
+  @Test
+  public void testAgesFrequencies() {
+    FrequencySketch sketch = new FrequencySketch(16);
+    for (int i = 0; i < 12; i++) {
+      sketch.increment(1);
+    }
+    // enough distinct accesses to trigger the periodic halving
+    for (int i = 100; i < 1000; i++) {
+      sketch.increment(i);
+    }
+    Assert.assertTrue(sketch.frequency(1) < 12);
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InFilterTest {
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      TigrisConfiguration.newBuilder("test", "db1").build().getObjectMapper();
+  private static String SERVER_NAME;
+  private static final AtomicInteger READS = new AtomicInteger();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    ServerInterceptor readCounter =
+        new ServerInterceptor() {
+          @Override
+          public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+              ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+            if (call.getMethodDescriptor()
+                .getFullMethodName()
+                .equals(TigrisGrpc.getReadMethod().getFullMethodName())) {
+              READS.incrementAndGet();
+            }
+            return next.startCall(call, headers);
+          }
+        };
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(new TestTigrisService(), readCounter))
+                .build())
+        .start();
+  }
+
+  @Before
+  public void resetReads() {
+    READS.set(0);
+  }
+
+  @Test
+  public void testIntegralValues() {
+    Assert.assertEquals(
+        "{\"$or\":[{\"id\":1},{\"id\":3},{\"id\":7}]}",
+        Filters.in("id", 7, 3, 1, 3).toJSON(OBJECT_MAPPER));
+    Assert.assertEquals(
+        "{\"$or\":[{\"id\":-5},{\"id\":9000000000}]}",
+        Filters.in("id", Arrays.asList(9_000_000_000L, -5)).toJSON(OBJECT_MAPPER));
+    Assert.assertEquals("{\"id\":5}", Filters.in("id", 5L).toJSON(OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testOtherValues() {
+    Assert.assertEquals(
+        "{\"$or\":[{\"name\":\"b\"},{\"name\":\"a\"},{\"name\":1.5}]}",
+        Filters.in("name", Arrays.asList("b", "a", "b", 1.5)).toJSON(OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testEmptySet() {
+    try {
+      Filters.in("id", Collections.emptyList());
+      Assert.fail("This must fail");
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+
+  @Test
+  public void testChunks() {
+    InFilter filter = Filters.in("id", range(600));
+    Assert.assertEquals(600, filter.size());
+    List<TigrisFilter> chunks = filter.chunks(256);
+    Assert.assertEquals(3, chunks.size());
+    Assert.assertEquals(256, ((InFilter) chunks.get(0)).size());
+    Assert.assertEquals(88, ((InFilter) chunks.get(2)).size());
+    Assert.assertTrue(chunks.get(2).toJSON(OBJECT_MAPPER).startsWith("{\"$or\":[{\"id\":512},"));
+
+    Assert.assertTrue(filter.isChunked(new ReadRequestOptions()));
+    Assert.assertFalse(filter.isChunked(new ReadRequestOptions(0, 10)));
+    Assert.assertFalse(Filters.in("id", range(256)).isChunked(new ReadRequestOptions()));
+  }
+
+  @Test
+  public void testChunkedRead() throws Exception {
+    TigrisCollection<DB1_C1> collection =
+        TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1")
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    // the test service returns all its 5 documents for any $or filter
+    Iterator<DB1_C1> documents = collection.read(Filters.in("id", range(600)));
+    int count = 0;
+    while (documents.hasNext()) {
+      documents.next();
+      count++;
+    }
+    Assert.assertEquals(15, count);
+    Assert.assertEquals(3, READS.get());
+
+    READS.set(0);
+    collection.read(Filters.in("id", range(600)), new ReadRequestOptions(0, 10)).hasNext();
+    Assert.assertEquals(1, READS.get());
+  }
+
+  @Test
+  public void testChunkedAsyncRead() throws Exception {
+    TigrisAsyncCollection<DB1_C1> collection =
+        TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1")
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    AtomicInteger received = new AtomicInteger();
+    CountDownLatch completed = new CountDownLatch(1);
+    collection.read(
+        Filters.in("id", range(1000)),
+        new TigrisAsyncReader<DB1_C1>() {
+          @Override
+          public void onNext(DB1_C1 document) {
+            received.incrementAndGet();
+          }
+
+          @Override
+          public void onError(Throwable t) {}
+
+          @Override
+          public void onCompleted() {
+            completed.countDown();
+          }
+        });
+    Assert.assertTrue(completed.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(4, READS.get());
+    Assert.assertEquals(20, received.get());
+  }
+
+  private static List<Integer> range(int size) {
+    List<Integer> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(i);
+    }
+    return values;
+  }
+}
@@ -48,18 +48,16 @@ public class InsertOrReplaceRequestOptionsTest {
     Assert.assertEquals(op1.hashCode(), op1.hashCode());
     Assert.assertEquals(op1.hashCode(), op2.hashCode());
 
-    InsertOrReplaceRequestOptions op3 = new InsertOrReplaceRequestOptions();
-    InsertOrReplaceRequestOptions op4 = new InsertOrReplaceRequestOptions();
-    op3.setWriteOptions(null);
-    op4.setWriteOptions(null);
+    InsertOrReplaceRequestOptions op3 = new InsertOrReplaceRequestOptions(null);
+    InsertOrReplaceRequestOptions op4 = new InsertOrReplaceRequestOptions(null);
     Assert.assertEquals(op3.hashCode(), op4.hashCode());
   }
 
   @Test
-  public void setWriteOptionTest() {
-    InsertOrReplaceRequestOptions op1 = new InsertOrReplaceRequestOptions();
+  public void writeOptionTest() {
     WriteOptions writeOptions = WriteOptions.DEFAULT_INSTANCE;
-    op1.setWriteOptions(writeOptions);
+    InsertOrReplaceRequestOptions op1 = new InsertOrReplaceRequestOptions(writeOptions);
     Assert.assertEquals(op1.getWriteOptions(), writeOptions);
+    Assert.assertSame(op1.toApi(), op1.toApi());
   }
 }
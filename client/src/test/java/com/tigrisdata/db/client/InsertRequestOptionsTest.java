@@ -47,9 +47,9 @@ public class InsertRequestOptionsTest {
 
   @Test
   public void testAccessors() {
-    InsertRequestOptions op = new InsertRequestOptions();
     WriteOptions writeOptions = WriteOptions.DEFAULT_INSTANCE;
-    op.setWriteOptions(writeOptions);
+    InsertRequestOptions op = new InsertRequestOptions(writeOptions);
     Assert.assertEquals(writeOptions, op.getWriteOptions());
+    Assert.assertSame(op.toApi(), op.toApi());
   }
 }
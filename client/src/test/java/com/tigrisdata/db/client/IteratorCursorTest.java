@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public class IteratorCursorTest {
+
+  @Test
+  public void closeStopsIteration() {
+    TigrisCursor<Integer> cursor = IteratorCursor.of(Arrays.asList(1, 2, 3).iterator());
+    Assert.assertEquals(Integer.valueOf(1), cursor.next());
+    cursor.close();
+    Assert.assertFalse(cursor.hasNext());
+    try {
+      cursor.next();
+      Assert.fail("This must fail");
+    } catch (NoSuchElementException ignore) {
+    }
+  }
+
+  @Test
+  public void cursorIsNotWrapped() {
+    TigrisCursor<Integer> cursor = IteratorCursor.of(Arrays.asList(1, 2).iterator());
+    Assert.assertSame(cursor, IteratorCursor.of(cursor));
+  }
+}
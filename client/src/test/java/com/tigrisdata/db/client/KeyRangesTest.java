@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class KeyRangesTest {
+  private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  public void testSplit() {
+    List<TigrisFilter> ranges = KeyRanges.split(Filters.nothing(), "id", new long[] {10, 20});
+    Assert.assertEquals(3, ranges.size());
+    Assert.assertEquals("{\"id\":{\"$lt\":10}}", ranges.get(0).toJSON(DEFAULT_OBJECT_MAPPER));
+    Assert.assertEquals(
+        "{\"$and\":[{\"id\":{\"$gte\":10}},{\"id\":{\"$lt\":20}}]}",
+        ranges.get(1).toJSON(DEFAULT_OBJECT_MAPPER));
+    Assert.assertEquals("{\"id\":{\"$gte\":20}}", ranges.get(2).toJSON(DEFAULT_OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testSplitRestrictedToFilter() {
+    List<TigrisFilter> ranges = KeyRanges.split(Filters.eq("name", "a"), "id", new long[] {10});
+    Assert.assertEquals(
+        "{\"$and\":[{\"name\":\"a\"},{\"id\":{\"$lt\":10}}]}",
+        ranges.get(0).toJSON(DEFAULT_OBJECT_MAPPER));
+  }
+
+  @Test
+  public void testSplitWithoutPoints() {
+    List<TigrisFilter> ranges = KeyRanges.split(Filters.nothing(), "id", new long[0]);
+    Assert.assertEquals(1, ranges.size());
+    Assert.assertEquals("{}", ranges.get(0).toJSON(DEFAULT_OBJECT_MAPPER));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnorderedSplitPoints() {
+    KeyRanges.split(Filters.nothing(), "id", new long[] {20, 10});
+  }
+}
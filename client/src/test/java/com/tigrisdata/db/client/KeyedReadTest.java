@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tigrisdata.db.annotation.TigrisPrimaryKey;
+import com.tigrisdata.db.client.collection.AutoGeneratingPKeysModel;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class KeyedReadTest {
+
+  private static String SERVER_NAME;
+  private static final TestTigrisService TEST_USER_SERVICE = new TestTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_USER_SERVICE.reset();
+  }
+
+  @Test
+  public void testReadByKeys() throws Exception {
+    KeyedReadResult<Long, DB1_C1> result =
+        getCollection().readByKeys("id", Arrays.asList(3L, 1L, 7L, 3L), ReadFields.all());
+    Assert.assertEquals(Arrays.asList(3L, 1L), new ArrayList<>(result.getDocuments().keySet()));
+    Assert.assertEquals("db1_c1_d1", result.get(1L).get().getName());
+    Assert.assertEquals(Arrays.asList(7L), new ArrayList<>(result.getMissingKeys()));
+    Assert.assertFalse(result.get(7L).isPresent());
+  }
+
+  @Test
+  public void testSingleKeyMatchesOtherNumberType() throws Exception {
+    KeyedReadResult<Integer, DB1_C1> result =
+        getCollection().readByKeys("id", Arrays.asList(2), ReadFields.all());
+    Assert.assertEquals("db1_c1_d2", result.get(2).get().getName());
+    Assert.assertTrue(result.getMissingKeys().isEmpty());
+  }
+
+  @Test
+  public void testReadByKeysInSeveralChunks() throws Exception {
+    List<Long> keys = new ArrayList<>();
+    for (long key = 0; key < 3 * KeyedRead.CHUNK_SIZE; key++) {
+      keys.add(key);
+    }
+    KeyedReadResult<Long, DB1_C1> result =
+        getAsyncCollection().readByKeys("id", keys, ReadFields.all()).get();
+    Assert.assertEquals(5, result.getDocuments().size());
+    Assert.assertEquals(keys.size() - 5, result.getMissingKeys().size());
+  }
+
+  @Test
+  public void testReadNoKeys() throws Exception {
+    KeyedReadResult<Long, DB1_C1> result =
+        getAsyncCollection().readByKeys("id", new ArrayList<Long>(), ReadFields.all()).get();
+    Assert.assertTrue(result.getDocuments().isEmpty());
+    Assert.assertTrue(result.getMissingKeys().isEmpty());
+  }
+
+  @Test
+  public void testPrimaryKeyField() {
+    Assert.assertEquals("key", KeyedRead.primaryKeyField(new ObjectMapper(), Keyed.class));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCompositePrimaryKey() {
+    KeyedRead.primaryKeyField(new ObjectMapper(), AutoGeneratingPKeysModel.class);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadByKeysWithoutPrimaryKey() throws Exception {
+    getCollection().readByKeys(Arrays.asList(1L));
+  }
+
+  public static class Keyed implements TigrisCollectionType {
+    @TigrisPrimaryKey(order = 1)
+    @JsonProperty("key")
+    private long id;
+
+    private String name;
+
+    public long getId() {
+      return id;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  private TigrisCollection<DB1_C1> getCollection() {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    return client.getDatabase().getCollection(DB1_C1.class);
+  }
+
+  private TigrisAsyncCollection<DB1_C1> getAsyncCollection() {
+    TigrisAsyncClient client = TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1");
+    return client.getDatabase().getCollection(DB1_C1.class);
+  }
+}
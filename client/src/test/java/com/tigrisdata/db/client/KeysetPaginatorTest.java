@@ -0,0 +1,195 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.annotation.TigrisPrimaryKey;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.grpc.KeysetReadTestTigrisService;
+import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class KeysetPaginatorTest {
+
+  private static String SERVER_NAME;
+  private static final KeysetReadTestTigrisService TEST_SERVICE =
+      new KeysetReadTestTigrisService(1000);
+  private static String COMPOSITE_SERVER_NAME;
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_SERVICE)
+                .build())
+        .start();
+    COMPOSITE_SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(COMPOSITE_SERVER_NAME)
+                .directExecutor()
+                .addService(new CompositeKeyReadTestTigrisService(10, 3))
+                .build())
+        .start();
+  }
+
+  @Test
+  public void testPagesThroughAllDocuments() throws TigrisException {
+    KeysetPaginator<DB1_C1> paginator =
+        KeysetPaginator.newBuilder(getCollection(), "id").withPageSize(30).build();
+    List<Long> ids = new ArrayList<>();
+    KeysetPage<DB1_C1> page = paginator.firstPage();
+    TEST_SERVICE.drainSentDocuments();
+    int pages = 1;
+    page.getDocuments().forEach(document -> ids.add(document.getId()));
+    while (page.hasNextPage()) {
+      page = paginator.page(page.getNextPageToken().get());
+      page.getDocuments().forEach(document -> ids.add(document.getId()));
+      pages++;
+      // every page reads at most one document beyond itself, however deep it is
+      Assert.assertTrue(TEST_SERVICE.drainSentDocuments() <= 31);
+    }
+    Assert.assertEquals(34, pages);
+    Assert.assertEquals(1000, ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      Assert.assertEquals(i, ids.get(i).longValue());
+    }
+    Assert.assertFalse(page.getNextPageToken().isPresent());
+  }
+
+  @Test
+  public void testExactlyFullLastPage() throws TigrisException {
+    KeysetPaginator<DB1_C1> paginator =
+        KeysetPaginator.newBuilder(getCollection(), "id").withPageSize(500).build();
+    KeysetPage<DB1_C1> page = paginator.page(paginator.firstPage().getNextPageToken().get());
+    Assert.assertEquals(500, page.getDocuments().size());
+    Assert.assertFalse(page.hasNextPage());
+  }
+
+  @Test
+  public void testResumeWithNewPaginator() throws TigrisException {
+    String token =
+        KeysetPaginator.newBuilder(getCollection(), "id")
+            .withPageSize(10)
+            .build()
+            .firstPage()
+            .getNextPageToken()
+            .get();
+    KeysetPage<DB1_C1> page =
+        KeysetPaginator.newBuilder(getCollection(), "id").withPageSize(5).build().page(token);
+    Assert.assertEquals(10, page.getDocuments().get(0).getId());
+    Assert.assertEquals(5, page.getDocuments().size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTokenOfAnotherKey() throws TigrisException {
+    String token =
+        KeysetPaginator.newBuilder(getCollection(), "id")
+            .build()
+            .firstPage()
+            .getNextPageToken()
+            .get();
+    KeysetPaginator.newBuilder(getCollection(), "name").build().page(token);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMalformedToken() throws TigrisException {
+    KeysetPaginator.newBuilder(getCollection(), "id").build().page("not a token");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPageSize() {
+    KeysetPaginator.newBuilder(getCollection(), "id").withPageSize(0).build();
+  }
+
+  @Test
+  public void testCompositeKeyDoesNotSkipDuplicateLeadingKeys() throws TigrisException {
+    TigrisClient client = TestUtils.getTestClient(COMPOSITE_SERVER_NAME, grpcCleanup, "db1");
+    // pages of 4 split the 3 documents of most ids across a page boundary
+    KeysetPaginator<CompositeKeyed> paginator =
+        KeysetPaginator.newBuilder(client.getDatabase().getCollection(CompositeKeyed.class), "id")
+            .withPageSize(4)
+            .build();
+    List<String> keys = new ArrayList<>();
+    KeysetPage<CompositeKeyed> page = paginator.firstPage();
+    page.getDocuments().forEach(document -> keys.add(document.id + "/" + document.seq));
+    while (page.hasNextPage()) {
+      page = paginator.page(page.getNextPageToken().get());
+      page.getDocuments().forEach(document -> keys.add(document.id + "/" + document.seq));
+    }
+    Assert.assertEquals(30, keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      Assert.assertEquals(i / 3 + "/" + i % 3, keys.get(i));
+    }
+  }
+
+  @com.tigrisdata.db.annotation.TigrisCollection("composite")
+  public static class CompositeKeyed implements TigrisCollectionType {
+    @TigrisPrimaryKey(order = 2)
+    public long seq;
+
+    @TigrisPrimaryKey(order = 1)
+    public long id;
+  }
+
+  /** Serves {@code copies} documents per id in {@code (id, seq)} order, evaluating the filter */
+  static class CompositeKeyReadTestTigrisService extends TigrisGrpc.TigrisImplBase {
+    private final long ids;
+    private final long copies;
+
+    CompositeKeyReadTestTigrisService(long ids, long copies) {
+      this.ids = ids;
+      this.copies = copies;
+    }
+
+    @Override
+    public void read(Api.ReadRequest request, StreamObserver<Api.ReadResponse> responseObserver) {
+      FilterEvaluator filter = FilterEvaluator.compile(request.getFilter());
+      long limit =
+          request.getOptions().getLimit() > 0 ? request.getOptions().getLimit() : Long.MAX_VALUE;
+      long sent = 0;
+      for (long id = 0; id < ids; id++) {
+        for (long seq = 0; seq < copies && sent < limit; seq++) {
+          ByteString document = ByteString.copyFromUtf8("{\"id\":" + id + ",\"seq\":" + seq + "}");
+          if (filter.test(document)) {
+            responseObserver.onNext(Api.ReadResponse.newBuilder().setData(document).build());
+            sent++;
+          }
+        }
+      }
+      responseObserver.onCompleted();
+    }
+  }
+
+  private TigrisCollection<DB1_C1> getCollection() {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    return client.getDatabase().getCollection(DB1_C1.class);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import com.tigrisdata.db.client.error.TigrisException;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LazyDocumentTest {
+
+  @Test
+  public void testFieldAccess() throws TigrisException {
+    LazyDocument<DB1_C1> document =
+        lazy(
+            "{ \"id\" : 7, \"name\": \"na\\\"me\", \"nested\": {\"a\": [1, {\"b\": \"}\"}]},"
+                + " \"list\": [1,2], \"flag\": true, \"none\": null}");
+    Assert.assertEquals(Optional.of(7L), document.get("id", Long.class));
+    Assert.assertEquals(Optional.of("na\"me"), document.get("name", String.class));
+    Assert.assertEquals("\"na\\\"me\"", document.getRaw("name").get().toStringUtf8());
+    Assert.assertEquals(
+        "{\"a\": [1, {\"b\": \"}\"}]}", document.getRaw("nested").get().toStringUtf8());
+    JsonNode nested = document.get("nested").get();
+    Assert.assertEquals("}", nested.get("a").get(1).get("b").asText());
+    Assert.assertEquals("[1,2]", document.getRaw("list").get().toStringUtf8());
+    Assert.assertEquals(Optional.of(true), document.get("flag", Boolean.class));
+    Assert.assertTrue(document.has("none"));
+    Assert.assertEquals(Optional.empty(), document.get("none", String.class));
+    Assert.assertFalse(document.has("missing"));
+    Assert.assertEquals(
+        Arrays.asList("id", "name", "nested", "list", "flag", "none"),
+        Arrays.asList(document.fieldNames().toArray()));
+  }
+
+  @Test
+  public void testScansOnlyAsFarAsNeeded() throws TigrisException {
+    // the document is truncated after the second field, reading the first field must not fail
+    LazyDocument<DB1_C1> document = lazy("{\"id\":1,\"name\":\"a\",\"broken\":");
+    Assert.assertEquals(Optional.of(1), document.get("id", Integer.class));
+    Assert.assertEquals(Optional.of("a"), document.get("name", String.class));
+    try {
+      document.has("other");
+      Assert.fail("This must fail");
+    } catch (TigrisException ex) {
+      Assert.assertTrue(ex.getMessage().startsWith(Constants.JSON_SER_DE_ERROR));
+    }
+    // already indexed fields remain accessible
+    Assert.assertEquals(Optional.of(1), document.get("id", Integer.class));
+  }
+
+  @Test
+  public void testMaterialize() throws TigrisException {
+    LazyDocument<DB1_C1> document = lazy("{\"id\":1,\"name\":\"db1_c1_d1\"}");
+    DB1_C1 materialized = document.materialize();
+    Assert.assertEquals(new DB1_C1(1L, "db1_c1_d1"), materialized);
+    Assert.assertSame(materialized, document.materialize());
+  }
+
+  @Test(expected = TigrisException.class)
+  public void testNotAnObject() throws TigrisException {
+    lazy("[1,2]").has("id");
+  }
+
+  private static LazyDocument<DB1_C1> lazy(String json) {
+    return new LazyDocument<>(
+        ByteString.copyFromUtf8(json),
+        DB1_C1.class,
+        TigrisConfiguration.newBuilder("some-url", "db1").build().getObjectMapper());
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class NearCacheTest {
+
+  private static final String SCOPE = NearCache.scope("db1", "c1");
+  private static String SERVER_NAME;
+  private static final TestTigrisService TEST_USER_SERVICE = new TestTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_USER_SERVICE.reset();
+  }
+
+  @Test
+  public void testGetAndPut() {
+    NearCache cache = newCache(1024 * 1024, Duration.ofMinutes(1));
+    Assert.assertNull(cache.get(SCOPE, key(1)));
+    cache.put(SCOPE, key(1), value(1), cache.generation(SCOPE));
+    Assert.assertEquals(value(1), cache.get(SCOPE, key(1)));
+
+    NearCacheStats stats = cache.stats();
+    Assert.assertEquals(1, stats.getHitCount());
+    Assert.assertEquals(1, stats.getMissCount());
+    Assert.assertEquals(0.5, stats.getHitRate(), 0.0);
+    Assert.assertEquals(1, stats.getEntryCount());
+    Assert.assertEquals(
+        key(1).size() + value(1).size() + NearCache.ENTRY_OVERHEAD, stats.getWeight());
+  }
+
+  @Test
+  public void testExpiry() {
+    NearCache cache = newCache(1024 * 1024, Duration.ofSeconds(10));
+    cache.put(SCOPE, key(1), value(1), cache.generation(SCOPE));
+    nanoTime.addAndGet(Duration.ofSeconds(9).toNanos());
+    Assert.assertNotNull(cache.get(SCOPE, key(1)));
+    nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+    Assert.assertNull(cache.get(SCOPE, key(1)));
+    Assert.assertEquals(0, cache.stats().getEntryCount());
+  }
+
+  @Test
+  public void testInvalidation() {
+    NearCache cache = newCache(1024 * 1024, Duration.ofMinutes(1));
+    String otherScope = NearCache.scope("db1", "c2");
+    cache.put(SCOPE, key(1), value(1), cache.generation(SCOPE));
+    cache.put(otherScope, key(2), value(2), cache.generation(otherScope));
+
+    cache.invalidate(SCOPE);
+    Assert.assertNull(cache.get(SCOPE, key(1)));
+    Assert.assertNotNull(cache.get(otherScope, key(2)));
+
+    cache.invalidateAll();
+    Assert.assertNull(cache.get(otherScope, key(2)));
+    Assert.assertEquals(2, cache.stats().getInvalidationCount());
+  }
+
+  @Test
+  public void testReadRacingWriteIsNotCached() {
+    NearCache cache = newCache(1024 * 1024, Duration.ofMinutes(1));
+    long generation = cache.generation(SCOPE);
+    cache.invalidate(SCOPE);
+    cache.put(SCOPE, key(1), value(1), generation);
+    Assert.assertNull(cache.get(SCOPE, key(1)));
+  }
+
+  @Test
+  public void testDeleteInvalidatesMatchingEntries() {
+    NearCache cache = newCache(1024 * 1024, Duration.ofMinutes(1));
+    cache.put(SCOPE, key(1), value(1), cache.generation(SCOPE));
+    cache.put(SCOPE, key(2), value(2), cache.generation(SCOPE));
+    long generation = cache.generation(SCOPE);
+
+    cache.invalidate(
+        SCOPE,
+        Api.DeleteRequest.newBuilder().setFilter(ByteString.copyFromUtf8("{\"id\":1}")).build());
+    Assert.assertNull(cache.get(SCOPE, key(1)));
+    Assert.assertEquals(value(2), cache.get(SCOPE, key(2)));
+    // reads racing the delete are still not cached
+    cache.put(SCOPE, key(1), value(1), generation);
+    Assert.assertNull(cache.get(SCOPE, key(1)));
+
+    cache.invalidate(SCOPE, Api.UpdateRequest.getDefaultInstance());
+    Assert.assertNull(cache.get(SCOPE, key(2)));
+  }
+
+  @Test
+  public void testWeightBound() {
+    long entryWeight = key(0).size() + value(0).size() + NearCache.ENTRY_OVERHEAD;
+    NearCache cache = newCache(100 * entryWeight, Duration.ofMinutes(1));
+    for (int i = 0; i < 1000; i++) {
+      cache.put(SCOPE, key(i), value(i), cache.generation(SCOPE));
+    }
+    NearCacheStats stats = cache.stats();
+    Assert.assertTrue(stats.getWeight() <= 100 * entryWeight);
+    Assert.assertTrue(stats.getEvictionCount() >= 900);
+  }
+
+  @Test
+  public void testFrequentEntriesSurviveScan() {
+    long entryWeight = key(0).size() + value(0).size() + NearCache.ENTRY_OVERHEAD;
+    NearCache cache = newCache(200 * entryWeight, Duration.ofMinutes(1));
+    for (int i = 0; i < 50; i++) {
+      cache.put(SCOPE, key(i), value(i), cache.generation(SCOPE));
+    }
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 50; i++) {
+        Assert.assertNotNull(cache.get(SCOPE, key(i)));
+      }
+    }
+    // a scan of one-off reads far larger than the cache, interleaved with the hot reads
+    for (int i = 1000; i < 5000; i++) {
+      Assert.assertNotNull(cache.get(SCOPE, key(i % 50)));
+      if (cache.get(SCOPE, key(i)) == null) {
+        cache.put(SCOPE, key(i), value(i), cache.generation(SCOPE));
+      }
+    }
+    int survivors = 0;
+    for (int i = 0; i < 50; i++) {
+      if (cache.get(SCOPE, key(i)) != null) {
+        survivors++;
+      }
+    }
+    Assert.assertEquals(50, survivors);
+  }
+
+  @Test
+  public void testReadOneThroughNearCache() throws Exception {
+    TigrisClient client =
+        TestUtils.getTestClient(
+            SERVER_NAME,
+            grpcCleanup,
+            TigrisConfiguration.newBuilder("some-url", "db1")
+                .withNearCache(TigrisConfiguration.NearCacheConfig.newBuilder().build())
+                .build());
+    TigrisCollection<DB1_C1> collection = client.getDatabase().getCollection(DB1_C1.class);
+    Assert.assertEquals("db1_c1_d1", collection.readOne(Filters.eq("id", 1)).get().getName());
+    Assert.assertEquals("db1_c1_d1", collection.readOne(Filters.eq("id", 1)).get().getName());
+    Assert.assertEquals(1, client.getNearCacheStats().get().getHitCount());
+
+    collection.update(Filters.eq("id", 1), UpdateFields.newBuilder().set("name", "new").build());
+    Assert.assertEquals("new", collection.readOne(Filters.eq("id", 1)).get().getName());
+    NearCacheStats stats = client.getNearCacheStats().get();
+    Assert.assertEquals(1, stats.getHitCount());
+    Assert.assertEquals(2, stats.getMissCount());
+    // invalidated when the write started and when it completed
+    Assert.assertEquals(2, stats.getInvalidationCount());
+
+    Assert.assertEquals("db1_c1_d2", collection.readOne(Filters.eq("id", 2)).get().getName());
+    Assert.assertEquals("db1_c1_d3", collection.readOne(Filters.eq("id", 3)).get().getName());
+    collection.delete(Filters.eq("id", 2));
+    Assert.assertEquals("db1_c1_d3", collection.readOne(Filters.eq("id", 3)).get().getName());
+    Assert.assertEquals(2, client.getNearCacheStats().get().getHitCount());
+  }
+
+  @Test
+  public void testAsyncReadOneThroughNearCache() throws Exception {
+    TigrisAsyncClient client =
+        TestUtils.getTestAsyncClient(
+            SERVER_NAME,
+            grpcCleanup,
+            TigrisConfiguration.newBuilder("some-url", "db1")
+                .withNearCache(TigrisConfiguration.NearCacheConfig.newBuilder().build())
+                .build());
+    TigrisAsyncCollection<DB1_C1> collection = client.getDatabase().getCollection(DB1_C1.class);
+    DB1_C1 first = collection.readOne(Filters.eq("id", 2)).get().get();
+    DB1_C1 second = collection.readOne(Filters.eq("id", 2)).get().get();
+    Assert.assertEquals(first, second);
+    Assert.assertNotSame(first, second);
+    Assert.assertEquals(1, client.getNearCacheStats().get().getHitCount());
+  }
+
+  @Test
+  public void testNoStatsWhenDisabled() {
+    Assert.assertFalse(
+        TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1").getNearCacheStats().isPresent());
+  }
+
+  private NearCache newCache(long maximumWeight, Duration timeToLive) {
+    return new NearCache(
+        TigrisConfiguration.NearCacheConfig.newBuilder()
+            .withMaximumWeight(maximumWeight)
+            .withTimeToLive(timeToLive)
+            .build(),
+        nanoTime::get);
+  }
+
+  private static ByteString key(int i) {
+    return ByteString.copyFromUtf8(String.format("{\"id\":%08d}", i));
+  }
+
+  private static ByteString value(int i) {
+    return ByteString.copyFromUtf8(String.format("{\"id\":%8d,\"name\":\"d\"}", i));
+  }
+}
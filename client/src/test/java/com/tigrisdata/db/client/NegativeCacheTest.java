@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class NegativeCacheTest {
+
+  private static final String SCOPE = NearCache.scope("db1", "c1");
+  private static String SERVER_NAME;
+  private static final AtomicInteger READS = new AtomicInteger();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    ServerInterceptor readCounter =
+        new ServerInterceptor() {
+          @Override
+          public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+              ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+            if (call.getMethodDescriptor()
+                .getFullMethodName()
+                .equals(TigrisGrpc.getReadMethod().getFullMethodName())) {
+              READS.incrementAndGet();
+            }
+            return next.startCall(call, headers);
+          }
+        };
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(new TestTigrisService(), readCounter))
+                .build())
+        .start();
+  }
+
+  @Test
+  public void testRecordsMisses() {
+    NegativeCache cache = newCache(100, Duration.ofSeconds(10));
+    Assert.assertFalse(cache.isMiss(SCOPE, key(1)));
+    cache.record(SCOPE, key(1), cache.generation(SCOPE));
+    Assert.assertTrue(cache.isMiss(SCOPE, key(1)));
+    Assert.assertFalse(cache.isMiss(SCOPE, key(2)));
+    Assert.assertFalse(cache.isMiss(NearCache.scope("db1", "c2"), key(1)));
+  }
+
+  @Test
+  public void testMissesExpire() {
+    NegativeCache cache = newCache(100, Duration.ofSeconds(10));
+    cache.record(SCOPE, key(1), cache.generation(SCOPE));
+    nanoTime.addAndGet(Duration.ofSeconds(4).toNanos());
+    cache.record(SCOPE, key(2), cache.generation(SCOPE));
+    nanoTime.addAndGet(Duration.ofSeconds(5).toNanos());
+    cache.record(SCOPE, key(3), cache.generation(SCOPE));
+    Assert.assertTrue(cache.isMiss(SCOPE, key(1)));
+    Assert.assertTrue(cache.isMiss(SCOPE, key(2)));
+
+    // misses are dropped a filter at a time, never later than the time to live
+    nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+    Assert.assertFalse(cache.isMiss(SCOPE, key(1)));
+    Assert.assertFalse(cache.isMiss(SCOPE, key(2)));
+    Assert.assertTrue(cache.isMiss(SCOPE, key(3)));
+
+    nanoTime.addAndGet(Duration.ofSeconds(9).toNanos());
+    Assert.assertFalse(cache.isMiss(SCOPE, key(3)));
+  }
+
+  @Test
+  public void testRotatesWhenFull() {
+    NegativeCache cache = newCache(10, Duration.ofSeconds(10));
+    for (int i = 0; i < 25; i++) {
+      cache.record(SCOPE, key(i), cache.generation(SCOPE));
+    }
+    // only the last two filters are kept
+    Assert.assertFalse(cache.isMiss(SCOPE, key(0)));
+    for (int i = 10; i < 25; i++) {
+      Assert.assertTrue(cache.isMiss(SCOPE, key(i)));
+    }
+  }
+
+  @Test
+  public void testInvalidation() {
+    NegativeCache cache = newCache(100, Duration.ofSeconds(10));
+    String otherScope = NearCache.scope("db1", "c2");
+    cache.record(SCOPE, key(1), cache.generation(SCOPE));
+    cache.record(otherScope, key(1), cache.generation(otherScope));
+
+    cache.invalidate(SCOPE);
+    Assert.assertFalse(cache.isMiss(SCOPE, key(1)));
+    Assert.assertTrue(cache.isMiss(otherScope, key(1)));
+
+    cache.invalidateAll();
+    Assert.assertFalse(cache.isMiss(otherScope, key(1)));
+  }
+
+  @Test
+  public void testReadRacingWriteIsNotRecorded() {
+    NegativeCache cache = newCache(100, Duration.ofSeconds(10));
+    long generation = cache.generation(SCOPE);
+    cache.invalidate(SCOPE);
+    cache.record(SCOPE, key(1), generation);
+    Assert.assertFalse(cache.isMiss(SCOPE, key(1)));
+  }
+
+  @Test
+  public void testReadOneThroughNegativeCache() throws Exception {
+    TigrisCollection<DB1_C1> collection =
+        TestUtils.getTestClient(
+                SERVER_NAME,
+                grpcCleanup,
+                TigrisConfiguration.newBuilder("some-url", "db1")
+                    .withNegativeCache(TigrisConfiguration.NegativeCacheConfig.newBuilder().build())
+                    .build())
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    READS.set(0);
+    Assert.assertFalse(collection.readOne(Filters.eq("id", 99)).isPresent());
+    Assert.assertFalse(collection.readOne(Filters.eq("id", 99)).isPresent());
+    Assert.assertEquals(1, READS.get());
+
+    // documents are never cached as misses
+    Assert.assertTrue(collection.readOne(Filters.eq("id", 1)).isPresent());
+    Assert.assertTrue(collection.readOne(Filters.eq("id", 1)).isPresent());
+    Assert.assertEquals(3, READS.get());
+
+    // deletes cannot turn a miss into a match
+    collection.delete(Filters.eq("id", 1));
+    Assert.assertFalse(collection.readOne(Filters.eq("id", 99)).isPresent());
+    Assert.assertEquals(3, READS.get());
+
+    collection.insert(new DB1_C1(99L, "new"));
+    collection.readOne(Filters.eq("id", 99));
+    Assert.assertEquals(4, READS.get());
+  }
+
+  @Test
+  public void testAsyncReadOneThroughNegativeCache() throws Exception {
+    TigrisAsyncCollection<DB1_C1> collection =
+        TestUtils.getTestAsyncClient(
+                SERVER_NAME,
+                grpcCleanup,
+                TigrisConfiguration.newBuilder("some-url", "db1")
+                    .withNegativeCache(TigrisConfiguration.NegativeCacheConfig.newBuilder().build())
+                    .build())
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    READS.set(0);
+    Assert.assertFalse(collection.readOne(Filters.eq("id", 98)).get().isPresent());
+    Assert.assertFalse(collection.readOne(Filters.eq("id", 98)).get().isPresent());
+    Assert.assertEquals(1, READS.get());
+  }
+
+  private NegativeCache newCache(int expectedInsertions, Duration timeToLive) {
+    return new NegativeCache(
+        TigrisConfiguration.NegativeCacheConfig.newBuilder()
+            .withExpectedInsertions(expectedInsertions)
+            .withFalsePositiveProbability(0.000001)
+            .withTimeToLive(timeToLive)
+            .build(),
+        nanoTime::get);
+  }
+
+  private static ByteString key(int i) {
+    return ByteString.copyFromUtf8("{\"id\":" + i + "}");
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class ParallelScanTest {
+
+  private static String SERVER_NAME;
+  private static final TestTigrisService TEST_USER_SERVICE = new TestTigrisService();
+  private static String PENDING_SERVER_NAME;
+  private static final PendingReadTigrisService PENDING_READ_SERVICE =
+      new PendingReadTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+    PENDING_SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(PENDING_SERVER_NAME)
+                .directExecutor()
+                .addService(PENDING_READ_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_USER_SERVICE.reset();
+  }
+
+  @Test
+  public void testStream() {
+    ParallelScan<DB1_C1> scan = ParallelScan.newBuilder(getCollection()).build();
+    try (Stream<DB1_C1> stream = scan.stream()) {
+      Assert.assertEquals(
+          "[0, 1, 2, 3, 4]",
+          stream.map(DB1_C1::getId).sorted().collect(Collectors.toList()).toString());
+    }
+  }
+
+  @Test
+  public void testStreamOverKeyRanges() {
+    ParallelScan<DB1_C1> scan =
+        ParallelScan.newBuilder(getCollection()).withSplitPoints("id", 2, 4).build();
+    Assert.assertEquals(3, scan.getRanges().size());
+    try (Stream<DB1_C1> stream = scan.stream()) {
+      Assert.assertTrue(stream.isParallel());
+      // the test service matches no bounded range and lets the $and of the middle range through
+      Assert.assertEquals(5, stream.count());
+    }
+  }
+
+  @Test
+  public void testSpliteratorSplitsRanges() {
+    Spliterator<DB1_C1> spliterator =
+        ParallelScan.newBuilder(getCollection())
+            .withSplitPoints("id", 1, 2, 3)
+            .build()
+            .spliterator();
+    Spliterator<DB1_C1> prefix = spliterator.trySplit();
+    Assert.assertNotNull(prefix);
+    Assert.assertNotNull(prefix.trySplit());
+    Assert.assertNull(prefix.trySplit());
+    Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+  }
+
+  @Test
+  public void testCursor() {
+    List<Long> ids = new ArrayList<>();
+    try (TigrisCursor<DB1_C1> cursor =
+        ParallelScan.newBuilder(getCollection())
+            .withParallelism(2)
+            .withBufferSize(1)
+            .build()
+            .cursor()) {
+      cursor.forEachRemaining(document -> ids.add(document.getId()));
+      Assert.assertFalse(cursor.hasNext());
+    }
+    ids.sort(Long::compare);
+    Assert.assertEquals("[0, 1, 2, 3, 4]", ids.toString());
+  }
+
+  @Test
+  public void testCursorWithFilter() {
+    try (TigrisCursor<DB1_C1> cursor =
+        ParallelScan.newBuilder(getCollection()).withFilter(Filters.eq("id", 3)).build().cursor()) {
+      Assert.assertTrue(cursor.hasNext());
+      Assert.assertEquals("db1_c1_d3", cursor.next().getName());
+      Assert.assertFalse(cursor.hasNext());
+    }
+  }
+
+  @Test
+  public void testCloseCursorEarly() {
+    TigrisCursor<DB1_C1> cursor =
+        ParallelScan.newBuilder(getCollection()).withBufferSize(1).build().cursor();
+    Assert.assertTrue(cursor.hasNext());
+    cursor.next();
+    cursor.close();
+    Assert.assertFalse(cursor.hasNext());
+  }
+
+  @Test
+  public void testReadAsync() throws Exception {
+    List<DB1_C1> documents = new ArrayList<>();
+    CompletableFuture<Void> completed = new CompletableFuture<>();
+    ParallelScan.newBuilder(getAsyncCollection())
+        .withSplitPoints("id", 2)
+        .build()
+        .readAsync(callback(documents, completed));
+    completed.get(5, TimeUnit.SECONDS);
+    Assert.assertTrue(documents.isEmpty());
+
+    CompletableFuture<Void> completedAll = new CompletableFuture<>();
+    ParallelScan.newBuilder(getAsyncCollection())
+        .build()
+        .readAsync(callback(documents, completedAll));
+    completedAll.get(5, TimeUnit.SECONDS);
+    Assert.assertEquals(5, documents.size());
+  }
+
+  @Test
+  public void testCancelReadAsync() throws Exception {
+    TigrisAsyncClient client =
+        TestUtils.getTestAsyncClient(PENDING_SERVER_NAME, grpcCleanup, "db1");
+    CompletableFuture<Void> completed = new CompletableFuture<>();
+    TigrisReadHandle handle =
+        ParallelScan.newBuilder(client.getDatabase().getCollection(DB1_C1.class))
+            .withSplitPoints("id", 2, 4)
+            .withParallelism(1)
+            .build()
+            .readAsync(callback(new ArrayList<>(), completed));
+    handle.cancel();
+    try {
+      completed.get(5, TimeUnit.SECONDS);
+      Assert.fail("above is expected to fail");
+    } catch (ExecutionException executionException) {
+      Assert.assertTrue(executionException.getCause() instanceof TigrisException);
+    }
+    // the ranges after the cancelled one are never read
+    Assert.assertEquals(1, PENDING_READ_SERVICE.reads.get());
+  }
+
+  @Test
+  public void testUniformSplits() {
+    Assert.assertEquals(
+        4,
+        ParallelScan.newBuilder(getCollection())
+            .withUniformSplits("id", 0, 100, 4)
+            .build()
+            .getRanges()
+            .size());
+    // fewer distinct keys than partitions
+    Assert.assertEquals(
+        3,
+        ParallelScan.newBuilder(getCollection())
+            .withUniformSplits("id", 0, 3, 8)
+            .build()
+            .getRanges()
+            .size());
+    Assert.assertEquals(
+        4,
+        ParallelScan.newBuilder(getCollection())
+            .withUniformSplits("id", Long.MIN_VALUE, Long.MAX_VALUE, 4)
+            .build()
+            .getRanges()
+            .size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidParallelism() {
+    ParallelScan.newBuilder(getCollection()).withParallelism(0).build();
+  }
+
+  private static TigrisAsyncCallback<DB1_C1> callback(
+      List<DB1_C1> documents, CompletableFuture<Void> completed) {
+    return new TigrisAsyncCallback<DB1_C1>() {
+      @Override
+      public void onNext(DB1_C1 document) {
+        documents.add(document);
+      }
+
+      @Override
+      public void onError(Throwable ex) {
+        completed.completeExceptionally(ex);
+      }
+
+      @Override
+      public void onCompleted() {
+        completed.complete(null);
+      }
+    };
+  }
+
+  /** Accepts reads without ever responding */
+  static class PendingReadTigrisService extends TigrisGrpc.TigrisImplBase {
+    final AtomicInteger reads = new AtomicInteger();
+
+    @Override
+    public void read(Api.ReadRequest request, StreamObserver<Api.ReadResponse> responseObserver) {
+      reads.incrementAndGet();
+    }
+  }
+
+  private TigrisCollection<DB1_C1> getCollection() {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    return client.getDatabase().getCollection(DB1_C1.class);
+  }
+
+  private TigrisAsyncCollection<DB1_C1> getAsyncCollection() {
+    TigrisAsyncClient client = TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1");
+    return client.getDatabase().getCollection(DB1_C1.class);
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PrefetchingCursorTest {
+
+  @Test
+  public void testPreservesOrderWithParallelDecode() {
+    PrefetchOptions options =
+        PrefetchOptions.newBuilder().withBufferSize(16).withDecodeParallelism(4).build();
+    TigrisCursor<String> cursor =
+        new PrefetchingCursor<>(
+            new CountingCursor(500),
+            item -> {
+              // uneven decode times so that decodes finish out of order
+              sleepMicros(ThreadLocalRandom.current().nextInt(200));
+              return "doc-" + item;
+            },
+            options);
+    List<String> result = new ArrayList<>();
+    while (cursor.hasNext()) {
+      result.add(cursor.next());
+    }
+    Assert.assertEquals(500, result.size());
+    for (int i = 0; i < result.size(); i++) {
+      Assert.assertEquals("doc-" + i, result.get(i));
+    }
+    Assert.assertFalse(cursor.hasNext());
+  }
+
+  @Test(timeout = 10_000)
+  public void testSingleThreadExecutor() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      TigrisCursor<String> cursor =
+          new PrefetchingCursor<>(
+              new CountingCursor(200),
+              item -> "doc-" + item,
+              PrefetchOptions.newBuilder()
+                  .withBufferSize(4)
+                  .withDecodeParallelism(4)
+                  .withExecutor(executor)
+                  .build());
+      int count = 0;
+      while (cursor.hasNext()) {
+        Assert.assertEquals("doc-" + count++, cursor.next());
+      }
+      Assert.assertEquals(200, count);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testBoundedReadAhead() throws InterruptedException {
+    CountingCursor source = new CountingCursor(1000);
+    TigrisCursor<Integer> cursor =
+        new PrefetchingCursor<>(
+            source,
+            item -> item,
+            PrefetchOptions.newBuilder().withBufferSize(10).withDecodeParallelism(1).build());
+    Assert.assertEquals(Integer.valueOf(0), cursor.next());
+    TimeUnit.MILLISECONDS.sleep(200);
+    // buffer plus the item held by the read-ahead while waiting for room
+    Assert.assertTrue(source.consumed.get() <= 13);
+
+    cursor.close();
+    Assert.assertTrue(source.closed);
+    Assert.assertFalse(cursor.hasNext());
+  }
+
+  @Test
+  public void testDecodeFailure() {
+    TigrisCursor<Integer> cursor =
+        new PrefetchingCursor<>(
+            new CountingCursor(10),
+            item -> {
+              if (item == 3) {
+                throw new IllegalArgumentException("bad document");
+              }
+              return item;
+            },
+            PrefetchOptions.newBuilder().withDecodeParallelism(2).build());
+    for (int i = 0; i < 3; i++) {
+      Assert.assertEquals(Integer.valueOf(i), cursor.next());
+    }
+    try {
+      cursor.next();
+      Assert.fail("This must fail");
+    } catch (IllegalArgumentException ex) {
+      Assert.assertEquals("bad document", ex.getMessage());
+    }
+  }
+
+  @Test
+  public void testSourceFailure() {
+    CountingCursor source = new CountingCursor(5);
+    source.failAt = 2;
+    TigrisCursor<Integer> cursor =
+        new PrefetchingCursor<>(source, item -> item, PrefetchOptions.newBuilder().build());
+    Assert.assertEquals(Integer.valueOf(0), cursor.next());
+    Assert.assertEquals(Integer.valueOf(1), cursor.next());
+    try {
+      cursor.hasNext();
+      Assert.fail("This must fail");
+    } catch (IllegalStateException ex) {
+      Assert.assertEquals("stream failed", ex.getMessage());
+    }
+    Assert.assertTrue(source.closed);
+    Assert.assertFalse(cursor.hasNext());
+    try {
+      cursor.next();
+      Assert.fail("This must fail");
+    } catch (NoSuchElementException ignore) {
+    }
+  }
+
+  @Test(timeout = 10_000)
+  public void testSourceError() {
+    CountingCursor source = new CountingCursor(5);
+    source.failAt = 1;
+    source.failWithError = true;
+    TigrisCursor<Integer> cursor =
+        new PrefetchingCursor<>(source, item -> item, PrefetchOptions.newBuilder().build());
+    Assert.assertEquals(Integer.valueOf(0), cursor.next());
+    try {
+      cursor.hasNext();
+      Assert.fail("This must fail");
+    } catch (OutOfMemoryError ex) {
+      Assert.assertEquals("stream failed", ex.getMessage());
+    }
+    Assert.assertFalse(cursor.hasNext());
+  }
+
+  @Test(timeout = 10_000)
+  public void testDecodeError() {
+    TigrisCursor<Integer> cursor =
+        new PrefetchingCursor<>(
+            new CountingCursor(5),
+            item -> {
+              throw new OutOfMemoryError("decode failed");
+            },
+            PrefetchOptions.newBuilder().withDecodeParallelism(2).build());
+    try {
+      cursor.next();
+      Assert.fail("This must fail");
+    } catch (OutOfMemoryError ex) {
+      Assert.assertEquals("decode failed", ex.getMessage());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBufferSize() {
+    PrefetchOptions.newBuilder().withBufferSize(0);
+  }
+
+  private static void sleepMicros(long micros) {
+    try {
+      TimeUnit.MICROSECONDS.sleep(micros);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class CountingCursor implements TigrisCursor<Integer> {
+    private final int size;
+    private final AtomicInteger consumed = new AtomicInteger();
+    private volatile boolean closed;
+    private int failAt = -1;
+    private boolean failWithError;
+
+    private CountingCursor(int size) {
+      this.size = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (consumed.get() == failAt) {
+        if (failWithError) {
+          throw new OutOfMemoryError("stream failed");
+        }
+        throw new IllegalStateException("stream failed");
+      }
+      return !closed && consumed.get() < size;
+    }
+
+    @Override
+    public Integer next() {
+      return consumed.getAndIncrement();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
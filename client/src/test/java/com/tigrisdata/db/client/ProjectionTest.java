@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class ProjectionTest {
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      TigrisConfiguration.newBuilder("some-url", "db1").build().getObjectMapper();
+  private static final ByteString DOCUMENT =
+      ByteString.copyFromUtf8(
+          "{\"id\":7,\"name\":\"seven\",\"full_address\":\"somewhere\",\"active\":true,"
+              + "\"tags\":[\"a\",\"b\"],\"unused\":{\"nested\":1}}");
+
+  @Test
+  public void testClassProjection() throws IOException {
+    Projection<NameOnly> projection = Projection.of(NameOnly.class, OBJECT_MAPPER);
+    Assert.assertEquals(
+        "{\"id\":true,\"name\":true}", projection.getReadFields().toJSON(OBJECT_MAPPER));
+    NameOnly nameOnly = projection.decode(DOCUMENT);
+    Assert.assertEquals(7L, nameOnly.getId());
+    Assert.assertEquals("seven", nameOnly.getName());
+  }
+
+  @Test
+  public void testInterfaceProjection() throws IOException {
+    Projection<AddressView> projection = Projection.of(AddressView.class, OBJECT_MAPPER);
+    JsonNode readFields = OBJECT_MAPPER.readTree(projection.getReadFields().toJSON(OBJECT_MAPPER));
+    Assert.assertEquals(5, readFields.size());
+    Assert.assertTrue(readFields.has("full_address"));
+    Assert.assertTrue(readFields.has("active"));
+    Assert.assertTrue(readFields.has("missing"));
+
+    AddressView view = projection.decode(DOCUMENT);
+    Assert.assertEquals("somewhere", view.address());
+    Assert.assertTrue(view.isActive());
+    Assert.assertArrayEquals(new String[] {"a", "b"}, view.getTags());
+    Assert.assertEquals(7, view.getId());
+    Assert.assertEquals(0, view.getMissing());
+    Assert.assertEquals("somewhere", view.describe());
+    Assert.assertEquals(view, projection.decode(DOCUMENT));
+    Assert.assertEquals(view.hashCode(), projection.decode(DOCUMENT).hashCode());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInterfaceWithNonPropertyMethod() {
+    Projection.of(SettableView.class, OBJECT_MAPPER);
+  }
+
+  @Test
+  public void testUntypedProjection() throws IOException {
+    Projection<Map> projection = Projection.of(Map.class, OBJECT_MAPPER);
+    Assert.assertTrue(projection.getReadFields().isEmpty());
+    Assert.assertEquals("seven", projection.decode(DOCUMENT).get("name"));
+  }
+
+  @Test
+  public void testCachedPerClient() {
+    ClientCaches caches = new ClientCaches(OBJECT_MAPPER);
+    Assert.assertSame(caches.projection(NameOnly.class), caches.projection(NameOnly.class));
+    Assert.assertNotSame(
+        caches.projection(NameOnly.class),
+        new ClientCaches(OBJECT_MAPPER).projection(NameOnly.class));
+  }
+
+  public static class NameOnly {
+    private long id;
+    private String name;
+
+    public long getId() {
+      return id;
+    }
+
+    public void setId(long id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public interface AddressView {
+    @JsonProperty("full_address")
+    String address();
+
+    boolean isActive();
+
+    String[] getTags();
+
+    int getId();
+
+    int getMissing();
+
+    default String describe() {
+      return address();
+    }
+  }
+
+  public interface SettableView {
+    String getName();
+
+    void setName(String name);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.config.TigrisConfiguration;
+import com.tigrisdata.db.client.grpc.HeldReadTestTigrisService;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ReadCoalescingTest {
+
+  private static String HELD_SERVER_NAME;
+  private static String SERVER_NAME;
+  private static final HeldReadTestTigrisService HELD_SERVICE = new HeldReadTestTigrisService();
+  private static final TestTigrisService TEST_USER_SERVICE = new TestTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    HELD_SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(HELD_SERVER_NAME)
+                .directExecutor()
+                .addService(HELD_SERVICE)
+                .build())
+        .start();
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    HELD_SERVICE.reset();
+    TEST_USER_SERVICE.reset();
+  }
+
+  @Test
+  public void testConcurrentReadOneShareCall() throws Exception {
+    TigrisAsyncCollection<DB1_C1> collection = getAsyncCollection(true);
+    List<CompletableFuture<Optional<DB1_C1>>> results = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      results.add(collection.readOne(Filters.eq("id", 1)));
+    }
+    waitForReads(1);
+    // a different filter is a different call
+    CompletableFuture<Optional<DB1_C1>> other = collection.readOne(Filters.eq("id", 2));
+    waitForReads(2);
+    HELD_SERVICE.release();
+
+    DB1_C1 first = results.get(0).get(5, TimeUnit.SECONDS).get();
+    for (CompletableFuture<Optional<DB1_C1>> result : results) {
+      DB1_C1 document = result.get(5, TimeUnit.SECONDS).get();
+      Assert.assertEquals(new DB1_C1(1, "held_d1"), document);
+    }
+    // every caller decodes its own instance
+    Assert.assertNotSame(first, results.get(1).get().get());
+    Assert.assertTrue(other.get(5, TimeUnit.SECONDS).isPresent());
+    Assert.assertEquals(2, HELD_SERVICE.getReads());
+
+    // a completed read is not reused
+    CompletableFuture<Optional<DB1_C1>> later = collection.readOne(Filters.eq("id", 1));
+    waitForReads(3);
+    HELD_SERVICE.release();
+    Assert.assertTrue(later.get(5, TimeUnit.SECONDS).isPresent());
+  }
+
+  @Test
+  public void testReadsAreNotCoalescedByDefault() throws Exception {
+    TigrisAsyncCollection<DB1_C1> collection = getAsyncCollection(false);
+    collection.readOne(Filters.eq("id", 1));
+    collection.readOne(Filters.eq("id", 1));
+    waitForReads(2);
+  }
+
+  @Test
+  public void testRawReadOneShareCall() throws Exception {
+    RawTigrisAsyncCollection<DB1_C1> collection = getAsyncCollection(true).raw();
+    CompletableFuture<Optional<ByteString>> first = collection.readOne(Filters.eq("id", 1));
+    CompletableFuture<Optional<ByteString>> second = collection.readOne(Filters.eq("id", 1));
+    waitForReads(1);
+    HELD_SERVICE.release();
+
+    Assert.assertEquals(
+        first.get(5, TimeUnit.SECONDS).get(), second.get(5, TimeUnit.SECONDS).get());
+  }
+
+  @Test
+  public void testSyncReadOne() throws Exception {
+    TigrisCollection<DB1_C1> collection =
+        TestUtils.getTestClient(
+                SERVER_NAME,
+                grpcCleanup,
+                TigrisConfiguration.newBuilder("some-url", "db1").withReadCoalescing().build())
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    Assert.assertEquals("db1_c1_d3", collection.readOne(Filters.eq("id", 3)).get().getName());
+    Assert.assertFalse(collection.readOne(Filters.eq("id", 7)).isPresent());
+  }
+
+  private static void waitForReads(int reads) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (HELD_SERVICE.getReads() < reads && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    // give coalesced callers the chance to issue a call of their own
+    Thread.sleep(50);
+    Assert.assertEquals(reads, HELD_SERVICE.getReads());
+  }
+
+  private TigrisAsyncCollection<DB1_C1> getAsyncCollection(boolean readCoalescing) {
+    TigrisConfiguration.Builder configuration = TigrisConfiguration.newBuilder("some-url", "db1");
+    if (readCoalescing) {
+      configuration.withReadCoalescing();
+    }
+    return TestUtils.getTestAsyncClient(HELD_SERVER_NAME, grpcCleanup, configuration.build())
+        .getDatabase()
+        .getCollection(DB1_C1.class);
+  }
+}
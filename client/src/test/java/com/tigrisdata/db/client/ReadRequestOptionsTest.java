@@ -13,6 +13,7 @@
  */
 package com.tigrisdata.db.client;
 
+import com.tigrisdata.db.client.config.TigrisConfiguration;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -28,11 +29,10 @@ public class ReadRequestOptionsTest {
     Assert.assertNotEquals(readRequestOptions1, null);
     Assert.assertNotEquals(readRequestOptions1, "some-string");
 
-    ReadRequestOptions readRequestOptions3 = new ReadRequestOptions();
-    readRequestOptions3.setReadOptions(ReadOptions.DEFAULT_INSTANCE);
-    ReadRequestOptions readRequestOptions4 = new ReadRequestOptions();
-    readRequestOptions4.setReadOptions(ReadOptions.DEFAULT_INSTANCE);
+    ReadRequestOptions readRequestOptions3 = new ReadRequestOptions(ReadOptions.DEFAULT_INSTANCE);
+    ReadRequestOptions readRequestOptions4 = new ReadRequestOptions(ReadOptions.DEFAULT_INSTANCE);
     Assert.assertEquals(readRequestOptions3, readRequestOptions4);
+    Assert.assertEquals(readRequestOptions1, readRequestOptions3);
 
     ReadRequestOptions readRequestOptions5 = new ReadRequestOptions(1, 2);
     ReadRequestOptions readRequestOptions6 = new ReadRequestOptions(1, 3);
@@ -58,4 +58,22 @@ public class ReadRequestOptionsTest {
     ReadRequestOptions readRequestOptions6 = new ReadRequestOptions(1, 2);
     Assert.assertEquals(readRequestOptions5.hashCode(), readRequestOptions6.hashCode());
   }
+
+  @Test
+  public void protobufIsBuiltOnce() {
+    ReadRequestOptions readRequestOptions = new ReadRequestOptions(3, 7);
+    Assert.assertSame(readRequestOptions.toApi(), readRequestOptions.toApi());
+    Assert.assertEquals(3, readRequestOptions.toApi().getSkip());
+    Assert.assertEquals(7, readRequestOptions.toApi().getLimit());
+    Assert.assertSame(
+        ReadRequestOptions.DEFAULT_INSTANCE.toApi(),
+        TypeConverter.toReadRequest(
+                "db1",
+                "c1",
+                Filters.nothing(),
+                ReadFields.all(),
+                ReadRequestOptions.DEFAULT_INSTANCE,
+                TigrisConfiguration.newBuilder("test", "db1").build().getObjectMapper())
+            .getOptions());
+  }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+  @Test
+  public void testConcurrentCallsShareFlight() throws Exception {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    AtomicInteger calls = new AtomicInteger();
+    CompletableFuture<String> call = new CompletableFuture<>();
+    CompletableFuture<String> first =
+        singleFlight.execute(
+            "k",
+            () -> {
+              calls.incrementAndGet();
+              return call;
+            });
+    CompletableFuture<String> second =
+        singleFlight.execute(
+            "k",
+            () -> {
+              calls.incrementAndGet();
+              return new CompletableFuture<>();
+            });
+    Assert.assertEquals(1, calls.get());
+    Assert.assertEquals(1, singleFlight.inFlight());
+    Assert.assertFalse(second.isDone());
+
+    call.complete("v");
+    Assert.assertEquals("v", first.get());
+    Assert.assertEquals("v", second.get());
+    Assert.assertEquals(0, singleFlight.inFlight());
+  }
+
+  @Test
+  public void testCompletedFlightIsNotReused() throws Exception {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    Assert.assertEquals(
+        "v1", singleFlight.execute("k", () -> CompletableFuture.completedFuture("v1")).get());
+    Assert.assertEquals(
+        "v2", singleFlight.execute("k", () -> CompletableFuture.completedFuture("v2")).get());
+  }
+
+  @Test
+  public void testDistinctKeysDoNotShare() {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    singleFlight.execute("k1", CompletableFuture::new);
+    singleFlight.execute("k2", CompletableFuture::new);
+    Assert.assertEquals(2, singleFlight.inFlight());
+  }
+
+  @Test
+  public void testFailureIsSharedAndReleased() throws Exception {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    CompletableFuture<String> call = new CompletableFuture<>();
+    CompletableFuture<String> first = singleFlight.execute("k", () -> call);
+    CompletableFuture<String> second = singleFlight.execute("k", CompletableFuture::new);
+    call.completeExceptionally(new IllegalStateException("boom"));
+    for (CompletableFuture<String> result : new CompletableFuture[] {first, second}) {
+      try {
+        result.get();
+        Assert.fail("expected failure");
+      } catch (ExecutionException ex) {
+        Assert.assertEquals("boom", ex.getCause().getMessage());
+      }
+    }
+    Assert.assertEquals(0, singleFlight.inFlight());
+  }
+
+  @Test
+  public void testThrowingCallIsReleased() {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    CompletableFuture<String> result =
+        singleFlight.execute(
+            "k",
+            () -> {
+              throw new IllegalStateException("boom");
+            });
+    Assert.assertTrue(result.isCompletedExceptionally());
+    Assert.assertEquals(0, singleFlight.inFlight());
+  }
+}
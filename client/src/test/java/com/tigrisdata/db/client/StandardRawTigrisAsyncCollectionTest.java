@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import com.tigrisdata.db.client.search.RawSearchResult;
+import com.tigrisdata.db.client.search.SearchRequest;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class StandardRawTigrisAsyncCollectionTest {
+
+  private static String SERVER_NAME;
+  private static final TestTigrisService TEST_USER_SERVICE = new TestTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_USER_SERVICE.reset();
+  }
+
+  @Test
+  public void testReadAll() throws Exception {
+    CollectingCallback<ByteString> callback = new CollectingCallback<>();
+    getCollection().readAll(callback);
+    List<ByteString> docs = callback.completion.get(5, TimeUnit.SECONDS);
+    Assert.assertEquals(5, docs.size());
+    Assert.assertEquals("{\"id\":4,\"name\":\"db1_c1_d4\"}", docs.get(4).toStringUtf8());
+  }
+
+  @Test
+  public void testReadOne() throws Exception {
+    Optional<ByteString> doc = getCollection().readOne(Filters.eq("id", 1L)).get();
+    Assert.assertTrue(doc.isPresent());
+    Assert.assertEquals("{\"id\":1,\"name\":\"db1_c1_d1\"}", doc.get().toStringUtf8());
+
+    Optional<ByteString> missing = getCollection().readOne(Filters.eq("id", 100L)).get();
+    Assert.assertFalse(missing.isPresent());
+  }
+
+  @Test
+  public void testSearch() throws Exception {
+    CollectingCallback<RawSearchResult> callback = new CollectingCallback<>();
+    getCollection().search(SearchRequest.matchAll().build(), callback);
+    Assert.assertEquals(5, callback.completion.get(5, TimeUnit.SECONDS).size());
+  }
+
+  @Test
+  public void testInsertAndReplace() throws Exception {
+    RawTigrisAsyncCollection<DB1_C1> collection = getCollection();
+    InsertResponse<DB1_C1> insertResponse =
+        collection.insert("{\"id\":5,\"name\":\"raw_5\"}".getBytes(StandardCharsets.UTF_8)).get();
+    Assert.assertEquals(1, insertResponse.getKeys().length);
+    collection.insertOrReplace(ByteString.copyFromUtf8("{\"id\":5,\"name\":\"raw_5b\"}")).get();
+
+    Optional<ByteString> doc = collection.readOne(Filters.eq("id", 5L)).get();
+    Assert.assertTrue(doc.isPresent());
+    Assert.assertEquals("{\"id\":5,\"name\":\"raw_5b\"}", doc.get().toStringUtf8());
+  }
+
+  private RawTigrisAsyncCollection<DB1_C1> getCollection() {
+    TigrisAsyncClient client = TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1");
+    return client.getDatabase().getCollection(DB1_C1.class).raw();
+  }
+
+  private static class CollectingCallback<T> implements TigrisAsyncCallback<T> {
+    private final List<T> messages = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<List<T>> completion = new CompletableFuture<>();
+
+    @Override
+    public void onNext(T message) {
+      messages.add(message);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      completion.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {
+      completion.complete(messages);
+    }
+  }
+}
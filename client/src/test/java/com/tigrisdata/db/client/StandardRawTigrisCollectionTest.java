@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import com.tigrisdata.db.client.search.RawSearchResult;
+import com.tigrisdata.db.client.search.SearchRequest;
+import com.tigrisdata.db.client.search.SearchRequestOptions;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class StandardRawTigrisCollectionTest {
+
+  private static String SERVER_NAME;
+  private static final TestTigrisService TEST_USER_SERVICE = new TestTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_USER_SERVICE.reset();
+  }
+
+  @Test
+  public void testReadAll() throws TigrisException {
+    RawTigrisCollection<DB1_C1> collection = getCollection();
+    Assert.assertEquals("db1_c1", collection.name());
+    List<String> docs = toStrings(collection.readAll());
+    Assert.assertEquals(5, docs.size());
+    Assert.assertEquals("{\"id\":0,\"name\":\"db1_c1_d0\"}", docs.get(0));
+  }
+
+  @Test
+  public void testReadOne() throws TigrisException {
+    Optional<ByteString> doc = getCollection().readOne(Filters.eq("id", 3L));
+    Assert.assertTrue(doc.isPresent());
+    Assert.assertEquals("{\"id\":3,\"name\":\"db1_c1_d3\"}", doc.get().toStringUtf8());
+  }
+
+  @Test
+  public void testSearch() throws TigrisException {
+    int hits = 0;
+    try (TigrisCursor<RawSearchResult> results =
+        getCollection().search(SearchRequest.matchAll().build())) {
+      while (results.hasNext()) {
+        RawSearchResult result = results.next();
+        Assert.assertTrue(
+            result.getHits().get(0).getDocument().toStringUtf8().contains("db1_c1_d"));
+        hits += result.getHits().size();
+      }
+    }
+    Assert.assertEquals(5, hits);
+
+    Optional<RawSearchResult> page =
+        getCollection().search(SearchRequest.matchAll().build(), SearchRequestOptions.getDefault());
+    Assert.assertTrue(page.isPresent());
+  }
+
+  @Test
+  public void testInsert() throws TigrisException {
+    RawTigrisCollection<DB1_C1> collection = getCollection();
+    InsertResponse<DB1_C1> response =
+        collection.insert(
+            Arrays.asList(
+                ByteString.copyFromUtf8("{\"id\":5,\"name\":\"raw_5\"}"),
+                ByteString.copyFromUtf8("{\"id\":6,\"name\":\"raw_6\"}")));
+    Assert.assertEquals(2, response.getKeys().length);
+    collection.insert("{\"id\":7,\"name\":\"raw_7\"}".getBytes(StandardCharsets.UTF_8));
+    collection.insert(
+        ByteBuffer.wrap("xx{\"id\":8,\"name\":\"raw_8\"}".getBytes(StandardCharsets.UTF_8), 2, 23));
+
+    List<String> docs = toStrings(collection.readAll());
+    Assert.assertEquals(9, docs.size());
+    Assert.assertEquals("{\"id\":8,\"name\":\"raw_8\"}", docs.get(8));
+  }
+
+  @Test
+  public void testInsertOrReplace() throws TigrisException {
+    RawTigrisCollection<DB1_C1> collection = getCollection();
+    collection.insertOrReplace(ByteString.copyFromUtf8("{\"id\":2,\"name\":\"replaced\"}"));
+    Optional<ByteString> doc = collection.readOne(Filters.eq("id", 2L));
+    Assert.assertTrue(doc.isPresent());
+    Assert.assertEquals("{\"id\":2,\"name\":\"replaced\"}", doc.get().toStringUtf8());
+  }
+
+  private RawTigrisCollection<DB1_C1> getCollection() {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    return client.getDatabase().getCollection(DB1_C1.class).raw();
+  }
+
+  private static List<String> toStrings(Iterator<ByteString> iterator) {
+    List<String> result = new ArrayList<>();
+    iterator.forEachRemaining(bytes -> result.add(bytes.toStringUtf8()));
+    return result;
+  }
+}
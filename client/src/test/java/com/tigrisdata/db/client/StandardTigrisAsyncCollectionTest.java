@@ -39,7 +39,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -106,6 +108,80 @@ public class StandardTigrisAsyncCollectionTest {
     Assert.assertEquals("db1_c1_d1", db1_c1.get().getName());
   }
 
+  @Test
+  public void testReadLazy() throws InterruptedException {
+    TigrisAsyncClient asyncClient = TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1");
+    TigrisAsyncDatabase db1 = asyncClient.getDatabase();
+    List<String> names = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger errorCount = new AtomicInteger(0);
+    CountDownLatch completed = new CountDownLatch(1);
+    db1.getCollection(DB1_C1.class)
+        .readLazy(
+            Filters.eq("id", 3L),
+            new TigrisAsyncCallback<LazyDocument<DB1_C1>>() {
+              @Override
+              public void onNext(LazyDocument<DB1_C1> document) {
+                try {
+                  names.add(document.get("name", String.class).orElse(null));
+                } catch (TigrisException ex) {
+                  errorCount.incrementAndGet();
+                }
+              }
+
+              @Override
+              public void onError(Throwable t) {
+                errorCount.incrementAndGet();
+                completed.countDown();
+              }
+
+              @Override
+              public void onCompleted() {
+                completed.countDown();
+              }
+            });
+    Assert.assertTrue(completed.await(2, TimeUnit.SECONDS));
+    Assert.assertEquals(Collections.singletonList("db1_c1_d3"), names);
+    Assert.assertEquals(0, errorCount.get());
+  }
+
+  @Test
+  public void testReadProjection() throws InterruptedException {
+    TigrisAsyncClient asyncClient = TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1");
+    TigrisAsyncCollection<DB1_C1> collection =
+        asyncClient.getDatabase().getCollection(DB1_C1.class);
+    List<String> names = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger errorCount = new AtomicInteger(0);
+    CountDownLatch completed = new CountDownLatch(1);
+    collection.read(
+        Filters.eq("id", 2L),
+        StandardTigrisCollectionTest.NameView.class,
+        new TigrisAsyncCallback<StandardTigrisCollectionTest.NameView>() {
+          @Override
+          public void onNext(StandardTigrisCollectionTest.NameView document) {
+            names.add(document.getName());
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            errorCount.incrementAndGet();
+            completed.countDown();
+          }
+
+          @Override
+          public void onCompleted() {
+            completed.countDown();
+          }
+        });
+    Assert.assertTrue(completed.await(2, TimeUnit.SECONDS));
+    Assert.assertEquals(Collections.singletonList("db1_c1_d2"), names);
+    Assert.assertEquals(0, errorCount.get());
+
+    Optional<ProjectionTest.NameOnly> nameOnly =
+        collection.readOne(Filters.eq("id", 1L), ProjectionTest.NameOnly.class).join();
+    Assert.assertTrue(nameOnly.isPresent());
+    Assert.assertEquals("db1_c1_d1", nameOnly.get().getName());
+  }
+
   @Test
   public void testSearch() throws ExecutionException, InterruptedException {
     TigrisAsyncClient asyncClient = TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1");
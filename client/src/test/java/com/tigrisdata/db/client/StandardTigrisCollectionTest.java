@@ -23,15 +23,21 @@ import com.tigrisdata.db.client.search.FacetFieldsQuery;
 import com.tigrisdata.db.client.search.SearchRequest;
 import com.tigrisdata.db.client.search.SearchRequestOptions;
 import com.tigrisdata.db.client.search.SearchResult;
+import com.tigrisdata.db.api.v1.grpc.Api;
 import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
 import io.grpc.testing.GrpcCleanupRule;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -41,7 +47,16 @@ import org.junit.Test;
 public class StandardTigrisCollectionTest {
 
   private static String SERVER_NAME;
-  private static final TestTigrisService TEST_USER_SERVICE = new TestTigrisService();
+  private static final AtomicLong LAST_READ_LIMIT = new AtomicLong();
+  private static final TestTigrisService TEST_USER_SERVICE =
+      new TestTigrisService() {
+        @Override
+        public void read(
+            Api.ReadRequest request, StreamObserver<Api.ReadResponse> responseObserver) {
+          LAST_READ_LIMIT.set(request.getOptions().getLimit());
+          super.read(request, responseObserver);
+        }
+      };
   @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
 
   @BeforeClass
@@ -109,6 +124,15 @@ public class StandardTigrisCollectionTest {
     Assert.assertFalse(c1Iterator.hasNext());
   }
 
+  @Test
+  public void testReadOneReadsSingleDocument() throws TigrisException {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    Optional<DB1_C1> result =
+        client.getDatabase().getCollection(DB1_C1.class).readOne(Filters.nothing());
+    Assert.assertTrue(result.isPresent());
+    Assert.assertEquals(1, LAST_READ_LIMIT.get());
+  }
+
   @Test
   public void testReadOne() throws TigrisException {
     TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
@@ -119,6 +143,55 @@ public class StandardTigrisCollectionTest {
     Assert.assertEquals("db1_c1_d0", result.get().getName());
   }
 
+  @Test
+  public void testReadLazy() throws TigrisException {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    TigrisDatabase db1 = client.getDatabase();
+    Iterator<LazyDocument<DB1_C1>> iterator =
+        db1.getCollection(DB1_C1.class).readLazy(Filters.eq("id", 2L));
+    Assert.assertTrue(iterator.hasNext());
+    LazyDocument<DB1_C1> document = iterator.next();
+    Assert.assertEquals(Optional.of("db1_c1_d2"), document.get("name", String.class));
+    Assert.assertEquals(new DB1_C1(2L, "db1_c1_d2"), document.materialize());
+    Assert.assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testReadProjection() throws TigrisException {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    TigrisCollection<DB1_C1> collection = client.getDatabase().getCollection(DB1_C1.class);
+    Iterator<ProjectionTest.NameOnly> iterator =
+        collection.read(Filters.eq("id", 3L), ProjectionTest.NameOnly.class);
+    Assert.assertTrue(iterator.hasNext());
+    Assert.assertEquals("db1_c1_d3", iterator.next().getName());
+    Assert.assertFalse(iterator.hasNext());
+
+    Optional<NameView> view = collection.readOne(Filters.eq("id", 4L), NameView.class);
+    Assert.assertTrue(view.isPresent());
+    Assert.assertEquals("db1_c1_d4", view.get().getName());
+  }
+
+  @Test
+  public void testPrefetchingCursor() throws TigrisException {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    List<DB1_C1> documents = new ArrayList<>();
+    try (TigrisCursor<DB1_C1> cursor =
+        client
+            .getDatabase()
+            .getCollection(DB1_C1.class)
+            .cursor(
+                Filters.nothing(),
+                ReadFields.all(),
+                new ReadRequestOptions(),
+                PrefetchOptions.newBuilder().withBufferSize(2).withDecodeParallelism(2).build())) {
+      cursor.forEachRemaining(documents::add);
+    }
+    Assert.assertEquals(5, documents.size());
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(new DB1_C1(i, "db1_c1_d" + i), documents.get(i));
+    }
+  }
+
   @Test
   public void testReadOneEmpty() throws TigrisException {
     TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
@@ -401,6 +474,35 @@ public class StandardTigrisCollectionTest {
         new DB1_C1(4L, "db1_c1_d4"));
   }
 
+  @Test
+  public void testStream() throws TigrisException {
+    TigrisCollection<DB1_C1> collection =
+        TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1")
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    try (Stream<DB1_C1> stream = collection.stream(Filters.nothing())) {
+      Assert.assertEquals(
+          Arrays.asList("db1_c1_d0", "db1_c1_d1", "db1_c1_d2", "db1_c1_d3", "db1_c1_d4"),
+          stream.parallel().map(DB1_C1::getName).collect(Collectors.toList()));
+    }
+    try (Stream<DB1_C1> stream =
+        collection.stream(Filters.nothing(), ReadFields.all(), new ReadRequestOptions(0, 3))) {
+      Assert.assertEquals(3, stream.spliterator().estimateSize());
+    }
+  }
+
+  @Test
+  public void testSearchStream() throws TigrisException {
+    TigrisCollection<DB1_C1> collection =
+        TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1")
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    SearchRequest searchRequest = SearchRequest.newBuilder().withQuery("my search string").build();
+    try (Stream<SearchResult<DB1_C1>> results = collection.searchStream(searchRequest, null)) {
+      Assert.assertEquals(5, results.mapToLong(result -> result.getHits().size()).sum());
+    }
+  }
+
   @Test
   public void testName() throws TigrisException {
     TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
@@ -446,4 +548,8 @@ public class StandardTigrisCollectionTest {
       throws TigrisException {
     inspectDocs(false, db1, expectedDocs);
   }
+
+  public interface NameView {
+    String getName();
+  }
 }
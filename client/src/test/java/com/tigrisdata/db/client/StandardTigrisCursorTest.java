@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.grpc.EndlessReadTestTigrisService;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+public class StandardTigrisCursorTest {
+
+  private static String SERVER_NAME;
+  private static final EndlessReadTestTigrisService TEST_SERVICE =
+      new EndlessReadTestTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_SERVICE.reset();
+  }
+
+  @Test
+  public void testCloseCancelsRead() throws TigrisException, InterruptedException {
+    TigrisCollection<DB1_C1> collection =
+        TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1")
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    try (TigrisCursor<DB1_C1> cursor = collection.cursor(Filters.eq("id", 0))) {
+      Assert.assertTrue(cursor.hasNext());
+      Assert.assertEquals(new DB1_C1(0L, "endless_d0"), cursor.next());
+      Assert.assertFalse(TEST_SERVICE.awaitCancelled(50));
+    }
+    Assert.assertTrue(TEST_SERVICE.awaitCancelled(1000));
+  }
+
+  @Test
+  public void testClosingStreamCancelsRead() throws TigrisException, InterruptedException {
+    TigrisCollection<DB1_C1> collection =
+        TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1")
+            .getDatabase()
+            .getCollection(DB1_C1.class);
+    try (Stream<DB1_C1> stream = collection.stream(Filters.eq("id", 0))) {
+      Assert.assertEquals(2, stream.limit(2).count());
+    }
+    Assert.assertTrue(TEST_SERVICE.awaitCancelled(1000));
+  }
+
+  @Test
+  public void testClosedCursorHasNoMoreElements() throws TigrisException {
+    TigrisCursor<DB1_C1> cursor =
+        TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1")
+            .getDatabase()
+            .getCollection(DB1_C1.class)
+            .cursor(Filters.eq("id", 0), ReadFields.all(), new ReadRequestOptions());
+    cursor.next();
+    cursor.close();
+    // closing again has no effect
+    cursor.close();
+    Assert.assertFalse(cursor.hasNext());
+    try {
+      cursor.next();
+      Assert.fail("This must fail");
+    } catch (NoSuchElementException ignore) {
+    }
+  }
+
+  @Test
+  public void testCancelAsyncRead() throws InterruptedException {
+    AtomicInteger received = new AtomicInteger();
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    CountDownLatch terminated = new CountDownLatch(1);
+    TigrisReadHandle handle =
+        TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1")
+            .getDatabase()
+            .getCollection(DB1_C1.class)
+            .readCancellable(
+                Filters.eq("id", 0),
+                new TigrisAsyncReader<DB1_C1>() {
+                  @Override
+                  public void onNext(DB1_C1 document) {
+                    received.incrementAndGet();
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                    error.set(t);
+                    terminated.countDown();
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                    terminated.countDown();
+                  }
+                });
+    Assert.assertFalse(terminated.await(100, TimeUnit.MILLISECONDS));
+    Assert.assertEquals(3, received.get());
+
+    handle.cancel();
+    Assert.assertTrue(TEST_SERVICE.awaitCancelled(1000));
+    Assert.assertTrue(terminated.await(1, TimeUnit.SECONDS));
+    Assert.assertTrue(error.get() instanceof TigrisException);
+  }
+}
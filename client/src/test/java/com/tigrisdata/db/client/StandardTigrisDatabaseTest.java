@@ -255,13 +255,15 @@ public class StandardTigrisDatabaseTest {
 
     // null dbName resolves to 0 hashcode
     Assert.assertEquals(
-        0, new StandardTigrisDatabase(null, null, null, null, null, null).hashCode());
+        0, new StandardTigrisDatabase(null, null, null, null, null, null, null, null).hashCode());
   }
 
   @Test
   public void testEquals() {
-    TigrisDatabase db1 = new StandardTigrisDatabase("db1", null, null, null, null, null);
-    TigrisDatabase db2 = new StandardTigrisDatabase("db1", null, null, null, null, null);
+    TigrisDatabase db1 =
+        new StandardTigrisDatabase("db1", null, null, null, null, null, null, null);
+    TigrisDatabase db2 =
+        new StandardTigrisDatabase("db1", null, null, null, null, null, null, null);
     Assert.assertEquals(db1, db2);
     Assert.assertEquals(db1, db1);
 
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.grpc.FailingTestTigrisService;
+import com.tigrisdata.db.client.grpc.TestTigrisService;
+import com.tigrisdata.db.client.search.SearchRequest;
+import com.tigrisdata.db.client.search.SearchResult;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class StreamingPublisherTest {
+
+  private static String SERVER_NAME;
+  private static String FAILING_SERVER_NAME;
+  private static final TestTigrisService TEST_USER_SERVICE = new TestTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+    FAILING_SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(FAILING_SERVER_NAME)
+                .directExecutor()
+                .addService(new FailingTestTigrisService())
+                .build())
+        .start();
+  }
+
+  @Test
+  public void testDeliversOnlyRequested() throws InterruptedException {
+    RecordingSubscriber<DB1_C1> subscriber = new RecordingSubscriber<>();
+    collection().readPublisher(Filters.nothing()).subscribe(subscriber);
+    Assert.assertTrue(subscriber.subscribed.await(1, TimeUnit.SECONDS));
+    // nothing is delivered without demand
+    Thread.sleep(100);
+    Assert.assertTrue(subscriber.items.isEmpty());
+
+    subscriber.subscription.get().request(2);
+    subscriber.awaitItems(2);
+    Thread.sleep(100);
+    Assert.assertEquals(2, subscriber.items.size());
+    Assert.assertEquals(1, subscriber.completed.getCount());
+
+    subscriber.subscription.get().request(Long.MAX_VALUE);
+    Assert.assertTrue(subscriber.completed.await(1, TimeUnit.SECONDS));
+    Assert.assertEquals(5, subscriber.items.size());
+    Assert.assertEquals(new DB1_C1(0L, "db1_c1_d0"), subscriber.items.get(0));
+    Assert.assertEquals(new DB1_C1(4L, "db1_c1_d4"), subscriber.items.get(4));
+    Assert.assertNull(subscriber.error.get());
+  }
+
+  @Test
+  public void testCancel() throws InterruptedException {
+    RecordingSubscriber<DB1_C1> subscriber = new RecordingSubscriber<>();
+    collection().readPublisher(Filters.nothing()).subscribe(subscriber);
+    subscriber.subscription.get().request(1);
+    subscriber.awaitItems(1);
+    subscriber.subscription.get().cancel();
+    subscriber.subscription.get().request(10);
+    Thread.sleep(100);
+    Assert.assertEquals(1, subscriber.items.size());
+    // no terminal signal after cancellation
+    Assert.assertEquals(1, subscriber.completed.getCount());
+    Assert.assertNull(subscriber.error.get());
+  }
+
+  @Test
+  public void testInvalidRequest() throws InterruptedException {
+    RecordingSubscriber<DB1_C1> subscriber = new RecordingSubscriber<>();
+    collection().readPublisher(Filters.nothing()).subscribe(subscriber);
+    subscriber.subscription.get().request(0);
+    Assert.assertTrue(subscriber.completed.await(1, TimeUnit.SECONDS));
+    Assert.assertTrue(subscriber.error.get() instanceof IllegalArgumentException);
+    Assert.assertTrue(subscriber.items.isEmpty());
+  }
+
+  @Test
+  public void testReadError() throws InterruptedException {
+    RecordingSubscriber<DB1_C1> subscriber = new RecordingSubscriber<>();
+    TestUtils.getTestAsyncClient(FAILING_SERVER_NAME, grpcCleanup, "db1")
+        .getDatabase()
+        .getCollection(DB1_C1.class)
+        .readPublisher(Filters.nothing())
+        .subscribe(subscriber);
+    subscriber.subscription.get().request(1);
+    Assert.assertTrue(subscriber.completed.await(1, TimeUnit.SECONDS));
+    Assert.assertTrue(subscriber.error.get() instanceof TigrisException);
+  }
+
+  @Test
+  public void testSearch() throws InterruptedException {
+    RecordingSubscriber<SearchResult<DB1_C1>> subscriber = new RecordingSubscriber<>();
+    collection().searchPublisher(SearchRequest.newBuilder().build(), null).subscribe(subscriber);
+    subscriber.subscription.get().request(3);
+    subscriber.awaitItems(3);
+    Thread.sleep(100);
+    Assert.assertEquals(3, subscriber.items.size());
+    subscriber.subscription.get().request(2);
+    subscriber.awaitItems(5);
+    // completion needs no demand
+    Assert.assertTrue(subscriber.completed.await(1, TimeUnit.SECONDS));
+    Assert.assertEquals(
+        "db1_c1_d4", subscriber.items.get(4).getHits().get(0).getDocument().getName());
+  }
+
+  private static TigrisAsyncCollection<DB1_C1> collection() {
+    return TestUtils.getTestAsyncClient(SERVER_NAME, grpcCleanup, "db1")
+        .getDatabase()
+        .getCollection(DB1_C1.class);
+  }
+
+  private static class RecordingSubscriber<T> implements TigrisSubscriber<T> {
+    private final AtomicReference<TigrisSubscription> subscription = new AtomicReference<>();
+    private final CountDownLatch subscribed = new CountDownLatch(1);
+    private final List<T> items = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    @Override
+    public void onSubscribe(TigrisSubscription subscription) {
+      this.subscription.set(subscription);
+      subscribed.countDown();
+    }
+
+    @Override
+    public void onNext(T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error.set(throwable);
+      completed.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      completed.countDown();
+    }
+
+    private void awaitItems(int count) throws InterruptedException {
+      for (int i = 0; i < 20 && items.size() < count; i++) {
+        Thread.sleep(50);
+      }
+    }
+  }
+}
@@ -24,11 +24,17 @@ public final class TestUtils {
 
   public static StandardTigrisClient getTestClient(
       String grpcServerName, GrpcCleanupRule grpcCleanupRule, String projectName) {
+    return getTestClient(
+        grpcServerName,
+        grpcCleanupRule,
+        TigrisConfiguration.newBuilder("some-url", projectName).build());
+  }
+
+  public static StandardTigrisClient getTestClient(
+      String grpcServerName, GrpcCleanupRule grpcCleanupRule, TigrisConfiguration configuration) {
     ManagedChannelBuilder<InProcessChannelBuilder> channelBuilder =
         InProcessChannelBuilder.forName(grpcServerName);
-    StandardTigrisClient client =
-        new StandardTigrisClient(
-            TigrisConfiguration.newBuilder("some-url", projectName).build(), channelBuilder);
+    StandardTigrisClient client = new StandardTigrisClient(configuration, channelBuilder);
     grpcCleanupRule.register(client.getChannel());
     return client;
   }
@@ -50,11 +56,17 @@ public final class TestUtils {
 
   public static StandardTigrisAsyncClient getTestAsyncClient(
       String grpcServerName, GrpcCleanupRule grpcCleanupRule, String projectName) {
+    return getTestAsyncClient(
+        grpcServerName,
+        grpcCleanupRule,
+        TigrisConfiguration.newBuilder("some-url", projectName).build());
+  }
+
+  public static StandardTigrisAsyncClient getTestAsyncClient(
+      String grpcServerName, GrpcCleanupRule grpcCleanupRule, TigrisConfiguration configuration) {
     ManagedChannelBuilder<InProcessChannelBuilder> channelBuilder =
         InProcessChannelBuilder.forName(grpcServerName);
-    StandardTigrisAsyncClient client =
-        new StandardTigrisAsyncClient(
-            TigrisConfiguration.newBuilder("some-url", projectName).build(), channelBuilder);
+    StandardTigrisAsyncClient client = new StandardTigrisAsyncClient(configuration, channelBuilder);
     grpcCleanupRule.register(client.getChannel());
     return client;
   }
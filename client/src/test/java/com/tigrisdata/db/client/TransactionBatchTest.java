@@ -0,0 +1,313 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.annotation.TigrisPrimaryKey;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.client.collection.DB1_C1;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.grpc.ContextSettingServerInterceptor;
+import com.tigrisdata.db.client.grpc.CookieSetterServerInterceptor;
+import com.tigrisdata.db.client.grpc.TransactionTestTigrisService;
+import com.tigrisdata.db.type.TigrisCollectionType;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class TransactionBatchTest {
+  private static String SERVER_NAME;
+  private static final RecordingTigrisService TEST_USER_SERVICE = new RecordingTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .intercept(new CookieSetterServerInterceptor())
+                .intercept(new ContextSettingServerInterceptor())
+                .addService(TEST_USER_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_USER_SERVICE.clear();
+  }
+
+  @Test
+  public void testWritesAndCommit() throws Exception {
+    TigrisDatabase db1 = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1").getDatabase();
+    TigrisCollection<DB1_C1> collection = db1.getCollection(DB1_C1.class);
+    TransactionSession session = db1.beginTransaction(TransactionOptions.DEFAULT_INSTANCE);
+    TransactionBatch batch = TransactionBatch.of(session);
+
+    CompletableFuture<InsertResponse<DB1_C1>> inserted =
+        batch.insert(collection, new DB1_C1(5, "foo"));
+    CompletableFuture<InsertOrReplaceResponse<DB1_C1>> replaced =
+        batch.insertOrReplace(collection, Arrays.asList(new DB1_C1(6, "bar")));
+    CompletableFuture<UpdateResponse> updated =
+        batch.update(
+            collection,
+            Filters.eq("id", 5),
+            UpdateFields.newBuilder().set("name", "new name").build());
+    CompletableFuture<DeleteResponse> deleted = batch.delete(collection, Filters.eq("id", 6));
+    Assert.assertEquals(4, batch.size());
+    Assert.assertFalse(inserted.isDone());
+
+    batch.commit();
+    Assert.assertEquals(1, inserted.get().getKeys().length);
+    Assert.assertNotNull(replaced.get());
+    Assert.assertNotNull(updated.get());
+    Assert.assertNotNull(deleted.get());
+    Assert.assertEquals(
+        Arrays.asList("insert", "replace", "update", "delete"), TEST_USER_SERVICE.received());
+  }
+
+  @Test
+  public void testWritesToSameKeyWaitForEachOther() throws Exception {
+    TigrisDatabase db1 = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1").getDatabase();
+    TigrisCollection<Keyed> collection = db1.getCollection(Keyed.class);
+    TransactionSession session = db1.beginTransaction(TransactionOptions.DEFAULT_INSTANCE);
+    TransactionBatch batch = TransactionBatch.of(session);
+
+    batch.insert(collection, new Keyed(1, "a"));
+    batch.insert(collection, new Keyed(2, "b"));
+    CompletableFuture<UpdateResponse> updated =
+        batch.update(
+            collection, Filters.eq("id", 1), UpdateFields.newBuilder().set("name", "c").build());
+    batch.delete(collection, Filters.eq("id", 3));
+
+    TEST_USER_SERVICE.holdInserts();
+    CompletableFuture<Void> executed = batch.executeAsync();
+    // the delete has no earlier write to its key, the update waits for the first insert
+    Assert.assertEquals(Arrays.asList("insert", "insert", "delete"), TEST_USER_SERVICE.received());
+    Assert.assertFalse(updated.isDone());
+
+    TEST_USER_SERVICE.releaseInserts();
+    executed.get();
+    Assert.assertEquals(
+        Arrays.asList("insert", "insert", "delete", "update"), TEST_USER_SERVICE.received());
+    session.commit();
+  }
+
+  @Test
+  public void testFilterWritesWaitForAllWritesToCollection() throws Exception {
+    TigrisDatabase db1 = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1").getDatabase();
+    TigrisCollection<Keyed> collection = db1.getCollection(Keyed.class);
+    TransactionSession session = db1.beginTransaction(TransactionOptions.DEFAULT_INSTANCE);
+    TransactionBatch batch = TransactionBatch.of(session);
+
+    batch.insert(collection, new Keyed(1, "a"));
+    batch.delete(collection, Filters.gt("id", 0));
+    batch.insert(collection, new Keyed(2, "b"));
+
+    TEST_USER_SERVICE.holdInserts();
+    CompletableFuture<Void> executed = batch.executeAsync();
+    Assert.assertEquals(Arrays.asList("insert"), TEST_USER_SERVICE.received());
+
+    TEST_USER_SERVICE.releaseInserts();
+    executed.get();
+    Assert.assertEquals(Arrays.asList("insert", "delete", "insert"), TEST_USER_SERVICE.received());
+    session.commit();
+  }
+
+  @Test
+  public void testFailedWriteFailsDependentWrites() throws Exception {
+    TigrisDatabase db1 = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1").getDatabase();
+    TigrisCollection<Keyed> collection = db1.getCollection(Keyed.class);
+    TransactionSession session = db1.beginTransaction(TransactionOptions.DEFAULT_INSTANCE);
+    TransactionBatch batch = TransactionBatch.of(session);
+
+    TEST_USER_SERVICE.failUpdates();
+    CompletableFuture<UpdateResponse> updated =
+        batch.update(
+            collection, Filters.eq("id", 1), UpdateFields.newBuilder().set("name", "c").build());
+    CompletableFuture<DeleteResponse> dependent = batch.delete(collection, Filters.eq("id", 1));
+    CompletableFuture<DeleteResponse> independent = batch.delete(collection, Filters.eq("id", 2));
+    try {
+      batch.commit();
+      Assert.fail("above is expected to fail");
+    } catch (TigrisException tigrisException) {
+      Assert.assertTrue(tigrisException.getMessage().startsWith(Constants.UPDATE_FAILED));
+    }
+    Assert.assertTrue(updated.isCompletedExceptionally());
+    Assert.assertTrue(dependent.isCompletedExceptionally());
+    Assert.assertNotNull(independent.get());
+    // the failed commit rolled the transaction back
+    Assert.assertEquals(
+        Arrays.asList("update", "delete", "rollback"), TEST_USER_SERVICE.received());
+  }
+
+  @Test
+  public void testExecuteOnlyOnce() throws Exception {
+    TigrisDatabase db1 = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1").getDatabase();
+    TigrisCollection<DB1_C1> collection = db1.getCollection(DB1_C1.class);
+    TransactionSession session = db1.beginTransaction(TransactionOptions.DEFAULT_INSTANCE);
+    TransactionBatch batch = TransactionBatch.of(session);
+    batch.execute();
+    try {
+      batch.insert(collection, new DB1_C1(5, "foo"));
+      Assert.fail("above is expected to fail");
+    } catch (IllegalStateException expected) {
+    }
+    try {
+      batch.execute();
+      Assert.fail("above is expected to fail");
+    } catch (IllegalStateException expected) {
+    }
+    session.rollback();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedSession() {
+    TransactionBatch.of(null);
+  }
+
+  @com.tigrisdata.db.annotation.TigrisCollection("db1_c1")
+  public static class Keyed implements TigrisCollectionType {
+    @TigrisPrimaryKey(order = 1)
+    private long id;
+
+    private String name;
+
+    public Keyed() {}
+
+    public Keyed(long id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  /** Records the writes it receives and can hold back the responses to inserts */
+  static class RecordingTigrisService extends TransactionTestTigrisService {
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final List<Runnable> heldInserts = new ArrayList<>();
+    private boolean holdInserts;
+    private boolean failUpdates;
+
+    synchronized void holdInserts() {
+      holdInserts = true;
+    }
+
+    void releaseInserts() {
+      List<Runnable> held;
+      synchronized (this) {
+        holdInserts = false;
+        held = new ArrayList<>(heldInserts);
+        heldInserts.clear();
+      }
+      held.forEach(Runnable::run);
+    }
+
+    synchronized void failUpdates() {
+      failUpdates = true;
+    }
+
+    List<String> received() {
+      return new ArrayList<>(received);
+    }
+
+    synchronized void clear() {
+      reset();
+      received.clear();
+      heldInserts.clear();
+      holdInserts = false;
+      failUpdates = false;
+    }
+
+    @Override
+    public void rollbackTransaction(
+        Api.RollbackTransactionRequest request,
+        StreamObserver<Api.RollbackTransactionResponse> responseObserver) {
+      received.add("rollback");
+      super.rollbackTransaction(request, responseObserver);
+    }
+
+    @Override
+    public void insert(
+        Api.InsertRequest request, StreamObserver<Api.InsertResponse> responseObserver) {
+      received.add("insert");
+      synchronized (this) {
+        if (holdInserts) {
+          heldInserts.add(
+              () ->
+                  respond(
+                      responseObserver,
+                      Api.InsertResponse.newBuilder()
+                          .addKeys(ByteString.copyFromUtf8("{\"id\":0}"))
+                          .build()));
+          return;
+        }
+      }
+      super.insert(request, responseObserver);
+    }
+
+    @Override
+    public void replace(
+        Api.ReplaceRequest request, StreamObserver<Api.ReplaceResponse> responseObserver) {
+      received.add("replace");
+      super.replace(request, responseObserver);
+    }
+
+    @Override
+    public void update(
+        Api.UpdateRequest request, StreamObserver<Api.UpdateResponse> responseObserver) {
+      received.add("update");
+      synchronized (this) {
+        if (failUpdates) {
+          responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+          return;
+        }
+      }
+      respond(responseObserver, Api.UpdateResponse.getDefaultInstance());
+    }
+
+    @Override
+    public void delete(
+        Api.DeleteRequest request, StreamObserver<Api.DeleteResponse> responseObserver) {
+      received.add("delete");
+      respond(responseObserver, Api.DeleteResponse.getDefaultInstance());
+    }
+
+    private static <R> void respond(StreamObserver<R> responseObserver, R response) {
+      responseObserver.onNext(response);
+      responseObserver.onCompleted();
+    }
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client;
+
+import com.google.protobuf.Any;
+import com.google.rpc.Code;
+import com.google.rpc.ErrorInfo;
+import com.google.rpc.RetryInfo;
+import com.google.rpc.Status;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.api.v1.grpc.ObservabilityOuterClass;
+import com.tigrisdata.db.client.error.TigrisException;
+import com.tigrisdata.db.client.grpc.ContextSettingServerInterceptor;
+import com.tigrisdata.db.client.grpc.CookieSetterServerInterceptor;
+import com.tigrisdata.db.client.grpc.TransactionTestTigrisService;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.StatusProto;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TransactionRetryPolicyTest {
+  private static String SERVER_NAME;
+  private static final ConflictingTigrisService TEST_SERVICE = new ConflictingTigrisService();
+  @ClassRule public static final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  private static final TransactionRetryPolicy FAST_RETRIES =
+      TransactionRetryPolicy.newBuilder()
+          .withMaxAttempts(3)
+          .withInitialBackoff(Duration.ofMillis(1))
+          .withMaxBackoff(Duration.ofMillis(2))
+          .build();
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    SERVER_NAME = InProcessServerBuilder.generateName();
+    grpcCleanup
+        .register(
+            InProcessServerBuilder.forName(SERVER_NAME)
+                .directExecutor()
+                .intercept(new CookieSetterServerInterceptor())
+                .intercept(new ContextSettingServerInterceptor())
+                .addService(TEST_SERVICE)
+                .build())
+        .start();
+  }
+
+  @After
+  public void reset() {
+    TEST_SERVICE.reset();
+    TEST_SERVICE.failures.set(0);
+  }
+
+  @Test
+  public void retriesConflicts() throws TigrisException {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    TEST_SERVICE.failWith(2, conflict());
+    AtomicInteger runs = new AtomicInteger();
+    client.getDatabase().transact(session -> runs.incrementAndGet(), FAST_RETRIES);
+
+    Assert.assertEquals(3, runs.get());
+    TransactionRetryStats stats = client.getTransactionRetryStats();
+    Assert.assertEquals(1, stats.getTransactionCount());
+    Assert.assertEquals(3, stats.getAttemptCount());
+    Assert.assertEquals(2, stats.getConflictCount());
+    Assert.assertEquals(2, stats.getRetryCount());
+    Assert.assertEquals(0, stats.getExhaustedCount());
+    Assert.assertEquals(2.0 / 3, stats.getConflictRate(), 1e-9);
+    Assert.assertEquals(2.0, stats.getRetryRate(), 1e-9);
+  }
+
+  @Test
+  public void givesUpAfterMaxAttempts() {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    TEST_SERVICE.failWith(5, conflict());
+    AtomicInteger runs = new AtomicInteger();
+    try {
+      client.getDatabase().transact(session -> runs.incrementAndGet(), FAST_RETRIES);
+      Assert.fail("above is expected to fail");
+    } catch (TigrisException tigrisException) {
+      Assert.assertTrue(tigrisException.getMessage().startsWith(Constants.TRANSACTION_FAILED));
+    }
+    Assert.assertEquals(3, runs.get());
+    Assert.assertEquals(1, client.getTransactionRetryStats().getExhaustedCount());
+  }
+
+  @Test
+  public void doesNotRetryOtherFailures() {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    AtomicInteger runs = new AtomicInteger();
+    try {
+      client
+          .getDatabase()
+          .transact(
+              session -> {
+                runs.incrementAndGet();
+                throw new IllegalStateException("test");
+              },
+              FAST_RETRIES);
+      Assert.fail("above is expected to fail");
+    } catch (TigrisException tigrisException) {
+      Assert.assertTrue(tigrisException.getCause() instanceof IllegalStateException);
+    }
+    Assert.assertEquals(1, runs.get());
+    Assert.assertEquals(0, client.getTransactionRetryStats().getConflictCount());
+  }
+
+  @Test
+  public void runRetriesConflictingAttempts() throws TigrisException {
+    AtomicInteger runs = new AtomicInteger();
+    FAST_RETRIES.run(
+        () -> {
+          if (runs.incrementAndGet() < 3) {
+            throw new TigrisException(Constants.TRANSACTION_FAILED, conflict());
+          }
+        });
+    Assert.assertEquals(3, runs.get());
+
+    AtomicInteger failedRuns = new AtomicInteger();
+    TigrisException failure = new TigrisException(Constants.TRANSACTION_FAILED);
+    try {
+      FAST_RETRIES.run(
+          () -> {
+            failedRuns.incrementAndGet();
+            throw failure;
+          });
+      Assert.fail("above is expected to fail");
+    } catch (TigrisException tigrisException) {
+      Assert.assertSame(failure, tigrisException);
+    }
+    Assert.assertEquals(1, failedRuns.get());
+  }
+
+  @Test
+  public void runRecordsMetrics() throws TigrisException {
+    TransactionRetryMetrics metrics = new TransactionRetryMetrics();
+    AtomicInteger runs = new AtomicInteger();
+    FAST_RETRIES.run(
+        () -> {
+          if (runs.incrementAndGet() < 3) {
+            throw new TigrisException(Constants.TRANSACTION_FAILED, conflict());
+          }
+        },
+        metrics);
+    try {
+      FAST_RETRIES.run(
+          () -> {
+            throw new TigrisException(Constants.TRANSACTION_FAILED, conflict());
+          },
+          metrics);
+      Assert.fail("above is expected to fail");
+    } catch (TigrisException expected) {
+    }
+
+    TransactionRetryStats stats = metrics.stats();
+    Assert.assertEquals(2, stats.getTransactionCount());
+    Assert.assertEquals(3 + FAST_RETRIES.getMaxAttempts(), stats.getAttemptCount());
+    Assert.assertEquals(2 + FAST_RETRIES.getMaxAttempts(), stats.getConflictCount());
+    Assert.assertEquals(2 + FAST_RETRIES.getMaxAttempts() - 1, stats.getRetryCount());
+    Assert.assertEquals(1, stats.getExhaustedCount());
+  }
+
+  @Test
+  public void isRetryable() {
+    TransactionRetryPolicy policy = TransactionRetryPolicy.DEFAULT_INSTANCE;
+    Assert.assertTrue(policy.isRetryable(conflict()));
+    Assert.assertTrue(policy.isRetryable(io.grpc.Status.ABORTED.asRuntimeException()));
+    Assert.assertTrue(policy.isRetryable(new RuntimeException(withRetryInfo(0))));
+    Assert.assertTrue(
+        policy.isRetryable(new TigrisException(Constants.COMMIT_TRANSACTION_FAILED, conflict())));
+    Assert.assertFalse(policy.isRetryable(io.grpc.Status.INTERNAL.asRuntimeException()));
+    Assert.assertFalse(policy.isRetryable(new IllegalStateException()));
+  }
+
+  @Test
+  public void backoff() {
+    TransactionRetryPolicy policy =
+        TransactionRetryPolicy.newBuilder()
+            .withInitialBackoff(Duration.ofMillis(10))
+            .withMaxBackoff(Duration.ofMillis(25))
+            .build();
+    for (int i = 0; i < 100; i++) {
+      Assert.assertTrue(policy.backoffNanos(1, conflict()) < Duration.ofMillis(10).toNanos());
+      Assert.assertTrue(policy.backoffNanos(5, conflict()) < Duration.ofMillis(25).toNanos());
+      // never shorter than what the server asked for
+      Assert.assertTrue(
+          policy.backoffNanos(1, withRetryInfo(50)) >= Duration.ofMillis(50).toNanos());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidMaxAttempts() {
+    TransactionRetryPolicy.newBuilder().withMaxAttempts(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeBackoff() {
+    TransactionRetryPolicy.newBuilder().withInitialBackoff(Duration.ofMillis(-1));
+  }
+
+  private static StatusRuntimeException conflict() {
+    return StatusProto.toStatusRuntimeException(
+        Status.newBuilder()
+            .setCode(Code.UNKNOWN.getNumber())
+            .addDetails(
+                Any.pack(
+                    ErrorInfo.newBuilder()
+                        .setReason(ObservabilityOuterClass.Code.CONFLICT.name())
+                        .build()))
+            .build());
+  }
+
+  private static StatusRuntimeException withRetryInfo(long delayMillis) {
+    return StatusProto.toStatusRuntimeException(
+        Status.newBuilder()
+            .setCode(Code.UNAVAILABLE.getNumber())
+            .addDetails(
+                Any.pack(
+                    RetryInfo.newBuilder()
+                        .setRetryDelay(
+                            com.google.protobuf.Duration.newBuilder()
+                                .setNanos((int) Duration.ofMillis(delayMillis).toNanos()))
+                        .build()))
+            .build());
+  }
+
+  /** Fails the given number of commits */
+  static class ConflictingTigrisService extends TransactionTestTigrisService {
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile StatusRuntimeException failure;
+
+    void failWith(int count, StatusRuntimeException failure) {
+      this.failure = failure;
+      this.failures.set(count);
+    }
+
+    @Override
+    public void commitTransaction(
+        Api.CommitTransactionRequest request,
+        StreamObserver<Api.CommitTransactionResponse> responseObserver) {
+      if (failures.getAndDecrement() > 0) {
+        responseObserver.onError(failure);
+        return;
+      }
+      super.commitTransaction(request, responseObserver);
+    }
+  }
+}
@@ -18,6 +18,8 @@ import com.tigrisdata.db.client.error.TigrisException;
 import com.tigrisdata.db.client.grpc.ContextSettingServerInterceptor;
 import com.tigrisdata.db.client.grpc.CookieSetterServerInterceptor;
 import com.tigrisdata.db.client.grpc.TransactionTestTigrisService;
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.testing.GrpcCleanupRule;
 import org.junit.Assert;
@@ -105,4 +107,25 @@ public class TransactionSessionTest {
 
     transactionSession.commit();
   }
+
+  @Test
+  public void testStubsAreCachedPerSession() throws TigrisException {
+    TigrisClient client = TestUtils.getTestClient(SERVER_NAME, grpcCleanup, "db1");
+    TigrisDatabase db1 = client.getDatabase();
+    StandardTransactionSession session =
+        (StandardTransactionSession) db1.beginTransaction(TransactionOptions.DEFAULT_INSTANCE);
+    StandardTransactionSession other =
+        (StandardTransactionSession) db1.beginTransaction(TransactionOptions.DEFAULT_INSTANCE);
+    TigrisGrpc.TigrisBlockingStub blockingStub =
+        TigrisGrpc.newBlockingStub(
+            grpcCleanup.register(
+                InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build()));
+    TigrisGrpc.TigrisBlockingStub transactional =
+        TypeConverter.transactionAwareStub(blockingStub, session);
+    Assert.assertNotSame(blockingStub, transactional);
+    Assert.assertSame(transactional, TypeConverter.transactionAwareStub(blockingStub, session));
+    Assert.assertNotSame(transactional, TypeConverter.transactionAwareStub(blockingStub, other));
+    // the test service only tracks the latest transaction
+    other.commit();
+  }
 }
@@ -108,6 +108,19 @@ public class UtilitiesTest {
     Assert.assertTrue(completed.get());
   }
 
+  @Test
+  public void testFailedConversionCompletesFuture() {
+    SettableFuture<String> listenableFuture = SettableFuture.create();
+    CompletableFuture<Integer> completableFuture =
+        Utilities.transformFuture(
+            listenableFuture, Integer::parseInt, MoreExecutors.directExecutor(), "test-failure");
+
+    listenableFuture.set("not a number");
+    Assert.assertTrue(completableFuture.isCompletedExceptionally());
+    completableFuture.whenComplete(
+        (val, ex) -> Assert.assertTrue(ex.getCause() instanceof NumberFormatException));
+  }
+
   @Test
   public void testTsToInstantConversion() {
     Timestamp expected = Timestamp.newBuilder().setSeconds(1640995200).setNanos(12345123).build();
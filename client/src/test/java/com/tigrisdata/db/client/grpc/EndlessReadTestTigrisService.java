@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client.grpc;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/** Streams a few documents for every read and keeps the stream open until it is cancelled */
+public class EndlessReadTestTigrisService extends TigrisGrpc.TigrisImplBase {
+  private volatile CountDownLatch cancelled = new CountDownLatch(1);
+
+  @Override
+  public void read(Api.ReadRequest request, StreamObserver<Api.ReadResponse> responseObserver) {
+    CountDownLatch latch = cancelled;
+    ((ServerCallStreamObserver<Api.ReadResponse>) responseObserver)
+        .setOnCancelHandler(latch::countDown);
+    for (int i = 0; i < 3; i++) {
+      responseObserver.onNext(
+          Api.ReadResponse.newBuilder()
+              .setData(
+                  ByteString.copyFromUtf8("{\"id\":" + i + ",\"name\":\"endless_d" + i + "\"}"))
+              .build());
+    }
+  }
+
+  public boolean awaitCancelled(long timeoutMillis) throws InterruptedException {
+    return cancelled.await(timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public void reset() {
+    cancelled = new CountDownLatch(1);
+  }
+}
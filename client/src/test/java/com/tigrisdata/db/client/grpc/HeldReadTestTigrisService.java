@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client.grpc;
+
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import io.grpc.stub.StreamObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Holds every read open until {@link #release()} answers all of them with the same document */
+public class HeldReadTestTigrisService extends TigrisGrpc.TigrisImplBase {
+  private final List<StreamObserver<Api.ReadResponse>> heldReads = new ArrayList<>();
+  private int reads;
+
+  @Override
+  public synchronized void read(
+      Api.ReadRequest request, StreamObserver<Api.ReadResponse> responseObserver) {
+    reads++;
+    heldReads.add(responseObserver);
+  }
+
+  /** @return number of reads received */
+  public synchronized int getReads() {
+    return reads;
+  }
+
+  public synchronized void release() {
+    for (StreamObserver<Api.ReadResponse> heldRead : heldReads) {
+      heldRead.onNext(
+          Api.ReadResponse.newBuilder()
+              .setData(ByteString.copyFromUtf8("{\"id\":1,\"name\":\"held_d1\"}"))
+              .build());
+      heldRead.onCompleted();
+    }
+    heldReads.clear();
+  }
+
+  public synchronized void reset() {
+    release();
+    reads = 0;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Tigris Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tigrisdata.db.client.grpc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.tigrisdata.db.api.v1.grpc.Api;
+import com.tigrisdata.db.api.v1.grpc.TigrisGrpc;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves documents with ids {@code 0..size-1} in id order, honouring {@code {"id":{"$gt":n}}}
+ * filters and the read limit like a primary key seek would.
+ */
+public class KeysetReadTestTigrisService extends TigrisGrpc.TigrisImplBase {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final long size;
+  private final AtomicLong sentDocuments = new AtomicLong();
+
+  public KeysetReadTestTigrisService(long size) {
+    this.size = size;
+  }
+
+  @Override
+  public void read(Api.ReadRequest request, StreamObserver<Api.ReadResponse> responseObserver) {
+    long from = 0;
+    try {
+      JsonNode gt = OBJECT_MAPPER.readTree(request.getFilter().toStringUtf8()).at("/id/$gt");
+      if (!gt.isMissingNode()) {
+        from = gt.longValue() + 1;
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    long limit = request.getOptions().getLimit() > 0 ? request.getOptions().getLimit() : size;
+    for (long id = from; id < size && id < from + limit; id++) {
+      sentDocuments.incrementAndGet();
+      responseObserver.onNext(
+          Api.ReadResponse.newBuilder()
+              .setData(ByteString.copyFromUtf8("{\"id\":" + id + ",\"name\":\"page_d" + id + "\"}"))
+              .build());
+    }
+    responseObserver.onCompleted();
+  }
+
+  /** @return documents sent since the last call */
+  public long drainSentDocuments() {
+    return sentDocuments.getAndSet(0);
+  }
+}
@@ -128,7 +128,7 @@ public class TestTigrisService extends TigrisGrpc.TigrisImplBase {
   }
 
   @Override
-  public void insert(
+  public synchronized void insert(
       Api.InsertRequest request, StreamObserver<Api.InsertResponse> responseObserver) {
     if (request.getProject().equals("autoGenerateTestDB")) {
       Api.InsertResponse.Builder builder = Api.InsertResponse.newBuilder();